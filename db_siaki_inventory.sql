@@ -4,6 +4,30 @@ CREATE DATABASE IF NOT EXISTS db_siaki_inventory;
 USE db_siaki_inventory;
 SET default_storage_engine = InnoDB;
 
+----------------------------------------------------------
+-- MÓDULO 0: GENERADOR DE IDS
+----------------------------------------------------------
+-- Hibernate reserva bloques de 50 IDs por segmento (@TableGenerator, optimizador pooled),
+-- lo que permite agrupar los INSERT en lotes JDBC. El valor guardado es el último ID
+-- del último bloque reservado.
+CREATE TABLE seq_generador(
+	nombre_secuencia VARCHAR(50) PRIMARY KEY NOT NULL,
+	siguiente_valor BIGINT NOT NULL
+);
+INSERT INTO seq_generador (nombre_secuencia, siguiente_valor) VALUES
+	('dimension', 0),
+	('kit_serie_color', 0),
+	('kit_serie_manager', 0),
+	('ventas_cliente', 0),
+	('ventas_pedido', 0),
+	('ventas_pedido_detalle', 0),
+	('ventas_venta', 0),
+	('ventas_comprobante_pago', 0);
+-- En una base con datos existentes, cada segmento debe iniciar en MAX(id) + 50. Ejm:
+-- UPDATE seq_generador SET siguiente_valor = (SELECT COALESCE(MAX(id), 0) + 50 FROM kit_serie_color)
+-- 	WHERE nombre_secuencia = 'kit_serie_color';
+-- Para 'dimension' se toma el mayor ID entre todas las tablas dim_*.
+
 ----------------------------------------------------------
 -- MÓDULO 1: DIMENSIONES
 ----------------------------------------------------------
@@ -70,6 +94,23 @@ CREATE TABLE inv_sandalias(
     CONSTRAINT serie_planta_inv_sandalias_fk FOREIGN KEY (id_serie_planta) REFERENCES kit_serie(id) ON DELETE CASCADE,
     CONSTRAINT categoria_inv_sandalias_fk FOREIGN KEY (id_categoria) REFERENCES dim_categoria(id) ON DELETE CASCADE
 );
+-- Libro de movimientos de stock: solo inserciones. El stock se modifica con UPDATE condicionales
+-- (stock_docenas = stock_docenas - ? WHERE stock_docenas >= ?) y cada cambio deja aquí su registro.
+-- Con el motor de reservas en memoria, los movimientos se insertan con aplicado = FALSE y se vuelcan
+-- a inv_sandalias por lotes; el stock vigente es stock_docenas + movimientos pendientes.
+CREATE TABLE inv_movimiento(
+	id INT AUTO_INCREMENT PRIMARY KEY NOT NULL,
+	id_sandalia INT NOT NULL,
+	tipo VARCHAR(10) NOT NULL,
+	cantidad_docenas INT NOT NULL,
+	id_pedido INT,
+	referencia VARCHAR(100),
+	aplicado BOOLEAN NOT NULL,
+	fecha_registro DATETIME NOT NULL,
+	INDEX idx_inv_movimiento_sandalia (id_sandalia, id),
+	INDEX idx_inv_movimiento_pendiente (aplicado, id),
+	CONSTRAINT inv_sandalias_movimiento_fk FOREIGN KEY (id_sandalia) REFERENCES inv_sandalias(id) ON DELETE CASCADE
+);
 ----------------------------------------------------------
 -- MÓDULO 4: SEGURIDAD
 ----------------------------------------------------------
@@ -87,6 +128,18 @@ CREATE TABLE seguridad_usuario (
     fecha_actualizacion DATETIME NOT NULL,
     CONSTRAINT seguridad_rol_usuario_fk FOREIGN KEY (id_rol) REFERENCES seguridad_rol(id) ON DELETE CASCADE
 );
+-- Sesiones HTTP compartidas entre instancias (app.seguridad.sesiones.almacen=jdbc).
+-- Tiempos en epoch ms; 'datos' guarda los atributos serializados y comprimidos.
+-- Las vencidas se borran por lotes usando idx_seguridad_sesion_expira.
+CREATE TABLE seguridad_sesion (
+    id CHAR(36) PRIMARY KEY NOT NULL,
+    creada BIGINT NOT NULL,
+    ultimo_acceso BIGINT NOT NULL,
+    max_inactivo INT NOT NULL,
+    expira BIGINT NOT NULL,
+    datos MEDIUMBLOB,
+    INDEX idx_seguridad_sesion_expira (expira)
+);
 ----------------------------------------------------------
 -- MÓDULO 5: VENTAS
 ----------------------------------------------------------
@@ -143,9 +196,33 @@ CREATE TABLE ventas_comprobante_pago (
     estado_sunat VARCHAR(20) NOT NULL,
     archivo_xml VARCHAR(100) NOT NULL,
     archivo_cdr VARCHAR(100),
+    -- Vencimiento de la reserva de envío a SUNAT (estado EN_PROCESO)
+    sunat_reserva_hasta DATETIME,
     id_venta INT NOT NULL,
     CONSTRAINT ventas_venta_comprobante_fk FOREIGN KEY (id_venta) REFERENCES ventas_venta(id) ON DELETE CASCADE
 );
+-- Resumen materializado de ventas por día, cliente, usuario y modelo (vía pedido → kit serie manager).
+-- Se mantiene de forma incremental desde la aplicación; para cargar el histórico se usa
+-- POST /api/ventas/resumen/reconstruir?desde=...&hasta=...
+CREATE TABLE ventas_resumen_diario (
+    fecha DATE NOT NULL,
+    id_cliente INT NOT NULL,
+    id_usuario INT NOT NULL,
+    id_modelo INT NOT NULL,
+    cantidad_ventas INT NOT NULL,
+    monto_total DECIMAL(14,2) NOT NULL,
+    igv DECIMAL(14,2) NOT NULL,
+    descuento DECIMAL(14,2) NOT NULL,
+    PRIMARY KEY (fecha, id_cliente, id_usuario, id_modelo)
+);
+-- Índices para los listados por cursor ordenados por fecha (fecha DESC, id DESC)
+CREATE INDEX idx_ventas_pedido_fecha_creada ON ventas_pedido (fecha_creada, id);
+CREATE INDEX idx_ventas_venta_fecha_pago ON ventas_venta (fecha_pago, id);
+CREATE INDEX idx_ventas_comprobante_fecha_emision ON ventas_comprobante_pago (fecha_emision, id);
+-- Recuperación de comprobantes pendientes de envío a SUNAT (y de reservas vencidas)
+CREATE INDEX idx_ventas_comprobante_estado_sunat ON ventas_comprobante_pago (estado_sunat, id);
+-- Listado de usuarios por estado y conteo de pendientes de aprobación
+CREATE INDEX idx_seguridad_usuario_activo ON seguridad_usuario (activo, id);
 
 -- INSERT INTO dim_categoria (nombre) VALUES 
 -- 	('Niños'),
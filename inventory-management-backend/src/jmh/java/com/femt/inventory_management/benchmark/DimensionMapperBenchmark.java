@@ -0,0 +1,88 @@
+package com.femt.inventory_management.benchmark;
+
+import com.femt.inventory_management.dto.response.DimensionResponseDTO;
+import com.femt.inventory_management.mapper.dimension.DimensionMapper;
+import com.femt.inventory_management.models.dimension.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DimensionMapper#toDTO}: con un solo tipo de dimensión (la rama {@code instanceof DimColor}
+ * siempre verdadera o siempre falsa) y con una lista mezclada de todos los tipos, como en los
+ * diccionarios de la matriz y los listados de dimensiones.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DimensionMapperBenchmark {
+
+    private static final int TAMANIO = 1000;
+
+    private DimensionMapper mapper;
+    private List<DimBase> colores;
+    private List<DimBase> filas;
+    private List<DimBase> mezcladas;
+
+    @Setup
+    public void preparar() {
+        mapper = new DimensionMapper();
+        colores = new ArrayList<>(TAMANIO);
+        filas = new ArrayList<>(TAMANIO);
+        mezcladas = new ArrayList<>(TAMANIO);
+        for (int i = 1; i <= TAMANIO; i++) {
+            DimColor color = dimension(new DimColor(), i);
+            color.setCodeRgb("#00ff00");
+            colores.add(color);
+            filas.add(dimension(new DimFila(), i));
+            mezcladas.add(switch (i % 6) {
+                case 0 -> color;
+                case 1 -> dimension(new DimFila(), i);
+                case 2 -> dimension(new DimColumna(), i);
+                case 3 -> dimension(new DimModelo(), i);
+                case 4 -> dimension(new DimCategoria(), i);
+                default -> dimension(new DimTipoComponente(), i);
+            });
+        }
+        Collections.shuffle(mezcladas, new Random(42));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TAMANIO)
+    public void soloColores(Blackhole bh) {
+        mapear(colores, bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TAMANIO)
+    public void sinColores(Blackhole bh) {
+        mapear(filas, bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TAMANIO)
+    public void mezcladas(Blackhole bh) {
+        mapear(mezcladas, bh);
+    }
+
+    private void mapear(List<DimBase> dimensiones, Blackhole bh) {
+        for (DimBase dimension : dimensiones) {
+            DimensionResponseDTO dto = mapper.toDTO(dimension);
+            bh.consume(dto);
+        }
+    }
+
+    private static <T extends DimBase> T dimension(T dimension, int id) {
+        dimension.setId(id);
+        dimension.setNombre("Dimensión " + id);
+        return dimension;
+    }
+}
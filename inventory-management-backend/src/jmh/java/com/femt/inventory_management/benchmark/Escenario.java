@@ -0,0 +1,121 @@
+package com.femt.inventory_management.benchmark;
+
+import com.femt.inventory_management.dto.request.KitSerieCeldaRequestDTO;
+import com.femt.inventory_management.dto.request.KitSerieColorRequestDTO;
+import com.femt.inventory_management.dto.request.KitSerieMatrizRequestDTO;
+import com.femt.inventory_management.dto.response.KitSerieCeldaDTO;
+import com.femt.inventory_management.models.dimension.*;
+import com.femt.inventory_management.models.kit.KitSerieColor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Matriz de colores de {@code lado x lado} con sus dimensiones, en las formas que usan los benchmarks:
+ * entidades, celdas proyectadas (desordenadas, como llegan de la base de datos) y requests.
+ * <>
+ * Los datos se generan con una semilla fija para que las corridas sean comparables.
+ */
+final class Escenario {
+
+    static final int COLORES = 12;
+
+    final int lado;
+    final List<DimFila> filas;
+    final List<DimColumna> columnas;
+    final List<DimColor> colores;
+    final DimModelo modelo;
+    final DimCategoria categoria;
+    final DimTipoComponente tipoComponente;
+    final List<KitSerieColor> entidades;
+    final List<KitSerieCeldaDTO> celdas;
+
+    Escenario(int lado) {
+        this.lado = lado;
+        this.filas = dimensiones(DimFila::new, lado, "F");
+        this.columnas = dimensiones(DimColumna::new, lado, "C");
+        this.colores = dimensiones(DimColor::new, COLORES, "Color ");
+        this.colores.forEach(c -> c.setCodeRgb(String.format("#%06x", c.getId() * 0x10101)));
+        this.modelo = dimensiones(DimModelo::new, 1, "Modelo ").get(0);
+        this.categoria = dimensiones(DimCategoria::new, 1, "Categoría ").get(0);
+        this.tipoComponente = dimensiones(DimTipoComponente::new, 1, "Tipo ").get(0);
+
+        Random aleatorio = new Random(42);
+        this.entidades = new ArrayList<>(lado * lado);
+        this.celdas = new ArrayList<>(lado * lado);
+        int id = 1;
+        for (DimFila fila : filas) {
+            for (DimColumna columna : columnas) {
+                DimColor color = colores.get(aleatorio.nextInt(COLORES));
+                KitSerieColor entidad = new KitSerieColor();
+                entidad.setId(id);
+                entidad.setFila(fila);
+                entidad.setColumna(columna);
+                entidad.setModelo(modelo);
+                entidad.setColor(color);
+                entidad.setCategoria(categoria);
+                entidad.setTipoComponente(tipoComponente);
+                entidades.add(entidad);
+                celdas.add(new KitSerieCeldaDTO(id++, fila.getId(), columna.getId(), color.getId()));
+            }
+        }
+        Collections.shuffle(celdas, aleatorio);
+    }
+
+    /**
+     * Lote de registros válidos, uno por celda.
+     */
+    List<KitSerieColorRequestDTO> lote() {
+        return entidades.stream()
+                .map(e -> new KitSerieColorRequestDTO(e.getFila().getId(), e.getColumna().getId(), modelo.getId(),
+                        e.getColor().getId(), categoria.getId(), tipoComponente.getId()))
+                .toList();
+    }
+
+    /**
+     * Lote en el que uno de cada {@code cada} registros referencia un color inexistente y otro no tiene fila.
+     */
+    List<KitSerieColorRequestDTO> loteConErrores(int cada) {
+        List<KitSerieColorRequestDTO> lote = new ArrayList<>(lote());
+        for (int i = 0; i < lote.size(); i += cada) {
+            KitSerieColorRequestDTO r = lote.get(i);
+            lote.set(i, new KitSerieColorRequestDTO(r.idFila(), r.idColumna(), r.idModelo(), -1,
+                    r.idCategoria(), r.idTipoComponente()));
+            if (i + 1 < lote.size()) {
+                KitSerieColorRequestDTO s = lote.get(i + 1);
+                lote.set(i + 1, new KitSerieColorRequestDTO(null, s.idColumna(), s.idModelo(), s.idColor(),
+                        s.idCategoria(), s.idTipoComponente()));
+            }
+        }
+        return lote;
+    }
+
+    /**
+     * Matriz completa en la que una fracción de las celdas cambia de color respecto de {@link #celdas}.
+     */
+    KitSerieMatrizRequestDTO matriz(double fraccionCambios) {
+        Random aleatorio = new Random(7);
+        List<KitSerieCeldaRequestDTO> pedidas = new ArrayList<>(celdas.size());
+        for (KitSerieCeldaDTO celda : celdas) {
+            int idColor = aleatorio.nextDouble() < fraccionCambios
+                    ? celda.idColor() % COLORES + 1
+                    : celda.idColor();
+            pedidas.add(new KitSerieCeldaRequestDTO(celda.idFila(), celda.idColumna(), idColor));
+        }
+        return new KitSerieMatrizRequestDTO(modelo.getId(), categoria.getId(), tipoComponente.getId(), pedidas);
+    }
+
+    private static <T extends DimBase> List<T> dimensiones(Supplier<T> nueva, int cantidad, String prefijo) {
+        List<T> dimensiones = new ArrayList<>(cantidad);
+        for (int i = 1; i <= cantidad; i++) {
+            T dimension = nueva.get();
+            dimension.setId(i);
+            dimension.setNombre(prefijo + i);
+            dimensiones.add(dimension);
+        }
+        return dimensiones;
+    }
+}
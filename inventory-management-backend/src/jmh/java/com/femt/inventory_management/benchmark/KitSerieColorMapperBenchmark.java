@@ -0,0 +1,47 @@
+package com.femt.inventory_management.benchmark;
+
+import com.femt.inventory_management.dto.response.KitSerieColorResponseDTO;
+import com.femt.inventory_management.dto.response.KitSerieMatrizResponseDTO;
+import com.femt.inventory_management.mapper.dimension.DimensionMapper;
+import com.femt.inventory_management.mapper.kit.KitSerieColorMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link KitSerieColorMapper}: lista de entidades a DTO y armado de la matriz compacta,
+ * para matrices de 10x10 a 100x100.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class KitSerieColorMapperBenchmark {
+
+    @Param({"10", "25", "50", "100"})
+    private int lado;
+
+    private KitSerieColorMapper mapper;
+    private Escenario escenario;
+
+    @Setup
+    public void preparar() {
+        mapper = new KitSerieColorMapper(new DimensionMapper());
+        escenario = new Escenario(lado);
+    }
+
+    @Benchmark
+    public List<KitSerieColorResponseDTO> toDTOList() {
+        return mapper.toDTOList(escenario.entidades);
+    }
+
+    @Benchmark
+    public KitSerieMatrizResponseDTO toMatrizDTO() {
+        return mapper.toMatrizDTO(escenario.modelo.getId(), escenario.categoria.getId(),
+                escenario.tipoComponente.getId(), escenario.celdas,
+                escenario.filas, escenario.columnas, escenario.colores);
+    }
+}
@@ -0,0 +1,93 @@
+package com.femt.inventory_management.benchmark;
+
+import com.femt.inventory_management.dto.request.KitSerieColorBatchRequest;
+import com.femt.inventory_management.dto.request.KitSerieMatrizRequestDTO;
+import com.femt.inventory_management.dto.response.KitSerieColorResponseDTO;
+import com.femt.inventory_management.dto.response.KitSerieMatrizResponseDTO;
+import com.femt.inventory_management.dto.response.KitSerieSincronizacionResponseDTO;
+import com.femt.inventory_management.exceptions.KitSerieBatchValidationException;
+import com.femt.inventory_management.mapper.dimension.DimensionMapper;
+import com.femt.inventory_management.mapper.kit.KitSerieColorMapper;
+import com.femt.inventory_management.repository.KitSerieColorRepository;
+import com.femt.inventory_management.service.serie.imp.SerieColoresServiceImp;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SerieColoresServiceImp} sin base de datos: validación del lote (campos obligatorios y
+ * dimensiones existentes en el catálogo), construcción de entidades, armado de la matriz compacta y
+ * cálculo de diferencias al sincronizar, para matrices de 10x10 a 100x100.
+ * <>
+ * El repositorio devuelve lo que recibe, así que solo se mide el trabajo en memoria del servicio.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SerieColoresBenchmark {
+
+    @Param({"10", "25", "50", "100"})
+    private int lado;
+
+    private SerieColoresServiceImp service;
+    private Escenario escenario;
+    private KitSerieColorBatchRequest lote;
+    private KitSerieColorBatchRequest loteConErrores;
+    private KitSerieMatrizRequestDTO matriz;
+
+    @Setup
+    public void preparar() {
+        escenario = new Escenario(lado);
+        KitSerieColorRepository repositorio = Stubs.repositorio(KitSerieColorRepository.class, Map.of(
+                "insertarEnLote", args -> new ArrayList<>((Collection<?>) args[0]),
+                "buscarCeldas", args -> escenario.celdas,
+                "eliminarMatriz", args -> escenario.celdas.size(),
+                "eliminarPorIds", args -> ((Collection<?>) args[0]).size(),
+                "actualizarColor", args -> ((Collection<?>) args[0]).size()
+        ));
+        service = new SerieColoresServiceImp(repositorio, Stubs.catalogo(escenario),
+                new KitSerieColorMapper(new DimensionMapper()));
+
+        lote = new KitSerieColorBatchRequest(escenario.lote());
+        loteConErrores = new KitSerieColorBatchRequest(escenario.loteConErrores(10));
+        matriz = escenario.matriz(0.1);
+    }
+
+    @Benchmark
+    public List<KitSerieColorResponseDTO> guardarLote() {
+        return service.guardarSerieColores(lote);
+    }
+
+    @Benchmark
+    public List<String> guardarLoteConErrores() {
+        try {
+            service.guardarSerieColores(loteConErrores);
+            throw new IllegalStateException("El lote con errores fue aceptado");
+        } catch (KitSerieBatchValidationException e) {
+            return e.getDetalles();
+        }
+    }
+
+    @Benchmark
+    public KitSerieMatrizResponseDTO obtenerMatriz() {
+        return service.obtenerMatriz(escenario.modelo.getId(), escenario.categoria.getId(),
+                escenario.tipoComponente.getId());
+    }
+
+    @Benchmark
+    public List<KitSerieColorResponseDTO> reemplazarMatriz() {
+        return service.reemplazarMatriz(matriz);
+    }
+
+    @Benchmark
+    public KitSerieSincronizacionResponseDTO sincronizarMatriz() {
+        return service.sincronizarMatriz(matriz);
+    }
+}
@@ -0,0 +1,61 @@
+package com.femt.inventory_management.benchmark;
+
+import com.femt.inventory_management.models.dimension.DimBase;
+import com.femt.inventory_management.repository.*;
+import com.femt.inventory_management.service.dimension.DimensionCatalogo;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Repositorios en memoria para los benchmarks de servicios.
+ * <>
+ * Se implementan con {@link Proxy} y responden solo los métodos indicados; cualquier otro lanza
+ * {@link UnsupportedOperationException}, de modo que un benchmark no mide accesos a datos por accidente.
+ */
+final class Stubs {
+
+    private Stubs() {
+    }
+
+    static <R> R repositorio(Class<R> tipo, Map<String, Function<Object[], Object>> metodos) {
+        return tipo.cast(Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[]{tipo}, (proxy, metodo, args) -> {
+            Function<Object[], Object> implementacion = metodos.get(metodo.getName());
+            if (implementacion != null) {
+                return implementacion.apply(args);
+            }
+            return switch (metodo.getName()) {
+                case "toString" -> tipo.getSimpleName() + " (stub)";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(tipo.getSimpleName() + "." + metodo.getName());
+            };
+        }));
+    }
+
+    /**
+     * Catálogo de dimensiones ya cargado con las dimensiones del escenario.
+     */
+    static DimensionCatalogo catalogo(Escenario escenario) {
+        DimensionCatalogo catalogo = new DimensionCatalogo(
+                dimensiones(DimCategoriaRepository.class, List.of(escenario.categoria)),
+                dimensiones(DimColorRepository.class, escenario.colores),
+                dimensiones(DimColumnaRepository.class, escenario.columnas),
+                dimensiones(DimFilaRepository.class, escenario.filas),
+                dimensiones(DimModeloRepository.class, List.of(escenario.modelo)),
+                dimensiones(DimTallaRepository.class, List.of()),
+                dimensiones(DimTipoComponenteRepository.class, List.of(escenario.tipoComponente))
+        );
+        catalogo.cargarTodo();
+        return catalogo;
+    }
+
+    private static <R> R dimensiones(Class<R> tipo, List<? extends DimBase> todas) {
+        return repositorio(tipo, Map.of(
+                "findAll", args -> todas,
+                "findAllById", args -> List.of()
+        ));
+    }
+}
@@ -0,0 +1,87 @@
+package com.femt.inventory_management.benchmark;
+
+import com.femt.inventory_management.dto.response.VentasPedidoDetalleResponseDTO;
+import com.femt.inventory_management.dto.response.VentasPedidoResponseDTO;
+import com.femt.inventory_management.dto.response.VentasVentaResponseDTO;
+import com.femt.inventory_management.mapper.ventas.VentasMapper;
+import com.femt.inventory_management.models.kit.KitSerieManager;
+import com.femt.inventory_management.models.seguridad.Usuario;
+import com.femt.inventory_management.models.ventas.VentasCliente;
+import com.femt.inventory_management.models.ventas.VentasPedido;
+import com.femt.inventory_management.models.ventas.VentasPedidoDetalle;
+import com.femt.inventory_management.models.ventas.VentasVenta;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link VentasMapper#toResponse} para las entidades que se devuelven al registrar ventas y pedidos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class VentasMapperBenchmark {
+
+    private VentasMapper mapper;
+    private VentasPedido pedido;
+    private VentasPedidoDetalle detalle;
+    private VentasVenta venta;
+
+    @Setup
+    public void preparar() {
+        mapper = new VentasMapper();
+
+        VentasCliente cliente = new VentasCliente();
+        cliente.setId(10);
+        Usuario usuario = new Usuario();
+        usuario.setId(20);
+        KitSerieManager kitSerieManager = new KitSerieManager();
+        kitSerieManager.setId(30);
+
+        pedido = VentasPedido.builder()
+                .id(1)
+                .cliente(cliente)
+                .usuario(usuario)
+                .kitSerieManager(kitSerieManager)
+                .fechaCreada(LocalDate.of(2025, 11, 1))
+                .fechaEntrega(LocalDate.of(2025, 11, 15))
+                .montoTotal(new BigDecimal("1250.00"))
+                .build();
+        detalle = VentasPedidoDetalle.builder()
+                .id(2)
+                .pedido(pedido)
+                .cantidadDocenas(5)
+                .precioUnitario(new BigDecimal("250.00"))
+                .build();
+        venta = VentasVenta.builder()
+                .id(3)
+                .igv(new BigDecimal("225.00"))
+                .descuento(BigDecimal.ZERO)
+                .montoTotal(new BigDecimal("1475.00"))
+                .fechaPago(LocalDate.of(2025, 11, 20))
+                .cliente(cliente)
+                .pedido(pedido)
+                .usuario(usuario)
+                .build();
+    }
+
+    @Benchmark
+    public VentasPedidoResponseDTO pedido() {
+        return mapper.toResponse(pedido);
+    }
+
+    @Benchmark
+    public VentasPedidoDetalleResponseDTO detalle() {
+        return mapper.toResponse(detalle);
+    }
+
+    @Benchmark
+    public VentasVentaResponseDTO venta() {
+        return mapper.toResponse(venta);
+    }
+}
@@ -0,0 +1,95 @@
+package com.femt.inventory_management.benchmark;
+
+import com.femt.inventory_management.dto.request.VentasPedidoCompletoRequestDTO;
+import com.femt.inventory_management.dto.request.VentasPedidoLineaRequestDTO;
+import com.femt.inventory_management.dto.response.VentasPedidoCompletoResponseDTO;
+import com.femt.inventory_management.exceptions.VentasValidationException;
+import com.femt.inventory_management.mapper.ventas.VentasMapper;
+import com.femt.inventory_management.models.kit.KitSerieManager;
+import com.femt.inventory_management.models.seguridad.Usuario;
+import com.femt.inventory_management.models.ventas.VentasCliente;
+import com.femt.inventory_management.repository.*;
+import com.femt.inventory_management.service.ventas.imp.VentasPedidoServiceImp;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link VentasPedidoServiceImp#crearCompleto} sin base de datos: validación de las líneas, cálculo del
+ * monto total, construcción de los detalles y conversión a DTO. La variante con error tiene inválida
+ * solo la última línea, de modo que recorre todo el lote antes de rechazarlo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class VentasPedidoBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int lineas;
+
+    private VentasPedidoServiceImp service;
+    private VentasPedidoCompletoRequestDTO pedido;
+    private VentasPedidoCompletoRequestDTO pedidoConError;
+
+    @Setup
+    public void preparar() {
+        VentasCliente cliente = new VentasCliente();
+        cliente.setId(1);
+        Usuario usuario = new Usuario();
+        usuario.setId(1);
+        KitSerieManager kitSerieManager = new KitSerieManager();
+        kitSerieManager.setId(1);
+
+        service = new VentasPedidoServiceImp(
+                Stubs.repositorio(VentasPedidoRepository.class, Map.of("save", args -> args[0])),
+                Stubs.repositorio(VentasPedidoDetalleRepository.class,
+                        Map.of("insertarEnLote", args -> new ArrayList<>((Collection<?>) args[0]))),
+                Stubs.repositorio(VentasClienteRepository.class, Map.of("findById", args -> Optional.of(cliente))),
+                Stubs.repositorio(SegUsuarioRepository.class, Map.of("findById", args -> Optional.of(usuario))),
+                Stubs.repositorio(KitSerieManagerRepository.class, Map.of("findById", args -> Optional.of(kitSerieManager))),
+                null,
+                null,
+                new VentasMapper()
+        );
+
+        List<VentasPedidoLineaRequestDTO> detalles = new ArrayList<>(lineas);
+        for (int i = 0; i < lineas; i++) {
+            detalles.add(new VentasPedidoLineaRequestDTO(1 + i % 12, new BigDecimal("18.50").add(BigDecimal.valueOf(i % 7))));
+        }
+        pedido = pedido(detalles);
+
+        List<VentasPedidoLineaRequestDTO> conError = new ArrayList<>(detalles);
+        conError.set(lineas - 1, new VentasPedidoLineaRequestDTO(0, BigDecimal.TEN));
+        pedidoConError = pedido(conError);
+    }
+
+    @Benchmark
+    public VentasPedidoCompletoResponseDTO crearCompleto() {
+        return service.crearCompleto(pedido);
+    }
+
+    @Benchmark
+    public String crearCompletoConError() {
+        try {
+            service.crearCompleto(pedidoConError);
+            throw new IllegalStateException("El pedido con error fue aceptado");
+        } catch (VentasValidationException e) {
+            return e.getField();
+        }
+    }
+
+    private static VentasPedidoCompletoRequestDTO pedido(List<VentasPedidoLineaRequestDTO> detalles) {
+        return new VentasPedidoCompletoRequestDTO(1, LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 15),
+                1, 1, null, List.copyOf(detalles));
+    }
+}
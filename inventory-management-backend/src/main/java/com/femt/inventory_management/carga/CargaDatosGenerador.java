@@ -0,0 +1,444 @@
+package com.femt.inventory_management.carga;
+
+import com.femt.inventory_management.models.seguridad.enums.RolUsuarioEnum;
+import com.femt.inventory_management.service.ventas.VentasResumenService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Generador de datos sintéticos para el perfil {@code carga}.
+ * <>
+ * Llena la base H2 recién creada con dimensiones, matrices de colores completas
+ * ({@code app.carga.modelos x categorias x tipos}, de {@code lado x lado} celdas), series por modelo y talla,
+ * usuarios, clientes y el historial de ventas: pedidos con 1 a 3 detalles, y para una fracción de ellos la
+ * venta y su comprobante ya aceptado por SUNAT (para no llenar la cola de emisión). Los datos dependen solo
+ * de {@code app.carga.semilla}, de modo que dos corridas con la misma configuración son comparables.
+ * <>
+ * Se inserta por lotes JDBC con IDs explícitos (mucho más rápido que pasar por JPA) y al final se ajustan los
+ * contadores de {@code seq_generador} para que la aplicación siga generando IDs libres, y se reconstruye el
+ * resumen diario de ventas. Corre como {@link ApplicationRunner}, es decir, antes de
+ * {@code ApplicationReadyEvent}: el catálogo de dimensiones se carga después, ya con los datos generados.
+ */
+@Slf4j
+@Component
+@Profile("carga")
+@Order(0)
+public class CargaDatosGenerador implements ApplicationRunner {
+
+    private static final BigDecimal IGV = new BigDecimal("0.18");
+    private static final int DIAS_RESUMEN = 180;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final VentasResumenService resumenService;
+    private final long semilla;
+    private final int usuarios;
+    private final int clientes;
+    private final int pedidos;
+    private final double fraccionVentas;
+    private final int dias;
+    private final int modelos;
+    private final int categorias;
+    private final int tipos;
+    private final int lado;
+    private final int colores;
+    private final int tallas;
+    private final int tamanioLote;
+
+    /**
+     * Último ID usado por cada nombre de {@code seq_generador}.
+     */
+    private final Map<String, Integer> ultimos = new LinkedHashMap<>();
+
+    public CargaDatosGenerador(JdbcTemplate jdbcTemplate,
+                               VentasResumenService resumenService,
+                               @Value("${app.carga.semilla:42}") long semilla,
+                               @Value("${app.carga.usuarios:20}") int usuarios,
+                               @Value("${app.carga.clientes:5000}") int clientes,
+                               @Value("${app.carga.pedidos:200000}") int pedidos,
+                               @Value("${app.carga.fraccion-ventas:0.8}") double fraccionVentas,
+                               @Value("${app.carga.dias:360}") int dias,
+                               @Value("${app.carga.modelos:12}") int modelos,
+                               @Value("${app.carga.categorias:4}") int categorias,
+                               @Value("${app.carga.tipos:3}") int tipos,
+                               @Value("${app.carga.lado:10}") int lado,
+                               @Value("${app.carga.colores:24}") int colores,
+                               @Value("${app.carga.tallas:8}") int tallas,
+                               @Value("${app.carga.tamanio-lote:1000}") int tamanioLote) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.resumenService = resumenService;
+        this.semilla = semilla;
+        this.usuarios = usuarios;
+        this.clientes = clientes;
+        this.pedidos = pedidos;
+        this.fraccionVentas = fraccionVentas;
+        this.dias = dias;
+        this.modelos = modelos;
+        this.categorias = categorias;
+        this.tipos = tipos;
+        this.lado = lado;
+        this.colores = colores;
+        this.tallas = tallas;
+        this.tamanioLote = tamanioLote;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer existentes = jdbcTemplate.queryForObject("select count(*) from ventas_cliente", Integer.class);
+        if (existentes != null && existentes > 0) {
+            log.info("Carga: la base ya tiene datos ({} clientes), no se generan", existentes);
+            return;
+        }
+        long inicio = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(semilla);
+
+        Dimensiones dim = dimensiones();
+        int[] primeraCeldaModelo = matrices(dim, random);
+        int[] managers = managers(dim, primeraCeldaModelo);
+        int[] idsUsuarios = usuarios();
+        clientes(random);
+        historial(random, idsUsuarios, managers);
+        secuencias();
+        resumen();
+
+        log.info("Carga: datos generados en {} s", (System.nanoTime() - inicio) / 1_000_000_000);
+    }
+
+    private Dimensiones dimensiones() {
+        int[] siguiente = {1};
+        Dimensiones dim = new Dimensiones(
+                dimension("dim_modelo", "Modelo", modelos, siguiente),
+                dimension("dim_categoria", "Categoria", categorias, siguiente),
+                dimension("dim_tipo_componente", "Tipo", tipos, siguiente),
+                dimension("dim_fila", "Fila", lado, siguiente),
+                dimension("dim_columna", "Columna", lado, siguiente),
+                dimension("dim_talla", "Talla", tallas, siguiente),
+                siguiente[0]
+        );
+        int primerColor = siguiente[0];
+        insertar("dim_color", "insert into dim_color (id, nombre, codergb) values (?, ?, ?)", colores, (ps, i) -> {
+            ps.setInt(1, primerColor + i);
+            ps.setString(2, "Color %02d".formatted(i + 1));
+            ps.setString(3, "#%06X".formatted((i * 0x9E3779) & 0xFFFFFF));
+        });
+        ultimos.put("dimension", primerColor + colores - 1);
+        return dim;
+    }
+
+    private int dimension(String tabla, String prefijo, int cantidad, int[] siguiente) {
+        int primero = siguiente[0];
+        insertar(tabla, "insert into " + tabla + " (id, nombre) values (?, ?)", cantidad, (ps, i) -> {
+            ps.setInt(1, primero + i);
+            ps.setString(2, "%s %02d".formatted(prefijo, i + 1));
+        });
+        siguiente[0] += cantidad;
+        return primero;
+    }
+
+    /**
+     * Una matriz completa por combinación de modelo, categoría y tipo de componente.
+     *
+     * @return ID de la primera celda de cada modelo (para las series de {@code kit_serie_manager})
+     */
+    private int[] matrices(Dimensiones dim, SplittableRandom random) {
+        int celdas = lado * lado;
+        int porModelo = categorias * tipos * celdas;
+        int total = modelos * porModelo;
+        int[] color = new int[total];
+        for (int i = 0; i < total; i++) {
+            color[i] = dim.color() + random.nextInt(colores);
+        }
+        insertar("kit_serie_color", """
+                insert into kit_serie_color (id, id_fila, id_columna, id_modelo, id_color, id_categoria, id_tipo)
+                values (?, ?, ?, ?, ?, ?, ?)
+                """, total, (ps, i) -> {
+            int celda = i % celdas;
+            int matriz = i / celdas;
+            ps.setInt(1, i + 1);
+            ps.setInt(2, dim.fila() + celda / lado);
+            ps.setInt(3, dim.columna() + celda % lado);
+            ps.setInt(4, dim.modelo() + i / porModelo);
+            ps.setInt(5, color[i]);
+            ps.setInt(6, dim.categoria() + matriz / tipos % categorias);
+            ps.setInt(7, dim.tipo() + matriz % tipos);
+        });
+        ultimos.put("kit_serie_color", total);
+
+        int[] primeraCelda = new int[modelos];
+        for (int m = 0; m < modelos; m++) {
+            primeraCelda[m] = m * porModelo + 1;
+        }
+        return primeraCelda;
+    }
+
+    /**
+     * Una serie por modelo y talla.
+     *
+     * @return IDs de las series
+     */
+    private int[] managers(Dimensiones dim, int[] primeraCeldaModelo) {
+        int total = modelos * tallas;
+        insertar("kit_serie_manager", """
+                insert into kit_serie_manager (id, id_kit_serie_color, id_modelo, id_talla, url_image)
+                values (?, ?, ?, ?, ?)
+                """, total, (ps, i) -> {
+            int modelo = i / tallas;
+            ps.setInt(1, i + 1);
+            ps.setInt(2, primeraCeldaModelo[modelo]);
+            ps.setInt(3, dim.modelo() + modelo);
+            ps.setInt(4, dim.talla() + i % tallas);
+            ps.setString(5, "/img/serie-%d.png".formatted(i + 1));
+        });
+        ultimos.put("kit_serie_manager", total);
+        int[] ids = new int[total];
+        for (int i = 0; i < total; i++) {
+            ids[i] = i + 1;
+        }
+        return ids;
+    }
+
+    /**
+     * Roles y usuarios (IDENTITY: los IDs los asigna la base). El primer usuario es administrador.
+     */
+    private int[] usuarios() {
+        for (RolUsuarioEnum rol : RolUsuarioEnum.values()) {
+            jdbcTemplate.update("insert into seguridad_rol (nombre) values (?)", rol.name());
+        }
+        Integer admin = jdbcTemplate.queryForObject("select id from seguridad_rol where nombre = ?", Integer.class,
+                RolUsuarioEnum.ADMIN.name());
+        Integer empleado = jdbcTemplate.queryForObject("select id from seguridad_rol where nombre = ?", Integer.class,
+                RolUsuarioEnum.EMPLEADO.name());
+        Timestamp ahora = Timestamp.valueOf(LocalDateTime.now());
+        insertar("seguridad_usuario", """
+                insert into seguridad_usuario (auth0_id, activo, fecha_creacion, fecha_actualizacion, id_rol)
+                values (?, ?, ?, ?, ?)
+                """, usuarios, (ps, i) -> {
+            ps.setString(1, "carga|usuario-%d".formatted(i + 1));
+            ps.setBoolean(2, true);
+            ps.setTimestamp(3, ahora);
+            ps.setTimestamp(4, ahora);
+            ps.setInt(5, i == 0 ? admin : empleado);
+        });
+        return jdbcTemplate.queryForList("select id from seguridad_usuario order by id", Integer.class)
+                .stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private void clientes(SplittableRandom random) {
+        long[] documentos = new long[clientes];
+        for (int i = 0; i < clientes; i++) {
+            documentos[i] = random.nextLong(10_000_000L, 100_000_000L);
+        }
+        insertar("ventas_cliente", """
+                insert into ventas_cliente (id, nombre_razon_social, apellido, direccion, telefono, ruc, dni)
+                values (?, ?, ?, ?, ?, ?, ?)
+                """, clientes, (ps, i) -> {
+            ps.setInt(1, i + 1);
+            ps.setString(2, "Cliente %d".formatted(i + 1));
+            ps.setString(3, "Apellido %d".formatted(i % 997));
+            ps.setString(4, "Av. Carga %d".formatted(i % 5000 + 1));
+            ps.setString(5, "9%08d".formatted(i));
+            ps.setString(6, "10%08d".formatted(documentos[i]));
+            ps.setString(7, Long.toString(documentos[i]));
+        });
+        ultimos.put("ventas_cliente", clientes);
+    }
+
+    /**
+     * Pedidos con sus detalles y, para {@code fraccion-ventas} de ellos, la venta y el comprobante.
+     */
+    private void historial(SplittableRandom random, int[] idsUsuarios, int[] managers) {
+        LocalDate hoy = LocalDate.now();
+        long primerDia = hoy.minusDays(dias - 1L).toEpochDay();
+
+        int[] cliente = new int[pedidos];
+        int[] usuario = new int[pedidos];
+        int[] manager = new int[pedidos];
+        long[] fecha = new long[pedidos];
+        int[] entrega = new int[pedidos];
+        int[] primerDetalle = new int[pedidos + 1];
+        int[] venta = new int[pedidos];
+        int[] pago = new int[pedidos];
+        boolean[] descuento = new boolean[pedidos];
+
+        int detalles = 0;
+        int ventas = 0;
+        for (int i = 0; i < pedidos; i++) {
+            cliente[i] = random.nextInt(clientes) + 1;
+            usuario[i] = idsUsuarios[random.nextInt(idsUsuarios.length)];
+            manager[i] = managers[random.nextInt(managers.length)];
+            fecha[i] = primerDia + random.nextInt(dias);
+            entrega[i] = random.nextInt(7, 31);
+            primerDetalle[i] = detalles;
+            detalles += random.nextInt(1, 4);
+            if (random.nextDouble() < fraccionVentas) {
+                venta[i] = ++ventas;
+                pago[i] = (int) Math.min(random.nextInt(8), hoy.toEpochDay() - fecha[i]);
+                descuento[i] = random.nextInt(10) == 0;
+            }
+        }
+        primerDetalle[pedidos] = detalles;
+
+        int[] pedidoDetalle = new int[detalles];
+        int[] cantidad = new int[detalles];
+        long[] precioCentimos = new long[detalles];
+        long[] montoPedido = new long[pedidos];
+        for (int i = 0; i < pedidos; i++) {
+            for (int d = primerDetalle[i]; d < primerDetalle[i + 1]; d++) {
+                pedidoDetalle[d] = i;
+                cantidad[d] = random.nextInt(1, 21);
+                precioCentimos[d] = random.nextInt(3000, 9001);
+                montoPedido[i] += cantidad[d] * precioCentimos[d];
+            }
+        }
+
+        insertar("ventas_pedido", """
+                insert into ventas_pedido (id, id_cliente, fecha_creada, fecha_entrega, id_usuario, id_kit_serie_manager, monto_total)
+                values (?, ?, ?, ?, ?, ?, ?)
+                """, pedidos, (ps, i) -> {
+            ps.setInt(1, i + 1);
+            ps.setInt(2, cliente[i]);
+            ps.setDate(3, fecha(fecha[i]));
+            ps.setDate(4, fecha(fecha[i] + entrega[i]));
+            ps.setInt(5, usuario[i]);
+            ps.setInt(6, manager[i]);
+            ps.setBigDecimal(7, BigDecimal.valueOf(montoPedido[i], 2));
+        });
+        ultimos.put("ventas_pedido", pedidos);
+
+        insertar("ventas_pedido_detalle", """
+                insert into ventas_pedido_detalle (id, id_pedido, cantidad_docenas, precio_unitario)
+                values (?, ?, ?, ?)
+                """, detalles, (ps, d) -> {
+            ps.setInt(1, d + 1);
+            ps.setInt(2, pedidoDetalle[d] + 1);
+            ps.setInt(3, cantidad[d]);
+            ps.setBigDecimal(4, BigDecimal.valueOf(precioCentimos[d], 2));
+        });
+        ultimos.put("ventas_pedido_detalle", detalles);
+
+        int[] pedidoVenta = new int[ventas];
+        for (int i = 0; i < pedidos; i++) {
+            if (venta[i] > 0) {
+                pedidoVenta[venta[i] - 1] = i;
+            }
+        }
+        insertar("ventas_venta", """
+                insert into ventas_venta (id, igv, descuento, monto_total, fecha_pago, id_cliente, id_pedido, id_usuario)
+                values (?, ?, ?, ?, ?, ?, ?, ?)
+                """, ventas, (ps, v) -> {
+            int i = pedidoVenta[v];
+            BigDecimal bruto = BigDecimal.valueOf(montoPedido[i], 2);
+            BigDecimal dscto = descuento[i] ? bruto.multiply(new BigDecimal("0.05")).setScale(2, RoundingMode.HALF_UP) : BigDecimal.ZERO;
+            BigDecimal total = bruto.subtract(dscto);
+            ps.setInt(1, v + 1);
+            ps.setBigDecimal(2, total.multiply(IGV).divide(BigDecimal.ONE.add(IGV), 2, RoundingMode.HALF_UP));
+            ps.setBigDecimal(3, dscto);
+            ps.setBigDecimal(4, total);
+            ps.setDate(5, fecha(fecha[i] + pago[i]));
+            ps.setInt(6, cliente[i]);
+            ps.setInt(7, i + 1);
+            ps.setInt(8, usuario[i]);
+        });
+        ultimos.put("ventas_venta", ventas);
+
+        insertar("ventas_comprobante_pago", """
+                insert into ventas_comprobante_pago (id, tipo_comprobante, serie, fecha_emision, estado_sunat, archivo_xml, archivo_cdr, id_venta)
+                values (?, ?, ?, ?, ?, ?, ?, ?)
+                """, ventas, (ps, v) -> {
+            int i = pedidoVenta[v];
+            boolean factura = cliente[i] % 3 == 0;
+            ps.setInt(1, v + 1);
+            ps.setString(2, factura ? "FACTURA" : "BOLETA");
+            ps.setString(3, factura ? "F001" : "B001");
+            ps.setDate(4, fecha(fecha[i] + pago[i]));
+            ps.setString(5, "ACEPTADO");
+            ps.setString(6, "carga/%d.xml".formatted(v + 1));
+            ps.setString(7, "carga/%d.zip".formatted(v + 1));
+            ps.setInt(8, v + 1);
+        });
+        ultimos.put("ventas_comprobante_pago", ventas);
+    }
+
+    /**
+     * Deja cada contador de {@code seq_generador} por encima de los IDs insertados (con margen para el
+     * bloque que Hibernate ya pudiera tener reservado).
+     */
+    private void secuencias() {
+        ultimos.forEach((nombre, ultimo) -> {
+            int siguiente = ultimo + 100;
+            int filas = jdbcTemplate.update(
+                    "update seq_generador set siguiente_valor = ? where nombre_secuencia = ?", siguiente, nombre);
+            if (filas == 0) {
+                jdbcTemplate.update(
+                        "insert into seq_generador (nombre_secuencia, siguiente_valor) values (?, ?)", nombre, siguiente);
+            }
+        });
+    }
+
+    /**
+     * Reconstruye el resumen diario por tramos (el servicio limita cada reconstrucción a un año).
+     */
+    private void resumen() {
+        LocalDate hasta = LocalDate.now();
+        LocalDate desde = hasta.minusDays(dias - 1L);
+        int filas = 0;
+        for (LocalDate tramo = desde; !tramo.isAfter(hasta); tramo = tramo.plusDays(DIAS_RESUMEN)) {
+            LocalDate fin = tramo.plusDays(DIAS_RESUMEN - 1L);
+            filas += resumenService.reconstruir(tramo, fin.isAfter(hasta) ? hasta : fin);
+        }
+        log.info("Carga: resumen diario con {} filas", filas);
+    }
+
+    private void insertar(String tabla, String sql, int total, Fila fila) {
+        long inicio = System.nanoTime();
+        for (int desde = 0; desde < total; desde += tamanioLote) {
+            int base = desde;
+            int cantidad = Math.min(tamanioLote, total - desde);
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    fila.escribir(ps, base + i);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return cantidad;
+                }
+            });
+        }
+        log.info("Carga: {} filas en {} ({} ms)", total, tabla, (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    private static Date fecha(long epochDay) {
+        return Date.valueOf(LocalDate.ofEpochDay(epochDay));
+    }
+
+    @FunctionalInterface
+    private interface Fila {
+        void escribir(PreparedStatement ps, int indice) throws SQLException;
+    }
+
+    /**
+     * ID de la primera fila de cada tabla de dimensiones (todas comparten la secuencia "dimension").
+     */
+    private record Dimensiones(int modelo, int categoria, int tipo, int fila, int columna, int talla, int color) {
+    }
+}
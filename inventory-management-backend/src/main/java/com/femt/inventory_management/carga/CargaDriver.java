@@ -0,0 +1,474 @@
+package com.femt.inventory_management.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.femt.inventory_management.dto.request.KitSerieCeldaRequestDTO;
+import com.femt.inventory_management.dto.request.KitSerieMatrizRequestDTO;
+import com.femt.inventory_management.dto.request.VentasPedidoCompletoRequestDTO;
+import com.femt.inventory_management.dto.request.VentasPedidoLineaRequestDTO;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Driver de carga HTTP para la API ({@code /api/kit/serie}, {@code /api/dimension} y {@code /api/ventas}).
+ * <>
+ * Cada usuario virtual es un hilo virtual que repite, sin pausas, una operación elegida al azar según los
+ * pesos de la mezcla (lazo cerrado: la carga la fija el número de usuarios, no una tasa). Las latencias se
+ * guardan por usuario y operación sin sincronización y se combinan al final, por lo que los percentiles son
+ * exactos. Lo medido durante el calentamiento se descarta.
+ * <>
+ * Los IDs a consultar se descubren por la propia API antes de empezar (dimensiones, y una página de clientes,
+ * pedidos y ventas), así que sirve tanto contra el perfil {@code carga} como contra cualquier otro servidor
+ * con {@code /api/**} accesible sin credenciales. Lo usa {@link CargaDriverAutomatico}, y también se puede
+ * ejecutar por separado con {@link #main(String[])}.
+ */
+@Slf4j
+public class CargaDriver {
+
+    /**
+     * Operaciones disponibles para la mezcla ({@code app.carga.driver.mezcla}).
+     */
+    public static final List<String> OPERACIONES = List.of(
+            "buscar", "matriz", "sincronizar", "dimensiones", "dimension",
+            "pedidos", "ventas", "clientes", "comprobantes", "venta", "cliente",
+            "pedido-completo", "resumen");
+
+    private static final List<String> TIPOS_DIMENSION = List.of(
+            "modelo", "categoria", "tipo-componente", "fila", "columna", "color", "talla");
+    private static final int TAMANIO_PAGINA = 50;
+    private static final int TAMANIO_DESCUBRIMIENTO = 500;
+    private static final int DIAS_FILTRO = 90;
+    private static final Duration TIEMPO_MAXIMO = Duration.ofSeconds(30);
+
+    private final String base;
+    private final HttpClient http;
+    private final ObjectMapper mapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private Datos datos;
+
+    public CargaDriver(String base) {
+        this.base = base.endsWith("/") ? base.substring(0, base.length() - 1) : base;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Uso: {@code CargaDriver <url-base> [usuarios-virtuales] [duracion-s] [calentamiento-s] [mezcla]}.
+     * Ejm. con el jar de la aplicación:
+     * {@code java -cp app.jar -Dloader.main=com.femt.inventory_management.carga.CargaDriver
+     * org.springframework.boot.loader.launch.PropertiesLauncher http://localhost:8080 64 60 10}
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Uso: CargaDriver <url-base> [usuarios-virtuales] [duracion-s] [calentamiento-s] [mezcla]");
+            System.exit(2);
+        }
+        int usuarios = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int duracion = args.length > 2 ? Integer.parseInt(args[2]) : 60;
+        int calentamiento = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+        Map<String, Integer> mezcla = mezcla(args.length > 4 ? args[4] : String.join(",", OPERACIONES));
+
+        CargaDriver driver = new CargaDriver(args[0]);
+        driver.preparar();
+        Reporte reporte = driver.ejecutar(usuarios, Duration.ofSeconds(calentamiento), Duration.ofSeconds(duracion), mezcla);
+        System.out.println(reporte.tabla());
+    }
+
+    /**
+     * Interpreta una mezcla {@code "buscar=30,matriz=20,..."}; una operación sin peso vale 1.
+     *
+     * @throws IllegalArgumentException si una operación no existe o un peso es negativo
+     */
+    public static Map<String, Integer> mezcla(String texto) {
+        Map<String, Integer> pesos = new LinkedHashMap<>();
+        for (String parte : texto.split(",")) {
+            String entrada = parte.trim();
+            if (entrada.isEmpty()) {
+                continue;
+            }
+            int igual = entrada.indexOf('=');
+            String nombre = igual < 0 ? entrada : entrada.substring(0, igual).trim();
+            int peso = igual < 0 ? 1 : Integer.parseInt(entrada.substring(igual + 1).trim());
+            if (!OPERACIONES.contains(nombre)) {
+                throw new IllegalArgumentException("Operación desconocida en la mezcla: " + nombre + " (" + OPERACIONES + ")");
+            }
+            if (peso < 0) {
+                throw new IllegalArgumentException("Peso negativo en la mezcla: " + entrada);
+            }
+            pesos.put(nombre, peso);
+        }
+        if (pesos.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("La mezcla no tiene ninguna operación con peso: " + texto);
+        }
+        return pesos;
+    }
+
+    /**
+     * Descubre los IDs sobre los que se hará la carga.
+     *
+     * @throws IllegalStateException si la API no responde o no tiene datos suficientes
+     */
+    public void preparar() {
+        Map<String, int[]> dimensiones = new LinkedHashMap<>();
+        for (String tipo : TIPOS_DIMENSION) {
+            dimensiones.put(tipo, ids(leer("/api/dimension/" + tipo), "id"));
+        }
+        JsonNode pedidos = leer("/api/ventas/pedidos/pagina?tamanio=" + TAMANIO_DESCUBRIMIENTO).path("contenido");
+        datos = new Datos(
+                dimensiones,
+                ids(leer("/api/ventas/clientes/pagina?tamanio=" + TAMANIO_DESCUBRIMIENTO).path("contenido"), "id"),
+                ids(pedidos, "idUsuario"),
+                ids(pedidos, "idKitSerieManager"),
+                ids(leer("/api/ventas/ventas/pagina?tamanio=" + TAMANIO_DESCUBRIMIENTO).path("contenido"), "id")
+        );
+        for (String tipo : List.of("modelo", "categoria", "tipo-componente", "fila", "columna", "color")) {
+            requerir(dimensiones.get(tipo), "dimensión " + tipo);
+        }
+        requerir(datos.clientes(), "clientes");
+        requerir(datos.usuarios(), "pedidos");
+        requerir(datos.ventas(), "ventas");
+        log.info("Carga: {} modelos, {} clientes, {} usuarios, {} series y {} ventas para consultar",
+                dimensiones.get("modelo").length, datos.clientes().length, datos.usuarios().length,
+                datos.managers().length, datos.ventas().length);
+    }
+
+    /**
+     * Ejecuta la carga y devuelve las estadísticas del periodo de medición.
+     */
+    public Reporte ejecutar(int usuariosVirtuales, Duration calentamiento, Duration duracion, Map<String, Integer> mezcla) {
+        if (datos == null) {
+            throw new IllegalStateException("Falta llamar a preparar()");
+        }
+        List<String> nombres = new ArrayList<>();
+        int[] acumulados = new int[mezcla.size()];
+        int total = 0;
+        for (Map.Entry<String, Integer> entrada : mezcla.entrySet()) {
+            if (entrada.getValue() == 0) {
+                continue;
+            }
+            total += entrada.getValue();
+            acumulados[nombres.size()] = total;
+            nombres.add(entrada.getKey());
+        }
+        int pesoTotal = total;
+        int[] limites = Arrays.copyOf(acumulados, nombres.size());
+
+        long inicioMedicion = System.nanoTime() + calentamiento.toNanos();
+        long fin = inicioMedicion + duracion.toNanos();
+        log.info("Carga: {} usuarios virtuales, {} s de calentamiento y {} s de medición, mezcla {}",
+                usuariosVirtuales, calentamiento.toSeconds(), duracion.toSeconds(), mezcla);
+
+        List<Future<Map<String, Muestras>>> usuarios = new ArrayList<>(usuariosVirtuales);
+        try (ExecutorService hilos = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int u = 0; u < usuariosVirtuales; u++) {
+                usuarios.add(hilos.submit(() -> {
+                    Map<String, Muestras> propias = new HashMap<>();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < fin) {
+                        int elegido = Arrays.binarySearch(limites, random.nextInt(pesoTotal) + 1);
+                        String nombre = nombres.get(elegido < 0 ? -elegido - 1 : elegido);
+                        HttpRequest peticion = peticion(nombre, random);
+                        long inicio = System.nanoTime();
+                        boolean ok = enviar(peticion);
+                        long finPeticion = System.nanoTime();
+                        if (inicio >= inicioMedicion && finPeticion <= fin) {
+                            propias.computeIfAbsent(nombre, n -> new Muestras()).agregar(finPeticion - inicio, ok);
+                        }
+                    }
+                    return propias;
+                }));
+            }
+        }
+
+        Map<String, Muestras> combinadas = new TreeMap<>();
+        for (Future<Map<String, Muestras>> usuario : usuarios) {
+            try {
+                usuario.get().forEach((nombre, muestras) ->
+                        combinadas.computeIfAbsent(nombre, n -> new Muestras()).combinar(muestras));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Carga interrumpida", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Falló un usuario virtual", e.getCause());
+            }
+        }
+        Muestras todas = new Muestras();
+        List<Resultado> resultados = new ArrayList<>();
+        combinadas.forEach((nombre, muestras) -> {
+            todas.combinar(muestras);
+            resultados.add(muestras.resultado(nombre, duracion));
+        });
+        resultados.add(todas.resultado("TOTAL", duracion));
+        return new Reporte(usuariosVirtuales, duracion, resultados);
+    }
+
+    private HttpRequest peticion(String nombre, ThreadLocalRandom random) {
+        return switch (nombre) {
+            case "buscar" -> get("/api/kit/serie/buscar?" + matriz(random));
+            case "matriz" -> get("/api/kit/serie/buscar?formato=matriz&" + matriz(random));
+            case "sincronizar" -> put("/api/kit/serie/sincronizar", sincronizacion(random));
+            case "dimensiones" -> get("/api/dimension/" + elegir(TIPOS_DIMENSION, random));
+            case "dimension" -> {
+                String tipo = elegir(TIPOS_DIMENSION, random);
+                int[] ids = datos.dimensiones().get(tipo);
+                yield get("/api/dimension/" + tipo + "/" + (ids.length == 0 ? 0 : elegir(ids, random)));
+            }
+            case "pedidos" -> get("/api/ventas/pedidos/pagina?" + filtroVentas(random));
+            case "ventas" -> get("/api/ventas/ventas/pagina?" + filtroVentas(random));
+            case "clientes" -> get("/api/ventas/clientes/pagina?tamanio=" + TAMANIO_PAGINA);
+            case "comprobantes" -> get("/api/ventas/comprobantes/pagina?tamanio=" + TAMANIO_PAGINA
+                    + "&estadoSunat=ACEPTADO&" + rangoFechas(random, 7));
+            case "venta" -> get("/api/ventas/ventas/" + elegir(datos.ventas(), random));
+            case "cliente" -> get("/api/ventas/clientes/" + elegir(datos.clientes(), random));
+            case "pedido-completo" -> post("/api/ventas/pedidos/completo", pedido(random));
+            case "resumen" -> get("/api/ventas/resumen?agrupar=dia&" + rangoFechas(random, 30));
+            default -> throw new IllegalArgumentException("Operación desconocida: " + nombre);
+        };
+    }
+
+    private String matriz(ThreadLocalRandom random) {
+        return "idModelo=" + elegir(datos.dimensiones().get("modelo"), random)
+                + "&idCategoria=" + elegir(datos.dimensiones().get("categoria"), random)
+                + "&idTipoComponente=" + elegir(datos.dimensiones().get("tipo-componente"), random);
+    }
+
+    /**
+     * Matriz completa (todas las filas y columnas) con colores al azar.
+     */
+    private KitSerieMatrizRequestDTO sincronizacion(ThreadLocalRandom random) {
+        int[] filas = datos.dimensiones().get("fila");
+        int[] columnas = datos.dimensiones().get("columna");
+        int[] colores = datos.dimensiones().get("color");
+        List<KitSerieCeldaRequestDTO> celdas = new ArrayList<>(filas.length * columnas.length);
+        for (int fila : filas) {
+            for (int columna : columnas) {
+                celdas.add(new KitSerieCeldaRequestDTO(fila, columna, elegir(colores, random)));
+            }
+        }
+        return new KitSerieMatrizRequestDTO(
+                elegir(datos.dimensiones().get("modelo"), random),
+                elegir(datos.dimensiones().get("categoria"), random),
+                elegir(datos.dimensiones().get("tipo-componente"), random),
+                celdas);
+    }
+
+    /**
+     * Primera página por cliente (la mitad de las veces) o por una semana de fechas.
+     */
+    private String filtroVentas(ThreadLocalRandom random) {
+        String filtro = random.nextBoolean()
+                ? "idCliente=" + elegir(datos.clientes(), random)
+                : "orden=fecha&" + rangoFechas(random, 7);
+        return "tamanio=" + TAMANIO_PAGINA + "&" + filtro;
+    }
+
+    private static String rangoFechas(ThreadLocalRandom random, int dias) {
+        LocalDate hasta = LocalDate.now().minusDays(random.nextInt(DIAS_FILTRO));
+        return "desde=" + hasta.minusDays(dias - 1L) + "&hasta=" + hasta;
+    }
+
+    private VentasPedidoCompletoRequestDTO pedido(ThreadLocalRandom random) {
+        int lineas = random.nextInt(1, 4);
+        List<VentasPedidoLineaRequestDTO> detalles = new ArrayList<>(lineas);
+        for (int i = 0; i < lineas; i++) {
+            detalles.add(new VentasPedidoLineaRequestDTO(random.nextInt(1, 21),
+                    BigDecimal.valueOf(random.nextInt(3000, 9001), 2)));
+        }
+        LocalDate hoy = LocalDate.now();
+        return new VentasPedidoCompletoRequestDTO(
+                elegir(datos.clientes(), random),
+                hoy,
+                hoy.plusDays(random.nextInt(7, 31)),
+                elegir(datos.usuarios(), random),
+                elegir(datos.managers(), random),
+                null,
+                detalles);
+    }
+
+    private HttpRequest get(String ruta) {
+        return solicitud(ruta).GET().build();
+    }
+
+    private HttpRequest put(String ruta, Object cuerpo) {
+        return solicitud(ruta).header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(json(cuerpo))).build();
+    }
+
+    private HttpRequest post(String ruta, Object cuerpo) {
+        return solicitud(ruta).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(json(cuerpo))).build();
+    }
+
+    private HttpRequest.Builder solicitud(String ruta) {
+        return HttpRequest.newBuilder(URI.create(base + ruta.replace(" ", "%20")))
+                .timeout(TIEMPO_MAXIMO)
+                .header("Accept", "application/json");
+    }
+
+    private byte[] json(Object cuerpo) {
+        try {
+            return mapper.writeValueAsBytes(cuerpo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return {@code true} si la respuesta fue 2xx; los errores de red cuentan como fallidos
+     */
+    private boolean enviar(HttpRequest peticion) {
+        try {
+            HttpResponse<Void> respuesta = http.send(peticion, HttpResponse.BodyHandlers.discarding());
+            return respuesta.statusCode() / 100 == 2;
+        } catch (IOException e) {
+            log.debug("Carga: {} {} falló: {}", peticion.method(), peticion.uri(), e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private JsonNode leer(String ruta) {
+        try {
+            HttpResponse<byte[]> respuesta = http.send(get(ruta), HttpResponse.BodyHandlers.ofByteArray());
+            if (respuesta.statusCode() / 100 != 2) {
+                throw new IllegalStateException("GET " + ruta + " respondió " + respuesta.statusCode());
+            }
+            return mapper.readTree(respuesta.body());
+        } catch (IOException e) {
+            throw new IllegalStateException("No se pudo consultar " + base + ruta + ": " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Consulta interrumpida: " + ruta, e);
+        }
+    }
+
+    private static int[] ids(JsonNode lista, String campo) {
+        Set<Integer> ids = new LinkedHashSet<>();
+        for (JsonNode elemento : lista) {
+            if (elemento.hasNonNull(campo)) {
+                ids.add(elemento.get(campo).asInt());
+            }
+        }
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static void requerir(int[] ids, String descripcion) {
+        if (ids.length == 0) {
+            throw new IllegalStateException("La API no devolvió " + descripcion + "; ¿se generaron los datos de carga?");
+        }
+    }
+
+    private static int elegir(int[] valores, ThreadLocalRandom random) {
+        return valores[random.nextInt(valores.length)];
+    }
+
+    private static <T> T elegir(List<T> valores, ThreadLocalRandom random) {
+        return valores.get(random.nextInt(valores.size()));
+    }
+
+    /**
+     * IDs descubiertos por tipo de dimensión ({@link #TIPOS_DIMENSION}) y de las entidades de ventas.
+     */
+    private record Datos(Map<String, int[]> dimensiones, int[] clientes, int[] usuarios, int[] managers, int[] ventas) {
+    }
+
+    /**
+     * Estadísticas de una operación en el periodo de medición. Latencias en milisegundos.
+     */
+    public record Resultado(String operacion, long peticiones, long errores, double porSegundo,
+                            double p50, double p90, double p99, double p999, double maximo) {
+    }
+
+    public record Reporte(int usuariosVirtuales, Duration duracion, List<Resultado> resultados) {
+
+        /**
+         * Tabla de texto con una fila por operación y el total al final.
+         */
+        public String tabla() {
+            StringBuilder tabla = new StringBuilder()
+                    .append("Carga: ").append(usuariosVirtuales).append(" usuarios virtuales, ")
+                    .append(duracion.toSeconds()).append(" s de medición (latencias en ms)\n")
+                    .append("%-16s %10s %8s %9s %8s %8s %8s %8s %8s%n".formatted(
+                            "operación", "peticiones", "errores", "req/s", "p50", "p90", "p99", "p99.9", "máx"));
+            for (Resultado r : resultados) {
+                tabla.append("%-16s %10d %8d %9.1f %8.2f %8.2f %8.2f %8.2f %8.2f%n".formatted(
+                        r.operacion(), r.peticiones(), r.errores(), r.porSegundo(),
+                        r.p50(), r.p90(), r.p99(), r.p999(), r.maximo()));
+            }
+            return tabla.toString();
+        }
+    }
+
+    /**
+     * Latencias (ns) de un usuario virtual para una operación; sin sincronización.
+     */
+    static final class Muestras {
+
+        private long[] valores = new long[1024];
+        private int cantidad;
+        private long errores;
+
+        void agregar(long nanos, boolean ok) {
+            if (cantidad == valores.length) {
+                valores = Arrays.copyOf(valores, cantidad * 2);
+            }
+            valores[cantidad++] = nanos;
+            if (!ok) {
+                errores++;
+            }
+        }
+
+        void combinar(Muestras otras) {
+            if (cantidad + otras.cantidad > valores.length) {
+                valores = Arrays.copyOf(valores, Math.max(valores.length * 2, cantidad + otras.cantidad));
+            }
+            System.arraycopy(otras.valores, 0, valores, cantidad, otras.cantidad);
+            cantidad += otras.cantidad;
+            errores += otras.errores;
+        }
+
+        Resultado resultado(String operacion, Duration duracion) {
+            long[] ordenados = Arrays.copyOf(valores, cantidad);
+            Arrays.sort(ordenados);
+            return new Resultado(operacion, cantidad, errores, cantidad / (duracion.toNanos() / 1e9),
+                    percentil(ordenados, 50), percentil(ordenados, 90), percentil(ordenados, 99),
+                    percentil(ordenados, 99.9), percentil(ordenados, 100));
+        }
+
+        /**
+         * Percentil por rango más cercano, en milisegundos.
+         */
+        static double percentil(long[] ordenados, double p) {
+            if (ordenados.length == 0) {
+                return 0;
+            }
+            // El margen evita que el error de redondeo (p. ej. 99.9 / 100 * 1000) suba un rango
+            int rango = (int) Math.ceil(p * ordenados.length / 100 - 1e-9);
+            return ordenados[Math.max(rango, 1) - 1] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.femt.inventory_management.carga;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Lanza {@link CargaDriver} contra el propio servidor cuando la aplicación termina de iniciar
+ * ({@code app.carga.driver.auto=true}), ya con los datos de {@link CargaDatosGenerador}.
+ * <>
+ * Corre en un hilo aparte para no demorar el inicio y deja el reporte en el log. Con
+ * {@code app.carga.driver.salir=true} cierra la aplicación al terminar (corridas desatendidas o en CI).
+ */
+@Slf4j
+@Component
+@Profile("carga")
+@ConditionalOnProperty(name = "app.carga.driver.auto", havingValue = "true")
+public class CargaDriverAutomatico {
+
+    private final int usuariosVirtuales;
+    private final Duration calentamiento;
+    private final Duration duracion;
+    private final String mezcla;
+    private final boolean salir;
+
+    public CargaDriverAutomatico(@Value("${app.carga.driver.usuarios-virtuales:64}") int usuariosVirtuales,
+                                 @Value("${app.carga.driver.calentamiento-s:10}") long calentamiento,
+                                 @Value("${app.carga.driver.duracion-s:60}") long duracion,
+                                 @Value("${app.carga.driver.mezcla:buscar,matriz,dimensiones,pedidos,ventas}") String mezcla,
+                                 @Value("${app.carga.driver.salir:false}") boolean salir) {
+        this.usuariosVirtuales = usuariosVirtuales;
+        this.calentamiento = Duration.ofSeconds(calentamiento);
+        this.duracion = Duration.ofSeconds(duracion);
+        this.mezcla = mezcla;
+        this.salir = salir;
+        // Falla al iniciar, no después de generar los datos
+        CargaDriver.mezcla(mezcla);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar(ApplicationReadyEvent evento) {
+        ConfigurableApplicationContext contexto = evento.getApplicationContext();
+        int puerto = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+        Thread.ofPlatform().name("carga-driver").start(() -> ejecutar(contexto, "http://localhost:" + puerto));
+    }
+
+    private void ejecutar(ConfigurableApplicationContext contexto, String base) {
+        int codigo = 0;
+        try {
+            CargaDriver driver = new CargaDriver(base);
+            driver.preparar();
+            CargaDriver.Reporte reporte = driver.ejecutar(usuariosVirtuales, calentamiento, duracion, CargaDriver.mezcla(mezcla));
+            log.info("\n{}", reporte.tabla());
+        } catch (RuntimeException e) {
+            codigo = 1;
+            log.error("Carga: el driver terminó con error", e);
+        }
+        if (salir) {
+            int salida = codigo;
+            System.exit(SpringApplication.exit(contexto, () -> salida));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.femt.inventory_management.carga;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * =========================================
+ * Config de Seguridad del Perfil de Carga
+ * =========================================
+ * <>
+ *     Solo con el perfil {@code carga}: las rutas {@code /api/**} quedan abiertas, sin sesión ni CSRF,
+ *     para que {@link CargaDriver} pueda ejercitarlas sin pasar por Auth0. La cadena tiene prioridad
+ *     sobre la de {@link com.femt.inventory_management.security.SecurityConfig} y la de
+ *     {@link com.femt.inventory_management.security.JwtSecurityConfig}; el resto de rutas no cambia.
+ * <>
+ *     Como salvaguarda, la aplicación no inicia si el perfil se activa contra una base de datos que no
+ *     sea H2 en memoria (p. ej. por un {@code SPRING_PROFILES_ACTIVE} equivocado en producción).
+ *
+ * @author MenesesTech
+ * @version 1.0
+ * @since 2025-12
+ */
+@Slf4j
+@Configuration
+@Profile("carga")
+public class CargaSecurityConfig {
+
+    static final String URL_PERMITIDA = "jdbc:h2:mem:";
+
+    /**
+     * Cadena de filtros para {@code /api/**} sin autenticación.
+     */
+    @Bean
+    @Order(0)
+    public SecurityFilterChain apiCarga(HttpSecurity http,
+                                        @Value("${spring.datasource.url}") String url) throws Exception {
+        if (!url.startsWith(URL_PERMITIDA)) {
+            throw new IllegalStateException(
+                    "El perfil 'carga' desactiva la seguridad de /api/** y solo puede usarse con " + URL_PERMITIDA + "...");
+        }
+        log.warn("Perfil 'carga': /api/** sin autenticación sobre {}", url);
+        http
+                .securityMatcher("/api/**")
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+        return http.build();
+    }
+}
@@ -0,0 +1,148 @@
+package com.femt.inventory_management.config;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DataSource que reserva conexiones del pool para las que se piden con otra ya abierta en el mismo hilo.
+ * <>
+ * Los generadores de IDs por tabla ({@code seq_generador}) toman una segunda conexión mientras la
+ * transacción sigue con la primera. Si todas las conexiones del pool están en manos de hilos que esperan
+ * su segunda conexión, ninguno avanza hasta que vence {@code connection-timeout}. Con hilos virtuales
+ * no hay un límite de hilos por delante del pool y basta una ráfaga de altas concurrentes para llegar ahí.
+ * <>
+ * Por eso solo {@code tamaño del pool - reserva} hilos pueden tener conexión a la vez: el resto espera aquí
+ * (en orden de llegada y sin fijar el hilo virtual a su portador). Las conexiones anidadas no esperan el
+ * permiso y siempre quedan {@code reserva} conexiones libres para ellas; como quien tiene una conexión
+ * anidada no pide otra, la espera en el pool es corta y nunca circular.
+ */
+public class ConexionesLimitadasDataSource extends DelegatingDataSource {
+
+    private final Semaphore permisos;
+    private final long esperaMs;
+    private final ThreadLocal<AtomicInteger> abiertas = ThreadLocal.withInitial(AtomicInteger::new);
+    private final LongAdder vencidas = new LongAdder();
+
+    /**
+     * @param destino  pool de conexiones
+     * @param permisos hilos que pueden tener conexión a la vez (tamaño del pool menos la reserva)
+     * @param esperaMs tiempo máximo de espera de un permiso
+     */
+    public ConexionesLimitadasDataSource(DataSource destino, int permisos, long esperaMs) {
+        super(destino);
+        if (permisos < 1) {
+            throw new IllegalArgumentException("Se necesita al menos un permiso de conexión: " + permisos);
+        }
+        this.permisos = new Semaphore(permisos, true);
+        this.esperaMs = esperaMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return limitar(() -> obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String usuario, String clave) throws SQLException {
+        return limitar(() -> obtainTargetDataSource().getConnection(usuario, clave));
+    }
+
+    /**
+     * @return hilos esperando un permiso de conexión
+     */
+    public int esperando() {
+        return permisos.getQueueLength();
+    }
+
+    /**
+     * @return esperas de permiso que vencieron
+     */
+    public long vencidas() {
+        return vencidas.sum();
+    }
+
+    private Connection limitar(Apertura apertura) throws SQLException {
+        AtomicInteger propias = abiertas.get();
+        boolean primera = propias.get() == 0;
+        if (primera) {
+            adquirir();
+        }
+        Connection conexion;
+        try {
+            conexion = apertura.abrir();
+        } catch (SQLException | RuntimeException e) {
+            if (primera) {
+                permisos.release();
+            }
+            throw e;
+        }
+        propias.incrementAndGet();
+        return envolver(conexion, propias, primera);
+    }
+
+    private void adquirir() throws SQLException {
+        try {
+            if (!permisos.tryAcquire(esperaMs, TimeUnit.MILLISECONDS)) {
+                vencidas.increment();
+                throw new SQLTransientConnectionException(
+                        "No hay conexiones disponibles: se esperó " + esperaMs + " ms ("
+                                + permisos.getQueueLength() + " hilos en espera)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Espera de conexión interrumpida", e);
+        }
+    }
+
+    /**
+     * Devuelve el permiso al cerrar la conexión (una sola vez, aunque se cierre desde otro hilo).
+     */
+    private Connection envolver(Connection conexion, AtomicInteger propias, boolean primera) {
+        AtomicBoolean cerrada = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class},
+                (proxy, metodo, args) -> switch (metodo.getName()) {
+                    case "close" -> {
+                        if (cerrada.compareAndSet(false, true)) {
+                            try {
+                                conexion.close();
+                            } finally {
+                                propias.decrementAndGet();
+                                if (primera) {
+                                    permisos.release();
+                                }
+                            }
+                        }
+                        yield null;
+                    }
+                    case "isClosed" -> cerrada.get() || conexion.isClosed();
+                    case "getTargetConnection" -> conexion;
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> {
+                        try {
+                            yield metodo.invoke(conexion, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface Apertura {
+        Connection abrir() throws SQLException;
+    }
+}
@@ -0,0 +1,81 @@
+package com.femt.inventory_management.config;
+
+import com.femt.inventory_management.metricas.MetricasRegistro;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Detecta hilos virtuales que quedan fijados a su hilo portador (evento JFR {@code jdk.VirtualThreadPinned}).
+ * <>
+ * En Java 21 un hilo virtual que bloquea (E/S, {@code sleep}, esperar un lock) dentro de un bloque
+ * {@code synchronized} o de código nativo no libera su portador: con pocos portadores (uno por núcleo) unos
+ * cuantos bastan para detener todas las peticiones. Cada bloqueo que supera el umbral cuenta en
+ * {@code jvm_hilos_virtuales_fijados_total}; el primero de cada ubicación se registra con su pila en WARN
+ * y los siguientes en DEBUG.
+ * <>
+ * El código propio no usa {@code synchronized} (lo verifica {@code SinMonitoresTest}); esto cubre las librerías.
+ */
+@Slf4j
+public class HilosFijadosMonitor implements AutoCloseable {
+
+    static final String EVENTO = "jdk.VirtualThreadPinned";
+    private static final int MARCOS_REGISTRADOS = 12;
+
+    private final RecordingStream stream = new RecordingStream();
+    private final MetricasRegistro.Contador fijados;
+    private final Set<String> ubicaciones = ConcurrentHashMap.newKeySet();
+
+    public HilosFijadosMonitor(Duration umbral, MetricasRegistro registro) {
+        this.fijados = registro.contador("jvm_hilos_virtuales_fijados_total",
+                "Bloqueos de hilos virtuales fijados a su portador por encima del umbral");
+        stream.enable(EVENTO).withThreshold(umbral).withStackTrace();
+        stream.onEvent(EVENTO, this::registrar);
+        stream.startAsync();
+        log.info("Detección de hilos virtuales fijados activa (umbral {} ms)", umbral.toMillis());
+    }
+
+    private void registrar(RecordedEvent evento) {
+        fijados.incrementar();
+        RecordedStackTrace pila = evento.getStackTrace();
+        if (pila == null) {
+            log.warn("Hilo virtual fijado {} ms (sin pila)", evento.getDuration().toMillis());
+            return;
+        }
+        String ubicacion = ubicacion(pila);
+        if (ubicaciones.add(ubicacion)) {
+            StringBuilder marcos = new StringBuilder();
+            pila.getFrames().stream().limit(MARCOS_REGISTRADOS).forEach(marco -> marcos.append("\n\tat ").append(marco(marco)));
+            log.warn("Hilo virtual fijado {} ms en {}:{}", evento.getDuration().toMillis(), ubicacion, marcos);
+        } else {
+            log.debug("Hilo virtual fijado {} ms en {}", evento.getDuration().toMillis(), ubicacion);
+        }
+    }
+
+    /**
+     * Primer marco del código propio, o el primero de la pila si el bloqueo es solo de librerías.
+     */
+    private static String ubicacion(RecordedStackTrace pila) {
+        return pila.getFrames().stream()
+                .filter(marco -> marco.getMethod().getType().getName().startsWith("com.femt."))
+                .findFirst()
+                .or(() -> pila.getFrames().stream().findFirst())
+                .map(HilosFijadosMonitor::marco)
+                .orElse("?");
+    }
+
+    private static String marco(RecordedFrame marco) {
+        return marco.getMethod().getType().getName() + "." + marco.getMethod().getName() + ":" + marco.getLineNumber();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+}
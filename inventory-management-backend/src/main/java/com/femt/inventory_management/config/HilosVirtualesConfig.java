@@ -0,0 +1,42 @@
+package com.femt.inventory_management.config;
+
+import com.femt.inventory_management.metricas.MetricasRegistro;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * ================================================
+ * Config de Hilos Virtuales
+ * ================================================
+ * <>
+ *     Con {@code spring.threads.virtual.enabled=true} ({@code HILOS_VIRTUALES}) Spring Boot atiende cada
+ *     petición de Tomcat en un hilo virtual y usa hilos virtuales para {@code @Async} y {@code @Scheduled}.
+ *     Una petición que espera a MySQL o a un cliente lento ya no ocupa uno de los 200 hilos de Tomcat, y
+ *     el límite de concurrencia pasa a ser el pool de conexiones ({@link PoolConexionesConfig}).
+ *     <>
+ *         - Pinning: el código propio no usa {@code synchronized} (verificado por {@code SinMonitoresTest});
+ *           las esperas en librerías se detectan con {@link HilosFijadosMonitor}
+ *         - Por defecto se mantiene el pool de hilos de plataforma
+ *     <>
+ *
+ * @author MenesesTech
+ * @version 1.0
+ * @since 2025-12
+ */
+@Configuration
+public class HilosVirtualesConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    @ConditionalOnProperty(name = "app.hilos-virtuales.detectar-fijados", havingValue = "true", matchIfMissing = true)
+    public HilosFijadosMonitor hilosFijadosMonitor(MetricasRegistro registro,
+                                                   @Value("${app.hilos-virtuales.umbral-fijado-ms:20}") long umbral) {
+        return new HilosFijadosMonitor(Duration.ofMillis(umbral), registro);
+    }
+}
@@ -0,0 +1,70 @@
+package com.femt.inventory_management.config;
+
+import com.femt.inventory_management.metricas.MetricasRegistro;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ================================================
+ * Config del Pool de Conexiones (HikariCP)
+ * ================================================
+ * <>
+ *     El pool es de tamaño fijo ({@code minimum-idle = maximum-pool-size}, {@code DB_POOL_MAXIMO}) y se
+ *     dimensiona por lo que aguanta la base de datos, no por la cantidad de peticiones: como punto de
+ *     partida {@code núcleos del servidor MySQL x 2}, repartido entre las instancias de la aplicación.
+ *     Con hilos virtuales la concurrencia ya no la limita Tomcat sino el pool, así que agrandarlo no
+ *     atiende más peticiones; solo traslada la cola a MySQL.
+ *     <>
+ *         - Espera de conexión corta ({@code DB_POOL_ESPERA_MS}): ante una saturación, las peticiones
+ *           fallan rápido en lugar de acumularse durante 30 s
+ *         - Reserva para conexiones anidadas ({@code app.datasource.reserva-anidadas}): ver
+ *           {@link ConexionesLimitadasDataSource}; {@code 0} la desactiva
+ *     <>
+ * Hilos esperando y esperas vencidas se publican en {@code datasource_conexiones_esperando} y
+ * {@code datasource_conexiones_vencidas_total}.
+ *
+ * @author MenesesTech
+ * @version 1.0
+ * @since 2025-12
+ */
+@Slf4j
+@Configuration
+public class PoolConexionesConfig {
+
+    /**
+     * Envuelve el pool de Hikari con {@link ConexionesLimitadasDataSource}, usando su tamaño y su espera.
+     */
+    @Bean
+    public static BeanPostProcessor conexionesLimitadas(ObjectProvider<MetricasRegistro> registro,
+                                                        @Value("${app.datasource.reserva-anidadas:1}") int reserva) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String nombre) {
+                if (!(bean instanceof HikariDataSource pool) || reserva <= 0) {
+                    return bean;
+                }
+                int maximo = pool.getMaximumPoolSize();
+                if (reserva >= maximo) {
+                    throw new IllegalStateException("app.datasource.reserva-anidadas (" + reserva
+                            + ") debe ser menor que el tamaño del pool (" + maximo + ")");
+                }
+                ConexionesLimitadasDataSource limitado =
+                        new ConexionesLimitadasDataSource(pool, maximo - reserva, pool.getConnectionTimeout());
+                registro.ifAvailable(metricas -> {
+                    metricas.medidor("datasource_conexiones_esperando",
+                            "Hilos esperando un permiso de conexión", limitado::esperando);
+                    metricas.contador("datasource_conexiones_vencidas_total",
+                            "Esperas de permiso de conexión que vencieron", limitado::vencidas);
+                });
+                log.info("Pool de conexiones '{}': {} conexiones, {} reservadas para conexiones anidadas",
+                        nombre, maximo, reserva);
+                return limitado;
+            }
+        };
+    }
+}
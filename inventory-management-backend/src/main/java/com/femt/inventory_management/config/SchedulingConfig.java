@@ -0,0 +1,12 @@
+package com.femt.inventory_management.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas periódicas ({@code @Scheduled}), como el volcado de reservas de stock.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
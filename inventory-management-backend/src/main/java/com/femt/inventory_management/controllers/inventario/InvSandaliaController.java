@@ -0,0 +1,61 @@
+package com.femt.inventory_management.controllers.inventario;
+
+import com.femt.inventory_management.dto.request.InvMovimientoRequestDTO;
+import com.femt.inventory_management.dto.request.InvSandaliaRequestDTO;
+import com.femt.inventory_management.dto.response.InvMovimientoResponseDTO;
+import com.femt.inventory_management.dto.response.InvSandaliaResponseDTO;
+import com.femt.inventory_management.service.inventario.InvSandaliaService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/inventario/sandalias")
+public class InvSandaliaController {
+    private final InvSandaliaService sandaliaService;
+
+    public InvSandaliaController(InvSandaliaService sandaliaService) {
+        this.sandaliaService = sandaliaService;
+    }
+
+    @PostMapping
+    public ResponseEntity<InvSandaliaResponseDTO> crear(@RequestBody InvSandaliaRequestDTO dto) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(sandaliaService.crear(dto));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<InvSandaliaResponseDTO> obtenerPorId(@PathVariable Integer id) {
+        return ResponseEntity.ok(sandaliaService.obtenerPorId(id));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<InvSandaliaResponseDTO>> listar() {
+        return ResponseEntity.ok(sandaliaService.listar());
+    }
+
+    /**
+     * Suma docenas al stock de la sandalia.
+     */
+    @PostMapping("/{id}/ingresos")
+    public ResponseEntity<InvSandaliaResponseDTO> ingresar(@PathVariable Integer id,
+                                                           @RequestBody InvMovimientoRequestDTO dto) {
+        return ResponseEntity.ok(sandaliaService.ingresar(id, dto));
+    }
+
+    /**
+     * Descuenta docenas del stock de la sandalia; responde 409 si el stock no alcanza.
+     */
+    @PostMapping("/{id}/salidas")
+    public ResponseEntity<InvSandaliaResponseDTO> descontar(@PathVariable Integer id,
+                                                            @RequestBody InvMovimientoRequestDTO dto) {
+        return ResponseEntity.ok(sandaliaService.descontar(id, dto));
+    }
+
+    @GetMapping("/{id}/movimientos")
+    public ResponseEntity<List<InvMovimientoResponseDTO>> listarMovimientos(@PathVariable Integer id,
+                                                                            @RequestParam(required = false) Integer limite) {
+        return ResponseEntity.ok(sandaliaService.listarMovimientos(id, limite));
+    }
+}
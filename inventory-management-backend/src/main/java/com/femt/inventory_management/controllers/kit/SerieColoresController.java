@@ -2,7 +2,10 @@ package com.femt.inventory_management.controllers.kit;
 
 import com.femt.inventory_management.dto.request.KitSerieBatchRequestDTO;
 import com.femt.inventory_management.dto.request.KitSerieColorBatchRequest;
+import com.femt.inventory_management.dto.request.KitSerieMatrizRequestDTO;
 import com.femt.inventory_management.dto.response.KitSerieColorResponseDTO;
+import com.femt.inventory_management.dto.response.KitSerieMatrizResponseDTO;
+import com.femt.inventory_management.dto.response.KitSerieSincronizacionResponseDTO;
 import com.femt.inventory_management.dto.response.KitSerieResponseDTO;
 import com.femt.inventory_management.service.serie.imp.SerieColoresServiceImp;
 import org.springframework.http.HttpStatus;
@@ -55,6 +58,29 @@ public class SerieColoresController {
         );
     }
 
+    /**
+     * Recupera la matriz completa en formato compacto ({@code /buscar?formato=matriz}).
+     * Filas, columnas y colores se envían una sola vez, y las celdas como un arreglo
+     * de IDs de color fila por fila.
+     *
+     * @param idModelo id del modelo
+     * @param idCategoria id de la categoría
+     * @param idTipoComponente id del tipo de componente
+     * @return matriz compacta
+     */
+    @GetMapping(value = "/buscar", params = "formato=matriz")
+    public ResponseEntity<KitSerieMatrizResponseDTO> obtenerMatriz(
+            @RequestParam Integer idModelo,
+            @RequestParam Integer idCategoria,
+            @RequestParam Integer idTipoComponente) {
+
+        return ResponseEntity.ok(
+                serieColorService.obtenerMatriz(
+                        idModelo, idCategoria, idTipoComponente
+                )
+        );
+    }
+
     // ACTUALIZAR COLOR
     @PatchMapping("/{id}/color")
     public ResponseEntity<KitSerieColorResponseDTO> actualizarColor(
@@ -73,7 +99,7 @@ public class SerieColoresController {
      * @param idModelo id del modelo
      * @param idCategoria id de la categoría
      * @param idTipoComponente id del tipo de componente
-     * @return mensaje confirmando la eliminación
+     * @return mensaje confirmando la eliminación, con la cantidad de combinaciones eliminadas
      */
     @DeleteMapping("/eliminar")
     public ResponseEntity<String> eliminarPorModeloCategoriaTipo(
@@ -81,8 +107,37 @@ public class SerieColoresController {
             @RequestParam Integer idCategoria,
             @RequestParam Integer idTipoComponente) {
 
-        serieColorService.eliminarPorModeloCategoriaTipo(idModelo, idCategoria, idTipoComponente);
+        int eliminadas = serieColorService.eliminarPorModeloCategoriaTipo(idModelo, idCategoria, idTipoComponente);
+
+        return ResponseEntity.ok(eliminadas + " series eliminadas correctamente");
+    }
+
+    /**
+     * Reemplaza la matriz completa de un modelo, categoría y tipo de componente
+     * (elimina la actual y registra la nueva en una sola transacción).
+     *
+     * @param requestDTO matriz completa a registrar
+     * @return combinaciones registradas
+     */
+    @PutMapping("/reemplazar")
+    public ResponseEntity<List<KitSerieColorResponseDTO>> reemplazarMatriz(
+            @RequestBody KitSerieMatrizRequestDTO requestDTO) {
+
+        return ResponseEntity.ok(serieColorService.reemplazarMatriz(requestDTO));
+    }
+
+    /**
+     * Sincroniza la matriz de un modelo, categoría y tipo de componente con la matriz enviada,
+     * aplicando solo las celdas que cambiaron (inserciones, actualizaciones y eliminaciones)
+     * en una sola transacción.
+     *
+     * @param requestDTO matriz completa deseada
+     * @return cantidad de celdas insertadas, actualizadas, eliminadas y sin cambios
+     */
+    @PutMapping("/sincronizar")
+    public ResponseEntity<KitSerieSincronizacionResponseDTO> sincronizarMatriz(
+            @RequestBody KitSerieMatrizRequestDTO requestDTO) {
 
-        return ResponseEntity.ok("Series eliminadas correctamente");
+        return ResponseEntity.ok(serieColorService.sincronizarMatriz(requestDTO));
     }
 }
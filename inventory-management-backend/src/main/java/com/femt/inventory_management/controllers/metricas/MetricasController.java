@@ -0,0 +1,54 @@
+package com.femt.inventory_management.controllers.metricas;
+
+import com.femt.inventory_management.metricas.MetricasRegistro;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Endpoint de lectura de métricas para Prometheus ({@code GET /actuator/prometheus}).
+ * <>
+ * No usa el login de la aplicación: si {@code app.metricas.token} está definido se exige
+ * {@code Authorization: Bearer <token>}; si no, solo responde a peticiones desde la propia máquina.
+ */
+@RestController
+public class MetricasController {
+
+    private static final MediaType PROMETHEUS = MediaType.parseMediaType("text/plain;version=0.0.4;charset=utf-8");
+
+    private final MetricasRegistro registro;
+    private final byte[] token;
+
+    public MetricasController(MetricasRegistro registro, @Value("${app.metricas.token:}") String token) {
+        this.registro = registro;
+        this.token = token.isBlank() ? null : ("Bearer " + token).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @GetMapping("/actuator/prometheus")
+    public ResponseEntity<String> prometheus(HttpServletRequest request) throws IOException {
+        if (!autorizado(request)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        StringBuilder salida = new StringBuilder(16 * 1024);
+        registro.escribir(salida);
+        return ResponseEntity.ok().contentType(PROMETHEUS).body(salida.toString());
+    }
+
+    private boolean autorizado(HttpServletRequest request) throws IOException {
+        if (token == null) {
+            return InetAddress.getByName(request.getRemoteAddr()).isLoopbackAddress();
+        }
+        String cabecera = request.getHeader(HttpHeaders.AUTHORIZATION);
+        return cabecera != null && MessageDigest.isEqual(token, cabecera.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,10 +1,9 @@
 package com.femt.inventory_management.controllers.seguridad;
 
-import com.femt.inventory_management.models.seguridad.Usuario;
-import com.femt.inventory_management.repository.SegUsuarioRepository;
+import com.femt.inventory_management.dto.response.UsuarioSesionResponseDTO;
+import com.femt.inventory_management.service.seguridad.UsuarioSesionService;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -33,10 +32,10 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("/api/v1/auth")
 public class AuthController {
-    private final SegUsuarioRepository segUsuarioRepository;
+    private final UsuarioSesionService usuarioSesionService;
 
-    public AuthController(SegUsuarioRepository segUsuarioRepository) {
-        this.segUsuarioRepository = segUsuarioRepository;
+    public AuthController(UsuarioSesionService usuarioSesionService) {
+        this.usuarioSesionService = usuarioSesionService;
     }
     /**
      * =======================================================
@@ -45,33 +44,34 @@ public class AuthController {
      * <>
      * Endpoint protegido que devuelve la información del usuario
      * autenticado, tal como está guardada en la base de datos
-     * interna (MySQL).
+     * interna (MySQL). El frontend lo llama en cada navegación,
+     * por lo que se resuelve desde la caché de {@link UsuarioSesionService}.
      * <>
      * Flujo de ejecución:
      * 1. Spring Security intercepta la petición.
      * 2. Valida que el usuario esté autenticado (tenga un JWT/Sesión activa).
-     * 3. Inyecta el {@link OidcUser} (que fue procesado por CustomOidcUserService)
-     * en el parámetro del método.
-     * 4. Extraemos el 'auth0Id' del OidcUser.
-     * 5. Buscamos en nuestro SegUsuarioRepository usando ese auth0Id.
-     * 6. Devolvemos el {@link Usuario} interno con su rol, estado de activo, etc.
+     * 3. Inyecta la {@link Authentication} actual: la sesión OIDC (procesada por
+     * CustomOidcUserService) o, en modo JWT, el token Bearer validado.
+     * 4. Extraemos el 'auth0Id' (claim 'sub'), que en ambos casos es el nombre de la autenticación.
+     * 5. Buscamos el usuario interno con ese auth0Id (caché o base de datos).
+     * 6. Devolvemos su ID, estado de activo y rol ({@link UsuarioSesionResponseDTO}).
      * <>
-     * @param oidcUser El objeto del principal de seguridad OIDC, inyectado por Spring.
-     * @return Un ResponseEntity con el objeto Usuario interno o un 404 si no se encuentra.
+     * @param authentication La autenticación actual, inyectada por Spring.
+     * @return Un ResponseEntity con el usuario interno o un 404 si no se encuentra.
      */
     @GetMapping("/me")
-    public ResponseEntity<Usuario> getUsuarioActual(@AuthenticationPrincipal OidcUser oidcUser) {
-        if (oidcUser == null) {
+    public ResponseEntity<UsuarioSesionResponseDTO> getUsuarioActual(Authentication authentication) {
+        if (authentication == null) {
             // Esto no debería pasar si la seguridad está bien configurada,
             // pero es una buena validación.
             return ResponseEntity.status(401).build(); // 401 Unauthorized
         }
 
         // 1. Obtenemos el auth0Id (el 'subject') del usuario autenticado
-        String auth0Id = oidcUser.getSubject();
+        String auth0Id = authentication.getName();
 
-        // 2. Buscamos en NUESTRA base de datos (MySQL)
-        return segUsuarioRepository.findByAuth0Id(auth0Id)
+        // 2. Buscamos en NUESTRA base de datos (MySQL), pasando primero por la caché
+        return usuarioSesionService.buscar(auth0Id)
                 .map(ResponseEntity::ok) // Si se encuentra, devuelve 200 OK con el usuario
                 .orElse(ResponseEntity.notFound().build()); // Si no, devuelve 404 Not Found
     }
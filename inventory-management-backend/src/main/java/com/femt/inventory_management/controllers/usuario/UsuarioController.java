@@ -1,5 +1,6 @@
 package com.femt.inventory_management.controllers.usuario;
 
+import com.femt.inventory_management.dto.request.UsuarioFiltroRequestDTO;
 import com.femt.inventory_management.dto.request.UsuarioRequestDTO;
 import com.femt.inventory_management.dto.response.UsuarioResponseDTO;
 import com.femt.inventory_management.models.seguridad.Usuario;
@@ -34,6 +35,22 @@ public class UsuarioController {
         }
     }
 
+    // Listar usuarios por páginas (cursor) con filtros por estado, rol y fecha de creación
+    @GetMapping("/pagina")
+    public ResponseEntity<?> listarPagina(@ModelAttribute UsuarioFiltroRequestDTO filtro) {
+        try {
+            return ResponseEntity.ok(usuarioServiceImp.listarPagina(filtro));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Error de validación: " + e.getMessage());
+        }
+    }
+
+    // Cantidad de usuarios pendientes de aprobación
+    @GetMapping("/pendientes/total")
+    public ResponseEntity<Map<String, Long>> contarPendientes() {
+        return ResponseEntity.ok(Map.of("pendientes", usuarioServiceImp.contarPendientes()));
+    }
+
     // Modificar usuario existente
     @PutMapping("/update")
     public ResponseEntity<?> modificarUsuario(@RequestBody UsuarioRequestDTO request) {
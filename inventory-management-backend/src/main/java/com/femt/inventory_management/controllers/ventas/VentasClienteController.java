@@ -1,12 +1,16 @@
 package com.femt.inventory_management.controllers.ventas;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.femt.inventory_management.dto.request.VentasClienteRequestDTO;
+import com.femt.inventory_management.dto.request.VentasFiltroRequestDTO;
+import com.femt.inventory_management.dto.response.PaginaResponseDTO;
 import com.femt.inventory_management.dto.response.VentasClienteResponseDTO;
 import com.femt.inventory_management.service.ventas.VentasClienteService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -15,9 +19,11 @@ import java.util.List;
 @RequestMapping("/api/ventas/clientes")
 public class VentasClienteController {
     private final VentasClienteService clienteService;
+    private final ObjectMapper objectMapper;
 
-    public VentasClienteController(VentasClienteService clienteService) {
+    public VentasClienteController(VentasClienteService clienteService, ObjectMapper objectMapper) {
         this.clienteService = clienteService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -47,4 +53,25 @@ public class VentasClienteController {
     public ResponseEntity<List<VentasClienteResponseDTO>> listar() {
         return ResponseEntity.ok(clienteService.listar());
     }
+
+    /**
+     * Lista clientes por páginas usando un cursor. Para la página siguiente se envía
+     * el {@code siguienteCursor} de la respuesta anterior.
+     */
+    @GetMapping("/pagina")
+    public ResponseEntity<PaginaResponseDTO<VentasClienteResponseDTO>> listarPagina(@ModelAttribute VentasFiltroRequestDTO filtro) {
+        return ResponseEntity.ok(clienteService.listarPagina(filtro));
+    }
+
+    /**
+     * Exporta como NDJSON (un cliente por línea) el padrón de clientes, opcionalmente filtrado por
+     * nombre. El filtro se valida antes de empezar a escribir la respuesta.
+     */
+    @GetMapping(value = "/exportar", produces = VentasNdjson.TIPO)
+    public ResponseEntity<StreamingResponseBody> exportar(@ModelAttribute VentasFiltroRequestDTO filtro) {
+        clienteService.validarExportacion(filtro);
+        StreamingResponseBody cuerpo = VentasNdjson.<VentasClienteResponseDTO>cuerpo(objectMapper,
+                consumidor -> clienteService.exportar(filtro, consumidor));
+        return ResponseEntity.ok().contentType(VentasNdjson.MEDIA_TYPE).body(cuerpo);
+    }
 }
@@ -1,15 +1,24 @@
 package com.femt.inventory_management.controllers.ventas;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.femt.inventory_management.dto.request.VentasComprobantePagoRequestDTO;
+import com.femt.inventory_management.dto.request.VentasFiltroRequestDTO;
+import com.femt.inventory_management.dto.response.PaginaResponseDTO;
+import com.femt.inventory_management.dto.response.SunatEstadisticasResponseDTO;
 import com.femt.inventory_management.dto.response.VentasComprobantePagoResponseDTO;
+import com.femt.inventory_management.models.ventas.enums.VentasTipoDocumentoEnum;
 import com.femt.inventory_management.service.ventas.VentasComprobantePagoService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.InputStream;
 import java.util.List;
 
 @Slf4j
@@ -18,9 +27,11 @@ import java.util.List;
 public class VentasComprobantePagoController {
 
     private final VentasComprobantePagoService comprobantePagoService;
+    private final ObjectMapper objectMapper;
 
-    public VentasComprobantePagoController(VentasComprobantePagoService comprobantePagoService) {
+    public VentasComprobantePagoController(VentasComprobantePagoService comprobantePagoService, ObjectMapper objectMapper) {
         this.comprobantePagoService = comprobantePagoService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -49,4 +60,80 @@ public class VentasComprobantePagoController {
     public ResponseEntity<List<VentasComprobantePagoResponseDTO>> listar() {
         return ResponseEntity.ok(comprobantePagoService.listar());
     }
+
+    /**
+     * Lista comprobantes por páginas usando un cursor. Para la página siguiente se envía
+     * el {@code siguienteCursor} de la respuesta anterior.
+     */
+    @GetMapping("/pagina")
+    public ResponseEntity<PaginaResponseDTO<VentasComprobantePagoResponseDTO>> listarPagina(@ModelAttribute VentasFiltroRequestDTO filtro) {
+        return ResponseEntity.ok(comprobantePagoService.listarPagina(filtro));
+    }
+
+    /**
+     * Exporta como NDJSON (un comprobante por línea) los comprobantes filtrados por venta, estado SUNAT,
+     * tipo y rango de fechas de emisión. El filtro se valida antes de empezar a escribir la respuesta.
+     */
+    @GetMapping(value = "/exportar", produces = VentasNdjson.TIPO)
+    public ResponseEntity<StreamingResponseBody> exportar(@ModelAttribute VentasFiltroRequestDTO filtro) {
+        comprobantePagoService.validarExportacion(filtro);
+        StreamingResponseBody cuerpo = VentasNdjson.<VentasComprobantePagoResponseDTO>cuerpo(objectMapper,
+                consumidor -> comprobantePagoService.exportar(filtro, consumidor));
+        return ResponseEntity.ok().contentType(VentasNdjson.MEDIA_TYPE).body(cuerpo);
+    }
+
+    /**
+     * Estado de la cola de emisión SUNAT: comprobantes en cola, envíos en curso y rechazos por cola llena.
+     */
+    @GetMapping("/sunat/estadisticas")
+    public ResponseEntity<SunatEstadisticasResponseDTO> estadisticasSunat() {
+        return ResponseEntity.ok(comprobantePagoService.estadisticasSunat());
+    }
+
+    /**
+     * Descarga en un solo ZIP el XML y la CDR de todos los comprobantes emitidos entre {@code desde}
+     * y {@code hasta} (obligatorios), agrupados en carpetas por fecha de emisión.
+     */
+    @GetMapping(value = "/documentos", produces = VentasZip.TIPO)
+    public ResponseEntity<StreamingResponseBody> exportarDocumentos(@ModelAttribute VentasFiltroRequestDTO filtro) {
+        comprobantePagoService.validarExportacionDocumentos(filtro);
+        StreamingResponseBody cuerpo = VentasZip.cuerpo(consumidor -> comprobantePagoService.exportarDocumentos(filtro, consumidor));
+        return ResponseEntity.ok()
+                .contentType(VentasZip.MEDIA_TYPE)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("comprobantes_" + filtro.desde() + "_" + filtro.hasta() + ".zip").build().toString())
+                .body(cuerpo);
+    }
+
+    /**
+     * Descarga el XML firmado del comprobante. Admite {@code Range} e {@code If-None-Match}.
+     */
+    @GetMapping("/{id}/xml")
+    public ResponseEntity<StreamingResponseBody> descargarXml(@PathVariable Integer id, @RequestHeader HttpHeaders cabeceras) {
+        return VentasDescarga.responder(comprobantePagoService.obtenerDocumento(id, VentasTipoDocumentoEnum.XML), cabeceras);
+    }
+
+    /**
+     * Descarga la CDR (ZIP) del comprobante. Admite {@code Range} e {@code If-None-Match}.
+     */
+    @GetMapping("/{id}/cdr")
+    public ResponseEntity<StreamingResponseBody> descargarCdr(@PathVariable Integer id, @RequestHeader HttpHeaders cabeceras) {
+        return VentasDescarga.responder(comprobantePagoService.obtenerDocumento(id, VentasTipoDocumentoEnum.CDR), cabeceras);
+    }
+
+    /**
+     * Sube el XML del comprobante (cuerpo de la petición tal cual) al almacén de documentos.
+     */
+    @PutMapping("/{id}/xml")
+    public ResponseEntity<VentasComprobantePagoResponseDTO> subirXml(@PathVariable Integer id, InputStream contenido) {
+        return ResponseEntity.ok(comprobantePagoService.guardarDocumento(id, VentasTipoDocumentoEnum.XML, contenido));
+    }
+
+    /**
+     * Sube la CDR del comprobante (cuerpo de la petición tal cual) al almacén de documentos.
+     */
+    @PutMapping("/{id}/cdr")
+    public ResponseEntity<VentasComprobantePagoResponseDTO> subirCdr(@PathVariable Integer id, InputStream contenido) {
+        return ResponseEntity.ok(comprobantePagoService.guardarDocumento(id, VentasTipoDocumentoEnum.CDR, contenido));
+    }
 }
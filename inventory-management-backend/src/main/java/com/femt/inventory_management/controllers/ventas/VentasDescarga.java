@@ -0,0 +1,107 @@
+package com.femt.inventory_management.controllers.ventas;
+
+import com.femt.inventory_management.dto.response.VentasDocumentoResponseDTO;
+import org.springframework.http.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Descarga de documentos del almacén con soporte de ETag ({@code If-None-Match}) y de un rango
+ * de bytes ({@code Range} / {@code If-Range}).
+ * <>
+ * El archivo se copia a la respuesta con {@link FileChannel#transferTo}, por bloques y sin pasar
+ * por el heap de la aplicación. Cada archivo del almacén es inmutable, pero la URL ({@code /{id}/xml},
+ * {@code /{id}/cdr}) no: la subida de un documento o la respuesta de SUNAT cambian el archivo al que apunta.
+ * Por eso el navegador puede guardarlo en caché pero debe revalidarlo con el ETag en cada uso; si no
+ * cambió, la respuesta es un 304 sin cuerpo.
+ */
+final class VentasDescarga {
+
+    private VentasDescarga() {
+    }
+
+    static ResponseEntity<StreamingResponseBody> responder(VentasDocumentoResponseDTO documento, HttpHeaders peticion) {
+        long tamanio = tamanio(documento.ruta());
+        String etag = "\"" + documento.etag() + "\"";
+
+        HttpHeaders cabeceras = new HttpHeaders();
+        cabeceras.setETag(etag);
+        cabeceras.setCacheControl(CacheControl.noCache().cachePrivate());
+        cabeceras.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (coincide(peticion.getIfNoneMatch(), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(cabeceras).build();
+        }
+
+        cabeceras.setContentType(MediaType.parseMediaType(documento.tipoContenido()));
+        cabeceras.setContentDisposition(ContentDisposition.attachment().filename(documento.nombre()).build());
+
+        List<HttpRange> rangos = rangos(peticion, etag);
+        if (rangos.size() != 1) {
+            // Sin rango, o con varios (multipart/byteranges no se usa): se envía el documento completo
+            cabeceras.setContentLength(tamanio);
+            return ResponseEntity.ok().headers(cabeceras).body(transferir(documento.ruta(), 0, tamanio));
+        }
+
+        long inicio = rangos.get(0).getRangeStart(tamanio);
+        long fin = rangos.get(0).getRangeEnd(tamanio);
+        if (inicio >= tamanio || fin < inicio) {
+            cabeceras.set(HttpHeaders.CONTENT_RANGE, "bytes */" + tamanio);
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).headers(cabeceras).build();
+        }
+        long largo = fin - inicio + 1;
+        cabeceras.set(HttpHeaders.CONTENT_RANGE, "bytes " + inicio + "-" + fin + "/" + tamanio);
+        cabeceras.setContentLength(largo);
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).headers(cabeceras).body(transferir(documento.ruta(), inicio, largo));
+    }
+
+    private static List<HttpRange> rangos(HttpHeaders peticion, String etag) {
+        String ifRange = peticion.getFirst(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return List.of();
+        }
+        try {
+            return peticion.getRange();
+        } catch (IllegalArgumentException e) {
+            // Cabecera Range mal formada: se ignora, como indica RFC 9110
+            return List.of();
+        }
+    }
+
+    private static boolean coincide(List<String> etags, String etag) {
+        return etags.contains(etag) || etags.contains("*") || etags.contains("W/" + etag);
+    }
+
+    private static StreamingResponseBody transferir(Path ruta, long inicio, long largo) {
+        return salida -> {
+            try (FileChannel canal = FileChannel.open(ruta, StandardOpenOption.READ)) {
+                WritableByteChannel destino = Channels.newChannel(salida);
+                long enviados = 0;
+                while (enviados < largo) {
+                    long transferidos = canal.transferTo(inicio + enviados, largo - enviados, destino);
+                    if (transferidos <= 0) {
+                        break;
+                    }
+                    enviados += transferidos;
+                }
+            }
+        };
+    }
+
+    private static long tamanio(Path ruta) {
+        try {
+            return Files.size(ruta);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.femt.inventory_management.controllers.ventas;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Escribe exportaciones de ventas como NDJSON (un objeto JSON por línea) a medida que
+ * se leen de la base de datos, sin armar la respuesta completa en memoria.
+ */
+final class VentasNdjson {
+
+    static final String TIPO = "application/x-ndjson";
+    static final MediaType MEDIA_TYPE = MediaType.parseMediaType(TIPO);
+
+    private VentasNdjson() {
+    }
+
+    /**
+     * @param objectMapper serializador JSON de la aplicación
+     * @param productor    recibe el consumidor al que debe entregar cada registro
+     * @return cuerpo de respuesta que se escribe de forma incremental
+     */
+    static <T> StreamingResponseBody cuerpo(ObjectMapper objectMapper, Consumer<Consumer<T>> productor) {
+        return salida -> {
+            BufferedOutputStream buffer = new BufferedOutputStream(salida, 16 * 1024);
+            productor.accept(registro -> {
+                try {
+                    buffer.write(objectMapper.writeValueAsBytes(registro));
+                    buffer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            buffer.flush();
+        };
+    }
+}
@@ -1,12 +1,18 @@
 package com.femt.inventory_management.controllers.ventas;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.femt.inventory_management.dto.request.VentasPedidoCompletoRequestDTO;
 import com.femt.inventory_management.dto.request.VentasPedidoRequestDTO;
+import com.femt.inventory_management.dto.request.VentasFiltroRequestDTO;
+import com.femt.inventory_management.dto.response.PaginaResponseDTO;
+import com.femt.inventory_management.dto.response.VentasPedidoCompletoResponseDTO;
 import com.femt.inventory_management.dto.response.VentasPedidoResponseDTO;
 import com.femt.inventory_management.service.ventas.VentasPedidoService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -17,9 +23,11 @@ import java.util.List;
 @RequestMapping("/api/ventas/pedidos")
 public class VentasPedidoController {
     private final VentasPedidoService pedidoService;
+    private final ObjectMapper objectMapper;
 
-    public VentasPedidoController(VentasPedidoService pedidoService) {
+    public VentasPedidoController(VentasPedidoService pedidoService, ObjectMapper objectMapper) {
         this.pedidoService = pedidoService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -27,6 +35,15 @@ public class VentasPedidoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(pedidoService.crear(dto));
     }
 
+    /**
+     * Registra un pedido con todas sus líneas de detalle en una sola petición y transacción.
+     * El monto total del pedido se calcula a partir de las líneas.
+     */
+    @PostMapping("/completo")
+    public ResponseEntity<VentasPedidoCompletoResponseDTO> crearCompleto(@RequestBody VentasPedidoCompletoRequestDTO dto) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(pedidoService.crearCompleto(dto));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<VentasPedidoResponseDTO> actualizar(@PathVariable Integer id,
                                                               @RequestBody VentasPedidoRequestDTO dto) {
@@ -48,4 +65,25 @@ public class VentasPedidoController {
     public ResponseEntity<List<VentasPedidoResponseDTO>> listar() {
         return ResponseEntity.ok(pedidoService.listar());
     }
+
+    /**
+     * Lista pedidos por páginas usando un cursor. Para la página siguiente se envía
+     * el {@code siguienteCursor} de la respuesta anterior.
+     */
+    @GetMapping("/pagina")
+    public ResponseEntity<PaginaResponseDTO<VentasPedidoResponseDTO>> listarPagina(@ModelAttribute VentasFiltroRequestDTO filtro) {
+        return ResponseEntity.ok(pedidoService.listarPagina(filtro));
+    }
+
+    /**
+     * Exporta como NDJSON (un pedido por línea) los pedidos filtrados por cliente, usuario y rango de
+     * fechas de creación. El filtro se valida antes de empezar a escribir la respuesta.
+     */
+    @GetMapping(value = "/exportar", produces = VentasNdjson.TIPO)
+    public ResponseEntity<StreamingResponseBody> exportar(@ModelAttribute VentasFiltroRequestDTO filtro) {
+        pedidoService.validarExportacion(filtro);
+        StreamingResponseBody cuerpo = VentasNdjson.<VentasPedidoResponseDTO>cuerpo(objectMapper,
+                consumidor -> pedidoService.exportar(filtro, consumidor));
+        return ResponseEntity.ok().contentType(VentasNdjson.MEDIA_TYPE).body(cuerpo);
+    }
 }
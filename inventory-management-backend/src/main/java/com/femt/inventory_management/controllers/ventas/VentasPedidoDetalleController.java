@@ -1,12 +1,16 @@
 package com.femt.inventory_management.controllers.ventas;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.femt.inventory_management.dto.request.VentasPedidoDetalleRequestDTO;
+import com.femt.inventory_management.dto.request.VentasFiltroRequestDTO;
+import com.femt.inventory_management.dto.response.PaginaResponseDTO;
 import com.femt.inventory_management.dto.response.VentasPedidoDetalleResponseDTO;
 import com.femt.inventory_management.service.ventas.VentasPedidoDetalleService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -15,9 +19,11 @@ import java.util.List;
 @RequestMapping("/api/ventas/pedidos/detalles")
 public class VentasPedidoDetalleController {
     private final VentasPedidoDetalleService detalleService;
+    private final ObjectMapper objectMapper;
 
-    public VentasPedidoDetalleController(VentasPedidoDetalleService detalleService) {
+    public VentasPedidoDetalleController(VentasPedidoDetalleService detalleService, ObjectMapper objectMapper) {
         this.detalleService = detalleService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -46,4 +52,25 @@ public class VentasPedidoDetalleController {
     public ResponseEntity<List<VentasPedidoDetalleResponseDTO>> listar() {
         return ResponseEntity.ok(detalleService.listar());
     }
+
+    /**
+     * Lista detalles por páginas usando un cursor. Para la página siguiente se envía
+     * el {@code siguienteCursor} de la respuesta anterior.
+     */
+    @GetMapping("/pagina")
+    public ResponseEntity<PaginaResponseDTO<VentasPedidoDetalleResponseDTO>> listarPagina(@ModelAttribute VentasFiltroRequestDTO filtro) {
+        return ResponseEntity.ok(detalleService.listarPagina(filtro));
+    }
+
+    /**
+     * Exporta como NDJSON (una línea de pedido por registro) los detalles de todos los pedidos, o solo
+     * los de {@code idPedido}. El filtro se valida antes de empezar a escribir la respuesta.
+     */
+    @GetMapping(value = "/exportar", produces = VentasNdjson.TIPO)
+    public ResponseEntity<StreamingResponseBody> exportar(@ModelAttribute VentasFiltroRequestDTO filtro) {
+        detalleService.validarExportacion(filtro);
+        StreamingResponseBody cuerpo = VentasNdjson.<VentasPedidoDetalleResponseDTO>cuerpo(objectMapper,
+                consumidor -> detalleService.exportar(filtro, consumidor));
+        return ResponseEntity.ok().contentType(VentasNdjson.MEDIA_TYPE).body(cuerpo);
+    }
 }
@@ -0,0 +1,41 @@
+package com.femt.inventory_management.controllers.ventas;
+
+import com.femt.inventory_management.dto.request.VentasResumenFiltroRequestDTO;
+import com.femt.inventory_management.dto.response.VentasResumenResponseDTO;
+import com.femt.inventory_management.service.ventas.VentasResumenService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/ventas/resumen")
+public class VentasResumenController {
+    private final VentasResumenService resumenService;
+
+    public VentasResumenController(VentasResumenService resumenService) {
+        this.resumenService = resumenService;
+    }
+
+    /**
+     * Totales de ventas (cantidad, monto, IGV y descuento) de un rango de fechas, leídos del resumen diario.
+     * Ejm: {@code ?desde=2025-05-01&hasta=2025-05-31&agrupar=cliente}
+     */
+    @GetMapping
+    public ResponseEntity<List<VentasResumenResponseDTO>> consultar(@ModelAttribute VentasResumenFiltroRequestDTO filtro) {
+        return ResponseEntity.ok(resumenService.consultar(filtro));
+    }
+
+    /**
+     * Recalcula el resumen de un rango de fechas a partir de las ventas registradas.
+     */
+    @PostMapping("/reconstruir")
+    public ResponseEntity<String> reconstruir(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta) {
+        int filas = resumenService.reconstruir(desde, hasta);
+        return ResponseEntity.ok(filas + " filas de resumen generadas correctamente");
+    }
+}
@@ -1,12 +1,16 @@
 package com.femt.inventory_management.controllers.ventas;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.femt.inventory_management.dto.request.VentasVentaRequestDTO;
+import com.femt.inventory_management.dto.request.VentasFiltroRequestDTO;
+import com.femt.inventory_management.dto.response.PaginaResponseDTO;
 import com.femt.inventory_management.dto.response.VentasVentaResponseDTO;
 import com.femt.inventory_management.service.ventas.VentasVentaService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -15,9 +19,11 @@ import java.util.List;
 @RequestMapping("/api/ventas/ventas")
 public class VentasVentaController {
     private final VentasVentaService ventaService;
+    private final ObjectMapper objectMapper;
 
-    public VentasVentaController(VentasVentaService ventaService) {
+    public VentasVentaController(VentasVentaService ventaService, ObjectMapper objectMapper) {
         this.ventaService = ventaService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -46,4 +52,25 @@ public class VentasVentaController {
     public ResponseEntity<List<VentasVentaResponseDTO>> listar() {
         return ResponseEntity.ok(ventaService.listar());
     }
+
+    /**
+     * Lista ventas por páginas usando un cursor. Para la página siguiente se envía
+     * el {@code siguienteCursor} de la respuesta anterior.
+     */
+    @GetMapping("/pagina")
+    public ResponseEntity<PaginaResponseDTO<VentasVentaResponseDTO>> listarPagina(@ModelAttribute VentasFiltroRequestDTO filtro) {
+        return ResponseEntity.ok(ventaService.listarPagina(filtro));
+    }
+
+    /**
+     * Exporta como NDJSON (una venta por línea) todas las ventas que cumplen los filtros de cliente,
+     * usuario, pedido y rango de fechas. El filtro se valida antes de empezar a escribir la respuesta.
+     */
+    @GetMapping(value = "/exportar", produces = VentasNdjson.TIPO)
+    public ResponseEntity<StreamingResponseBody> exportar(@ModelAttribute VentasFiltroRequestDTO filtro) {
+        ventaService.validarExportacion(filtro);
+        StreamingResponseBody cuerpo = VentasNdjson.<VentasVentaResponseDTO>cuerpo(objectMapper,
+                consumidor -> ventaService.exportar(filtro, consumidor));
+        return ResponseEntity.ok().contentType(VentasNdjson.MEDIA_TYPE).body(cuerpo);
+    }
 }
@@ -0,0 +1,49 @@
+package com.femt.inventory_management.controllers.ventas;
+
+import com.femt.inventory_management.dto.response.VentasDocumentoResponseDTO;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.function.Consumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Escribe documentos del almacén como un ZIP directamente sobre la respuesta, entrada por entrada,
+ * sin armar el archivo completo en memoria ni en disco.
+ */
+final class VentasZip {
+
+    static final String TIPO = "application/zip";
+    static final MediaType MEDIA_TYPE = MediaType.parseMediaType(TIPO);
+
+    private VentasZip() {
+    }
+
+    /**
+     * @param productor recibe el consumidor al que debe entregar cada documento
+     * @return cuerpo de respuesta que se escribe de forma incremental
+     */
+    static StreamingResponseBody cuerpo(Consumer<Consumer<VentasDocumentoResponseDTO>> productor) {
+        return salida -> {
+            ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(salida, 64 * 1024));
+            productor.accept(documento -> {
+                try {
+                    ZipEntry entrada = new ZipEntry(documento.nombre());
+                    entrada.setLastModifiedTime(Files.getLastModifiedTime(documento.ruta()));
+                    zip.putNextEntry(entrada);
+                    Files.copy(documento.ruta(), zip);
+                    zip.closeEntry();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            zip.finish();
+            zip.flush();
+        };
+    }
+}
@@ -0,0 +1,8 @@
+package com.femt.inventory_management.dto.request;
+
+public record InvMovimientoRequestDTO(
+        Integer cantidadDocenas,
+        Integer idPedido,
+        String referencia
+) {
+}
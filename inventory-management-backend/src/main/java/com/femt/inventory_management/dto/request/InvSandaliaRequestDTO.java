@@ -0,0 +1,10 @@
+package com.femt.inventory_management.dto.request;
+
+public record InvSandaliaRequestDTO(
+        Integer idModelo,
+        Integer idSerieTira,
+        Integer idSeriePlanta,
+        Integer idCategoria,
+        Integer stockDocenas
+) {
+}
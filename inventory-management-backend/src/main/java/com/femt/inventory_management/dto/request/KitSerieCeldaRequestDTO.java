@@ -0,0 +1,8 @@
+package com.femt.inventory_management.dto.request;
+
+// Representa una posición de la matriz y el color que debe tener
+public record KitSerieCeldaRequestDTO(
+        Integer idFila,
+        Integer idColumna,
+        Integer idColor
+) {}
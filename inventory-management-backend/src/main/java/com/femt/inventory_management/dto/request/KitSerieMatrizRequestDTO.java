@@ -0,0 +1,11 @@
+package com.femt.inventory_management.dto.request;
+
+import java.util.List;
+
+// Matriz completa de colores para un modelo, categoría y tipo de componente
+public record KitSerieMatrizRequestDTO(
+        Integer idModelo,
+        Integer idCategoria,
+        Integer idTipoComponente,
+        List<KitSerieCeldaRequestDTO> celdas
+) {}
@@ -0,0 +1,26 @@
+package com.femt.inventory_management.dto.request;
+
+import com.femt.inventory_management.models.seguridad.enums.RolUsuarioEnum;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Parámetros de consulta del listado paginado de usuarios (administración).
+ * Los filtros nulos se ignoran.
+ *
+ * @param cursor  valor de {@code siguienteCursor} devuelto por la página anterior (nulo para la primera página)
+ * @param tamanio cantidad de registros por página (por defecto 50, máximo 500)
+ * @param activo  estado del usuario ({@code false} para los pendientes de aprobación)
+ * @param rol     rol asignado
+ * @param desde   fecha de creación mínima (inclusive)
+ * @param hasta   fecha de creación máxima (inclusive)
+ */
+public record UsuarioFiltroRequestDTO(
+        String cursor,
+        Integer tamanio,
+        Boolean activo,
+        RolUsuarioEnum rol,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta
+) {}
@@ -0,0 +1,30 @@
+package com.femt.inventory_management.dto.request;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Parámetros de consulta para los listados paginados y exportaciones de ventas.
+ * Cada listado usa solo los filtros que aplican a su entidad; los filtros nulos se ignoran.
+ *
+ * @param cursor          valor de {@code siguienteCursor} devuelto por la página anterior (nulo para la primera página)
+ * @param tamanio         cantidad de registros por página (por defecto 50, máximo 500)
+ * @param orden           "id" (por defecto) o "fecha"; en ambos casos del más reciente al más antiguo
+ * @param desde           fecha mínima (inclusive) de la fecha principal de la entidad
+ * @param hasta           fecha máxima (inclusive) de la fecha principal de la entidad
+ */
+public record VentasFiltroRequestDTO(
+        String cursor,
+        Integer tamanio,
+        String orden,
+        Integer idCliente,
+        Integer idUsuario,
+        Integer idPedido,
+        Integer idVenta,
+        String estadoSunat,
+        String tipoComprobante,
+        String nombre,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta
+) {}
@@ -0,0 +1,20 @@
+package com.femt.inventory_management.dto.request;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Pedido con todas sus líneas de detalle, para registrarlo en una sola petición.
+ * El monto total no se recibe: se calcula a partir de las líneas.
+ * Si se indica {@code idSandalia}, el total de docenas se descuenta de ese stock en la misma transacción.
+ */
+public record VentasPedidoCompletoRequestDTO(
+        Integer idCliente,
+        LocalDate fechaCreada,
+        LocalDate fechaEntrega,
+        Integer idUsuario,
+        Integer idKitSerieManager,
+        Integer idSandalia,
+        List<VentasPedidoLineaRequestDTO> detalles
+) {
+}
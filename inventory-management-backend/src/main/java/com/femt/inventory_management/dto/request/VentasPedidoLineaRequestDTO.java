@@ -0,0 +1,9 @@
+package com.femt.inventory_management.dto.request;
+
+import java.math.BigDecimal;
+
+public record VentasPedidoLineaRequestDTO(
+        Integer cantidadDocenas,
+        BigDecimal precioUnitario
+) {
+}
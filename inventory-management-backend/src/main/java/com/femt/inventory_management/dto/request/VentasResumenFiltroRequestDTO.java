@@ -0,0 +1,19 @@
+package com.femt.inventory_management.dto.request;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Rango y agrupación de un reporte de ventas.
+ * {@code agrupar} acepta: total, dia (por defecto), cliente, usuario o modelo.
+ */
+public record VentasResumenFiltroRequestDTO(
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta,
+        String agrupar,
+        Integer idCliente,
+        Integer idUsuario,
+        Integer idModelo
+) {
+}
@@ -0,0 +1,16 @@
+package com.femt.inventory_management.dto.response;
+
+import com.femt.inventory_management.models.inventario.enums.InvTipoMovimientoEnum;
+
+import java.time.LocalDateTime;
+
+public record InvMovimientoResponseDTO(
+        Integer id,
+        Integer idSandalia,
+        InvTipoMovimientoEnum tipo,
+        Integer cantidadDocenas,
+        Integer idPedido,
+        String referencia,
+        LocalDateTime fechaRegistro
+) {
+}
@@ -0,0 +1,11 @@
+package com.femt.inventory_management.dto.response;
+
+public record InvSandaliaResponseDTO(
+        Integer id,
+        Integer idModelo,
+        Integer idSerieTira,
+        Integer idSeriePlanta,
+        Integer idCategoria,
+        Integer stockDocenas
+) {
+}
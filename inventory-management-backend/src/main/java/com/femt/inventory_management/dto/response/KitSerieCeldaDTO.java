@@ -0,0 +1,11 @@
+package com.femt.inventory_management.dto.response;
+
+/**
+ * Celda de una matriz de colores, con solo los IDs necesarios para ubicarla.
+ */
+public record KitSerieCeldaDTO(
+        Integer id,
+        Integer idFila,
+        Integer idColumna,
+        Integer idColor
+) {}
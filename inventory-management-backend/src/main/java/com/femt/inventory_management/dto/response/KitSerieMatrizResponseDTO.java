@@ -0,0 +1,21 @@
+package com.femt.inventory_management.dto.response;
+
+import java.util.List;
+
+/**
+ * Representación compacta de una matriz de colores.
+ * <>
+ * Las filas, columnas y colores se envían una sola vez como diccionarios, y {@code celdas}
+ * contiene el ID del color de cada posición en orden fila por fila:
+ * {@code celdas[i * columnas.size() + j]} es el color de la fila {@code i} y la columna {@code j}
+ * ({@code null} si esa posición no tiene color registrado).
+ */
+public record KitSerieMatrizResponseDTO(
+        Integer idModelo,
+        Integer idCategoria,
+        Integer idTipoComponente,
+        List<DimensionResponseDTO> filas,
+        List<DimensionResponseDTO> columnas,
+        List<DimensionResponseDTO> colores,
+        List<Integer> celdas
+) {}
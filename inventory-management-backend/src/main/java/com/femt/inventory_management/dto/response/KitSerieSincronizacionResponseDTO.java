@@ -0,0 +1,11 @@
+package com.femt.inventory_management.dto.response;
+
+/**
+ * Resultado de sincronizar una matriz: cantidad de celdas afectadas por cada operación.
+ */
+public record KitSerieSincronizacionResponseDTO(
+        Integer insertadas,
+        Integer actualizadas,
+        Integer eliminadas,
+        Integer sinCambios
+) {}
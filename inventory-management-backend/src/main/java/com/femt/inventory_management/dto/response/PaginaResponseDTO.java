@@ -0,0 +1,16 @@
+package com.femt.inventory_management.dto.response;
+
+import java.util.List;
+
+/**
+ * Página de un listado por cursor (keyset).
+ *
+ * @param contenido       registros de la página
+ * @param siguienteCursor cursor para pedir la página siguiente ({@code null} si no hay más)
+ * @param hayMas          indica si existen más registros después de esta página
+ */
+public record PaginaResponseDTO<T>(
+        List<T> contenido,
+        String siguienteCursor,
+        boolean hayMas
+) {}
@@ -0,0 +1,17 @@
+package com.femt.inventory_management.dto.response;
+
+/**
+ * Estado de la cola de envíos a SUNAT. {@code rechazadosPorColaLlena} y {@code enCola} cerca de
+ * {@code capacidadCola} indican contrapresión: los comprobantes siguen pendientes y se reintentan después.
+ */
+public record SunatEstadisticasResponseDTO(
+        int enCola,
+        int capacidadCola,
+        int enProceso,
+        int concurrencia,
+        int pendientesDeGuardar,
+        long procesados,
+        long erroresTransitorios,
+        long rechazadosPorColaLlena
+) {
+}
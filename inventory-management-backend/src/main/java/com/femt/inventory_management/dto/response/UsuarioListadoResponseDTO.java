@@ -0,0 +1,17 @@
+package com.femt.inventory_management.dto.response;
+
+import com.femt.inventory_management.models.seguridad.enums.RolUsuarioEnum;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fila del listado paginado de usuarios, proyectada directamente desde la consulta.
+ */
+public record UsuarioListadoResponseDTO(
+        Integer id,
+        String auth0Id,
+        RolUsuarioEnum rol,
+        boolean activo,
+        LocalDateTime fechaCreacion,
+        LocalDateTime fechaActualizacion
+) {}
@@ -0,0 +1,7 @@
+package com.femt.inventory_management.dto.response;
+
+/**
+ * Datos del usuario interno que necesita la sesión: identidad, estado y rol.
+ */
+public record UsuarioSesionResponseDTO(Integer id, String auth0Id, boolean activo, String rol) {
+}
@@ -0,0 +1,19 @@
+package com.femt.inventory_management.dto.response;
+
+import java.nio.file.Path;
+
+/**
+ * Documento de un comprobante listo para descargarse desde el almacén de archivos.
+ *
+ * @param ruta          archivo en disco
+ * @param etag          hash SHA-256 del contenido
+ * @param nombre        nombre sugerido para la descarga
+ * @param tipoContenido tipo MIME del documento
+ */
+public record VentasDocumentoResponseDTO(
+        Path ruta,
+        String etag,
+        String nombre,
+        String tipoContenido
+) {
+}
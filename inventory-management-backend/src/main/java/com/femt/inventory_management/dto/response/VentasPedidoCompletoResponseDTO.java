@@ -0,0 +1,9 @@
+package com.femt.inventory_management.dto.response;
+
+import java.util.List;
+
+public record VentasPedidoCompletoResponseDTO(
+        VentasPedidoResponseDTO pedido,
+        List<VentasPedidoDetalleResponseDTO> detalles
+) {
+}
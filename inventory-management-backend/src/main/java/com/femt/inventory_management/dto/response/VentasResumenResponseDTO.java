@@ -0,0 +1,19 @@
+package com.femt.inventory_management.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Fila de un reporte de ventas. Las columnas por las que no se agrupa vienen en {@code null}.
+ */
+public record VentasResumenResponseDTO(
+        LocalDate fecha,
+        Integer idCliente,
+        Integer idUsuario,
+        Integer idModelo,
+        Long cantidadVentas,
+        BigDecimal montoTotal,
+        BigDecimal igv,
+        BigDecimal descuento
+) {
+}
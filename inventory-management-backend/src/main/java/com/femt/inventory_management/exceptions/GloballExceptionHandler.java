@@ -1,5 +1,6 @@
 package com.femt.inventory_management.exceptions;
 
+import com.femt.inventory_management.metricas.PresupuestoSqlExcedidoException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -50,13 +51,26 @@ public class GloballExceptionHandler {
                 ));
     }
 
+    @ExceptionHandler(KitSerieBatchValidationException.class)
+    public ResponseEntity<?> handleKitSerieBatchValidation(KitSerieBatchValidationException ex) {
+        logger.error("Error de validación en lote (KitSerie): {} ({} filas con errores)",
+                ex.getMessage(), ex.getDetalles().size());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of(
+                        "error", ex.getMessage(),
+                        "detalles", ex.getDetalles()
+                ));
+    }
+
     // VENTAS
+    @ExceptionHandler(VentasNotFoundException.class)
     public ResponseEntity<?> handleVentasNotFound(VentasNotFoundException ex){
         logger.warn("Recurso de ventas no encontrado: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(Map.of("error",ex.getMessage()));
     }
 
+    @ExceptionHandler(VentasValidationException.class)
     public ResponseEntity<?> handleVentasValidation(VentasValidationException ex){
         logger.error("Error en la validación de ventas en {}: {}",ex.getField(),ex.getMessage());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -66,6 +80,48 @@ public class GloballExceptionHandler {
                 ));
     }
 
+    // ===== INVENTARIO =====
+    @ExceptionHandler(InventarioNotFoundException.class)
+    public ResponseEntity<?> handleInventarioNotFound(InventarioNotFoundException ex) {
+        logger.warn("Recurso de inventario no encontrado: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", ex.getMessage()));
+    }
+
+    @ExceptionHandler(InventarioValidationException.class)
+    public ResponseEntity<?> handleInventarioValidation(InventarioValidationException ex) {
+        logger.error("Error de validación (Inventario) en {}: {}", ex.getField(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of(
+                        "error", ex.getMessage(),
+                        "campo", ex.getField()
+                ));
+    }
+
+    @ExceptionHandler(InventarioStockInsuficienteException.class)
+    public ResponseEntity<?> handleInventarioStockInsuficiente(InventarioStockInsuficienteException ex) {
+        logger.warn("Stock insuficiente: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of(
+                        "error", ex.getMessage(),
+                        "idSandalia", ex.getIdSandalia(),
+                        "solicitado", ex.getSolicitado(),
+                        "disponible", ex.getDisponible()
+                ));
+    }
+
+    // ===== METRICAS =====
+    @ExceptionHandler(PresupuestoSqlExcedidoException.class)
+    public ResponseEntity<?> handlePresupuestoSqlExcedido(PresupuestoSqlExcedidoException ex) {
+        logger.error("Presupuesto de sentencias SQL excedido", ex);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of(
+                        "error", "Presupuesto de sentencias SQL excedido",
+                        "sentencias", ex.getSentencias(),
+                        "presupuesto", ex.getPresupuesto()
+                ));
+    }
+
     // ===== GENERAL =====
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleGeneral(Exception ex) {
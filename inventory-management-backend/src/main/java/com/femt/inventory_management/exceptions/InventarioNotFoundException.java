@@ -0,0 +1,7 @@
+package com.femt.inventory_management.exceptions;
+
+public class InventarioNotFoundException extends RuntimeException{
+    public InventarioNotFoundException(String mensaje){
+        super(mensaje);
+    }
+}
@@ -0,0 +1,26 @@
+package com.femt.inventory_management.exceptions;
+
+public class InventarioStockInsuficienteException extends RuntimeException{
+    private final Integer idSandalia;
+    private final Integer solicitado;
+    private final Integer disponible;
+
+    public InventarioStockInsuficienteException(Integer idSandalia, Integer solicitado, Integer disponible){
+        super("Stock insuficiente para la sandalia " + idSandalia + ": solicitado " + solicitado + ", disponible " + disponible);
+        this.idSandalia = idSandalia;
+        this.solicitado = solicitado;
+        this.disponible = disponible;
+    }
+
+    public Integer getIdSandalia() {
+        return idSandalia;
+    }
+
+    public Integer getSolicitado() {
+        return solicitado;
+    }
+
+    public Integer getDisponible() {
+        return disponible;
+    }
+}
@@ -0,0 +1,14 @@
+package com.femt.inventory_management.exceptions;
+
+public class InventarioValidationException extends RuntimeException{
+    private final String field;
+
+    public InventarioValidationException(String message, String field) {
+        super(message);
+        this.field = field;
+    }
+
+    public String getField() {
+        return field;
+    }
+}
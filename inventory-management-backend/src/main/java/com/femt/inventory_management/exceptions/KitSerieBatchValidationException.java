@@ -0,0 +1,16 @@
+package com.femt.inventory_management.exceptions;
+
+import java.util.List;
+
+public class KitSerieBatchValidationException extends RuntimeException{
+    private final List<String> detalles;
+
+    public KitSerieBatchValidationException(String mensaje, List<String> detalles){
+        super(mensaje);
+        this.detalles = List.copyOf(detalles);
+    }
+
+    public List<String> getDetalles(){
+        return detalles;
+    }
+}
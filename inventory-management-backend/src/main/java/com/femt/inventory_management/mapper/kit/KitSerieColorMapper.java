@@ -1,13 +1,29 @@
 package com.femt.inventory_management.mapper.kit;
 
+import com.femt.inventory_management.dto.response.DimensionResponseDTO;
+import com.femt.inventory_management.dto.response.KitSerieCeldaDTO;
 import com.femt.inventory_management.dto.response.KitSerieColorResponseDTO;
+import com.femt.inventory_management.dto.response.KitSerieMatrizResponseDTO;
+import com.femt.inventory_management.mapper.dimension.DimensionMapper;
+import com.femt.inventory_management.models.dimension.DimBase;
 import com.femt.inventory_management.models.kit.KitSerieColor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Component
 public class KitSerieColorMapper {
+
+    private final DimensionMapper dimensionMapper;
+
+    public KitSerieColorMapper(DimensionMapper dimensionMapper) {
+        this.dimensionMapper = dimensionMapper;
+    }
+
     public KitSerieColorResponseDTO toDTO(KitSerieColor kitSerieColor){
         if (kitSerieColor == null){
             return null;
@@ -38,4 +54,61 @@ public class KitSerieColorMapper {
                 .map(this::toDTO)
                 .toList();
     }
+
+    /**
+     * Arma la representación compacta de una matriz.
+     *
+     * @param celdas   celdas de la matriz (en cualquier orden)
+     * @param filas    filas de la matriz, en el orden en que se deben enviar
+     * @param columnas columnas de la matriz, en el orden en que se deben enviar
+     * @param colores  colores usados por las celdas
+     * @return matriz con diccionarios y el arreglo de colores fila por fila
+     */
+    public KitSerieMatrizResponseDTO toMatrizDTO(Integer idModelo,
+                                                 Integer idCategoria,
+                                                 Integer idTipoComponente,
+                                                 List<KitSerieCeldaDTO> celdas,
+                                                 List<? extends DimBase> filas,
+                                                 List<? extends DimBase> columnas,
+                                                 List<? extends DimBase> colores) {
+
+        Map<Integer, Integer> indiceFila = indices(filas);
+        Map<Integer, Integer> indiceColumna = indices(columnas);
+        int totalColumnas = columnas.size();
+
+        Integer[] colorPorCelda = new Integer[filas.size() * totalColumnas];
+        for (KitSerieCeldaDTO celda : celdas) {
+            Integer i = indiceFila.get(celda.idFila());
+            Integer j = indiceColumna.get(celda.idColumna());
+            if (i != null && j != null) {
+                colorPorCelda[i * totalColumnas + j] = celda.idColor();
+            }
+        }
+
+        return new KitSerieMatrizResponseDTO(
+                idModelo,
+                idCategoria,
+                idTipoComponente,
+                diccionario(filas),
+                diccionario(columnas),
+                diccionario(colores),
+                Arrays.asList(colorPorCelda)
+        );
+    }
+
+    private Map<Integer, Integer> indices(List<? extends DimBase> dimensiones) {
+        Map<Integer, Integer> indices = new HashMap<>(dimensiones.size() * 2);
+        for (int i = 0; i < dimensiones.size(); i++) {
+            indices.put(dimensiones.get(i).getId(), i);
+        }
+        return indices;
+    }
+
+    private List<DimensionResponseDTO> diccionario(List<? extends DimBase> dimensiones) {
+        List<DimensionResponseDTO> diccionario = new ArrayList<>(dimensiones.size());
+        for (DimBase dimension : dimensiones) {
+            diccionario.add(dimensionMapper.toDTO(dimension));
+        }
+        return diccionario;
+    }
 }
@@ -4,6 +4,12 @@ import com.femt.inventory_management.dto.response.*;
 import com.femt.inventory_management.models.ventas.*;
 import org.springframework.stereotype.Component;
 
+/**
+ * Convierte entidades de ventas recién persistidas a sus DTO de respuesta.
+ * <>
+ * Solo se usa en las escrituras, donde las asociaciones ya están cargadas; los listados
+ * y las consultas por ID se proyectan directamente a DTO en los repositorios.
+ */
 @Component
 public class VentasMapper {
 
@@ -0,0 +1,108 @@
+package com.femt.inventory_management.metricas;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.DispatcherType;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ================================================
+ * Config de Métricas (formato Prometheus)
+ * ================================================
+ * <>
+ *     Conecta el {@link MetricasRegistro} con las partes de la aplicación que se miden:
+ *     <>
+ *         - Peticiones HTTP: {@link MetricasPeticionFilter}, antes de Spring Security
+ *         - Hibernate: sentencias, tiempo en JDBC y entidades cargadas ({@link MetricasHibernate},
+ *           {@link MetricasSesionJdbc}), con presupuesto de sentencias por endpoint ({@link MetricasPresupuestoSql})
+ *         - Pool de conexiones: {@link MetricasHikari}, instalado antes de que el pool arranque
+ *         - Servicios: {@link MetricasServiciosAspect}
+ *     <>
+ * Las métricas se leen en {@code GET /actuator/prometheus}.
+ *
+ * @author MenesesTech
+ * @version 1.0
+ * @since 2025-11
+ */
+@Configuration
+public class MetricasConfig {
+
+    /**
+     * Presupuestos de {@code app.metricas.sql.presupuestos}, una entrada {@code "<MÉTODO> <patrón>=<sentencias>"}
+     * por endpoint (lista YAML o separada por comas).
+     */
+    @Bean
+    public MetricasPresupuestoSql metricasPresupuestoSql(Environment environment,
+                                                         @Value("${app.metricas.sql.presupuesto-defecto:0}") int porDefecto,
+                                                         @Value("${app.metricas.sql.modo:registrar}") String modo) {
+        if (!modo.equals("registrar") && !modo.equals("fallar")) {
+            throw new IllegalArgumentException("app.metricas.sql.modo debe ser 'registrar' o 'fallar': " + modo);
+        }
+        Map<String, Integer> presupuestos = new HashMap<>();
+        for (String entrada : Binder.get(environment)
+                .bind("app.metricas.sql.presupuestos", Bindable.listOf(String.class))
+                .orElse(List.of())) {
+            int separador = entrada.lastIndexOf('=');
+            if (separador < 0) {
+                throw new IllegalArgumentException("Presupuesto SQL inválido (se espera '<MÉTODO> <patrón>=<sentencias>'): " + entrada);
+            }
+            presupuestos.put(entrada.substring(0, separador).trim(),
+                    Integer.parseInt(entrada.substring(separador + 1).trim()));
+        }
+        return new MetricasPresupuestoSql(presupuestos, porDefecto, modo.equals("fallar"));
+    }
+
+    @Bean
+    public FilterRegistrationBean<MetricasPeticionFilter> metricasPeticionFilter(
+            MetricasRegistro registro,
+            MetricasPresupuestoSql presupuesto,
+            @Value("${app.metricas.sql.cabeceras:true}") boolean cabeceras) {
+        FilterRegistrationBean<MetricasPeticionFilter> registroFiltro =
+                new FilterRegistrationBean<>(new MetricasPeticionFilter(registro, presupuesto, cabeceras));
+        registroFiltro.setOrder(Ordered.HIGHEST_PRECEDENCE + 60);
+        registroFiltro.setDispatcherTypes(DispatcherType.REQUEST);
+        return registroFiltro;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer metricasHibernate(MetricasRegistro registro, MetricasPresupuestoSql presupuesto) {
+        MetricasHibernate metricas = new MetricasHibernate(registro, presupuesto);
+        return propiedades -> {
+            propiedades.put(AvailableSettings.STATEMENT_INSPECTOR, metricas);
+            propiedades.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, MetricasSesionJdbc.class.getName());
+            propiedades.put(JpaSettings.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(metricas));
+        };
+    }
+
+    /**
+     * Instala el registro de métricas en el pool de Hikari antes de que se abra la primera conexión.
+     */
+    @Bean
+    public static BeanPostProcessor metricasHikari(ObjectProvider<MetricasRegistro> registro) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String nombre) {
+                if (bean instanceof HikariDataSource dataSource && dataSource.getMetricsTrackerFactory() == null) {
+                    dataSource.setMetricsTrackerFactory(new MetricasHikari(registro.getObject()));
+                }
+                return bean;
+            }
+        };
+    }
+}
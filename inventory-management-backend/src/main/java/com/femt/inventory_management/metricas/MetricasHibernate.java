@@ -0,0 +1,74 @@
+package com.femt.inventory_management.metricas;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cuenta las sentencias SQL que prepara Hibernate y las entidades que carga, en total y por
+ * petición HTTP ({@link MetricasPeticion}).
+ * <>
+ * Se registra en la fábrica de sesiones como {@link StatementInspector} (cada sentencia pasa por
+ * {@link #inspect}) y, mediante el {@link Integrator}, como listener de {@code POST_LOAD}.
+ * Las consultas hechas con {@code JdbcTemplate} no pasan por Hibernate y no se cuentan.
+ * <>
+ * Al contar cada sentencia se controla el presupuesto del endpoint ({@link MetricasPresupuestoSql}): en
+ * modo {@code fallar}, la primera sentencia que lo supera lanza {@link PresupuestoSqlExcedidoException},
+ * con lo que la traza apunta a la consulta que se repite.
+ */
+public class MetricasHibernate implements StatementInspector, PostLoadEventListener, Integrator {
+
+    private final transient MetricasRegistro registro;
+    private final transient MetricasPresupuestoSql presupuesto;
+    private final transient MetricasRegistro.Contador sentencias;
+    private final transient ConcurrentMap<String, MetricasRegistro.Contador> cargas = new ConcurrentHashMap<>();
+
+    public MetricasHibernate(MetricasRegistro registro, MetricasPresupuestoSql presupuesto) {
+        this.registro = registro;
+        this.presupuesto = presupuesto;
+        this.sentencias = registro.contador("hibernate_sentencias_total",
+                "Sentencias SQL preparadas por Hibernate");
+    }
+
+    @Override
+    public String inspect(String sql) {
+        sentencias.incrementar();
+        MetricasPeticion peticion = MetricasPeticion.actual();
+        if (peticion != null && peticion.sentencia() && presupuesto.fallar()) {
+            throw new PresupuestoSqlExcedidoException(peticion.sentencias(), peticion.presupuesto(), sql);
+        }
+        return sql;
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        String entidad = event.getEntity().getClass().getSimpleName();
+        cargas.computeIfAbsent(entidad, e -> registro.contador("hibernate_entidades_cargadas_total",
+                "Entidades cargadas por Hibernate", "entidad", e)).incrementar();
+        MetricasPeticion peticion = MetricasPeticion.actual();
+        if (peticion != null) {
+            peticion.entidadCargada();
+        }
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        sessionFactory.getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, this);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.femt.inventory_management.metricas;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+/**
+ * Métricas del pool de conexiones HikariCP: conexiones activas, libres, totales y hilos esperando
+ * una conexión (medidores leídos de {@link PoolStats}), más el tiempo para obtener una conexión,
+ * el tiempo que se usa y la cantidad de esperas que vencieron.
+ * <>
+ * Una espera alta o los {@code hikaricp_connections_timeout_total} indican que el pool está saturado.
+ */
+class MetricasHikari implements MetricsTrackerFactory {
+
+    private static final double[] LIMITES_ADQUISICION = {0.0001, 0.0005, 0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1, 5, 30};
+
+    private final MetricasRegistro registro;
+
+    MetricasHikari(MetricasRegistro registro) {
+        this.registro = registro;
+    }
+
+    @Override
+    public IMetricsTracker create(String pool, PoolStats estadisticas) {
+        registro.medidor("hikaricp_connections_active", "Conexiones en uso", estadisticas::getActiveConnections, "pool", pool);
+        registro.medidor("hikaricp_connections_idle", "Conexiones libres", estadisticas::getIdleConnections, "pool", pool);
+        registro.medidor("hikaricp_connections", "Conexiones abiertas", estadisticas::getTotalConnections, "pool", pool);
+        registro.medidor("hikaricp_connections_pending", "Hilos esperando una conexión", estadisticas::getPendingThreads, "pool", pool);
+        registro.medidor("hikaricp_connections_max", "Tamaño máximo del pool", estadisticas::getMaxConnections, "pool", pool);
+        registro.medidor("hikaricp_connections_min", "Conexiones libres mínimas", estadisticas::getMinConnections, "pool", pool);
+
+        MetricasRegistro.Histograma adquisicion = registro.histograma("hikaricp_connections_acquire_seconds",
+                "Tiempo para obtener una conexión del pool", LIMITES_ADQUISICION, "pool", pool);
+        MetricasRegistro.Histograma uso = registro.histograma("hikaricp_connections_usage_seconds",
+                "Tiempo que se usa una conexión antes de devolverla", MetricasRegistro.LIMITES_SEGUNDOS, "pool", pool);
+        MetricasRegistro.Histograma creacion = registro.histograma("hikaricp_connections_creation_seconds",
+                "Tiempo para abrir una conexión física", MetricasRegistro.LIMITES_SEGUNDOS, "pool", pool);
+        MetricasRegistro.Contador vencidas = registro.contador("hikaricp_connections_timeout_total",
+                "Esperas de conexión que vencieron (connectionTimeout)", "pool", pool);
+
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionCreatedMillis(long milisegundos) {
+                creacion.registrar(milisegundos / 1000.0);
+            }
+
+            @Override
+            public void recordConnectionAcquiredNanos(long nanos) {
+                adquisicion.registrarNanos(nanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long milisegundos) {
+                uso.registrar(milisegundos / 1000.0);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                vencidas.incrementar();
+            }
+        };
+    }
+}
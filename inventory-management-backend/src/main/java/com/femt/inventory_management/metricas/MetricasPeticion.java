@@ -0,0 +1,95 @@
+package com.femt.inventory_management.metricas;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Contadores de la petición HTTP en curso (sentencias SQL, tiempo en JDBC y entidades cargadas por Hibernate).
+ * <>
+ * {@link MetricasPeticionFilter} la abre al inicio de la petición en el hilo que la atiende y la
+ * registra al terminar; {@link MetricasHibernate} y {@link MetricasSesionJdbc} la incrementan desde ese
+ * mismo hilo. Fuera de una petición (tareas programadas, hilos de la cola SUNAT) no hay petición actual.
+ * <>
+ * El presupuesto de sentencias del endpoint ({@link MetricasPresupuestoSql}) se resuelve la primera vez
+ * que se conoce el patrón del controlador; las sentencias anteriores (p. ej. la carga del usuario en
+ * los filtros de seguridad) también cuentan.
+ */
+public final class MetricasPeticion {
+
+    private static final ThreadLocal<MetricasPeticion> ACTUAL = new ThreadLocal<>();
+
+    private final IntSupplier resolverPresupuesto;
+    private int presupuesto = MetricasPresupuestoSql.DESCONOCIDO;
+    private int sentencias;
+    private int entidades;
+    private long nanosSql;
+    private boolean excedido;
+
+    private MetricasPeticion(IntSupplier resolverPresupuesto) {
+        this.resolverPresupuesto = resolverPresupuesto;
+    }
+
+    static MetricasPeticion iniciar(IntSupplier resolverPresupuesto) {
+        MetricasPeticion peticion = new MetricasPeticion(resolverPresupuesto);
+        ACTUAL.set(peticion);
+        return peticion;
+    }
+
+    static void terminar() {
+        ACTUAL.remove();
+    }
+
+    /**
+     * @return la petición del hilo actual, o {@code null} si el hilo no está atendiendo una petición
+     */
+    public static MetricasPeticion actual() {
+        return ACTUAL.get();
+    }
+
+    /**
+     * Cuenta una sentencia.
+     *
+     * @return {@code true} solo para la primera sentencia que supera el presupuesto del endpoint
+     */
+    boolean sentencia() {
+        sentencias++;
+        if (excedido) {
+            return false;
+        }
+        if (presupuesto == MetricasPresupuestoSql.DESCONOCIDO) {
+            presupuesto = resolverPresupuesto.getAsInt();
+        }
+        excedido = presupuesto > 0 && sentencias > presupuesto;
+        return excedido;
+    }
+
+    void entidadCargada() {
+        entidades++;
+    }
+
+    void tiempoSql(long nanos) {
+        nanosSql += nanos;
+    }
+
+    public int sentencias() {
+        return sentencias;
+    }
+
+    public int entidades() {
+        return entidades;
+    }
+
+    public long nanosSql() {
+        return nanosSql;
+    }
+
+    /**
+     * @return presupuesto de sentencias del endpoint; {@code 0} sin límite, negativo si aún no se conoce
+     */
+    public int presupuesto() {
+        return presupuesto;
+    }
+
+    public boolean presupuestoExcedido() {
+        return excedido;
+    }
+}
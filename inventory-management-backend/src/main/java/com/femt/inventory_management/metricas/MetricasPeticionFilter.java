@@ -0,0 +1,205 @@
+package com.femt.inventory_management.metricas;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide cada petición HTTP: duración por método, patrón de URI, estado y resultado
+ * ({@code http_server_requests_seconds}), y cuántas sentencias SQL y entidades de Hibernate
+ * necesitó ({@code http_server_requests_sql_sentencias}, {@code http_server_requests_entidades_cargadas}).
+ * <>
+ * La URI se etiqueta con el patrón del controlador ({@code /api/ventas/pedidos/{id}}), no con la ruta
+ * real, para que la cantidad de series no crezca con los IDs. Las respuestas asíncronas (descargas
+ * en streaming) se registran cuando terminan.
+ * <>
+ * Con {@code app.metricas.sql.cabeceras} la respuesta lleva {@value #CABECERA_SENTENCIAS} y
+ * {@value #CABECERA_TIEMPO}, calculadas justo antes de enviar las cabeceras; en las descargas en streaming
+ * solo cubren lo ejecutado hasta que empieza el cuerpo. Las peticiones que superan su presupuesto
+ * ({@link MetricasPresupuestoSql}) se cuentan en {@code http_server_requests_sql_presupuesto_excedido_total}.
+ */
+@Slf4j
+public class MetricasPeticionFilter extends OncePerRequestFilter {
+
+    public static final String CABECERA_SENTENCIAS = "X-SQL-Sentencias";
+    public static final String CABECERA_TIEMPO = "X-SQL-Tiempo-Ms";
+
+    private static final Set<String> METODOS = Set.of("GET", "POST", "PUT", "PATCH", "DELETE", "HEAD", "OPTIONS");
+
+    private final MetricasRegistro registro;
+    private final MetricasPresupuestoSql presupuesto;
+    private final boolean cabeceras;
+
+    public MetricasPeticionFilter(MetricasRegistro registro, MetricasPresupuestoSql presupuesto, boolean cabeceras) {
+        this.registro = registro;
+        this.presupuesto = presupuesto;
+        this.cabeceras = cabeceras;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse respuesta, FilterChain chain)
+            throws ServletException, IOException {
+        long inicio = System.nanoTime();
+        MetricasPeticion peticion = MetricasPeticion.iniciar(() -> presupuesto.resolver(request));
+        HttpServletResponse response = cabeceras ? new RespuestaConCabeceras(respuesta, peticion) : respuesta;
+        boolean error = false;
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            error = true;
+            throw e;
+        } finally {
+            MetricasPeticion.terminar();
+            if (response instanceof RespuestaConCabeceras conCabeceras) {
+                conCabeceras.escribirCabeceras();
+            }
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        registrar(request, response, inicio, peticion, false);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                registrar(request, response, inicio, peticion, error);
+            }
+        }
+    }
+
+    private void registrar(HttpServletRequest request, HttpServletResponse response, long inicio,
+                           MetricasPeticion peticion, boolean error) {
+        int estado = error && response.getStatus() < 400 ? 500 : response.getStatus();
+        String metodo = METODOS.contains(request.getMethod()) ? request.getMethod() : "OTHER";
+        String uri = uri(request, estado);
+
+        registro.histograma("http_server_requests_seconds", "Duración de las peticiones HTTP",
+                        MetricasRegistro.LIMITES_SEGUNDOS,
+                        "method", metodo, "uri", uri, "status", String.valueOf(estado), "outcome", resultado(estado))
+                .registrarNanos(System.nanoTime() - inicio);
+        registro.histograma("http_server_requests_sql_sentencias", "Sentencias SQL de Hibernate por petición",
+                        MetricasRegistro.LIMITES_CANTIDAD, "method", metodo, "uri", uri)
+                .registrar(peticion.sentencias());
+        registro.histograma("http_server_requests_entidades_cargadas", "Entidades cargadas por Hibernate por petición",
+                        MetricasRegistro.LIMITES_CANTIDAD, "method", metodo, "uri", uri)
+                .registrar(peticion.entidades());
+        registro.histograma("http_server_requests_sql_seconds", "Tiempo en JDBC de Hibernate por petición",
+                        MetricasRegistro.LIMITES_SEGUNDOS, "method", metodo, "uri", uri)
+                .registrarNanos(peticion.nanosSql());
+
+        if (peticion.presupuestoExcedido()) {
+            registro.contador("http_server_requests_sql_presupuesto_excedido_total",
+                    "Peticiones que superaron su presupuesto de sentencias SQL", "method", metodo, "uri", uri).incrementar();
+            log.warn("Presupuesto SQL excedido en {}: {} sentencias (presupuesto {})",
+                    MetricasPresupuestoSql.endpoint(metodo, uri), peticion.sentencias(), peticion.presupuesto());
+        }
+    }
+
+    private static String uri(HttpServletRequest request, int estado) {
+        Object patron = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (patron != null) {
+            return patron.toString();
+        }
+        if (estado == 404) {
+            return "NOT_FOUND";
+        }
+        if (estado >= 300 && estado < 400) {
+            return "REDIRECTION";
+        }
+        return "UNKNOWN";
+    }
+
+    private static String resultado(int estado) {
+        return switch (estado / 100) {
+            case 1 -> "INFORMATIONAL";
+            case 2 -> "SUCCESS";
+            case 3 -> "REDIRECTION";
+            case 4 -> "CLIENT_ERROR";
+            case 5 -> "SERVER_ERROR";
+            default -> "UNKNOWN";
+        };
+    }
+
+    /**
+     * Agrega las cabeceras SQL antes de que la respuesta se confirme (primer byte del cuerpo, error o redirección).
+     */
+    private static final class RespuestaConCabeceras extends HttpServletResponseWrapper {
+
+        private final MetricasPeticion peticion;
+        private boolean escritas;
+
+        RespuestaConCabeceras(HttpServletResponse response, MetricasPeticion peticion) {
+            super(response);
+            this.peticion = peticion;
+        }
+
+        void escribirCabeceras() {
+            if (escritas || isCommitted()) {
+                return;
+            }
+            escritas = true;
+            setHeader(CABECERA_SENTENCIAS, String.valueOf(peticion.sentencias()));
+            setHeader(CABECERA_TIEMPO, String.valueOf(TimeUnit.NANOSECONDS.toMillis(peticion.nanosSql())));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            escribirCabeceras();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            escribirCabeceras();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            escribirCabeceras();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            escribirCabeceras();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            escribirCabeceras();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            escribirCabeceras();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.femt.inventory_management.metricas;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Presupuesto de sentencias SQL por endpoint ({@code app.metricas.sql}).
+ * <>
+ * Las claves son {@code "<MÉTODO> <patrón del controlador>"}, p. ej. {@code "POST /api/ventas/ventas"};
+ * los endpoints sin clave usan el presupuesto por defecto ({@code 0}: sin límite). Un endpoint cuyo
+ * número de sentencias crece con el tamaño de la entrada (N+1) supera su presupuesto en cuanto la
+ * entrada crece, en lugar de degradarse en silencio.
+ * <>
+ * En modo {@code registrar} solo se deja constancia (log y métrica); en modo {@code fallar} la sentencia
+ * que supera el presupuesto lanza {@link PresupuestoSqlExcedidoException}, pensado para pruebas de
+ * integración y CI.
+ */
+public class MetricasPresupuestoSql {
+
+    /**
+     * La petición todavía no llegó al controlador: el presupuesto se vuelve a resolver en la siguiente sentencia.
+     */
+    public static final int DESCONOCIDO = -1;
+
+    private final Map<String, Integer> presupuestos;
+    private final int porDefecto;
+    private final boolean fallar;
+
+    public MetricasPresupuestoSql(Map<String, Integer> presupuestos, int porDefecto, boolean fallar) {
+        this.presupuestos = Map.copyOf(presupuestos);
+        this.porDefecto = porDefecto;
+        this.fallar = fallar;
+    }
+
+    /**
+     * @return presupuesto del endpoint que atiende la petición, {@code 0} si no tiene límite o
+     * {@link #DESCONOCIDO} si aún no se resolvió el controlador
+     */
+    public int resolver(HttpServletRequest request) {
+        Object patron = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (patron == null) {
+            return DESCONOCIDO;
+        }
+        return presupuestos.getOrDefault(endpoint(request.getMethod(), patron.toString()), porDefecto);
+    }
+
+    public boolean fallar() {
+        return fallar;
+    }
+
+    public static String endpoint(String metodo, String uri) {
+        return metodo + " " + uri;
+    }
+}
@@ -0,0 +1,221 @@
+package com.femt.inventory_management.metricas;
+
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Registro de métricas de la aplicación (histogramas, contadores y medidores) con salida
+ * en el formato de texto de Prometheus.
+ * <>
+ * Cada métrica es una familia (nombre, ayuda y tipo) con una serie por combinación de etiquetas.
+ * Las series se crean la primera vez que se piden y quien mide debería guardar la referencia
+ * devuelta: registrar un valor es solo una suma en un {@link LongAdder}, sin bloqueos.
+ * <>
+ * Las etiquetas se pasan como pares clave/valor y deben tener pocos valores posibles (clase,
+ * método, patrón de URI, estado HTTP), nunca IDs ni datos del usuario.
+ */
+@Component
+public class MetricasRegistro {
+
+    /**
+     * Límites para duraciones, en segundos (de 5 ms a 10 s).
+     */
+    public static final double[] LIMITES_SEGUNDOS = {0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+
+    /**
+     * Límites para cantidades por petición (sentencias SQL, entidades cargadas).
+     */
+    public static final double[] LIMITES_CANTIDAD = {1, 2, 5, 10, 20, 50, 100, 200, 500};
+
+    private final ConcurrentMap<String, Familia> familias = new ConcurrentHashMap<>();
+
+    public Histograma histograma(String nombre, String ayuda, double[] limites, String... etiquetas) {
+        Familia familia = familia(nombre, ayuda, Tipo.HISTOGRAMA);
+        return (Histograma) familia.series.computeIfAbsent(etiquetas(etiquetas), k -> new Histograma(limites));
+    }
+
+    public Contador contador(String nombre, String ayuda, String... etiquetas) {
+        Familia familia = familia(nombre, ayuda, Tipo.CONTADOR);
+        return (Contador) familia.series.computeIfAbsent(etiquetas(etiquetas), k -> new Contador());
+    }
+
+    /**
+     * Registra un contador que ya se lleva en otro lugar (p. ej. un {@link LongAdder} de un componente);
+     * la función se lee en cada consulta de métricas y debe ser creciente.
+     */
+    public void contador(String nombre, String ayuda, DoubleSupplier valor, String... etiquetas) {
+        familia(nombre, ayuda, Tipo.CONTADOR).series.put(etiquetas(etiquetas), valor);
+    }
+
+    /**
+     * Registra un valor que se lee en cada consulta de métricas (tamaño de una cola, conexiones activas).
+     * Si la serie ya existe se reemplaza la función.
+     */
+    public void medidor(String nombre, String ayuda, DoubleSupplier valor, String... etiquetas) {
+        familia(nombre, ayuda, Tipo.MEDIDOR).series.put(etiquetas(etiquetas), valor);
+    }
+
+    /**
+     * Escribe todas las métricas en el formato de texto de Prometheus (versión 0.0.4).
+     */
+    public void escribir(Appendable salida) throws IOException {
+        for (Familia familia : new TreeMap<>(familias).values()) {
+            salida.append("# HELP ").append(familia.nombre).append(' ').append(familia.ayuda).append('\n');
+            salida.append("# TYPE ").append(familia.nombre).append(' ').append(familia.tipo.prometheus).append('\n');
+            for (Map.Entry<String, Object> serie : new TreeMap<>(familia.series).entrySet()) {
+                String etiquetas = serie.getKey();
+                switch (serie.getValue()) {
+                    case Histograma h -> h.escribir(salida, familia.nombre, etiquetas);
+                    case Contador c -> linea(salida, familia.nombre, etiquetas, c.valor.sum());
+                    case DoubleSupplier m -> linea(salida, familia.nombre, etiquetas, m.getAsDouble());
+                    default -> throw new IllegalStateException("Serie desconocida en " + familia.nombre);
+                }
+            }
+        }
+    }
+
+    private Familia familia(String nombre, String ayuda, Tipo tipo) {
+        Familia familia = familias.computeIfAbsent(nombre, n -> new Familia(n, ayuda, tipo));
+        if (familia.tipo != tipo) {
+            throw new IllegalArgumentException("La métrica " + nombre + " ya está registrada como " + familia.tipo);
+        }
+        return familia;
+    }
+
+    private static String etiquetas(String... pares) {
+        if (pares.length % 2 != 0) {
+            throw new IllegalArgumentException("Las etiquetas deben ser pares clave/valor");
+        }
+        if (pares.length == 0) {
+            return "";
+        }
+        StringBuilder texto = new StringBuilder();
+        for (int i = 0; i < pares.length; i += 2) {
+            texto.append(i == 0 ? "" : ",").append(pares[i]).append("=\"");
+            String valor = pares[i + 1] == null ? "" : pares[i + 1];
+            for (int j = 0; j < valor.length(); j++) {
+                char c = valor.charAt(j);
+                switch (c) {
+                    case '\\' -> texto.append("\\\\");
+                    case '"' -> texto.append("\\\"");
+                    case '\n' -> texto.append("\\n");
+                    default -> texto.append(c);
+                }
+            }
+            texto.append('"');
+        }
+        return texto.toString();
+    }
+
+    private static void linea(Appendable salida, String nombre, String etiquetas, double valor) throws IOException {
+        salida.append(nombre);
+        if (!etiquetas.isEmpty()) {
+            salida.append('{').append(etiquetas).append('}');
+        }
+        salida.append(' ').append(numero(valor)).append('\n');
+    }
+
+    private static String numero(double valor) {
+        if (Double.isNaN(valor)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(valor)) {
+            return valor > 0 ? "+Inf" : "-Inf";
+        }
+        return valor == Math.rint(valor) && Math.abs(valor) < 1e15 ? Long.toString((long) valor) : BigDecimal.valueOf(valor).toPlainString();
+    }
+
+    private enum Tipo {
+        HISTOGRAMA("histogram"), CONTADOR("counter"), MEDIDOR("gauge");
+
+        private final String prometheus;
+
+        Tipo(String prometheus) {
+            this.prometheus = prometheus;
+        }
+    }
+
+    private record Familia(String nombre, String ayuda, Tipo tipo, ConcurrentMap<String, Object> series) {
+        Familia(String nombre, String ayuda, Tipo tipo) {
+            this(nombre, ayuda, tipo, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Distribución de valores en cubos acumulados, más la suma y la cantidad de observaciones.
+     */
+    public static final class Histograma {
+        private final double[] limites;
+        private final LongAdder[] cubos;
+        private final DoubleAdder suma = new DoubleAdder();
+
+        private Histograma(double[] limites) {
+            this.limites = limites.clone();
+            this.cubos = new LongAdder[limites.length + 1];
+            for (int i = 0; i < cubos.length; i++) {
+                cubos[i] = new LongAdder();
+            }
+        }
+
+        public void registrar(double valor) {
+            int i = 0;
+            while (i < limites.length && valor > limites[i]) {
+                i++;
+            }
+            cubos[i].increment();
+            suma.add(valor);
+        }
+
+        public void registrarNanos(long nanos) {
+            registrar(nanos / 1e9);
+        }
+
+        public long cantidad() {
+            long total = 0;
+            for (LongAdder cubo : cubos) {
+                total += cubo.sum();
+            }
+            return total;
+        }
+
+        private void escribir(Appendable salida, String nombre, String etiquetas) throws IOException {
+            String prefijo = etiquetas.isEmpty() ? "" : etiquetas + ",";
+            long acumulado = 0;
+            for (int i = 0; i < cubos.length; i++) {
+                acumulado += cubos[i].sum();
+                String le = i < limites.length ? numero(limites[i]) : "+Inf";
+                linea(salida, nombre + "_bucket", prefijo + "le=\"" + le + "\"", acumulado);
+            }
+            linea(salida, nombre + "_sum", etiquetas, suma.sum());
+            linea(salida, nombre + "_count", etiquetas, acumulado);
+        }
+    }
+
+    public static final class Contador {
+        private final LongAdder valor = new LongAdder();
+
+        private Contador() {
+        }
+
+        public void incrementar() {
+            valor.increment();
+        }
+
+        public void incrementar(long cantidad) {
+            valor.add(cantidad);
+        }
+
+        public long valor() {
+            return valor.sum();
+        }
+    }
+}
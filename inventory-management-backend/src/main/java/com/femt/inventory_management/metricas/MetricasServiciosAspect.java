@@ -0,0 +1,59 @@
+package com.femt.inventory_management.metricas;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Mide la duración de cada método público de los servicios de dimensiones, kits serie, inventario
+ * y ventas ({@code servicio_metodo_seconds}), etiquetada por clase, método y excepción lanzada.
+ * <>
+ * Envuelve al resto de proxies (transacciones incluidas), así que el tiempo medido incluye el commit.
+ * Las llamadas internas de un servicio a sí mismo no pasan por el proxy y no se miden por separado.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MetricasServiciosAspect {
+
+    private static final String SIN_EXCEPCION = "none";
+
+    private final MetricasRegistro registro;
+    private final ConcurrentMap<Serie, MetricasRegistro.Histograma> series = new ConcurrentHashMap<>();
+
+    public MetricasServiciosAspect(MetricasRegistro registro) {
+        this.registro = registro;
+    }
+
+    @Around("execution(public * com.femt.inventory_management.service.dimension.DimensionService+.*(..))"
+            + " || execution(public * com.femt.inventory_management.service.serie.SerieColoresService+.*(..))"
+            + " || execution(public * com.femt.inventory_management.service.inventario.InvSandaliaService+.*(..))"
+            + " || execution(public * com.femt.inventory_management.service.ventas.*Service+.*(..))")
+    public Object medir(ProceedingJoinPoint punto) throws Throwable {
+        long inicio = System.nanoTime();
+        String excepcion = SIN_EXCEPCION;
+        try {
+            return punto.proceed();
+        } catch (Throwable e) {
+            excepcion = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            long duracion = System.nanoTime() - inicio;
+            Serie serie = new Serie(ClassUtils.getUserClass(punto.getTarget()), punto.getSignature().getName(), excepcion);
+            series.computeIfAbsent(serie, s -> registro.histograma("servicio_metodo_seconds",
+                    "Duración de los métodos de servicio", MetricasRegistro.LIMITES_SEGUNDOS,
+                    "clase", s.clase().getSimpleName(), "metodo", s.metodo(), "excepcion", s.excepcion()))
+                    .registrarNanos(duracion);
+        }
+    }
+
+    private record Serie(Class<?> clase, String metodo, String excepcion) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.femt.inventory_management.metricas;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Suma a la petición actual ({@link MetricasPeticion}) el tiempo que Hibernate pasa ejecutando
+ * sentencias y lotes JDBC.
+ * <>
+ * Hibernate crea una instancia por sesión ({@code hibernate.session.events.auto}) y la sesión se usa
+ * desde un solo hilo, por lo que el inicio de la medición no necesita sincronización.
+ */
+public class MetricasSesionJdbc implements SessionEventListener {
+
+    private long inicio;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        inicio = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        registrar();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        inicio = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        registrar();
+    }
+
+    private void registrar() {
+        MetricasPeticion peticion = MetricasPeticion.actual();
+        if (peticion != null) {
+            peticion.tiempoSql(System.nanoTime() - inicio);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.femt.inventory_management.metricas;
+
+/**
+ * La petición superó su presupuesto de sentencias SQL en modo {@code fallar} ({@link MetricasPresupuestoSql}).
+ */
+public class PresupuestoSqlExcedidoException extends RuntimeException {
+    private final int sentencias;
+    private final int presupuesto;
+
+    public PresupuestoSqlExcedidoException(int sentencias, int presupuesto, String sql) {
+        super("Presupuesto de sentencias SQL excedido (" + sentencias + " > " + presupuesto + "): " + sql);
+        this.sentencias = sentencias;
+        this.presupuesto = presupuesto;
+    }
+
+    public int getSentencias() {
+        return sentencias;
+    }
+
+    public int getPresupuesto() {
+        return presupuesto;
+    }
+}
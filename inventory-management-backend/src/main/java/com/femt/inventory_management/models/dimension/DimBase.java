@@ -7,6 +7,8 @@ import lombok.*;
  * Se utiliza @MappedSuperclass para proporcionar atributos comunes (ID y Nombre)
  * a todas las dimensiones, con el objetivo de duplicar código
  * - Ojo: Los repositorios se crean para las clases hijas, no para esta.
+ * - Los IDs se asignan desde la tabla seq_generador (segmento "dimension", compartido por
+ *   todas las dimensiones) en bloques de 50, lo que permite insertar lotes con JDBC batch.
  *
  * @author menesesTech
  * @version 1.0
@@ -19,7 +21,10 @@ import lombok.*;
 @RequiredArgsConstructor
 public abstract class DimBase {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "dimension_gen")
+    @TableGenerator(name = "dimension_gen", table = "seq_generador",
+            pkColumnName = "nombre_secuencia", valueColumnName = "siguiente_valor",
+            pkColumnValue = "dimension", allocationSize = 50)
     private Integer id;
 
     /**
@@ -0,0 +1,59 @@
+package com.femt.inventory_management.models.inventario;
+
+import com.femt.inventory_management.models.inventario.enums.InvTipoMovimientoEnum;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Movimiento de stock de un SKU de sandalias. El libro de movimientos solo admite inserciones:
+ * una corrección se registra como un nuevo movimiento, nunca editando uno existente.
+ * <>
+ * {@code aplicado} indica si el movimiento ya se reflejó en {@code inv_sandalias.stock_docenas};
+ * es el único campo que se actualiza, cuando el motor de reservas vuelca los movimientos pendientes.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(
+        name = "inv_movimiento",
+        indexes = {
+                @Index(name = "idx_inv_movimiento_sandalia", columnList = "id_sandalia, id"),
+                @Index(name = "idx_inv_movimiento_pendiente", columnList = "aplicado, id")
+        }
+)
+public class InvMovimiento {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_sandalia", nullable = false, updatable = false,
+            foreignKey = @ForeignKey(name = "inv_sandalias_movimiento_fk"))
+    private InvSandalia sandalia;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10, updatable = false)
+    private InvTipoMovimientoEnum tipo;
+
+    @Column(name = "cantidad_docenas", nullable = false, updatable = false)
+    private Integer cantidadDocenas;
+
+    @Column(name = "id_pedido", updatable = false)
+    private Integer idPedido;
+
+    @Column(length = 100, updatable = false)
+    private String referencia;
+
+    @Column(nullable = false)
+    private boolean aplicado;
+
+    @CreationTimestamp
+    @Column(name = "fecha_registro", nullable = false, updatable = false)
+    private LocalDateTime fechaRegistro;
+}
@@ -0,0 +1,48 @@
+package com.femt.inventory_management.models.inventario;
+
+import com.femt.inventory_management.models.dimension.DimCategoria;
+import com.femt.inventory_management.models.dimension.DimModelo;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Existencias de un SKU de sandalias (modelo + serie de tira + serie de planta + categoría).
+ * <>
+ * El stock no se modifica con lectura-modificación-escritura: se usan UPDATE condicionales
+ * en {@code InvSandaliaRepository} y cada cambio queda registrado en {@link InvMovimiento}.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(
+        name = "inv_sandalias",
+        uniqueConstraints = @UniqueConstraint(name = "uk_sku_sandalias",
+                columnNames = {"id_modelo", "id_serie_tira", "id_serie_planta", "id_categoria"})
+)
+public class InvSandalia {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_modelo", nullable = false,
+            foreignKey = @ForeignKey(name = "modelo_inv_sandalias_fk"))
+    private DimModelo modelo;
+
+    @Column(name = "id_serie_tira", nullable = false)
+    private Integer idSerieTira;
+
+    @Column(name = "id_serie_planta", nullable = false)
+    private Integer idSeriePlanta;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_categoria", nullable = false,
+            foreignKey = @ForeignKey(name = "categoria_inv_sandalias_fk"))
+    private DimCategoria categoria;
+
+    @Column(name = "stock_docenas", nullable = false)
+    private Integer stockDocenas;
+}
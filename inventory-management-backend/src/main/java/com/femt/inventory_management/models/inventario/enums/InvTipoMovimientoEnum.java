@@ -0,0 +1,11 @@
+package com.femt.inventory_management.models.inventario.enums;
+
+public enum InvTipoMovimientoEnum {
+    ENTRADA,
+    SALIDA;
+
+    @Override
+    public String toString() {
+        return super.toString();
+    }
+}
@@ -15,7 +15,10 @@ import lombok.Setter;
 @Table(name = "kit_serie_color")
 public class KitSerieColor {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "kit_serie_color_gen")
+    @TableGenerator(name = "kit_serie_color_gen", table = "seq_generador",
+            pkColumnName = "nombre_secuencia", valueColumnName = "siguiente_valor",
+            pkColumnValue = "kit_serie_color", allocationSize = 50)
     private Integer id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -16,7 +16,10 @@ import lombok.Setter;
 @Table(name = "kit_serie_manager")
 public class KitSerieManager {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "kit_serie_manager_gen")
+    @TableGenerator(name = "kit_serie_manager_gen", table = "seq_generador",
+            pkColumnName = "nombre_secuencia", valueColumnName = "siguiente_valor",
+            pkColumnValue = "kit_serie_manager", allocationSize = 50)
     private Integer id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -12,7 +12,10 @@ import java.time.LocalDateTime;
 @Setter
 @Table(
         name="seguridad_usuario",
-        indexes = {@Index(name = "idx_usuario_usuario_auth0id", columnList = "auth0Id")}
+        indexes = {
+                @Index(name = "idx_usuario_usuario_auth0id", columnList = "auth0Id"),
+                @Index(name = "idx_seguridad_usuario_activo", columnList = "activo, id")
+        }
 )
 @NoArgsConstructor
 @RequiredArgsConstructor
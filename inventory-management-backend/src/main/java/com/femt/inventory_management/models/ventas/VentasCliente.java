@@ -15,7 +15,10 @@ import java.util.List;
 @Table(name = "ventas_cliente")
 public class VentasCliente {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ventas_cliente_gen")
+    @TableGenerator(name = "ventas_cliente_gen", table = "seq_generador",
+            pkColumnName = "nombre_secuencia", valueColumnName = "siguiente_valor",
+            pkColumnValue = "ventas_cliente", allocationSize = 50)
     private Integer id;
 
     @Column(name = "nombre_razon_social", nullable = false, length = 30)
@@ -3,6 +3,7 @@ package com.femt.inventory_management.models.ventas;
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
 @Getter
@@ -14,7 +15,10 @@ import java.time.LocalDate;
 public class VentasComprobantePago {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ventas_comprobante_pago_gen")
+    @TableGenerator(name = "ventas_comprobante_pago_gen", table = "seq_generador",
+            pkColumnName = "nombre_secuencia", valueColumnName = "siguiente_valor",
+            pkColumnValue = "ventas_comprobante_pago", allocationSize = 50)
     private Integer id;
 
     @Column(name = "tipo_comprobante", nullable = false, length = 20)
@@ -35,6 +39,12 @@ public class VentasComprobantePago {
     @Column(name = "archivo_cdr", length = 100)
     private String archivoCdr;
 
+    /**
+     * Vencimiento de la reserva de envío a SUNAT mientras el estado es {@code EN_PROCESO}.
+     */
+    @Column(name = "sunat_reserva_hasta")
+    private LocalDateTime sunatReservaHasta;
+
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "id_venta", nullable = false,
             foreignKey = @ForeignKey(name = "ventas_venta_comprobante_fk"))
@@ -19,7 +19,10 @@ import java.time.LocalDate;
 public class VentasPedido {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ventas_pedido_gen")
+    @TableGenerator(name = "ventas_pedido_gen", table = "seq_generador",
+            pkColumnName = "nombre_secuencia", valueColumnName = "siguiente_valor",
+            pkColumnValue = "ventas_pedido", allocationSize = 50)
     private Integer id;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
@@ -13,7 +13,10 @@ import java.math.BigDecimal;
 @Table(name = "ventas_pedido_detalle")
 public class VentasPedidoDetalle {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ventas_pedido_detalle_gen")
+    @TableGenerator(name = "ventas_pedido_detalle_gen", table = "seq_generador",
+            pkColumnName = "nombre_secuencia", valueColumnName = "siguiente_valor",
+            pkColumnValue = "ventas_pedido_detalle", allocationSize = 50)
     private Integer id;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
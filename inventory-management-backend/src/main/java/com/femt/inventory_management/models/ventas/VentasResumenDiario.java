@@ -0,0 +1,36 @@
+package com.femt.inventory_management.models.ventas;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Totales de ventas por día, cliente, usuario y modelo (vía pedido → kit serie manager).
+ * <>
+ * Es una tabla materializada: se mantiene de forma incremental al crear, actualizar o eliminar
+ * ventas, y se puede reconstruir para un rango de fechas a partir de {@code ventas_venta}.
+ * Los reportes consultan esta tabla, cuyo tamaño depende de los días y no de la cantidad de ventas.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "ventas_resumen_diario")
+public class VentasResumenDiario {
+    @EmbeddedId
+    private VentasResumenDiarioId id;
+
+    @Column(name = "cantidad_ventas", nullable = false)
+    private Integer cantidadVentas;
+
+    @Column(name = "monto_total", precision = 14, scale = 2, nullable = false)
+    private BigDecimal montoTotal;
+
+    @Column(precision = 14, scale = 2, nullable = false)
+    private BigDecimal igv;
+
+    @Column(precision = 14, scale = 2, nullable = false)
+    private BigDecimal descuento;
+}
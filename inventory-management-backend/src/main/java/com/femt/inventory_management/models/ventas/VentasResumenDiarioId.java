@@ -0,0 +1,28 @@
+package com.femt.inventory_management.models.ventas;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class VentasResumenDiarioId implements Serializable {
+    @Column(nullable = false)
+    private LocalDate fecha;
+
+    @Column(name = "id_cliente", nullable = false)
+    private Integer idCliente;
+
+    @Column(name = "id_usuario", nullable = false)
+    private Integer idUsuario;
+
+    @Column(name = "id_modelo", nullable = false)
+    private Integer idModelo;
+}
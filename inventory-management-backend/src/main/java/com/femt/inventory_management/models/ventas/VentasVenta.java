@@ -16,7 +16,10 @@ import java.time.LocalDate;
 public class VentasVenta {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ventas_venta_gen")
+    @TableGenerator(name = "ventas_venta_gen", table = "seq_generador",
+            pkColumnName = "nombre_secuencia", valueColumnName = "siguiente_valor",
+            pkColumnValue = "ventas_venta", allocationSize = 50)
     private Integer id;
 
     @Column(precision = 10, scale = 2, nullable = false)
@@ -0,0 +1,26 @@
+package com.femt.inventory_management.models.ventas.enums;
+
+/**
+ * Documentos electrónicos asociados a un comprobante: el XML firmado y la constancia
+ * de recepción (CDR) que devuelve SUNAT, empaquetada en un ZIP.
+ */
+public enum VentasTipoDocumentoEnum {
+    XML("xml", "application/xml"),
+    CDR("zip", "application/zip");
+
+    private final String extension;
+    private final String tipoContenido;
+
+    VentasTipoDocumentoEnum(String extension, String tipoContenido) {
+        this.extension = extension;
+        this.tipoContenido = tipoContenido;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getTipoContenido() {
+        return tipoContenido;
+    }
+}
@@ -0,0 +1,28 @@
+package com.femt.inventory_management.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Fragmento de repositorio para inserciones masivas.
+ * <>
+ * A diferencia de {@code saveAll}, persiste directamente las entidades nuevas (sin
+ * {@code merge}) y cada {@code hibernate.jdbc.batch_size} entidades envía los INSERT
+ * agrupados en lotes JDBC y desacopla las recién insertadas, de modo que la memoria
+ * usada no crece con el tamaño del lote.
+ * <>
+ * Ojo: las entidades devueltas quedan desacopladas del contexto de persistencia. Las demás
+ * entidades de la transacción del llamador siguen administradas (no se vacía el contexto).
+ *
+ * @param <T> tipo de entidad
+ */
+public interface BatchInsertRepository<T> {
+
+    /**
+     * Inserta todas las entidades en lotes JDBC.
+     *
+     * @param entidades entidades nuevas (sin ID asignado)
+     * @return las mismas entidades, ya con su ID
+     */
+    List<T> insertarEnLote(Collection<T> entidades);
+}
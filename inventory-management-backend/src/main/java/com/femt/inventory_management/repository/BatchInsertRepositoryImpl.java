@@ -0,0 +1,53 @@
+package com.femt.inventory_management.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Implementación de {@link BatchInsertRepository} compartida por los repositorios que la extienden.
+ */
+public class BatchInsertRepositoryImpl<T> implements BatchInsertRepository<T> {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int tamanioLote;
+
+    @Override
+    @Transactional
+    public List<T> insertarEnLote(Collection<T> entidades) {
+        List<T> insertadas = new ArrayList<>(entidades.size());
+        int inicioLote = 0;
+
+        for (T entidad : entidades) {
+            entityManager.persist(entidad);
+            insertadas.add(entidad);
+
+            if (insertadas.size() - inicioLote == tamanioLote) {
+                desacoplar(insertadas, inicioLote);
+                inicioLote = insertadas.size();
+            }
+        }
+
+        desacoplar(insertadas, inicioLote);
+        return insertadas;
+    }
+
+    /**
+     * Envía los INSERT pendientes y desacopla solo las entidades recién insertadas desde {@code desde};
+     * el resto del contexto de persistencia (por ejemplo, las entidades que el llamador ya tenía) no se toca.
+     */
+    private void desacoplar(List<T> insertadas, int desde) {
+        entityManager.flush();
+        for (T entidad : insertadas.subList(desde, insertadas.size())) {
+            entityManager.detach(entidad);
+        }
+    }
+}
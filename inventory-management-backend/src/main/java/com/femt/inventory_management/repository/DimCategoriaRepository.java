@@ -7,7 +7,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface DimCategoriaRepository extends JpaRepository<DimCategoria, Integer> {
+public interface DimCategoriaRepository extends JpaRepository<DimCategoria, Integer>, BatchInsertRepository<DimCategoria> {
     boolean existsByNombre(String nombre);
     List<DimCategoria> findAllByOrderByIdAsc();
 }
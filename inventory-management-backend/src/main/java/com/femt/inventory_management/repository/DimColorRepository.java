@@ -7,7 +7,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface DimColorRepository extends JpaRepository<DimColor, Integer> {
+public interface DimColorRepository extends JpaRepository<DimColor, Integer>, BatchInsertRepository<DimColor> {
     boolean existsByNombreAndCodeRgb(String nombre, String codeRgb);
     List<DimColor> findAllByOrderByIdAsc();
 }
@@ -7,7 +7,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface DimColumnaRepository extends JpaRepository<DimColumna, Integer> {
+public interface DimColumnaRepository extends JpaRepository<DimColumna, Integer>, BatchInsertRepository<DimColumna> {
     boolean existsByNombre(String nombre);
     List<DimColumna> findAllByOrderByIdAsc();
 }
@@ -7,7 +7,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface DimFilaRepository extends JpaRepository<DimFila, Integer> {
+public interface DimFilaRepository extends JpaRepository<DimFila, Integer>, BatchInsertRepository<DimFila> {
     boolean existsByNombre(String nombre);
     List<DimFila> findAllByOrderByIdAsc();
 }
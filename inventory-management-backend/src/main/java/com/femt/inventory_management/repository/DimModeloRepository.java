@@ -7,7 +7,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface DimModeloRepository extends JpaRepository<DimModelo, Integer> {
+public interface DimModeloRepository extends JpaRepository<DimModelo, Integer>, BatchInsertRepository<DimModelo> {
     boolean existsByNombre(String nombre);
     List<DimModelo> findAllByOrderByIdAsc();
 }
@@ -7,7 +7,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface DimTallaRepository extends JpaRepository<DimTalla, Integer> {
+public interface DimTallaRepository extends JpaRepository<DimTalla, Integer>, BatchInsertRepository<DimTalla> {
     boolean existsByNombre(String nombre);
     List<DimTalla> findAllByOrderByIdAsc();
 }
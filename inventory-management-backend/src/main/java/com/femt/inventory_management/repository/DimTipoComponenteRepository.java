@@ -8,7 +8,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface DimTipoComponenteRepository extends JpaRepository<DimTipoComponente, Integer> {
+public interface DimTipoComponenteRepository extends JpaRepository<DimTipoComponente, Integer>, BatchInsertRepository<DimTipoComponente> {
     Optional<DimTipoComponente> findByNombre(String nombre);
     boolean existsByNombre(String nombre);
     List<DimTipoComponente> findAllByOrderByIdAsc();
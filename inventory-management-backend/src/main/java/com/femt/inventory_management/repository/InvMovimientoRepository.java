@@ -0,0 +1,27 @@
+package com.femt.inventory_management.repository;
+
+import com.femt.inventory_management.dto.response.InvMovimientoResponseDTO;
+import com.femt.inventory_management.models.inventario.InvMovimiento;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface InvMovimientoRepository extends JpaRepository<InvMovimiento, Integer> {
+
+    /**
+     * Movimientos de una sandalia, del más reciente al más antiguo.
+     */
+    @Query("""
+            select new com.femt.inventory_management.dto.response.InvMovimientoResponseDTO(
+                m.id, m.sandalia.id, m.tipo, m.cantidadDocenas, m.idPedido, m.referencia, m.fechaRegistro)
+            from InvMovimiento m
+            where m.sandalia.id = :idSandalia
+            order by m.id desc
+            """)
+    List<InvMovimientoResponseDTO> listarPorSandalia(@Param("idSandalia") Integer idSandalia, Limit limite);
+}
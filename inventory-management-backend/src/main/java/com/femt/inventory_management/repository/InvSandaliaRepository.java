@@ -0,0 +1,57 @@
+package com.femt.inventory_management.repository;
+
+import com.femt.inventory_management.dto.response.InvSandaliaResponseDTO;
+import com.femt.inventory_management.models.inventario.InvSandalia;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface InvSandaliaRepository extends JpaRepository<InvSandalia, Integer> {
+
+    String PROYECCION = """
+            select new com.femt.inventory_management.dto.response.InvSandaliaResponseDTO(
+                s.id, s.modelo.id, s.idSerieTira, s.idSeriePlanta, s.categoria.id, s.stockDocenas)
+            from InvSandalia s
+            """;
+
+    @Query(PROYECCION + "order by s.id")
+    List<InvSandaliaResponseDTO> listarProyectado();
+
+    @Query(PROYECCION + "where s.id = :id")
+    Optional<InvSandaliaResponseDTO> buscarProyectadoPorId(@Param("id") Integer id);
+
+    boolean existsByModeloIdAndIdSerieTiraAndIdSeriePlantaAndCategoriaId(Integer idModelo, Integer idSerieTira,
+                                                                         Integer idSeriePlanta, Integer idCategoria);
+
+    @Query("select s.stockDocenas from InvSandalia s where s.id = :id")
+    Optional<Integer> buscarStock(@Param("id") Integer id);
+
+    /**
+     * Descuenta stock solo si alcanza, en un único UPDATE atómico: la condición y la resta las
+     * evalúa la base de datos sobre la fila bloqueada, por lo que dos vendedores concurrentes
+     * nunca pisan sus cambios ni dejan el stock en negativo.
+     *
+     * @return 1 si se descontó; 0 si la sandalia no existe o el stock no alcanza
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update InvSandalia s set s.stockDocenas = s.stockDocenas - :cantidad
+            where s.id = :id and s.stockDocenas >= :cantidad
+            """)
+    int descontar(@Param("id") Integer id, @Param("cantidad") Integer cantidad);
+
+    /**
+     * Suma stock en un único UPDATE atómico.
+     *
+     * @return 1 si se actualizó; 0 si la sandalia no existe
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update InvSandalia s set s.stockDocenas = s.stockDocenas + :cantidad where s.id = :id")
+    int ingresar(@Param("id") Integer id, @Param("cantidad") Integer cantidad);
+}
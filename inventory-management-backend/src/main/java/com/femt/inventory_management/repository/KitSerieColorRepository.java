@@ -1,27 +1,83 @@
 package com.femt.inventory_management.repository;
 
-import com.femt.inventory_management.models.dimension.DimCategoria;
-import com.femt.inventory_management.models.dimension.DimModelo;
-import com.femt.inventory_management.models.dimension.DimTipoComponente;
+import com.femt.inventory_management.dto.response.KitSerieCeldaDTO;
+import com.femt.inventory_management.dto.response.KitSerieColorResponseDTO;
 import com.femt.inventory_management.models.kit.KitSerieColor;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface KitSerieColorRepository extends JpaRepository<KitSerieColor, Integer> {
-    List<KitSerieColor> findByModeloAndCategoriaAndTipoComponente(
-            DimModelo modelo,
-            DimCategoria categoria,
-            DimTipoComponente tipo
-    );
+public interface KitSerieColorRepository extends JpaRepository<KitSerieColor, Integer>, BatchInsertRepository<KitSerieColor> {
+    /**
+     * Obtiene la matriz completa de un modelo, categoría y tipo de componente en una sola consulta,
+     * proyectando directamente al DTO (sin cargar entidades ni asociaciones LAZY).
+     */
+    @Query("""
+            select new com.femt.inventory_management.dto.response.KitSerieColorResponseDTO(
+                k.id, f.id, c.id, m.id, co.id, ca.id, t.id,
+                c.nombre, f.nombre, m.nombre, co.nombre, ca.nombre, t.nombre)
+            from KitSerieColor k
+                join k.fila f
+                join k.columna c
+                join k.modelo m
+                join k.color co
+                join k.categoria ca
+                join k.tipoComponente t
+            where m.id = :idModelo and ca.id = :idCategoria and t.id = :idTipoComponente
+            order by f.id, c.id
+            """)
+    List<KitSerieColorResponseDTO> buscarMatriz(@Param("idModelo") Integer idModelo,
+                                                @Param("idCategoria") Integer idCategoria,
+                                                @Param("idTipoComponente") Integer idTipoComponente);
 
-    void deleteByModeloAndCategoriaAndTipoComponente(
-            DimModelo modelo,
-            DimCategoria categoria,
-            DimTipoComponente tipo
-    );
+    /**
+     * Obtiene solo la posición y el color de cada celda de una matriz (sin joins a las dimensiones).
+     */
+    @Query("""
+            select new com.femt.inventory_management.dto.response.KitSerieCeldaDTO(
+                k.id, k.fila.id, k.columna.id, k.color.id)
+            from KitSerieColor k
+            where k.modelo.id = :idModelo and k.categoria.id = :idCategoria and k.tipoComponente.id = :idTipoComponente
+            """)
+    List<KitSerieCeldaDTO> buscarCeldas(@Param("idModelo") Integer idModelo,
+                                        @Param("idCategoria") Integer idCategoria,
+                                        @Param("idTipoComponente") Integer idTipoComponente);
+
+    /**
+     * Elimina todas las combinaciones de una matriz con un único DELETE.
+     *
+     * @return cantidad de filas eliminadas
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            delete from KitSerieColor k
+            where k.modelo.id = :idModelo and k.categoria.id = :idCategoria and k.tipoComponente.id = :idTipoComponente
+            """)
+    int eliminarMatriz(@Param("idModelo") Integer idModelo,
+                       @Param("idCategoria") Integer idCategoria,
+                       @Param("idTipoComponente") Integer idTipoComponente);
+
+    /**
+     * Asigna un mismo color a varias combinaciones con un único UPDATE.
+     *
+     * @return cantidad de filas actualizadas
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update KitSerieColor k set k.color.id = :idColor where k.id in :ids")
+    int actualizarColor(@Param("ids") Collection<Integer> ids, @Param("idColor") Integer idColor);
+
+    /**
+     * Elimina varias combinaciones por ID con un único DELETE.
+     *
+     * @return cantidad de filas eliminadas
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from KitSerieColor k where k.id in :ids")
+    int eliminarPorIds(@Param("ids") Collection<Integer> ids);
 }
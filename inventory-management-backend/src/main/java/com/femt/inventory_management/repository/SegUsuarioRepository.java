@@ -1,10 +1,15 @@
 package com.femt.inventory_management.repository;
 
+import com.femt.inventory_management.dto.response.UsuarioListadoResponseDTO;
 import com.femt.inventory_management.models.seguridad.Usuario;
+import com.femt.inventory_management.models.seguridad.enums.RolUsuarioEnum;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +21,33 @@ public interface SegUsuarioRepository extends JpaRepository<Usuario, Integer> {
      * @return Un Optional que contiene el Usuario si se encuentra.
      */
     Optional<Usuario> findByAuth0Id(String auth0Id);
+
+    /**
+     * Página de usuarios ordenada por ID descendente (los más recientes primero), a partir del
+     * cursor {@code cursorId} (exclusivo). El rol se lee con un join en la misma consulta, sin
+     * hidratar entidades ni disparar la carga EAGER del rol por cada usuario.
+     */
+    @Query("""
+            select new com.femt.inventory_management.dto.response.UsuarioListadoResponseDTO(
+                u.id, u.auth0Id, r.rolUsuario, u.activo, u.fechaCreacion, u.fechaActualizacion)
+            from Usuario u
+            join u.rol r
+            where (:activo is null or u.activo = :activo)
+              and (:rol is null or r.rolUsuario = :rol)
+              and (:desde is null or u.fechaCreacion >= :desde)
+              and (:hastaExclusivo is null or u.fechaCreacion < :hastaExclusivo)
+              and (:cursorId is null or u.id < :cursorId)
+            order by u.id desc
+            """)
+    List<UsuarioListadoResponseDTO> buscarPagina(@Param("activo") Boolean activo,
+                                                 @Param("rol") RolUsuarioEnum rol,
+                                                 @Param("desde") LocalDateTime desde,
+                                                 @Param("hastaExclusivo") LocalDateTime hastaExclusivo,
+                                                 @Param("cursorId") Integer cursorId,
+                                                 Limit limite);
+
+    /**
+     * Cantidad de usuarios pendientes de aprobación (inactivos).
+     */
+    long countByActivoFalse();
 }
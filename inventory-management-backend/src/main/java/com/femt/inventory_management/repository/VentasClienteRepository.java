@@ -1,9 +1,46 @@
 package com.femt.inventory_management.repository;
 
+import com.femt.inventory_management.dto.response.VentasClienteResponseDTO;
 import com.femt.inventory_management.models.ventas.VentasCliente;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface VentasClienteRepository extends JpaRepository<VentasCliente, Integer> {
+
+    String PROYECCION = """
+            select new com.femt.inventory_management.dto.response.VentasClienteResponseDTO(
+                c.id, c.nombreRazonSocial, c.apellido, c.direccion, c.telefono, c.ruc, c.dni)
+            from VentasCliente c
+            where (:nombre is null or c.nombreRazonSocial like concat(:nombre, '%'))
+            """;
+
+    /**
+     * Página de clientes ordenada por ID descendente, a partir del cursor {@code cursorId} (exclusivo).
+     * El filtro {@code nombre} busca por prefijo de la razón social.
+     */
+    @Query(PROYECCION + """
+              and (:cursorId is null or c.id < :cursorId)
+            order by c.id desc
+            """)
+    List<VentasClienteResponseDTO> buscarPaginaPorId(@Param("nombre") String nombre,
+                                                     @Param("cursorId") Integer cursorId,
+                                                     Limit limite);
+
+    /**
+     * Recorre todos los clientes que cumplen los filtros, leyendo del servidor por bloques.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(PROYECCION + "order by c.id")
+    Stream<VentasClienteResponseDTO> recorrer(@Param("nombre") String nombre);
 }
@@ -1,9 +1,128 @@
 package com.femt.inventory_management.repository;
 
+import com.femt.inventory_management.dto.response.VentasComprobantePagoResponseDTO;
 import com.femt.inventory_management.models.ventas.VentasComprobantePago;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface VentasComprobantePagoRepository extends JpaRepository<VentasComprobantePago, Integer> {
+
+    String PROYECCION = """
+            select new com.femt.inventory_management.dto.response.VentasComprobantePagoResponseDTO(
+                c.id, c.tipoComprobante, c.serie, c.fechaEmision, c.estadoSunat, c.archivoXml, c.archivoCdr, c.venta.id)
+            from VentasComprobantePago c
+            """;
+
+    String FILTROS = """
+            where (:idVenta is null or c.venta.id = :idVenta)
+              and (:estadoSunat is null or c.estadoSunat = :estadoSunat)
+              and (:tipoComprobante is null or c.tipoComprobante = :tipoComprobante)
+              and (:desde is null or c.fechaEmision >= :desde)
+              and (:hasta is null or c.fechaEmision <= :hasta)
+            """;
+
+    /**
+     * Lista todos los comprobantes leyendo las claves foráneas directamente de la fila,
+     * sin hidratar entidades ni inicializar asociaciones LAZY (una sola consulta).
+     */
+    @Query(PROYECCION + "order by c.id")
+    List<VentasComprobantePagoResponseDTO> listarProyectado();
+
+    /**
+     * Obtiene un comprobante por ID como DTO, sin hidratar la entidad ni sus asociaciones.
+     */
+    @Query(PROYECCION + "where c.id = :id")
+    Optional<VentasComprobantePagoResponseDTO> buscarProyectadoPorId(@Param("id") Integer id);
+
+    /**
+     * Registra la clave del XML en el almacén de documentos.
+     *
+     * @return filas actualizadas (0 si el comprobante no existe)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update VentasComprobantePago c set c.archivoXml = :clave where c.id = :id")
+    int actualizarArchivoXml(@Param("id") Integer id, @Param("clave") String clave);
+
+    /**
+     * Registra la clave de la CDR en el almacén de documentos.
+     *
+     * @return filas actualizadas (0 si el comprobante no existe)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update VentasComprobantePago c set c.archivoCdr = :clave where c.id = :id")
+    int actualizarArchivoCdr(@Param("id") Integer id, @Param("clave") String clave);
+
+    /**
+     * Página de comprobantes ordenada por ID descendente, a partir del cursor {@code cursorId} (exclusivo).
+     */
+    @Query(PROYECCION + FILTROS + """
+              and (:cursorId is null or c.id < :cursorId)
+            order by c.id desc
+            """)
+    List<VentasComprobantePagoResponseDTO> buscarPaginaPorId(@Param("idVenta") Integer idVenta,
+                                                             @Param("estadoSunat") String estadoSunat,
+                                                             @Param("tipoComprobante") String tipoComprobante,
+                                                             @Param("desde") LocalDate desde,
+                                                             @Param("hasta") LocalDate hasta,
+                                                             @Param("cursorId") Integer cursorId,
+                                                             Limit limite);
+
+    /**
+     * Página de comprobantes ordenada por fecha de emisión e ID descendentes, a partir del cursor (exclusivo).
+     */
+    @Query(PROYECCION + FILTROS + """
+              and (:cursorFecha is null
+                   or c.fechaEmision < :cursorFecha
+                   or (c.fechaEmision = :cursorFecha and c.id < :cursorId))
+            order by c.fechaEmision desc, c.id desc
+            """)
+    List<VentasComprobantePagoResponseDTO> buscarPaginaPorFecha(@Param("idVenta") Integer idVenta,
+                                                                @Param("estadoSunat") String estadoSunat,
+                                                                @Param("tipoComprobante") String tipoComprobante,
+                                                                @Param("desde") LocalDate desde,
+                                                                @Param("hasta") LocalDate hasta,
+                                                                @Param("cursorFecha") LocalDate cursorFecha,
+                                                                @Param("cursorId") Integer cursorId,
+                                                                Limit limite);
+
+    /**
+     * Recorre todos los comprobantes que cumplen los filtros, leyendo del servidor por bloques.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(PROYECCION + FILTROS + "order by c.id")
+    Stream<VentasComprobantePagoResponseDTO> recorrer(@Param("idVenta") Integer idVenta,
+                                                      @Param("estadoSunat") String estadoSunat,
+                                                      @Param("tipoComprobante") String tipoComprobante,
+                                                      @Param("desde") LocalDate desde,
+                                                      @Param("hasta") LocalDate hasta);
+
+    /**
+     * Recorre los comprobantes que cumplen los filtros en orden de fecha de emisión, apoyándose en el
+     * índice {@code (fecha_emision, id)} cuando se filtra por rango de fechas.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(PROYECCION + FILTROS + "order by c.fechaEmision, c.id")
+    Stream<VentasComprobantePagoResponseDTO> recorrerPorFecha(@Param("idVenta") Integer idVenta,
+                                                              @Param("estadoSunat") String estadoSunat,
+                                                              @Param("tipoComprobante") String tipoComprobante,
+                                                              @Param("desde") LocalDate desde,
+                                                              @Param("hasta") LocalDate hasta);
 }
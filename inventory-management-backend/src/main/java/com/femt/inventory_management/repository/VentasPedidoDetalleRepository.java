@@ -1,9 +1,62 @@
 package com.femt.inventory_management.repository;
 
+import com.femt.inventory_management.dto.response.VentasPedidoDetalleResponseDTO;
 import com.femt.inventory_management.models.ventas.VentasPedidoDetalle;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface VentasPedidoDetalleRepository extends JpaRepository<VentasPedidoDetalle, Integer> {
+public interface VentasPedidoDetalleRepository extends JpaRepository<VentasPedidoDetalle, Integer>, BatchInsertRepository<VentasPedidoDetalle> {
+
+    String PROYECCION = """
+            select new com.femt.inventory_management.dto.response.VentasPedidoDetalleResponseDTO(
+                d.id, d.pedido.id, d.cantidadDocenas, d.precioUnitario)
+            from VentasPedidoDetalle d
+            """;
+
+    String FILTROS = """
+            where (:idPedido is null or d.pedido.id = :idPedido)
+            """;
+
+    /**
+     * Lista todos los detalles leyendo las claves foráneas directamente de la fila,
+     * sin hidratar entidades ni inicializar asociaciones LAZY (una sola consulta).
+     */
+    @Query(PROYECCION + "order by d.id")
+    List<VentasPedidoDetalleResponseDTO> listarProyectado();
+
+    /**
+     * Obtiene un detalle por ID como DTO, sin hidratar la entidad ni sus asociaciones.
+     */
+    @Query(PROYECCION + "where d.id = :id")
+    Optional<VentasPedidoDetalleResponseDTO> buscarProyectadoPorId(@Param("id") Integer id);
+
+    /**
+     * Página de detalles ordenada por ID descendente, a partir del cursor {@code cursorId} (exclusivo).
+     */
+    @Query(PROYECCION + FILTROS + """
+              and (:cursorId is null or d.id < :cursorId)
+            order by d.id desc
+            """)
+    List<VentasPedidoDetalleResponseDTO> buscarPaginaPorId(@Param("idPedido") Integer idPedido,
+                                                           @Param("cursorId") Integer cursorId,
+                                                           Limit limite);
+
+    /**
+     * Recorre todos los detalles que cumplen los filtros, leyendo del servidor por bloques.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(PROYECCION + FILTROS + "order by d.id")
+    Stream<VentasPedidoDetalleResponseDTO> recorrer(@Param("idPedido") Integer idPedido);
 }
@@ -1,9 +1,95 @@
 package com.femt.inventory_management.repository;
 
+import com.femt.inventory_management.dto.response.VentasPedidoResponseDTO;
 import com.femt.inventory_management.models.ventas.VentasPedido;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface VentasPedidoRepository extends JpaRepository<VentasPedido, Integer> {
+
+    String PROYECCION = """
+            select new com.femt.inventory_management.dto.response.VentasPedidoResponseDTO(
+                p.id, p.cliente.id, p.fechaCreada, p.fechaEntrega, p.usuario.id, p.kitSerieManager.id, p.montoTotal)
+            from VentasPedido p
+            """;
+
+    String FILTROS = """
+            where (:idCliente is null or p.cliente.id = :idCliente)
+              and (:idUsuario is null or p.usuario.id = :idUsuario)
+              and (:desde is null or p.fechaCreada >= :desde)
+              and (:hasta is null or p.fechaCreada <= :hasta)
+            """;
+
+    /**
+     * Modelo del pedido (a través de su kit serie manager), para los resúmenes de ventas.
+     */
+    @Query("select p.kitSerieManager.dimModelo.id from VentasPedido p where p.id = :id")
+    Optional<Integer> buscarIdModelo(@Param("id") Integer id);
+
+    /**
+     * Lista todos los pedidos leyendo las claves foráneas directamente de la fila,
+     * sin hidratar entidades ni inicializar asociaciones LAZY (una sola consulta).
+     */
+    @Query(PROYECCION + "order by p.id")
+    List<VentasPedidoResponseDTO> listarProyectado();
+
+    /**
+     * Obtiene un pedido por ID como DTO, sin hidratar la entidad ni sus asociaciones.
+     */
+    @Query(PROYECCION + "where p.id = :id")
+    Optional<VentasPedidoResponseDTO> buscarProyectadoPorId(@Param("id") Integer id);
+
+    /**
+     * Página de pedidos ordenada por ID descendente, a partir del cursor {@code cursorId} (exclusivo).
+     */
+    @Query(PROYECCION + FILTROS + """
+              and (:cursorId is null or p.id < :cursorId)
+            order by p.id desc
+            """)
+    List<VentasPedidoResponseDTO> buscarPaginaPorId(@Param("idCliente") Integer idCliente,
+                                                    @Param("idUsuario") Integer idUsuario,
+                                                    @Param("desde") LocalDate desde,
+                                                    @Param("hasta") LocalDate hasta,
+                                                    @Param("cursorId") Integer cursorId,
+                                                    Limit limite);
+
+    /**
+     * Página de pedidos ordenada por fecha de creación e ID descendentes, a partir del cursor (exclusivo).
+     */
+    @Query(PROYECCION + FILTROS + """
+              and (:cursorFecha is null
+                   or p.fechaCreada < :cursorFecha
+                   or (p.fechaCreada = :cursorFecha and p.id < :cursorId))
+            order by p.fechaCreada desc, p.id desc
+            """)
+    List<VentasPedidoResponseDTO> buscarPaginaPorFecha(@Param("idCliente") Integer idCliente,
+                                                       @Param("idUsuario") Integer idUsuario,
+                                                       @Param("desde") LocalDate desde,
+                                                       @Param("hasta") LocalDate hasta,
+                                                       @Param("cursorFecha") LocalDate cursorFecha,
+                                                       @Param("cursorId") Integer cursorId,
+                                                       Limit limite);
+
+    /**
+     * Recorre todos los pedidos que cumplen los filtros, leyendo del servidor por bloques.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(PROYECCION + FILTROS + "order by p.id")
+    Stream<VentasPedidoResponseDTO> recorrer(@Param("idCliente") Integer idCliente,
+                                             @Param("idUsuario") Integer idUsuario,
+                                             @Param("desde") LocalDate desde,
+                                             @Param("hasta") LocalDate hasta);
 }
@@ -0,0 +1,138 @@
+package com.femt.inventory_management.repository;
+
+import com.femt.inventory_management.dto.response.VentasResumenResponseDTO;
+import com.femt.inventory_management.models.ventas.VentasResumenDiario;
+import com.femt.inventory_management.models.ventas.VentasResumenDiarioId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface VentasResumenDiarioRepository extends JpaRepository<VentasResumenDiario, VentasResumenDiarioId> {
+
+    String TOTALES = "sum(r.cantidadVentas), sum(r.montoTotal), sum(r.igv), sum(r.descuento)";
+
+    String FILTROS = """
+            from VentasResumenDiario r
+            where r.id.fecha between :desde and :hasta
+              and (:idCliente is null or r.id.idCliente = :idCliente)
+              and (:idUsuario is null or r.id.idUsuario = :idUsuario)
+              and (:idModelo is null or r.id.idModelo = :idModelo)
+            """;
+
+    /**
+     * Suma (o resta, con valores negativos) una venta a la fila de su día, cliente, usuario y modelo,
+     * creándola si no existe. Es un único INSERT ... ON DUPLICATE KEY UPDATE atómico.
+     */
+    @Modifying
+    @Query(value = """
+            insert into ventas_resumen_diario
+                (fecha, id_cliente, id_usuario, id_modelo, cantidad_ventas, monto_total, igv, descuento)
+            values (:fecha, :idCliente, :idUsuario, :idModelo, :cantidad, :montoTotal, :igv, :descuento)
+            on duplicate key update
+                cantidad_ventas = cantidad_ventas + values(cantidad_ventas),
+                monto_total = monto_total + values(monto_total),
+                igv = igv + values(igv),
+                descuento = descuento + values(descuento)
+            """, nativeQuery = true)
+    int acumular(@Param("fecha") LocalDate fecha,
+                 @Param("idCliente") Integer idCliente,
+                 @Param("idUsuario") Integer idUsuario,
+                 @Param("idModelo") Integer idModelo,
+                 @Param("cantidad") int cantidad,
+                 @Param("montoTotal") BigDecimal montoTotal,
+                 @Param("igv") BigDecimal igv,
+                 @Param("descuento") BigDecimal descuento);
+
+    /**
+     * Elimina la fila de un día, cliente, usuario y modelo si ya no le quedan ventas.
+     */
+    @Modifying
+    @Query("""
+            delete from VentasResumenDiario r
+            where r.id = :id and r.cantidadVentas <= 0
+            """)
+    int eliminarSiVacia(@Param("id") VentasResumenDiarioId id);
+
+    @Modifying
+    @Query("delete from VentasResumenDiario r where r.id.fecha between :desde and :hasta")
+    int eliminarRango(@Param("desde") LocalDate desde, @Param("hasta") LocalDate hasta);
+
+    /**
+     * Recalcula los totales de un rango de fechas directamente desde {@code ventas_venta}.
+     * Se debe eliminar el rango antes de llamarlo.
+     */
+    @Modifying
+    @Query(value = """
+            insert into ventas_resumen_diario
+                (fecha, id_cliente, id_usuario, id_modelo, cantidad_ventas, monto_total, igv, descuento)
+            select v.fecha_pago, v.id_cliente, v.id_usuario, m.id_modelo,
+                   count(*), sum(v.monto_total), sum(v.igv), sum(coalesce(v.descuento, 0))
+            from ventas_venta v
+            join ventas_pedido p on p.id = v.id_pedido
+            join kit_serie_manager m on m.id = p.id_kit_serie_manager
+            where v.fecha_pago between :desde and :hasta
+            group by v.fecha_pago, v.id_cliente, v.id_usuario, m.id_modelo
+            """, nativeQuery = true)
+    int reconstruirRango(@Param("desde") LocalDate desde, @Param("hasta") LocalDate hasta);
+
+    /**
+     * Aporte actual al resumen de las ventas de un pedido, o de las que se eliminan en cascada con un
+     * cliente o un usuario (las propias y las de sus pedidos), agrupado por día, cliente, usuario y modelo.
+     * Los filtros nulos no se aplican.
+     */
+    @Query("""
+            select new com.femt.inventory_management.dto.response.VentasResumenResponseDTO(
+                v.fechaPago, v.cliente.id, v.usuario.id, p.kitSerieManager.dimModelo.id,
+                count(v), sum(v.montoTotal), sum(v.igv), sum(v.descuento))
+            from VentasVenta v
+            join v.pedido p
+            where (:idPedido is null or p.id = :idPedido)
+              and (:idCliente is null or v.cliente.id = :idCliente or p.cliente.id = :idCliente)
+              and (:idUsuario is null or v.usuario.id = :idUsuario or p.usuario.id = :idUsuario)
+            group by v.fechaPago, v.cliente.id, v.usuario.id, p.kitSerieManager.dimModelo.id
+            """)
+    List<VentasResumenResponseDTO> agruparVentas(@Param("idPedido") Integer idPedido,
+                                                 @Param("idCliente") Integer idCliente,
+                                                 @Param("idUsuario") Integer idUsuario);
+
+    @Query("select new com.femt.inventory_management.dto.response.VentasResumenResponseDTO("
+            + "null, null, null, null, " + TOTALES + ") " + FILTROS)
+    List<VentasResumenResponseDTO> totalizar(@Param("desde") LocalDate desde, @Param("hasta") LocalDate hasta,
+                                             @Param("idCliente") Integer idCliente, @Param("idUsuario") Integer idUsuario,
+                                             @Param("idModelo") Integer idModelo);
+
+    @Query("select new com.femt.inventory_management.dto.response.VentasResumenResponseDTO("
+            + "r.id.fecha, null, null, null, " + TOTALES + ") " + FILTROS
+            + "group by r.id.fecha order by r.id.fecha")
+    List<VentasResumenResponseDTO> totalizarPorDia(@Param("desde") LocalDate desde, @Param("hasta") LocalDate hasta,
+                                                   @Param("idCliente") Integer idCliente, @Param("idUsuario") Integer idUsuario,
+                                                   @Param("idModelo") Integer idModelo);
+
+    @Query("select new com.femt.inventory_management.dto.response.VentasResumenResponseDTO("
+            + "null, r.id.idCliente, null, null, " + TOTALES + ") " + FILTROS
+            + "group by r.id.idCliente order by sum(r.montoTotal) desc")
+    List<VentasResumenResponseDTO> totalizarPorCliente(@Param("desde") LocalDate desde, @Param("hasta") LocalDate hasta,
+                                                       @Param("idCliente") Integer idCliente, @Param("idUsuario") Integer idUsuario,
+                                                       @Param("idModelo") Integer idModelo);
+
+    @Query("select new com.femt.inventory_management.dto.response.VentasResumenResponseDTO("
+            + "null, null, r.id.idUsuario, null, " + TOTALES + ") " + FILTROS
+            + "group by r.id.idUsuario order by sum(r.montoTotal) desc")
+    List<VentasResumenResponseDTO> totalizarPorUsuario(@Param("desde") LocalDate desde, @Param("hasta") LocalDate hasta,
+                                                       @Param("idCliente") Integer idCliente, @Param("idUsuario") Integer idUsuario,
+                                                       @Param("idModelo") Integer idModelo);
+
+    @Query("select new com.femt.inventory_management.dto.response.VentasResumenResponseDTO("
+            + "null, null, null, r.id.idModelo, " + TOTALES + ") " + FILTROS
+            + "group by r.id.idModelo order by sum(r.montoTotal) desc")
+    List<VentasResumenResponseDTO> totalizarPorModelo(@Param("desde") LocalDate desde, @Param("hasta") LocalDate hasta,
+                                                      @Param("idCliente") Integer idCliente, @Param("idUsuario") Integer idUsuario,
+                                                      @Param("idModelo") Integer idModelo);
+}
@@ -1,9 +1,93 @@
 package com.femt.inventory_management.repository;
 
+import com.femt.inventory_management.dto.response.VentasVentaResponseDTO;
 import com.femt.inventory_management.models.ventas.VentasVenta;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface VentasVentaRepository extends JpaRepository<VentasVenta, Integer> {
+
+    String PROYECCION = """
+            select new com.femt.inventory_management.dto.response.VentasVentaResponseDTO(
+                v.id, v.igv, v.descuento, v.montoTotal, v.fechaPago, v.cliente.id, v.pedido.id, v.usuario.id)
+            from VentasVenta v
+            """;
+
+    String FILTROS = """
+            where (:idCliente is null or v.cliente.id = :idCliente)
+              and (:idUsuario is null or v.usuario.id = :idUsuario)
+              and (:idPedido is null or v.pedido.id = :idPedido)
+              and (:desde is null or v.fechaPago >= :desde)
+              and (:hasta is null or v.fechaPago <= :hasta)
+            """;
+
+    /**
+     * Lista todas las ventas leyendo las claves foráneas directamente de la fila,
+     * sin hidratar entidades ni inicializar asociaciones LAZY (una sola consulta).
+     */
+    @Query(PROYECCION + "order by v.id")
+    List<VentasVentaResponseDTO> listarProyectado();
+
+    /**
+     * Obtiene una venta por ID como DTO, sin hidratar la entidad ni sus asociaciones.
+     */
+    @Query(PROYECCION + "where v.id = :id")
+    Optional<VentasVentaResponseDTO> buscarProyectadoPorId(@Param("id") Integer id);
+
+    /**
+     * Página de ventas ordenada por ID descendente, a partir del cursor {@code cursorId} (exclusivo).
+     */
+    @Query(PROYECCION + FILTROS + """
+              and (:cursorId is null or v.id < :cursorId)
+            order by v.id desc
+            """)
+    List<VentasVentaResponseDTO> buscarPaginaPorId(@Param("idCliente") Integer idCliente,
+                                                   @Param("idUsuario") Integer idUsuario,
+                                                   @Param("idPedido") Integer idPedido,
+                                                   @Param("desde") LocalDate desde,
+                                                   @Param("hasta") LocalDate hasta,
+                                                   @Param("cursorId") Integer cursorId,
+                                                   Limit limite);
+
+    /**
+     * Página de ventas ordenada por fecha de pago e ID descendentes, a partir del cursor (exclusivo).
+     */
+    @Query(PROYECCION + FILTROS + """
+              and (:cursorFecha is null
+                   or v.fechaPago < :cursorFecha
+                   or (v.fechaPago = :cursorFecha and v.id < :cursorId))
+            order by v.fechaPago desc, v.id desc
+            """)
+    List<VentasVentaResponseDTO> buscarPaginaPorFecha(@Param("idCliente") Integer idCliente,
+                                                      @Param("idUsuario") Integer idUsuario,
+                                                      @Param("idPedido") Integer idPedido,
+                                                      @Param("desde") LocalDate desde,
+                                                      @Param("hasta") LocalDate hasta,
+                                                      @Param("cursorFecha") LocalDate cursorFecha,
+                                                      @Param("cursorId") Integer cursorId,
+                                                      Limit limite);
+
+    /**
+     * Recorre todas las ventas que cumplen los filtros, leyendo del servidor por bloques.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(PROYECCION + FILTROS + "order by v.id")
+    Stream<VentasVentaResponseDTO> recorrer(@Param("idCliente") Integer idCliente,
+                                            @Param("idUsuario") Integer idUsuario,
+                                            @Param("idPedido") Integer idPedido,
+                                            @Param("desde") LocalDate desde,
+                                            @Param("hasta") LocalDate hasta);
 }
@@ -0,0 +1,47 @@
+package com.femt.inventory_management.security;
+
+import com.femt.inventory_management.dto.response.UsuarioSesionResponseDTO;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.List;
+
+/**
+ * Autenticación de una petición con token Bearer de Auth0: el JWT validado y el usuario
+ * interno asociado a su 'sub', con el rol interno como autoridad ({@code ROLE_<rol>}).
+ * <>
+ * {@link #getName()} devuelve el 'sub', igual que la autenticación por sesión OIDC, de modo
+ * que los controladores obtienen el auth0Id de la misma forma en ambos modos.
+ */
+public class AutenticacionJwt extends AbstractAuthenticationToken {
+
+    private final Jwt jwt;
+    private final UsuarioSesionResponseDTO usuario;
+
+    public AutenticacionJwt(Jwt jwt, UsuarioSesionResponseDTO usuario) {
+        super(usuario.rol() == null ? List.of() : List.of(new SimpleGrantedAuthority("ROLE_" + usuario.rol())));
+        this.jwt = jwt;
+        this.usuario = usuario;
+        setAuthenticated(true);
+    }
+
+    @Override
+    public Object getCredentials() {
+        return jwt;
+    }
+
+    @Override
+    public UsuarioSesionResponseDTO getPrincipal() {
+        return usuario;
+    }
+
+    @Override
+    public String getName() {
+        return jwt.getSubject();
+    }
+
+    public Jwt getJwt() {
+        return jwt;
+    }
+}
@@ -0,0 +1,100 @@
+package com.femt.inventory_management.security;
+
+import com.femt.inventory_management.dto.response.UsuarioSesionResponseDTO;
+import com.femt.inventory_management.service.seguridad.UsuarioSesionService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * =====================================================
+ * Filtro de Autenticación por Token Bearer (JWT Auth0)
+ * =====================================================
+ * <>
+ *     Valida el token de la cabecera {@code Authorization: Bearer ...} con el
+ *     {@link JwtDecoder} (firma contra el JWK set en caché, emisor, audiencia y
+ *     vigencia) y resuelve el usuario interno del 'sub' mediante
+ *     {@link UsuarioSesionService}, que lo sirve desde caché. No crea sesión HTTP.
+ *     <>
+ *         Respuestas:
+ *         - Sin cabecera Bearer: continúa sin autenticar (la regla de acceso responde 401)
+ *         - Token inválido o vencido: 401 con {@code WWW-Authenticate: Bearer error="invalid_token"}
+ *         - Usuario interno inactivo: 403 (cuenta pendiente de aprobación)
+ *     <>
+ * El contexto se guarda también en la petición para que los despachos asíncronos
+ * (respuestas en streaming) conserven la autenticación.
+ */
+@Slf4j
+public class JwtAutenticacionFilter extends OncePerRequestFilter {
+
+    private static final String PREFIJO = "Bearer ";
+
+    private final JwtDecoder jwtDecoder;
+    private final UsuarioSesionService usuarioSesionService;
+    private final SecurityContextRepository securityContextRepository;
+
+    public JwtAutenticacionFilter(JwtDecoder jwtDecoder,
+                                  UsuarioSesionService usuarioSesionService,
+                                  SecurityContextRepository securityContextRepository) {
+        this.jwtDecoder = jwtDecoder;
+        this.usuarioSesionService = usuarioSesionService;
+        this.securityContextRepository = securityContextRepository;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String cabecera = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (cabecera == null || !cabecera.regionMatches(true, 0, PREFIJO, 0, PREFIJO.length())) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Jwt jwt;
+        try {
+            jwt = jwtDecoder.decode(cabecera.substring(PREFIJO.length()).trim());
+        } catch (JwtException e) {
+            log.debug("Token Bearer rechazado: {}", e.getMessage());
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+            responder(response, HttpStatus.UNAUTHORIZED, "Token inválido o vencido");
+            return;
+        }
+
+        UsuarioSesionResponseDTO usuario = usuarioSesionService.buscarOCrear(jwt.getSubject());
+        if (!usuario.activo()) {
+            responder(response, HttpStatus.FORBIDDEN, "Su cuenta está pendiente de aprobación por un administrador.");
+            return;
+        }
+
+        SecurityContext contexto = SecurityContextHolder.createEmptyContext();
+        contexto.setAuthentication(new AutenticacionJwt(jwt, usuario));
+        SecurityContextHolder.setContext(contexto);
+        securityContextRepository.saveContext(contexto, request, response);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    static void responder(HttpServletResponse response, HttpStatus estado, String mensaje) throws IOException {
+        response.setStatus(estado.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write("{\"error\":\"" + mensaje + "\"}");
+    }
+}
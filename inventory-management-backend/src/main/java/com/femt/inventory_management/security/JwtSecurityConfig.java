@@ -0,0 +1,102 @@
+package com.femt.inventory_management.security;
+
+import com.femt.inventory_management.service.seguridad.UsuarioSesionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.*;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+
+import java.util.List;
+
+/**
+ * ===============================================
+ * Config de Seguridad Sin Estado para /api/** (JWT)
+ * ===============================================
+ * <>
+ *     Se activa con {@code app.seguridad.modo=jwt}. En ese modo las rutas
+ *     {@code /api/**} se autentican únicamente con tokens Bearer emitidos por
+ *     Auth0 para la API ({@code app.seguridad.jwt.audiencia}), sin sesión HTTP
+ *     ni CSRF, por lo que varias instancias pueden atender peticiones detrás de
+ *     un balanceador sin afinidad ni replicación de sesiones.
+ *     <>
+ *         - Firma: JWK set de Auth0 ({@code <issuer>.well-known/jwks.json} o
+ *           {@code app.seguridad.jwt.jwk-set-uri}), guardado en caché local y
+ *           vuelto a descargar solo si llega un 'kid' desconocido
+ *         - Validaciones: emisor, audiencia y vigencia del token
+ *         - Roles: del usuario interno ({@code Usuario.rol}), resueltos en caché
+ *           por {@link UsuarioSesionService}
+ *     <>
+ * El resto de rutas (login, logout) sigue en la cadena de {@link SecurityConfig}.
+ *
+ * @author MenesesTech
+ * @version 1.0
+ * @since 2025-11
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.seguridad.modo", havingValue = "jwt")
+public class JwtSecurityConfig {
+
+    @Value("${spring.security.oauth2.client.provider.auth0.issuer-uri}")
+    private String issuer;
+    @Value("${app.seguridad.jwt.audiencia}")
+    private String audiencia;
+    @Value("${app.seguridad.jwt.jwk-set-uri:}")
+    private String jwkSetUri;
+
+    /**
+     * Decodificador de tokens de Auth0 con el JWK set en caché y las validaciones de emisor y audiencia.
+     */
+    @Bean
+    public JwtDecoder jwtDecoder() {
+        String uri = jwkSetUri.isBlank()
+                ? issuer + (issuer.endsWith("/") ? "" : "/") + ".well-known/jwks.json"
+                : jwkSetUri;
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withJwkSetUri(uri)
+                .cache(new ConcurrentMapCache("auth0-jwks"))
+                .build();
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                JwtValidators.createDefaultWithIssuer(issuer),
+                new JwtClaimValidator<List<String>>(JwtClaimNames.AUD, aud -> aud != null && aud.contains(audiencia))
+        ));
+        return decoder;
+    }
+
+    /**
+     * Cadena de filtros para {@code /api/**}: sin estado y autenticada solo por token Bearer.
+     * Tiene prioridad sobre la cadena de login de {@link SecurityConfig}.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain apiJwt(HttpSecurity http, JwtDecoder jwtDecoder, UsuarioSesionService usuarioSesionService) throws Exception {
+        RequestAttributeSecurityContextRepository repositorio = new RequestAttributeSecurityContextRepository();
+        http
+                .securityMatcher("/api/**")
+                .cors(Customizer.withDefaults())
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .securityContext(context -> context.securityContextRepository(repositorio))
+                .requestCache(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> auth.anyRequest().authenticated())
+                .exceptionHandling(errores -> errores.authenticationEntryPoint((request, response, exception) -> {
+                    response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+                    JwtAutenticacionFilter.responder(response, HttpStatus.UNAUTHORIZED, "Se requiere un token Bearer");
+                }))
+                .addFilterBefore(new JwtAutenticacionFilter(jwtDecoder, usuarioSesionService, repositorio),
+                        UsernamePasswordAuthenticationFilter.class);
+        return http.build();
+    }
+}
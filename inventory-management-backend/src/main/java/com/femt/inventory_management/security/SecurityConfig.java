@@ -3,6 +3,7 @@ package com.femt.inventory_management.security;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -63,7 +64,7 @@ public class SecurityConfig {
      *         Configuración general:
      *         - CORS: Habilitado con la configuración por defecto
      *         - CSRF: protegido mediante cookie (CookieCsrfTokenRepository)
-     *         - Autorización: acceso público solo a la raíz "/", el resto requiere autenticación
+     *         - Autorización: acceso público a la raíz "/" y a las métricas, el resto requiere autenticación
      *         - OAuth2 login: flujo de autenticación OpenID Connect con manejo de errores personalizado
      *         - Logout: Implementa un cierre de sesión coordinado con Auth0
      *     <>
@@ -77,6 +78,8 @@ public class SecurityConfig {
                 .cors(Customizer.withDefaults())
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/").permitAll()
+                        // Métricas: protegidas por token propio (ver MetricasController)
+                        .requestMatchers(HttpMethod.GET, "/actuator/prometheus").permitAll()
                         .anyRequest().authenticated()
                 )
                 .csrf(csrf -> csrf
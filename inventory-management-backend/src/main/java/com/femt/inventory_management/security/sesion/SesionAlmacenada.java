@@ -0,0 +1,146 @@
+package com.femt.inventory_management.security.sesion;
+
+import java.util.*;
+
+/**
+ * Sesión HTTP guardada fuera de la JVM (ver {@link SesionRepositorio}).
+ * <>
+ * Registra qué cambió desde la última vez que se guardó para que el repositorio escriba lo mínimo:
+ * solo la hora de acceso en la mayoría de peticiones, y los atributos únicamente cuando se modifican
+ * con {@link #setAtributo} o {@link #removerAtributo}.
+ */
+public class SesionAlmacenada {
+
+    private String id;
+    private String idGuardado;
+    private final long creada;
+    private long ultimoAcceso;
+    private long ultimoAccesoGuardado;
+    private int maxInactivoSegundos;
+    private final Map<String, Object> atributos;
+    private boolean atributosCambiados;
+    private boolean configuracionCambiada;
+
+    /**
+     * Sesión nueva, todavía no guardada.
+     */
+    public SesionAlmacenada(String id, long ahora, int maxInactivoSegundos) {
+        this.id = id;
+        this.creada = ahora;
+        this.ultimoAcceso = ahora;
+        this.maxInactivoSegundos = maxInactivoSegundos;
+        this.atributos = new HashMap<>();
+        this.atributosCambiados = true;
+    }
+
+    /**
+     * Sesión leída del repositorio.
+     */
+    public SesionAlmacenada(String id, long creada, long ultimoAcceso, int maxInactivoSegundos, Map<String, Object> atributos) {
+        this.id = id;
+        this.idGuardado = id;
+        this.creada = creada;
+        this.ultimoAcceso = ultimoAcceso;
+        this.ultimoAccesoGuardado = ultimoAcceso;
+        this.maxInactivoSegundos = maxInactivoSegundos;
+        this.atributos = new HashMap<>(atributos);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * ID con el que la sesión está guardada; {@code null} si aún no se guardó.
+     */
+    public String getIdGuardado() {
+        return idGuardado;
+    }
+
+    public boolean esNueva() {
+        return idGuardado == null;
+    }
+
+    public long getCreada() {
+        return creada;
+    }
+
+    public long getUltimoAcceso() {
+        return ultimoAcceso;
+    }
+
+    public int getMaxInactivoSegundos() {
+        return maxInactivoSegundos;
+    }
+
+    /**
+     * Instante (epoch ms) a partir del cual la sesión está vencida; sin vencimiento si el máximo es negativo.
+     */
+    public long getExpira() {
+        return maxInactivoSegundos < 0 ? Long.MAX_VALUE : ultimoAcceso + maxInactivoSegundos * 1000L;
+    }
+
+    public boolean expirada(long ahora) {
+        return ahora >= getExpira();
+    }
+
+    public Map<String, Object> getAtributos() {
+        return Collections.unmodifiableMap(atributos);
+    }
+
+    public Object getAtributo(String nombre) {
+        return atributos.get(nombre);
+    }
+
+    public void setAtributo(String nombre, Object valor) {
+        if (valor == null) {
+            removerAtributo(nombre);
+            return;
+        }
+        atributos.put(nombre, valor);
+        atributosCambiados = true;
+    }
+
+    public void removerAtributo(String nombre) {
+        if (atributos.remove(nombre) != null) {
+            atributosCambiados = true;
+        }
+    }
+
+    public void setMaxInactivoSegundos(int maxInactivoSegundos) {
+        this.maxInactivoSegundos = maxInactivoSegundos;
+        this.configuracionCambiada = true;
+    }
+
+    public void cambiarId(String nuevoId) {
+        this.id = nuevoId;
+        this.configuracionCambiada = true;
+    }
+
+    public void acceder(long ahora) {
+        this.ultimoAcceso = ahora;
+    }
+
+    public boolean atributosCambiados() {
+        return atributosCambiados;
+    }
+
+    /**
+     * @param resolucionMs tiempo mínimo entre dos escrituras que solo actualizan la hora de acceso
+     * @return {@code true} si hay algo que guardar
+     */
+    public boolean pendiente(long resolucionMs) {
+        return esNueva() || atributosCambiados || configuracionCambiada
+                || ultimoAcceso - ultimoAccesoGuardado >= resolucionMs;
+    }
+
+    /**
+     * Marca el estado actual como guardado. La llama el repositorio después de escribir.
+     */
+    public void marcarGuardada() {
+        idGuardado = id;
+        ultimoAccesoGuardado = ultimoAcceso;
+        atributosCambiados = false;
+        configuracionCambiada = false;
+    }
+}
@@ -0,0 +1,46 @@
+package com.femt.inventory_management.security.sesion;
+
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * ================================================
+ * Config de Sesiones Compartidas
+ * ================================================
+ * <>
+ *     Con {@code app.seguridad.sesiones.almacen=jdbc} las sesiones HTTP se guardan en la
+ *     tabla {@code seguridad_sesion} ({@link SesionRepositorioJdbc}) en lugar de la memoria
+ *     de la JVM: los reinicios no cierran la sesión de los usuarios y varias instancias
+ *     pueden compartirlas sin afinidad en el balanceador ni un servicio de caché externo.
+ *     Con el valor por defecto ({@code memoria}) se usan las sesiones del contenedor.
+ *     <>
+ * El filtro se registra antes de la cadena de Spring Security, que sigue usando
+ * {@code HttpSession} sin cambios.
+ *
+ * @author MenesesTech
+ * @version 1.0
+ * @since 2025-11
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.seguridad.sesiones.almacen", havingValue = "jdbc")
+public class SesionConfig {
+
+    @Bean
+    public FilterRegistrationBean<SesionRepositorioFilter> sesionRepositorioFilter(
+            SesionRepositorio repositorio,
+            @Value("${app.seguridad.sesiones.cookie:SESION}") String nombreCookie,
+            @Value("${server.servlet.session.timeout:30m}") Duration maxInactivo) {
+        FilterRegistrationBean<SesionRepositorioFilter> registro =
+                new FilterRegistrationBean<>(new SesionRepositorioFilter(repositorio, nombreCookie, maxInactivo));
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE + 50);
+        registro.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC, DispatcherType.ERROR);
+        return registro;
+    }
+}
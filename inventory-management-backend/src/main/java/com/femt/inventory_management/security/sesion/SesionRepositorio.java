@@ -0,0 +1,22 @@
+package com.femt.inventory_management.security.sesion;
+
+import java.util.Optional;
+
+/**
+ * Almacén de sesiones HTTP compartido entre instancias de la aplicación.
+ * Lo usa {@link SesionRepositorioFilter} en lugar de las sesiones en memoria del contenedor.
+ */
+public interface SesionRepositorio {
+
+    /**
+     * @return la sesión guardada, o vacío si no existe, está vencida o no se puede leer
+     */
+    Optional<SesionAlmacenada> buscar(String id);
+
+    /**
+     * Inserta la sesión o escribe lo que cambió desde la última vez (ID, hora de acceso, atributos).
+     */
+    void guardar(SesionAlmacenada sesion);
+
+    void eliminar(String id);
+}
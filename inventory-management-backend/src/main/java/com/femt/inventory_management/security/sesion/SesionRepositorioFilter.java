@@ -0,0 +1,350 @@
+package com.femt.inventory_management.security.sesion;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.LongSupplier;
+
+/**
+ * ================================================
+ * Filtro de Sesiones Compartidas (SesionRepositorio)
+ * ================================================
+ * <>
+ *     Reemplaza la sesión en memoria del contenedor por una guardada en un
+ *     {@link SesionRepositorio}, de modo que el login OIDC ({@code oauth2Login})
+ *     sobrevive a reinicios y cualquier instancia puede atender a cualquier usuario.
+ *     <>
+ *         Funcionamiento:
+ *         - La sesión se identifica con la cookie {@code app.seguridad.sesiones.cookie}
+ *           y se lee del repositorio la primera vez que alguien llama a {@code getSession}
+ *         - Los cambios se guardan al terminar la petición, o antes si la respuesta se
+ *           confirma con una redirección o un error (p. ej. la redirección a Auth0)
+ *         - {@code changeSessionId} (protección contra fijación de sesión de Spring Security)
+ *           cambia el ID guardado y reescribe la cookie
+ *     <>
+ * Debe ejecutarse antes que la cadena de Spring Security y también en los despachos
+ * asíncronos y de error, donde reutiliza la sesión ya leída.
+ */
+public class SesionRepositorioFilter extends OncePerRequestFilter {
+
+    static final String ATRIBUTO_SESION = SesionRepositorioFilter.class.getName() + ".SESION";
+
+    private final SesionRepositorio repositorio;
+    private final String nombreCookie;
+    private final int maxInactivoSegundos;
+    private final long resolucionAccesoMs;
+    private final LongSupplier reloj;
+
+    public SesionRepositorioFilter(SesionRepositorio repositorio, String nombreCookie, Duration maxInactivo) {
+        this(repositorio, nombreCookie, maxInactivo, System::currentTimeMillis);
+    }
+
+    SesionRepositorioFilter(SesionRepositorio repositorio, String nombreCookie, Duration maxInactivo, LongSupplier reloj) {
+        this.repositorio = repositorio;
+        this.nombreCookie = nombreCookie;
+        this.maxInactivoSegundos = (int) maxInactivo.toSeconds();
+        // La hora de acceso se reescribe como mucho una vez por minuto (o por 1/10 del tiempo máximo)
+        this.resolucionAccesoMs = Math.min(60_000L, Math.max(0, maxInactivo.toMillis() / 10));
+        this.reloj = reloj;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SolicitudConSesion solicitud = new SolicitudConSesion(request, response);
+        RespuestaConSesion respuesta = new RespuestaConSesion(response, solicitud);
+        try {
+            chain.doFilter(solicitud, respuesta);
+        } finally {
+            solicitud.confirmar();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected boolean shouldNotFilterErrorDispatch() {
+        return false;
+    }
+
+    private void escribirCookie(HttpServletRequest request, HttpServletResponse response, String valor, boolean eliminar) {
+        ResponseCookie.ResponseCookieBuilder cookie = ResponseCookie.from(nombreCookie, eliminar ? "" : valor)
+                .path(request.getContextPath().isEmpty() ? "/" : request.getContextPath())
+                .httpOnly(true)
+                .secure(request.isSecure())
+                .sameSite("Lax");
+        if (eliminar) {
+            cookie.maxAge(Duration.ZERO);
+        }
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.build().toString());
+    }
+
+    /**
+     * Petición cuya sesión sale del repositorio en lugar del contenedor.
+     */
+    private final class SolicitudConSesion extends HttpServletRequestWrapper {
+
+        private final HttpServletResponse response;
+        private SesionHttp actual;
+        private boolean solicitadaLeida;
+        private boolean solicitadaValida;
+
+        SolicitudConSesion(HttpServletRequest request, HttpServletResponse response) {
+            super(request);
+            this.response = response;
+        }
+
+        @Override
+        public HttpSession getSession(boolean crear) {
+            if (actual != null && !actual.invalidada) {
+                return actual;
+            }
+            SesionAlmacenada sesion = (SesionAlmacenada) getAttribute(ATRIBUTO_SESION);
+            if (sesion == null && !solicitadaLeida) {
+                sesion = leerSolicitada();
+            }
+            if (sesion != null) {
+                actual = new SesionHttp(sesion, this, false);
+                return actual;
+            }
+            if (!crear) {
+                return null;
+            }
+            long ahora = reloj.getAsLong();
+            sesion = new SesionAlmacenada(UUID.randomUUID().toString(), ahora, maxInactivoSegundos);
+            setAttribute(ATRIBUTO_SESION, sesion);
+            escribirCookie(this, response, sesion.getId(), false);
+            actual = new SesionHttp(sesion, this, true);
+            return actual;
+        }
+
+        @Override
+        public HttpSession getSession() {
+            return getSession(true);
+        }
+
+        @Override
+        public String changeSessionId() {
+            HttpSession sesion = getSession(false);
+            if (sesion == null) {
+                throw new IllegalStateException("No hay una sesión asociada a la petición");
+            }
+            String nuevoId = UUID.randomUUID().toString();
+            actual.sesion.cambiarId(nuevoId);
+            escribirCookie(this, response, nuevoId, false);
+            return nuevoId;
+        }
+
+        @Override
+        public String getRequestedSessionId() {
+            Cookie[] cookies = getCookies();
+            if (cookies == null) {
+                return null;
+            }
+            for (Cookie cookie : cookies) {
+                if (nombreCookie.equals(cookie.getName()) && !cookie.getValue().isEmpty() && cookie.getValue().length() <= 64) {
+                    return cookie.getValue();
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean isRequestedSessionIdValid() {
+            if (!solicitadaLeida && getAttribute(ATRIBUTO_SESION) == null) {
+                leerSolicitada();
+            }
+            return solicitadaValida;
+        }
+
+        @Override
+        public boolean isRequestedSessionIdFromCookie() {
+            return getRequestedSessionId() != null;
+        }
+
+        @Override
+        public boolean isRequestedSessionIdFromURL() {
+            return false;
+        }
+
+        /**
+         * Guarda los cambios pendientes de la sesión. Se puede llamar más de una vez por petición.
+         */
+        void confirmar() {
+            if (actual == null || actual.invalidada) {
+                return;
+            }
+            SesionAlmacenada sesion = actual.sesion;
+            if (sesion.pendiente(resolucionAccesoMs)) {
+                repositorio.guardar(sesion);
+            }
+        }
+
+        private SesionAlmacenada leerSolicitada() {
+            solicitadaLeida = true;
+            String id = getRequestedSessionId();
+            if (id == null) {
+                return null;
+            }
+            Optional<SesionAlmacenada> guardada = repositorio.buscar(id);
+            if (guardada.isEmpty()) {
+                return null;
+            }
+            SesionAlmacenada sesion = guardada.get();
+            sesion.acceder(reloj.getAsLong());
+            solicitadaValida = true;
+            setAttribute(ATRIBUTO_SESION, sesion);
+            return sesion;
+        }
+
+        private void invalidar(SesionAlmacenada sesion) {
+            removeAttribute(ATRIBUTO_SESION);
+            if (!sesion.esNueva()) {
+                repositorio.eliminar(sesion.getIdGuardado());
+            }
+            solicitadaValida = false;
+            escribirCookie(this, response, null, true);
+        }
+    }
+
+    /**
+     * Respuesta que guarda la sesión antes de confirmarse con una redirección o un error,
+     * para que la siguiente petición del navegador ya la encuentre en el repositorio.
+     */
+    private static final class RespuestaConSesion extends HttpServletResponseWrapper {
+
+        private final SolicitudConSesion solicitud;
+
+        RespuestaConSesion(HttpServletResponse response, SolicitudConSesion solicitud) {
+            super(response);
+            this.solicitud = solicitud;
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            solicitud.confirmar();
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            solicitud.confirmar();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            solicitud.confirmar();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            solicitud.confirmar();
+            super.flushBuffer();
+        }
+    }
+
+    /**
+     * Vista {@link HttpSession} de una {@link SesionAlmacenada}.
+     */
+    private static final class SesionHttp implements HttpSession {
+
+        private final SesionAlmacenada sesion;
+        private final SolicitudConSesion solicitud;
+        private final boolean nueva;
+        private boolean invalidada;
+
+        SesionHttp(SesionAlmacenada sesion, SolicitudConSesion solicitud, boolean nueva) {
+            this.sesion = sesion;
+            this.solicitud = solicitud;
+            this.nueva = nueva;
+        }
+
+        @Override
+        public long getCreationTime() {
+            validar();
+            return sesion.getCreada();
+        }
+
+        @Override
+        public String getId() {
+            return sesion.getId();
+        }
+
+        @Override
+        public long getLastAccessedTime() {
+            validar();
+            return sesion.getUltimoAcceso();
+        }
+
+        @Override
+        public ServletContext getServletContext() {
+            return solicitud.getServletContext();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(int interval) {
+            sesion.setMaxInactivoSegundos(interval);
+        }
+
+        @Override
+        public int getMaxInactiveInterval() {
+            return sesion.getMaxInactivoSegundos();
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            validar();
+            return sesion.getAtributo(name);
+        }
+
+        @Override
+        public Enumeration<String> getAttributeNames() {
+            validar();
+            return Collections.enumeration(new ArrayList<>(sesion.getAtributos().keySet()));
+        }
+
+        @Override
+        public void setAttribute(String name, Object value) {
+            validar();
+            sesion.setAtributo(name, value);
+        }
+
+        @Override
+        public void removeAttribute(String name) {
+            validar();
+            sesion.removerAtributo(name);
+        }
+
+        @Override
+        public void invalidate() {
+            validar();
+            invalidada = true;
+            solicitud.invalidar(sesion);
+        }
+
+        @Override
+        public boolean isNew() {
+            validar();
+            return nueva;
+        }
+
+        private void validar() {
+            if (invalidada) {
+                throw new IllegalStateException("La sesión " + sesion.getId() + " fue invalidada");
+            }
+        }
+    }
+}
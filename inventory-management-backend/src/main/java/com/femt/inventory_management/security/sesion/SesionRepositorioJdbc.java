@@ -0,0 +1,176 @@
+package com.femt.inventory_management.security.sesion;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Sesiones guardadas en la tabla {@code seguridad_sesion} de la base de datos de la aplicación
+ * (MySQL en producción, H2 en pruebas), una fila por sesión con los atributos en forma compacta
+ * ({@link SesionSerializador}).
+ * <>
+ * La mayoría de peticiones solo actualiza las columnas de acceso y vencimiento; el bloque de
+ * atributos se reescribe únicamente cuando cambian. Las sesiones vencidas se descartan al leerlas
+ * y {@link #limpiarExpiradas()} las borra periódicamente por lotes, para no bloquear la tabla
+ * con un DELETE grande.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.seguridad.sesiones.almacen", havingValue = "jdbc")
+public class SesionRepositorioJdbc implements SesionRepositorio {
+
+    private static final String TABLA = "seguridad_sesion";
+    private static final String SQL_BUSCAR = """
+            select id, creada, ultimo_acceso, max_inactivo, datos
+            from seguridad_sesion
+            where id = ?
+            """;
+    private static final String SQL_INSERTAR = """
+            insert into seguridad_sesion (id, creada, ultimo_acceso, max_inactivo, expira, datos)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+    private static final String SQL_ACTUALIZAR = """
+            update seguridad_sesion
+            set id = ?, ultimo_acceso = ?, max_inactivo = ?, expira = ?
+            where id = ?
+            """;
+    private static final String SQL_ACTUALIZAR_DATOS = """
+            update seguridad_sesion
+            set id = ?, ultimo_acceso = ?, max_inactivo = ?, expira = ?, datos = ?
+            where id = ?
+            """;
+    private static final String SQL_ELIMINAR = "delete from seguridad_sesion where id = ?";
+    private static final String SQL_ELIMINAR_EXPIRADAS = "delete from seguridad_sesion where expira < ? limit ?";
+    private static final List<String> DDL = List.of("""
+            create table seguridad_sesion (
+                id char(36) primary key not null,
+                creada bigint not null,
+                ultimo_acceso bigint not null,
+                max_inactivo int not null,
+                expira bigint not null,
+                datos mediumblob
+            )""",
+            "create index idx_seguridad_sesion_expira on seguridad_sesion (expira)");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int tamanioLote;
+    private final boolean crearTabla;
+
+    public SesionRepositorioJdbc(JdbcTemplate jdbcTemplate,
+                                 @Value("${app.seguridad.sesiones.tamanio-lote-limpieza:1000}") int tamanioLote,
+                                 @Value("${app.seguridad.sesiones.crear-tabla:false}") boolean crearTabla) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tamanioLote = tamanioLote;
+        this.crearTabla = crearTabla;
+    }
+
+    /**
+     * Crea la tabla si no existe cuando {@code app.seguridad.sesiones.crear-tabla=true}
+     * (bases embebidas de desarrollo y pruebas). En MySQL la tabla viene del script de la base de datos.
+     */
+    @PostConstruct
+    public void inicializar() {
+        if (!crearTabla || existeTabla()) {
+            return;
+        }
+        DDL.forEach(jdbcTemplate::execute);
+        log.info("Tabla {} creada", TABLA);
+    }
+
+    @Override
+    public Optional<SesionAlmacenada> buscar(String id) {
+        List<SesionAlmacenada> filas;
+        try {
+            filas = jdbcTemplate.query(SQL_BUSCAR, (rs, fila) -> leer(rs), id);
+        } catch (IllegalStateException e) {
+            // Atributos ilegibles (p. ej. una clase que cambió entre versiones): la sesión se descarta
+            log.warn("Sesión {} descartada: {}", id, e.getMessage());
+            eliminar(id);
+            return Optional.empty();
+        }
+        if (filas.isEmpty()) {
+            return Optional.empty();
+        }
+        SesionAlmacenada sesion = filas.getFirst();
+        if (sesion.expirada(System.currentTimeMillis())) {
+            eliminar(id);
+            return Optional.empty();
+        }
+        return Optional.of(sesion);
+    }
+
+    @Override
+    public void guardar(SesionAlmacenada sesion) {
+        if (sesion.esNueva()) {
+            try {
+                jdbcTemplate.update(SQL_INSERTAR, sesion.getId(), sesion.getCreada(), sesion.getUltimoAcceso(),
+                        sesion.getMaxInactivoSegundos(), sesion.getExpira(), SesionSerializador.serializar(sesion.getAtributos()));
+            } catch (DuplicateKeyException e) {
+                throw new IllegalStateException("Ya existe una sesión con el ID generado", e);
+            }
+        } else if (sesion.atributosCambiados()) {
+            jdbcTemplate.update(SQL_ACTUALIZAR_DATOS, sesion.getId(), sesion.getUltimoAcceso(), sesion.getMaxInactivoSegundos(),
+                    sesion.getExpira(), SesionSerializador.serializar(sesion.getAtributos()), sesion.getIdGuardado());
+        } else {
+            jdbcTemplate.update(SQL_ACTUALIZAR, sesion.getId(), sesion.getUltimoAcceso(), sesion.getMaxInactivoSegundos(),
+                    sesion.getExpira(), sesion.getIdGuardado());
+        }
+        sesion.marcarGuardada();
+    }
+
+    @Override
+    public void eliminar(String id) {
+        jdbcTemplate.update(SQL_ELIMINAR, id);
+    }
+
+    /**
+     * Borra las sesiones vencidas en lotes de {@code app.seguridad.sesiones.tamanio-lote-limpieza} filas.
+     * Puede ejecutarse a la vez en varias instancias.
+     */
+    @Scheduled(fixedDelayString = "${app.seguridad.sesiones.intervalo-limpieza-ms:60000}",
+            initialDelayString = "${app.seguridad.sesiones.intervalo-limpieza-ms:60000}")
+    public void limpiarExpiradas() {
+        long ahora = System.currentTimeMillis();
+        int total = 0;
+        int borradas;
+        do {
+            borradas = jdbcTemplate.update(SQL_ELIMINAR_EXPIRADAS, ahora, tamanioLote);
+            total += borradas;
+        } while (borradas == tamanioLote);
+        if (total > 0) {
+            log.info("Sesiones vencidas eliminadas: {}", total);
+        }
+    }
+
+    private static SesionAlmacenada leer(ResultSet rs) throws java.sql.SQLException {
+        return new SesionAlmacenada(rs.getString("id"), rs.getLong("creada"), rs.getLong("ultimo_acceso"),
+                rs.getInt("max_inactivo"), SesionSerializador.deserializar(rs.getBytes("datos")));
+    }
+
+    private boolean existeTabla() {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(), metadatos -> {
+                for (String nombre : List.of(TABLA, TABLA.toUpperCase())) {
+                    try (ResultSet tablas = metadatos.getTables(null, null, nombre, null)) {
+                        if (tablas.next()) {
+                            return true;
+                        }
+                    }
+                }
+                return false;
+            });
+        } catch (Exception e) {
+            throw new IllegalStateException("No se pudo comprobar la tabla " + TABLA, e);
+        }
+    }
+}
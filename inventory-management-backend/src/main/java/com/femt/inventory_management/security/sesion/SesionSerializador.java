@@ -0,0 +1,73 @@
+package com.femt.inventory_management.security.sesion;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Forma compacta de los atributos de una sesión: un único bloque por sesión con
+ * los pares nombre/valor serializados y comprimidos con Deflate.
+ * <>
+ * La sesión de un usuario autenticado con OIDC (contexto de seguridad con el id_token y
+ * el cliente autorizado) ocupa unos pocos KB serializada y se reduce a menos de la mitad
+ * comprimida. Los atributos que no son serializables se omiten con una advertencia.
+ */
+@Slf4j
+final class SesionSerializador {
+
+    private static final int VERSION = 1;
+
+    private SesionSerializador() {
+    }
+
+    static byte[] serializar(Map<String, Object> atributos) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (ObjectOutputStream salida = new ObjectOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            Map<String, Object> serializables = new HashMap<>();
+            atributos.forEach((nombre, valor) -> {
+                if (valor instanceof Serializable) {
+                    serializables.put(nombre, valor);
+                } else {
+                    log.warn("Atributo de sesión '{}' no serializable ({}): no se guarda", nombre, valor.getClass().getName());
+                }
+            });
+            salida.writeByte(VERSION);
+            salida.writeInt(serializables.size());
+            for (Map.Entry<String, Object> atributo : serializables.entrySet()) {
+                salida.writeUTF(atributo.getKey());
+                salida.writeObject(atributo.getValue());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("No se pudieron serializar los atributos de la sesión", e);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    static Map<String, Object> deserializar(byte[] datos) {
+        Map<String, Object> atributos = new HashMap<>();
+        if (datos == null || datos.length == 0) {
+            return atributos;
+        }
+        try (ObjectInputStream entrada = new ObjectInputStream(new InflaterInputStream(new ByteArrayInputStream(datos)))) {
+            int version = entrada.readByte();
+            if (version != VERSION) {
+                throw new IllegalStateException("Versión de sesión no soportada: " + version);
+            }
+            int cantidad = entrada.readInt();
+            for (int i = 0; i < cantidad; i++) {
+                atributos.put(entrada.readUTF(), entrada.readObject());
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("No se pudieron leer los atributos de la sesión", e);
+        }
+        return atributos;
+    }
+}
@@ -0,0 +1,235 @@
+package com.femt.inventory_management.service.dimension;
+
+import com.femt.inventory_management.models.dimension.*;
+import com.femt.inventory_management.repository.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Catálogo en memoria de todas las dimensiones del sistema (Dim*).
+ * <>
+ * Las tablas de dimensiones contienen pocas filas y casi nunca cambian, por lo que
+ * se cargan una sola vez al iniciar la aplicación y se sirven desde memoria,
+ * indexadas por tipo de dimensión, ID y nombre.
+ * <>
+ * Cada tipo de dimensión se guarda como una instantánea inmutable que se reemplaza
+ * completa ante cualquier escritura (copy-on-write), de modo que las lecturas nunca
+ * se bloquean. Los servicios de dimensión mantienen el catálogo actualizado llamando
+ * a {@link #registrar} y {@link #remover} después de persistir en la base de datos.
+ * <>
+ * Ojo: las entidades devueltas son compartidas y están desacopladas del contexto de
+ * persistencia; se pueden usar como referencia en asociaciones, pero no deben modificarse.
+ *
+ * @author MenesesTech
+ * @version 1.0
+ * @since 2025-11-20
+ */
+@Slf4j
+@Component
+public class DimensionCatalogo {
+
+    private final Map<Class<? extends DimBase>, JpaRepository<? extends DimBase, Integer>> repositorios;
+    private final Map<Class<? extends DimBase>, Instantanea<? extends DimBase>> instantaneas = new ConcurrentHashMap<>();
+
+    public DimensionCatalogo(DimCategoriaRepository categoriaRepo,
+                             DimColorRepository colorRepo,
+                             DimColumnaRepository columnaRepo,
+                             DimFilaRepository filaRepo,
+                             DimModeloRepository modeloRepo,
+                             DimTallaRepository tallaRepo,
+                             DimTipoComponenteRepository tipoRepo) {
+        this.repositorios = Map.of(
+                DimCategoria.class, categoriaRepo,
+                DimColor.class, colorRepo,
+                DimColumna.class, columnaRepo,
+                DimFila.class, filaRepo,
+                DimModelo.class, modeloRepo,
+                DimTalla.class, tallaRepo,
+                DimTipoComponente.class, tipoRepo
+        );
+    }
+
+    /**
+     * Carga todas las dimensiones al iniciar la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargarTodo() {
+        repositorios.keySet().forEach(this::recargar);
+        log.info("Catálogo de dimensiones cargado: {} tipos", instantaneas.size());
+    }
+
+    /**
+     * Busca una dimensión por su ID.
+     *
+     * @param tipo clase de la dimensión (ej. {@link DimColor}).
+     * @param id   identificador de la dimensión.
+     * @return la dimensión si existe en el catálogo.
+     */
+    public <T extends DimBase> Optional<T> buscarPorId(Class<T> tipo, Integer id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(instantanea(tipo).porId().get(id));
+    }
+
+    /**
+     * Resuelve un conjunto de IDs de una misma dimensión.
+     * Los IDs que no están en memoria se consultan con un único {@code findAllById}
+     * (por ejemplo, dimensiones creadas desde otra instancia) y se registran en el catálogo.
+     *
+     * @param tipo clase de la dimensión.
+     * @param ids  identificadores a resolver (los nulos se ignoran).
+     * @return mapa ID → dimensión con los IDs encontrados; los inexistentes no aparecen.
+     */
+    public <T extends DimBase> Map<Integer, T> resolver(Class<T> tipo, Collection<Integer> ids) {
+        Map<Integer, T> porId = instantanea(tipo).porId();
+        Map<Integer, T> resueltas = new HashMap<>();
+        Set<Integer> faltantes = new HashSet<>();
+
+        for (Integer id : ids) {
+            if (id == null) {
+                continue;
+            }
+            T dimension = porId.get(id);
+            if (dimension != null) {
+                resueltas.put(id, dimension);
+            } else {
+                faltantes.add(id);
+            }
+        }
+
+        if (!faltantes.isEmpty()) {
+            List<T> leidas = repositorio(tipo).findAllById(faltantes);
+            if (!leidas.isEmpty()) {
+                leidas.forEach(d -> resueltas.put(d.getId(), d));
+                registrar(tipo, leidas);
+            }
+        }
+        return resueltas;
+    }
+
+    /**
+     * Busca una dimensión por su nombre exacto.
+     *
+     * @param tipo   clase de la dimensión.
+     * @param nombre nombre de la dimensión.
+     * @return la dimensión si existe en el catálogo.
+     */
+    public <T extends DimBase> Optional<T> buscarPorNombre(Class<T> tipo, String nombre) {
+        if (nombre == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(instantanea(tipo).porNombre().get(nombre));
+    }
+
+    /**
+     * Lista todas las dimensiones de un tipo en orden ascendente por ID.
+     *
+     * @param tipo clase de la dimensión.
+     * @return lista inmutable de dimensiones.
+     */
+    public <T extends DimBase> List<T> listar(Class<T> tipo) {
+        return instantanea(tipo).ordenadas();
+    }
+
+    /**
+     * Registra (o reemplaza) dimensiones recién persistidas en el catálogo.
+     *
+     * @param tipo        clase de la dimensión.
+     * @param dimensiones entidades ya guardadas en la base de datos (con ID asignado).
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends DimBase> void registrar(Class<T> tipo, Collection<? extends T> dimensiones) {
+        instantanea(tipo);
+        instantaneas.computeIfPresent(tipo, (k, actual) -> ((Instantanea<T>) actual).con(dimensiones));
+        log.debug("Catálogo {}: {} dimensiones registradas", tipo.getSimpleName(), dimensiones.size());
+    }
+
+    /**
+     * Elimina una dimensión del catálogo.
+     *
+     * @param tipo clase de la dimensión.
+     * @param id   identificador de la dimensión eliminada.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends DimBase> void remover(Class<T> tipo, Integer id) {
+        instantanea(tipo);
+        instantaneas.computeIfPresent(tipo, (k, actual) -> ((Instantanea<T>) actual).sin(id));
+        log.debug("Catálogo {}: dimensión {} removida", tipo.getSimpleName(), id);
+    }
+
+    /**
+     * Vuelve a leer desde la base de datos todas las dimensiones de un tipo.
+     *
+     * @param tipo clase de la dimensión.
+     */
+    public <T extends DimBase> void recargar(Class<T> tipo) {
+        instantaneas.put(tipo, leer(tipo));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends DimBase> Instantanea<T> instantanea(Class<T> tipo) {
+        Instantanea<T> actual = (Instantanea<T>) instantaneas.get(tipo);
+        if (actual == null) {
+            Instantanea<T> leida = leer(tipo);
+            Instantanea<T> previa = (Instantanea<T>) instantaneas.putIfAbsent(tipo, leida);
+            actual = previa != null ? previa : leida;
+        }
+        return actual;
+    }
+
+    private <T extends DimBase> Instantanea<T> leer(Class<T> tipo) {
+        List<T> todas = repositorio(tipo).findAll();
+        log.debug("Catálogo {}: {} dimensiones leídas de la base de datos", tipo.getSimpleName(), todas.size());
+        return Instantanea.de(todas);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends DimBase> JpaRepository<T, Integer> repositorio(Class<T> tipo) {
+        JpaRepository<T, Integer> repo = (JpaRepository<T, Integer>) repositorios.get(tipo);
+        if (repo == null) {
+            throw new IllegalArgumentException("Dimensión no soportada por el catálogo: " + tipo.getSimpleName());
+        }
+        return repo;
+    }
+
+    /**
+     * Vista inmutable de un tipo de dimensión: índice por ID (ordenado) e índice por nombre.
+     */
+    private record Instantanea<T extends DimBase>(Map<Integer, T> porId, Map<String, T> porNombre, List<T> ordenadas) {
+
+        static <T extends DimBase> Instantanea<T> de(Collection<? extends T> dimensiones) {
+            TreeMap<Integer, T> porId = new TreeMap<>();
+            dimensiones.forEach(d -> porId.put(d.getId(), d));
+            return crear(porId);
+        }
+
+        Instantanea<T> con(Collection<? extends T> nuevas) {
+            TreeMap<Integer, T> copia = new TreeMap<>(porId);
+            nuevas.forEach(d -> copia.put(d.getId(), d));
+            return crear(copia);
+        }
+
+        Instantanea<T> sin(Integer id) {
+            TreeMap<Integer, T> copia = new TreeMap<>(porId);
+            copia.remove(id);
+            return crear(copia);
+        }
+
+        private static <T extends DimBase> Instantanea<T> crear(TreeMap<Integer, T> porId) {
+            Map<String, T> porNombre = new HashMap<>();
+            porId.values().forEach(d -> porNombre.put(d.getNombre(), d));
+            return new Instantanea<>(
+                    Collections.unmodifiableMap(porId),
+                    Collections.unmodifiableMap(porNombre),
+                    List.copyOf(porId.values())
+            );
+        }
+    }
+}
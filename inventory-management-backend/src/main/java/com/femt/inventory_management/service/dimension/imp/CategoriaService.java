@@ -8,6 +8,7 @@ import com.femt.inventory_management.exceptions.DimensionValidationException;
 import com.femt.inventory_management.mapper.dimension.DimensionMapper;
 import com.femt.inventory_management.models.dimension.DimCategoria;
 import com.femt.inventory_management.repository.DimCategoriaRepository;
+import com.femt.inventory_management.service.dimension.DimensionCatalogo;
 import com.femt.inventory_management.service.dimension.DimensionService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -30,10 +31,12 @@ public class CategoriaService implements DimensionService {
 
     private final DimCategoriaRepository categoriaRepo;
     private final DimensionMapper mapper;
+    private final DimensionCatalogo catalogo;
 
-    public CategoriaService(DimCategoriaRepository categoriaRepo, DimensionMapper mapper) {
+    public CategoriaService(DimCategoriaRepository categoriaRepo, DimensionMapper mapper, DimensionCatalogo catalogo) {
         this.categoriaRepo = categoriaRepo;
         this.mapper = mapper;
+        this.catalogo = catalogo;
     }
 
     /**
@@ -66,7 +69,7 @@ public class CategoriaService implements DimensionService {
                 );
             }
 
-            if (categoriaRepo.existsByNombre(dto.nombre())) {
+            if (catalogo.buscarPorNombre(DimCategoria.class, dto.nombre()).isPresent()) {
                 throw new DimensionValidationException(
                         "La categoría ya existe",
                         "nombre"
@@ -79,7 +82,8 @@ public class CategoriaService implements DimensionService {
             categorias.add(categoria);
         }
 
-        List<DimCategoria> guardadas = categoriaRepo.saveAll(categorias);
+        List<DimCategoria> guardadas = categoriaRepo.insertarEnLote(categorias);
+        catalogo.registrar(DimCategoria.class, guardadas);
 
         log.debug("Categorías registradas exitosamente: {}", guardadas.size());
 
@@ -108,6 +112,7 @@ public class CategoriaService implements DimensionService {
 
         categoria.setNombre(dto.nombre());
         DimCategoria actualizada = categoriaRepo.save(categoria);
+        catalogo.registrar(DimCategoria.class, List.of(actualizada));
 
         log.info("Categoría {} actualizada correctamente", id);
 
@@ -130,6 +135,7 @@ public class CategoriaService implements DimensionService {
         }
 
         categoriaRepo.deleteById(id);
+        catalogo.remover(DimCategoria.class, id);
 
         log.info("Categoría {} eliminada exitosamente", id);
     }
@@ -146,7 +152,7 @@ public class CategoriaService implements DimensionService {
 
         log.debug("Buscando categoría con ID {}", id);
 
-        DimCategoria categoria = categoriaRepo.findById(id)
+        DimCategoria categoria = catalogo.buscarPorId(DimCategoria.class, id)
                 .orElseThrow(() ->
                         new DimensionNotFoundException("La categoría con ID " + id + " no existe")
                 );
@@ -164,7 +170,7 @@ public class CategoriaService implements DimensionService {
 
         log.info("Listando todas las categorías...");
 
-        return categoriaRepo.findAllByOrderByIdAsc().stream()
+        return catalogo.listar(DimCategoria.class).stream()
                 .map(mapper::toDTO)
                 .toList();
     }
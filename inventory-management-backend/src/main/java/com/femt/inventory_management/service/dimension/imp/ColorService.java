@@ -8,6 +8,7 @@ import com.femt.inventory_management.exceptions.DimensionValidationException;
 import com.femt.inventory_management.mapper.dimension.DimensionMapper;
 import com.femt.inventory_management.models.dimension.DimColor;
 import com.femt.inventory_management.repository.DimColorRepository;
+import com.femt.inventory_management.service.dimension.DimensionCatalogo;
 import com.femt.inventory_management.service.dimension.DimensionService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -29,10 +30,12 @@ public class ColorService implements DimensionService {
 
     private final DimColorRepository colorRepo;
     private final DimensionMapper mapper;
+    private final DimensionCatalogo catalogo;
 
-    public ColorService(DimColorRepository colorRepo, DimensionMapper mapper) {
+    public ColorService(DimColorRepository colorRepo, DimensionMapper mapper, DimensionCatalogo catalogo) {
         this.colorRepo = colorRepo;
         this.mapper = mapper;
+        this.catalogo = catalogo;
     }
 
     /**
@@ -63,7 +66,9 @@ public class ColorService implements DimensionService {
                 );
             }
 
-            if (colorRepo.existsByNombreAndCodeRgb(dto.nombre(), dto.extra())) {
+            if (catalogo.buscarPorNombre(DimColor.class, dto.nombre())
+                    .filter(existente -> dto.extra().equals(existente.getCodeRgb()))
+                    .isPresent()) {
                 throw new DimensionValidationException(
                         "El color ya existe con ese código RGB",
                         "nombre|extra"
@@ -77,7 +82,8 @@ public class ColorService implements DimensionService {
             colores.add(color);
         }
 
-        List<DimColor> guardados = colorRepo.saveAll(colores);
+        List<DimColor> guardados = colorRepo.insertarEnLote(colores);
+        catalogo.registrar(DimColor.class, guardados);
 
         log.debug("Colores registrados exitosamente: {}", guardados.size());
 
@@ -108,6 +114,7 @@ public class ColorService implements DimensionService {
         color.setCodeRgb(dto.extra());
 
         DimColor actualizado = colorRepo.save(color);
+        catalogo.registrar(DimColor.class, List.of(actualizado));
 
         log.info("Color {} actualizado correctamente", id);
 
@@ -130,6 +137,7 @@ public class ColorService implements DimensionService {
         }
 
         colorRepo.deleteById(id);
+        catalogo.remover(DimColor.class, id);
 
         log.info("Color {} eliminado exitosamente", id);
     }
@@ -146,7 +154,7 @@ public class ColorService implements DimensionService {
 
         log.debug("Buscando color con ID {}", id);
 
-        DimColor color = colorRepo.findById(id)
+        DimColor color = catalogo.buscarPorId(DimColor.class, id)
                 .orElseThrow(() ->
                         new DimensionNotFoundException("El color con ID " + id + " no existe")
                 );
@@ -164,7 +172,7 @@ public class ColorService implements DimensionService {
 
         log.info("Listando todos los colores...");
 
-        return colorRepo.findAllByOrderByIdAsc().stream()
+        return catalogo.listar(DimColor.class).stream()
                 .map(mapper::toDTO)
                 .toList();
     }
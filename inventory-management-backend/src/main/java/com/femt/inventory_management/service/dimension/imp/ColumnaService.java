@@ -8,6 +8,7 @@ import com.femt.inventory_management.exceptions.DimensionValidationException;
 import com.femt.inventory_management.mapper.dimension.DimensionMapper;
 import com.femt.inventory_management.models.dimension.DimColumna;
 import com.femt.inventory_management.repository.DimColumnaRepository;
+import com.femt.inventory_management.service.dimension.DimensionCatalogo;
 import com.femt.inventory_management.service.dimension.DimensionService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -36,10 +37,12 @@ public class ColumnaService implements DimensionService {
 
     private final DimColumnaRepository columnaRepo;
     private final DimensionMapper mapper;
+    private final DimensionCatalogo catalogo;
 
-    public ColumnaService(DimColumnaRepository columnaRepo, DimensionMapper mapper) {
+    public ColumnaService(DimColumnaRepository columnaRepo, DimensionMapper mapper, DimensionCatalogo catalogo) {
         this.columnaRepo = columnaRepo;
         this.mapper = mapper;
+        this.catalogo = catalogo;
     }
 
     /**
@@ -72,7 +75,7 @@ public class ColumnaService implements DimensionService {
                 );
             }
 
-            if (columnaRepo.existsByNombre(dto.nombre())) {
+            if (catalogo.buscarPorNombre(DimColumna.class, dto.nombre()).isPresent()) {
                 throw new DimensionValidationException(
                         "La columna ya existe",
                         "nombre"
@@ -85,7 +88,8 @@ public class ColumnaService implements DimensionService {
             columnas.add(columna);
         }
 
-        List<DimColumna> guardadas = columnaRepo.saveAll(columnas);
+        List<DimColumna> guardadas = columnaRepo.insertarEnLote(columnas);
+        catalogo.registrar(DimColumna.class, guardadas);
 
         log.debug("Columnas registradas exitosamente: {}", guardadas.size());
 
@@ -115,6 +119,7 @@ public class ColumnaService implements DimensionService {
         columna.setNombre(dto.nombre());
 
         DimColumna actualizada = columnaRepo.save(columna);
+        catalogo.registrar(DimColumna.class, List.of(actualizada));
 
         log.info("Columna {} actualizada correctamente", id);
 
@@ -137,6 +142,7 @@ public class ColumnaService implements DimensionService {
         }
 
         columnaRepo.deleteById(id);
+        catalogo.remover(DimColumna.class, id);
 
         log.info("Columna {} eliminada exitosamente", id);
     }
@@ -153,7 +159,7 @@ public class ColumnaService implements DimensionService {
 
         log.debug("Buscando columna con ID {}", id);
 
-        DimColumna columna = columnaRepo.findById(id)
+        DimColumna columna = catalogo.buscarPorId(DimColumna.class, id)
                 .orElseThrow(() ->
                         new DimensionNotFoundException("La columna con ID " + id + " no existe")
                 );
@@ -171,7 +177,7 @@ public class ColumnaService implements DimensionService {
 
         log.info("Listando todas las columnas...");
 
-        return columnaRepo.findAllByOrderByIdAsc().stream()
+        return catalogo.listar(DimColumna.class).stream()
                 .map(mapper::toDTO)
                 .toList();
     }
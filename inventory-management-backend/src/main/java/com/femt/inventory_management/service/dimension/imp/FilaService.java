@@ -8,6 +8,7 @@ import com.femt.inventory_management.exceptions.DimensionValidationException;
 import com.femt.inventory_management.mapper.dimension.DimensionMapper;
 import com.femt.inventory_management.models.dimension.DimFila;
 import com.femt.inventory_management.repository.DimFilaRepository;
+import com.femt.inventory_management.service.dimension.DimensionCatalogo;
 import com.femt.inventory_management.service.dimension.DimensionService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -30,10 +31,12 @@ public class FilaService implements DimensionService {
 
     private final DimFilaRepository filaRepo;
     private final DimensionMapper mapper;
+    private final DimensionCatalogo catalogo;
 
-    public FilaService(DimFilaRepository filaRepo, DimensionMapper mapper) {
+    public FilaService(DimFilaRepository filaRepo, DimensionMapper mapper, DimensionCatalogo catalogo) {
         this.filaRepo = filaRepo;
         this.mapper = mapper;
+        this.catalogo = catalogo;
     }
 
     /**
@@ -65,7 +68,7 @@ public class FilaService implements DimensionService {
                 );
             }
 
-            if (filaRepo.existsByNombre(dto.nombre())) {
+            if (catalogo.buscarPorNombre(DimFila.class, dto.nombre()).isPresent()) {
                 throw new DimensionValidationException(
                         "La fila ya existe",
                         "nombre"
@@ -78,7 +81,8 @@ public class FilaService implements DimensionService {
             filas.add(fila);
         }
 
-        List<DimFila> guardadas = filaRepo.saveAll(filas);
+        List<DimFila> guardadas = filaRepo.insertarEnLote(filas);
+        catalogo.registrar(DimFila.class, guardadas);
 
         log.debug("Filas registradas exitosamente: {}", guardadas.size());
 
@@ -108,6 +112,7 @@ public class FilaService implements DimensionService {
         fila.setNombre(dto.nombre());
 
         DimFila actualizada = filaRepo.save(fila);
+        catalogo.registrar(DimFila.class, List.of(actualizada));
 
         log.info("Fila {} actualizada correctamente", id);
 
@@ -130,6 +135,7 @@ public class FilaService implements DimensionService {
         }
 
         filaRepo.deleteById(id);
+        catalogo.remover(DimFila.class, id);
 
         log.info("Fila {} eliminada exitosamente", id);
     }
@@ -146,7 +152,7 @@ public class FilaService implements DimensionService {
 
         log.debug("Buscando fila con ID {}", id);
 
-        DimFila fila = filaRepo.findById(id)
+        DimFila fila = catalogo.buscarPorId(DimFila.class, id)
                 .orElseThrow(() ->
                         new DimensionNotFoundException("La fila con ID " + id + " no existe")
                 );
@@ -164,7 +170,7 @@ public class FilaService implements DimensionService {
 
         log.info("Listando todas las filas...");
 
-        return filaRepo.findAllByOrderByIdAsc().stream()
+        return catalogo.listar(DimFila.class).stream()
                 .map(mapper::toDTO)
                 .toList();
     }
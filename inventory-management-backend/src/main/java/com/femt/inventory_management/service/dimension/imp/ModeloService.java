@@ -8,6 +8,7 @@ import com.femt.inventory_management.exceptions.DimensionValidationException;
 import com.femt.inventory_management.mapper.dimension.DimensionMapper;
 import com.femt.inventory_management.models.dimension.DimModelo;
 import com.femt.inventory_management.repository.DimModeloRepository;
+import com.femt.inventory_management.service.dimension.DimensionCatalogo;
 import com.femt.inventory_management.service.dimension.DimensionService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -33,10 +34,12 @@ public class ModeloService implements DimensionService {
 
     private final DimModeloRepository modeloRepo;
     private final DimensionMapper mapper;
+    private final DimensionCatalogo catalogo;
 
-    public ModeloService(DimModeloRepository modeloRepo, DimensionMapper mapper) {
+    public ModeloService(DimModeloRepository modeloRepo, DimensionMapper mapper, DimensionCatalogo catalogo) {
         this.modeloRepo = modeloRepo;
         this.mapper = mapper;
+        this.catalogo = catalogo;
     }
 
     /**
@@ -69,7 +72,7 @@ public class ModeloService implements DimensionService {
                 );
             }
 
-            if (modeloRepo.existsByNombre(dto.nombre())) {
+            if (catalogo.buscarPorNombre(DimModelo.class, dto.nombre()).isPresent()) {
                 throw new DimensionValidationException(
                         "El modelo ya existe",
                         "nombre"
@@ -82,7 +85,8 @@ public class ModeloService implements DimensionService {
             modelos.add(modelo);
         }
 
-        List<DimModelo> guardados = modeloRepo.saveAll(modelos);
+        List<DimModelo> guardados = modeloRepo.insertarEnLote(modelos);
+        catalogo.registrar(DimModelo.class, guardados);
 
         log.debug("Modelos registrados exitosamente: {}", guardados.size());
 
@@ -112,6 +116,7 @@ public class ModeloService implements DimensionService {
         modelo.setNombre(dto.nombre());
 
         DimModelo actualizado = modeloRepo.save(modelo);
+        catalogo.registrar(DimModelo.class, List.of(actualizado));
 
         log.info("Modelo {} actualizado correctamente", id);
 
@@ -136,6 +141,7 @@ public class ModeloService implements DimensionService {
         }
 
         modeloRepo.deleteById(id);
+        catalogo.remover(DimModelo.class, id);
 
         log.info("Modelo {} eliminado exitosamente", id);
     }
@@ -152,7 +158,7 @@ public class ModeloService implements DimensionService {
 
         log.debug("Buscando modelo con ID {}", id);
 
-        DimModelo modelo = modeloRepo.findById(id)
+        DimModelo modelo = catalogo.buscarPorId(DimModelo.class, id)
                 .orElseThrow(() ->
                         new DimensionNotFoundException("El modelo con ID " + id + " no existe")
                 );
@@ -170,7 +176,7 @@ public class ModeloService implements DimensionService {
 
         log.info("Listando todos los modelos...");
 
-        return modeloRepo.findAllByOrderByIdAsc().stream()
+        return catalogo.listar(DimModelo.class).stream()
                 .map(mapper::toDTO)
                 .toList();
     }
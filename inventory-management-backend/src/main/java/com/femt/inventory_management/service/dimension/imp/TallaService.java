@@ -8,6 +8,7 @@ import com.femt.inventory_management.exceptions.DimensionValidationException;
 import com.femt.inventory_management.mapper.dimension.DimensionMapper;
 import com.femt.inventory_management.models.dimension.DimTalla;
 import com.femt.inventory_management.repository.DimTallaRepository;
+import com.femt.inventory_management.service.dimension.DimensionCatalogo;
 import com.femt.inventory_management.service.dimension.DimensionService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -33,10 +34,12 @@ public class TallaService implements DimensionService {
 
     private final DimTallaRepository tallaRepo;
     private final DimensionMapper mapper;
+    private final DimensionCatalogo catalogo;
 
-    public TallaService(DimTallaRepository tallaRepo, DimensionMapper mapper) {
+    public TallaService(DimTallaRepository tallaRepo, DimensionMapper mapper, DimensionCatalogo catalogo) {
         this.tallaRepo = tallaRepo;
         this.mapper = mapper;
+        this.catalogo = catalogo;
     }
 
     /**
@@ -69,7 +72,7 @@ public class TallaService implements DimensionService {
                 );
             }
 
-            if (tallaRepo.existsByNombre(dto.nombre())) {
+            if (catalogo.buscarPorNombre(DimTalla.class, dto.nombre()).isPresent()) {
                 throw new DimensionValidationException(
                         "La talla ya existe",
                         "nombre"
@@ -82,7 +85,8 @@ public class TallaService implements DimensionService {
             tallas.add(talla);
         }
 
-        List<DimTalla> guardadas = tallaRepo.saveAll(tallas);
+        List<DimTalla> guardadas = tallaRepo.insertarEnLote(tallas);
+        catalogo.registrar(DimTalla.class, guardadas);
 
         log.debug("Tallas registradas exitosamente: {}", guardadas.size());
 
@@ -112,6 +116,7 @@ public class TallaService implements DimensionService {
         talla.setNombre(dto.nombre());
 
         DimTalla actualizada = tallaRepo.save(talla);
+        catalogo.registrar(DimTalla.class, List.of(actualizada));
 
         log.info("Talla {} actualizada correctamente", id);
 
@@ -134,6 +139,7 @@ public class TallaService implements DimensionService {
         }
 
         tallaRepo.deleteById(id);
+        catalogo.remover(DimTalla.class, id);
 
         log.info("Talla {} eliminada exitosamente", id);
     }
@@ -150,7 +156,7 @@ public class TallaService implements DimensionService {
 
         log.debug("Buscando talla con ID {}", id);
 
-        DimTalla talla = tallaRepo.findById(id)
+        DimTalla talla = catalogo.buscarPorId(DimTalla.class, id)
                 .orElseThrow(() ->
                         new DimensionNotFoundException("La talla con ID " + id + " no existe")
                 );
@@ -168,7 +174,7 @@ public class TallaService implements DimensionService {
 
         log.info("Listando todas las tallas...");
 
-        return tallaRepo.findAllByOrderByIdAsc().stream()
+        return catalogo.listar(DimTalla.class).stream()
                 .map(mapper::toDTO)
                 .toList();
     }
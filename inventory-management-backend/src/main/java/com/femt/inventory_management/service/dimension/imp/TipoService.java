@@ -8,6 +8,7 @@ import com.femt.inventory_management.exceptions.DimensionValidationException;
 import com.femt.inventory_management.mapper.dimension.DimensionMapper;
 import com.femt.inventory_management.models.dimension.DimTipoComponente;
 import com.femt.inventory_management.repository.DimTipoComponenteRepository;
+import com.femt.inventory_management.service.dimension.DimensionCatalogo;
 import com.femt.inventory_management.service.dimension.DimensionService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -33,10 +34,12 @@ public class TipoService implements DimensionService {
 
     private final DimTipoComponenteRepository tipoRepo;
     private final DimensionMapper mapper;
+    private final DimensionCatalogo catalogo;
 
-    public TipoService(DimTipoComponenteRepository tipoRepo, DimensionMapper mapper) {
+    public TipoService(DimTipoComponenteRepository tipoRepo, DimensionMapper mapper, DimensionCatalogo catalogo) {
         this.tipoRepo = tipoRepo;
         this.mapper = mapper;
+        this.catalogo = catalogo;
     }
 
     /**
@@ -69,7 +72,7 @@ public class TipoService implements DimensionService {
                 );
             }
 
-            if (tipoRepo.existsByNombre(dto.nombre())) {
+            if (catalogo.buscarPorNombre(DimTipoComponente.class, dto.nombre()).isPresent()) {
                 throw new DimensionValidationException(
                         "El tipo de componente ya existe",
                         "nombre"
@@ -81,7 +84,8 @@ public class TipoService implements DimensionService {
             tipos.add(tipo);
         }
 
-        List<DimTipoComponente> guardados = tipoRepo.saveAll(tipos);
+        List<DimTipoComponente> guardados = tipoRepo.insertarEnLote(tipos);
+        catalogo.registrar(DimTipoComponente.class, guardados);
 
         log.debug("Tipos de componentes registrados exitosamente: {}", guardados.size());
 
@@ -111,6 +115,7 @@ public class TipoService implements DimensionService {
         tipo.setNombre(dto.nombre());
 
         DimTipoComponente actualizado = tipoRepo.save(tipo);
+        catalogo.registrar(DimTipoComponente.class, List.of(actualizado));
 
         log.info("Tipo de componente {} actualizado correctamente", id);
 
@@ -135,6 +140,7 @@ public class TipoService implements DimensionService {
         }
 
         tipoRepo.deleteById(id);
+        catalogo.remover(DimTipoComponente.class, id);
 
         log.info("Tipo de componente {} eliminado exitosamente", id);
     }
@@ -151,7 +157,7 @@ public class TipoService implements DimensionService {
 
         log.debug("Buscando tipo de componente con ID {}", id);
 
-        DimTipoComponente tipo = tipoRepo.findById(id)
+        DimTipoComponente tipo = catalogo.buscarPorId(DimTipoComponente.class, id)
                 .orElseThrow(() ->
                         new DimensionNotFoundException("El tipo de componente con ID " + id + " no existe")
                 );
@@ -169,7 +175,7 @@ public class TipoService implements DimensionService {
 
         log.info("Listando todos los tipos de componentes...");
 
-        return tipoRepo.findAllByOrderByIdAsc().stream()
+        return catalogo.listar(DimTipoComponente.class).stream()
                 .map(mapper::toDTO)
                 .toList();
     }
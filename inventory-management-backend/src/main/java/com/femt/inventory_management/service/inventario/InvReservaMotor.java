@@ -0,0 +1,249 @@
+package com.femt.inventory_management.service.inventario;
+
+import com.femt.inventory_management.exceptions.InventarioNotFoundException;
+import com.femt.inventory_management.exceptions.InventarioStockInsuficienteException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Motor de reservas de stock en memoria para los SKU de {@code inv_sandalias}.
+ * <>
+ * Cada SKU tiene un contador atómico con las docenas disponibles; una reserva se admite o se
+ * rechaza con un compare-and-set sobre ese contador, sin tocar la fila de la sandalia. Así los
+ * pedidos concurrentes sobre un mismo SKU no se encolan detrás de un bloqueo de fila.
+ * <>
+ * Durabilidad: cada reserva se registra en {@code inv_movimiento} con {@code aplicado = false}
+ * dentro de la transacción del pedido (si la transacción se revierte, la reserva se libera).
+ * Periódicamente, {@link #volcar()} suma los movimientos pendientes por SKU, aplica el delta neto a
+ * {@code inv_sandalias} con un UPDATE por lote JDBC y los marca como aplicados en la misma transacción.
+ * Al iniciar, los contadores se reconstruyen como {@code stock_docenas + movimientos pendientes}, por lo
+ * que una caída entre la reserva y el volcado no pierde ni duplica stock.
+ * <>
+ * Ojo: los contadores viven en esta instancia, por eso el motor viene desactivado
+ * ({@code app.inventario.reservas.en-memoria=false}, se usan los UPDATE condicionales) y solo debe
+ * activarse con una sola instancia y sin cambios de stock directos en la base de datos. La aplicación no
+ * inicia si se activa junto con {@code app.seguridad.modo=jwt} o {@code app.seguridad.sesiones.almacen=jdbc},
+ * que existen para correr varias instancias.
+ */
+@Slf4j
+@Component
+public class InvReservaMotor {
+
+    private static final String SQL_DISPONIBLE = """
+            select s.id, s.stock_docenas + coalesce(sum(case when m.tipo = 'ENTRADA'
+                    then m.cantidad_docenas else -m.cantidad_docenas end), 0)
+            from inv_sandalias s
+            left join inv_movimiento m on m.id_sandalia = s.id and m.aplicado = false
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean habilitado;
+    private final int tamanioVolcado;
+    private final Map<Integer, AtomicInteger> disponibles = new ConcurrentHashMap<>();
+
+    public InvReservaMotor(JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${app.inventario.reservas.en-memoria:false}") boolean habilitado,
+                           @Value("${app.inventario.reservas.tamanio-volcado:1000}") int tamanioVolcado,
+                           @Value("${app.seguridad.modo:sesion}") String modoSeguridad,
+                           @Value("${app.seguridad.sesiones.almacen:memoria}") String almacenSesiones) {
+        if (habilitado && ("jwt".equals(modoSeguridad) || "jdbc".equals(almacenSesiones))) {
+            throw new IllegalStateException("app.inventario.reservas.en-memoria=true solo admite una instancia, "
+                    + "pero app.seguridad.modo=" + modoSeguridad + " y app.seguridad.sesiones.almacen=" + almacenSesiones
+                    + " son para varias instancias; desactive las reservas en memoria");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.habilitado = habilitado;
+        this.tamanioVolcado = tamanioVolcado;
+    }
+
+    public boolean habilitado() {
+        return habilitado;
+    }
+
+    /**
+     * Carga el stock vigente de todos los SKU al iniciar la aplicación. Con el motor desactivado, aplica
+     * los movimientos que quedaron pendientes de cuando estaba activo.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargar() {
+        if (!habilitado) {
+            int aplicados = volcarPendientes();
+            if (aplicados > 0) {
+                log.info("Motor de reservas desactivado: {} movimientos pendientes aplicados al stock", aplicados);
+            }
+            return;
+        }
+        jdbcTemplate.query(SQL_DISPONIBLE + "group by s.id, s.stock_docenas",
+                rs -> { disponibles.putIfAbsent(rs.getInt(1), new AtomicInteger(rs.getInt(2))); });
+        log.info("Motor de reservas cargado: {} SKU", disponibles.size());
+    }
+
+    /**
+     * Reserva docenas de un SKU si el stock alcanza. Si hay una transacción activa y termina sin
+     * confirmarse, la reserva se libera automáticamente.
+     *
+     * @param idSandalia SKU a reservar
+     * @param cantidad   docenas a reservar (mayor a cero)
+     * @return docenas que quedan disponibles
+     * @throws InventarioStockInsuficienteException si el stock no alcanza
+     * @throws InventarioNotFoundException          si el SKU no existe
+     */
+    public int reservar(Integer idSandalia, int cantidad) {
+        AtomicInteger disponible = contador(idSandalia);
+        int actual;
+        do {
+            actual = disponible.get();
+            if (actual < cantidad) {
+                throw new InventarioStockInsuficienteException(idSandalia, cantidad, actual);
+            }
+        } while (!disponible.compareAndSet(actual, actual - cantidad));
+
+        alTerminar(status -> {
+            if (status != TransactionSynchronization.STATUS_COMMITTED) {
+                disponible.addAndGet(cantidad);
+            }
+        });
+        return actual - cantidad;
+    }
+
+    /**
+     * Suma docenas a un SKU cuando la transacción actual se confirma (o de inmediato si no hay transacción),
+     * para no admitir reservas contra un ingreso que todavía puede revertirse.
+     *
+     * @param idSandalia SKU que recibe el ingreso
+     * @param cantidad   docenas ingresadas
+     * @return docenas que quedarán disponibles una vez confirmado el ingreso
+     * @throws InventarioNotFoundException si el SKU no existe
+     */
+    public int ingresar(Integer idSandalia, int cantidad) {
+        AtomicInteger disponible = contador(idSandalia);
+        alTerminar(status -> {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                disponible.addAndGet(cantidad);
+            }
+        });
+        return disponible.get() + cantidad;
+    }
+
+    /**
+     * Registra un SKU recién creado con su stock inicial.
+     */
+    public void registrar(Integer idSandalia, int stock) {
+        alTerminar(status -> {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                disponibles.putIfAbsent(idSandalia, new AtomicInteger(stock));
+            }
+        });
+    }
+
+    /**
+     * @param idSandalia SKU a consultar
+     * @return docenas disponibles según el motor, si el SKU ya está cargado
+     */
+    public OptionalInt disponible(Integer idSandalia) {
+        AtomicInteger disponible = disponibles.get(idSandalia);
+        return disponible == null ? OptionalInt.empty() : OptionalInt.of(disponible.get());
+    }
+
+    /**
+     * Aplica a {@code inv_sandalias} los movimientos pendientes, agrupados por SKU, y los marca como
+     * aplicados en la misma transacción. Procesa bloques de {@code tamanio-volcado} movimientos hasta
+     * agotar los pendientes. Los movimientos leídos quedan bloqueados hasta el fin de la transacción, de modo
+     * que dos volcados simultáneos no aplican el mismo movimiento dos veces.
+     *
+     * @return cantidad de movimientos aplicados
+     */
+    @Scheduled(fixedDelayString = "${app.inventario.reservas.intervalo-ms:500}")
+    public int volcar() {
+        if (!habilitado) {
+            return 0;
+        }
+        int total = volcarPendientes();
+        if (total > 0) {
+            log.debug("Motor de reservas: {} movimientos volcados", total);
+        }
+        return total;
+    }
+
+    private int volcarPendientes() {
+        int total = 0;
+        Integer aplicados;
+        do {
+            aplicados = transactionTemplate.execute(status -> volcarBloque());
+            total += aplicados == null ? 0 : aplicados;
+        } while (aplicados != null && aplicados == tamanioVolcado);
+        return total;
+    }
+
+    private int volcarBloque() {
+        List<Integer> ids = new ArrayList<>();
+        Map<Integer, Integer> deltas = new HashMap<>();
+        jdbcTemplate.query("""
+                        select id, id_sandalia, tipo, cantidad_docenas from inv_movimiento
+                        where aplicado = false order by id limit ? for update
+                        """,
+                rs -> {
+                    ids.add(rs.getInt(1));
+                    int cantidad = rs.getInt(4);
+                    deltas.merge(rs.getInt(2), "ENTRADA".equals(rs.getString(3)) ? cantidad : -cantidad, Integer::sum);
+                },
+                tamanioVolcado);
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> stock = new ArrayList<>(deltas.size());
+        deltas.forEach((idSandalia, delta) -> {
+            if (delta != 0) {
+                stock.add(new Object[]{delta, idSandalia});
+            }
+        });
+        jdbcTemplate.batchUpdate("update inv_sandalias set stock_docenas = stock_docenas + ? where id = ?", stock);
+        jdbcTemplate.batchUpdate("update inv_movimiento set aplicado = true where id = ?",
+                ids.stream().map(id -> new Object[]{id}).toList());
+        return ids.size();
+    }
+
+    private AtomicInteger contador(Integer idSandalia) {
+        AtomicInteger disponible = disponibles.get(idSandalia);
+        if (disponible != null) {
+            return disponible;
+        }
+        // SKU que aún no está en memoria (p. ej. una petición antes de terminar la carga inicial)
+        List<Integer> leido = jdbcTemplate.query(SQL_DISPONIBLE + "where s.id = ? group by s.id, s.stock_docenas",
+                (rs, fila) -> rs.getInt(2), idSandalia);
+        if (leido.isEmpty()) {
+            throw new InventarioNotFoundException("Sandalia con ID " + idSandalia + " no encontrada");
+        }
+        return disponibles.computeIfAbsent(idSandalia, k -> new AtomicInteger(leido.get(0)));
+    }
+
+    private static void alTerminar(IntConsumer accion) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    accion.accept(status);
+                }
+            });
+        } else {
+            accion.accept(TransactionSynchronization.STATUS_COMMITTED);
+        }
+    }
+}
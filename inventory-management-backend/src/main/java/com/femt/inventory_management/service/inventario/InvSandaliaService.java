@@ -0,0 +1,17 @@
+package com.femt.inventory_management.service.inventario;
+
+import com.femt.inventory_management.dto.request.InvMovimientoRequestDTO;
+import com.femt.inventory_management.dto.request.InvSandaliaRequestDTO;
+import com.femt.inventory_management.dto.response.InvMovimientoResponseDTO;
+import com.femt.inventory_management.dto.response.InvSandaliaResponseDTO;
+
+import java.util.List;
+
+public interface InvSandaliaService {
+    InvSandaliaResponseDTO crear(InvSandaliaRequestDTO dto);
+    InvSandaliaResponseDTO obtenerPorId(Integer id);
+    List<InvSandaliaResponseDTO> listar();
+    InvSandaliaResponseDTO ingresar(Integer id, InvMovimientoRequestDTO dto);
+    InvSandaliaResponseDTO descontar(Integer id, InvMovimientoRequestDTO dto);
+    List<InvMovimientoResponseDTO> listarMovimientos(Integer id, Integer limite);
+}
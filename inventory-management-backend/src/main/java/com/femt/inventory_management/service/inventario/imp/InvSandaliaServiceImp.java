@@ -0,0 +1,247 @@
+package com.femt.inventory_management.service.inventario.imp;
+
+import com.femt.inventory_management.dto.request.InvMovimientoRequestDTO;
+import com.femt.inventory_management.dto.request.InvSandaliaRequestDTO;
+import com.femt.inventory_management.dto.response.InvMovimientoResponseDTO;
+import com.femt.inventory_management.dto.response.InvSandaliaResponseDTO;
+import com.femt.inventory_management.exceptions.InventarioNotFoundException;
+import com.femt.inventory_management.exceptions.InventarioStockInsuficienteException;
+import com.femt.inventory_management.exceptions.InventarioValidationException;
+import com.femt.inventory_management.models.dimension.DimCategoria;
+import com.femt.inventory_management.models.dimension.DimModelo;
+import com.femt.inventory_management.models.inventario.InvMovimiento;
+import com.femt.inventory_management.models.inventario.InvSandalia;
+import com.femt.inventory_management.models.inventario.enums.InvTipoMovimientoEnum;
+import com.femt.inventory_management.repository.InvMovimientoRepository;
+import com.femt.inventory_management.repository.InvSandaliaRepository;
+import com.femt.inventory_management.service.dimension.DimensionCatalogo;
+import com.femt.inventory_management.service.inventario.InvReservaMotor;
+import com.femt.inventory_management.service.inventario.InvSandaliaService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.OptionalInt;
+
+/**
+ * Servicio de inventario de sandalias.
+ * <>
+ * Toda variación de stock se hace con un UPDATE condicional (sin leer, modificar y volver a
+ * escribir la entidad) y se registra en el libro de movimientos dentro de la misma transacción.
+ * Así, varios vendedores pueden descontar el mismo SKU a la vez sin perder actualizaciones
+ * y sin mantener bloqueada la fila más allá de una sentencia.
+ * <>
+ * Con el motor de reservas habilitado ({@link InvReservaMotor}), las variaciones se admiten en memoria
+ * y solo se registran como movimientos pendientes; el motor las vuelca después a la tabla de stock.
+ * Las consultas devuelven el stock vigente según el motor.
+ */
+@Slf4j
+@Service
+public class InvSandaliaServiceImp implements InvSandaliaService {
+    private static final int LIMITE_MOVIMIENTOS = 100;
+    private static final int LIMITE_MOVIMIENTOS_MAXIMO = 500;
+
+    private final InvSandaliaRepository sandaliaRepository;
+    private final InvMovimientoRepository movimientoRepository;
+    private final DimensionCatalogo catalogo;
+    private final InvReservaMotor motor;
+
+    public InvSandaliaServiceImp(InvSandaliaRepository sandaliaRepository, InvMovimientoRepository movimientoRepository, DimensionCatalogo catalogo, InvReservaMotor motor) {
+        this.sandaliaRepository = sandaliaRepository;
+        this.movimientoRepository = movimientoRepository;
+        this.catalogo = catalogo;
+        this.motor = motor;
+    }
+
+    /**
+     * Registra un SKU de sandalias. Si trae stock inicial, se anota como una entrada en el libro de movimientos.
+     *
+     * @param dto modelo, series, categoría y stock inicial
+     * @return sandalia creada
+     * @throws InventarioValidationException si faltan datos o el SKU ya existe
+     * @throws InventarioNotFoundException   si el modelo o la categoría no existen
+     */
+    @Override
+    @Transactional
+    public InvSandaliaResponseDTO crear(InvSandaliaRequestDTO dto) {
+        validar(dto);
+
+        DimModelo modelo = catalogo.buscarPorId(DimModelo.class, dto.idModelo())
+                .orElseThrow(() -> new InventarioNotFoundException("Modelo con ID " + dto.idModelo() + " no encontrado"));
+
+        DimCategoria categoria = catalogo.buscarPorId(DimCategoria.class, dto.idCategoria())
+                .orElseThrow(() -> new InventarioNotFoundException("Categoría con ID " + dto.idCategoria() + " no encontrada"));
+
+        if (sandaliaRepository.existsByModeloIdAndIdSerieTiraAndIdSeriePlantaAndCategoriaId(
+                dto.idModelo(), dto.idSerieTira(), dto.idSeriePlanta(), dto.idCategoria())) {
+            throw new InventarioValidationException("Ya existe una sandalia con el mismo modelo, series y categoría", "sku");
+        }
+
+        InvSandalia guardada = sandaliaRepository.save(InvSandalia.builder()
+                .modelo(modelo)
+                .idSerieTira(dto.idSerieTira())
+                .idSeriePlanta(dto.idSeriePlanta())
+                .categoria(categoria)
+                .stockDocenas(dto.stockDocenas())
+                .build());
+
+        if (dto.stockDocenas() > 0) {
+            registrarMovimiento(guardada, InvTipoMovimientoEnum.ENTRADA, dto.stockDocenas(), null, "Stock inicial", true);
+        }
+        if (motor.habilitado()) {
+            motor.registrar(guardada.getId(), dto.stockDocenas());
+        }
+        log.info("Sandalia creada con ID {} y stock {}", guardada.getId(), dto.stockDocenas());
+        return obtenerPorId(guardada.getId());
+    }
+
+    /**
+     * @param id identificador de la sandalia
+     * @return sandalia con su stock actual
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public InvSandaliaResponseDTO obtenerPorId(Integer id) {
+        return sandaliaRepository.buscarProyectadoPorId(id)
+                .map(this::conStockVigente)
+                .orElseThrow(() -> new InventarioNotFoundException("Sandalia con ID " + id + " no encontrada"));
+    }
+
+    /**
+     * @return todas las sandalias con su stock actual
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<InvSandaliaResponseDTO> listar() {
+        return sandaliaRepository.listarProyectado().stream()
+                .map(this::conStockVigente)
+                .toList();
+    }
+
+    /**
+     * Suma stock a una sandalia y registra la entrada.
+     *
+     * @param id  identificador de la sandalia
+     * @param dto cantidad de docenas y referencia opcional
+     * @return sandalia con el stock resultante
+     */
+    @Override
+    @Transactional
+    public InvSandaliaResponseDTO ingresar(Integer id, InvMovimientoRequestDTO dto) {
+        validarCantidad(dto);
+
+        if (!motor.habilitado() && sandaliaRepository.ingresar(id, dto.cantidadDocenas()) == 0) {
+            throw new InventarioNotFoundException("Sandalia con ID " + id + " no encontrada");
+        }
+        // con el motor, el ingreso se suma en memoria recién al confirmar la transacción
+        Integer stockResultante = motor.habilitado() ? motor.ingresar(id, dto.cantidadDocenas()) : null;
+        registrarMovimiento(sandaliaRepository.getReferenceById(id), InvTipoMovimientoEnum.ENTRADA,
+                dto.cantidadDocenas(), dto.idPedido(), dto.referencia(), !motor.habilitado());
+
+        log.info("Ingreso de {} docenas a la sandalia {}", dto.cantidadDocenas(), id);
+        InvSandaliaResponseDTO sandalia = obtenerPorId(id);
+        return stockResultante == null ? sandalia : conStock(sandalia, stockResultante);
+    }
+
+    /**
+     * Descuenta stock de una sandalia solo si alcanza y registra la salida.
+     * El descuento es una reserva atómica en memoria o, con el motor desactivado, un único UPDATE
+     * condicional; en ambos casos es seguro ante pedidos concurrentes.
+     *
+     * @param id  identificador de la sandalia
+     * @param dto cantidad de docenas, pedido y referencia opcionales
+     * @return sandalia con el stock resultante
+     * @throws InventarioStockInsuficienteException si el stock disponible no alcanza
+     * @throws InventarioNotFoundException          si la sandalia no existe
+     */
+    @Override
+    @Transactional
+    public InvSandaliaResponseDTO descontar(Integer id, InvMovimientoRequestDTO dto) {
+        validarCantidad(dto);
+
+        if (motor.habilitado()) {
+            motor.reservar(id, dto.cantidadDocenas());
+        } else if (sandaliaRepository.descontar(id, dto.cantidadDocenas()) == 0) {
+            Integer disponible = sandaliaRepository.buscarStock(id)
+                    .orElseThrow(() -> new InventarioNotFoundException("Sandalia con ID " + id + " no encontrada"));
+            throw new InventarioStockInsuficienteException(id, dto.cantidadDocenas(), disponible);
+        }
+        registrarMovimiento(sandaliaRepository.getReferenceById(id), InvTipoMovimientoEnum.SALIDA,
+                dto.cantidadDocenas(), dto.idPedido(), dto.referencia(), !motor.habilitado());
+
+        log.info("Salida de {} docenas de la sandalia {}", dto.cantidadDocenas(), id);
+        return obtenerPorId(id);
+    }
+
+    /**
+     * @param id     identificador de la sandalia
+     * @param limite cantidad máxima de movimientos (por defecto 100, máximo 500)
+     * @return movimientos de la sandalia, del más reciente al más antiguo
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<InvMovimientoResponseDTO> listarMovimientos(Integer id, Integer limite) {
+        if (!sandaliaRepository.existsById(id)) {
+            throw new InventarioNotFoundException("Sandalia con ID " + id + " no encontrada");
+        }
+        int tamanio = limite == null ? LIMITE_MOVIMIENTOS : limite;
+        if (tamanio <= 0 || tamanio > LIMITE_MOVIMIENTOS_MAXIMO) {
+            throw new InventarioValidationException("El límite debe estar entre 1 y " + LIMITE_MOVIMIENTOS_MAXIMO, "limite");
+        }
+        return movimientoRepository.listarPorSandalia(id, Limit.of(tamanio));
+    }
+
+    private void registrarMovimiento(InvSandalia sandalia, InvTipoMovimientoEnum tipo, Integer cantidad,
+                                     Integer idPedido, String referencia, boolean aplicado) {
+        movimientoRepository.save(InvMovimiento.builder()
+                .sandalia(sandalia)
+                .tipo(tipo)
+                .cantidadDocenas(cantidad)
+                .idPedido(idPedido)
+                .referencia(referencia)
+                .aplicado(aplicado)
+                .build());
+    }
+
+    private InvSandaliaResponseDTO conStockVigente(InvSandaliaResponseDTO dto) {
+        if (!motor.habilitado()) {
+            return dto;
+        }
+        OptionalInt disponible = motor.disponible(dto.id());
+        return disponible.isEmpty() ? dto : conStock(dto, disponible.getAsInt());
+    }
+
+    private static InvSandaliaResponseDTO conStock(InvSandaliaResponseDTO dto, int stock) {
+        return new InvSandaliaResponseDTO(dto.id(), dto.idModelo(), dto.idSerieTira(),
+                dto.idSeriePlanta(), dto.idCategoria(), stock);
+    }
+
+    private void validar(InvSandaliaRequestDTO dto) {
+        if (dto.idModelo() == null) {
+            throw new InventarioValidationException("El modelo es obligatorio", "idModelo");
+        }
+        if (dto.idSerieTira() == null) {
+            throw new InventarioValidationException("La serie de tira es obligatoria", "idSerieTira");
+        }
+        if (dto.idSeriePlanta() == null) {
+            throw new InventarioValidationException("La serie de planta es obligatoria", "idSeriePlanta");
+        }
+        if (dto.idCategoria() == null) {
+            throw new InventarioValidationException("La categoría es obligatoria", "idCategoria");
+        }
+        if (dto.stockDocenas() == null || dto.stockDocenas() < 0) {
+            throw new InventarioValidationException("El stock no puede ser negativo", "stockDocenas");
+        }
+    }
+
+    private void validarCantidad(InvMovimientoRequestDTO dto) {
+        if (dto.cantidadDocenas() == null || dto.cantidadDocenas() <= 0) {
+            throw new InventarioValidationException("La cantidad de docenas debe ser mayor a cero", "cantidadDocenas");
+        }
+        if (dto.referencia() != null && dto.referencia().length() > 100) {
+            throw new InventarioValidationException("La referencia no puede superar los 100 caracteres", "referencia");
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.femt.inventory_management.service.seguridad;
 
+import com.femt.inventory_management.dto.request.UsuarioFiltroRequestDTO;
 import com.femt.inventory_management.dto.request.UsuarioRequestDTO;
+import com.femt.inventory_management.dto.response.PaginaResponseDTO;
+import com.femt.inventory_management.dto.response.UsuarioListadoResponseDTO;
 import com.femt.inventory_management.dto.response.UsuarioResponseDTO;
 import com.femt.inventory_management.models.seguridad.Usuario;
 
@@ -8,6 +11,8 @@ import java.util.List;
 
 public interface  UsuarioService {
     List<UsuarioResponseDTO> listarUsuarios() throws Exception;
+    PaginaResponseDTO<UsuarioListadoResponseDTO> listarPagina(UsuarioFiltroRequestDTO filtro);
+    long contarPendientes();
     Usuario modificarUsuario(UsuarioRequestDTO request) throws Exception;
     void eliminarUsuario(String auth0Id) throws Exception;
 }
@@ -0,0 +1,11 @@
+package com.femt.inventory_management.service.seguridad;
+
+import com.femt.inventory_management.dto.response.UsuarioSesionResponseDTO;
+
+import java.util.Optional;
+
+public interface UsuarioSesionService {
+    Optional<UsuarioSesionResponseDTO> buscar(String auth0Id);
+    UsuarioSesionResponseDTO buscarOCrear(String auth0Id);
+    void invalidar(String auth0Id);
+}
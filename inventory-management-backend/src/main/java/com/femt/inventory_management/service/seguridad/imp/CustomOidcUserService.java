@@ -1,10 +1,7 @@
 package com.femt.inventory_management.service.seguridad.imp;
 
-import com.femt.inventory_management.models.seguridad.Rol;
-import com.femt.inventory_management.models.seguridad.Usuario;
-import com.femt.inventory_management.models.seguridad.enums.RolUsuarioEnum;
-import com.femt.inventory_management.repository.SegRolRepository;
-import com.femt.inventory_management.repository.SegUsuarioRepository;
+import com.femt.inventory_management.dto.response.UsuarioSesionResponseDTO;
+import com.femt.inventory_management.service.seguridad.UsuarioSesionService;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -14,8 +11,6 @@ import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.oidc.user.DefaultOidcUser;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -44,24 +39,21 @@ import java.util.Set;
  * <>
  *
  * @author  MenesesTech
- * @version 1.2
+ * @version 1.3
  * @since   2025-10
  */
 @Service
 public class CustomOidcUserService extends OidcUserService {
 
-    private final SegUsuarioRepository segUsuarioRepository;
-    private final SegRolRepository rolRepository;
+    private final UsuarioSesionService usuarioSesionService;
 
     /**
      * Constructor principal del servicio.
      * <>
-     * @param segUsuarioRepository Repositorio de usuarios internos
-     * @param rolRepository Repositorio de roles del sistema
+     * @param usuarioSesionService Resolución (en caché) del usuario interno a partir del auth0Id
      */
-    public CustomOidcUserService(SegUsuarioRepository segUsuarioRepository, SegRolRepository rolRepository) {
-        this.segUsuarioRepository = segUsuarioRepository;
-        this.rolRepository = rolRepository;
+    public CustomOidcUserService(UsuarioSesionService usuarioSesionService) {
+        this.usuarioSesionService = usuarioSesionService;
     }
 
     /**
@@ -74,7 +66,8 @@ public class CustomOidcUserService extends OidcUserService {
      *     <>
      *         Flujo de ejecución:
      *         1. Carga los datos del usuario autenticado desde Auth0
-     *         2. Busca o crea el usuario interno (según su auth0Id)
+     *         2. Busca o crea el usuario interno (según su auth0Id) mediante {@link UsuarioSesionService},
+     *            que lo sirve desde caché si ya fue consultado
      *         3. Valida el estado de la cuenta interna (activo/inactivo)
      *         4. Construye y retorna la instancia de {@link OidcUser} con los roles asignados
      *     <>
@@ -94,44 +87,18 @@ public class CustomOidcUserService extends OidcUserService {
         String auth0Id = oidcUser.getSubject();
 
         // 2. Buscar o registrar usuario interno
-        Usuario usuarioInterno = findOrCreateUsuario(auth0Id);
+        UsuarioSesionResponseDTO usuarioInterno = usuarioSesionService.buscarOCrear(auth0Id);
 
         // 3. Validar estado de la cuenta interna
-        if (!usuarioInterno.isActivo()) {
+        if (!usuarioInterno.activo()) {
             throw new DisabledException("Su cuenta ha sido registrada y está pendiente de aprobación por un administrador.");
         }
 
         // 4. Asignar autoridades (roles internos)
         Set<GrantedAuthority> authorities = new HashSet<>();
-        authorities.add(new SimpleGrantedAuthority("ROLE_" + usuarioInterno.getRol().getRolUsuario().name()));
+        authorities.add(new SimpleGrantedAuthority("ROLE_" + usuarioInterno.rol()));
 
         // 5. Retornar el usuario OIDC enriquecido con roles internos
         return new DefaultOidcUser(authorities, oidcUser.getIdToken(), oidcUser.getUserInfo());
     }
-
-    /**
-     * ======================================================
-     * Creación Automática del Usuario Interno (Transaccional)
-     * ======================================================
-     * <>
-     *     Busca el usuario interno por su identificador Auth0.
-     *     Si no existe, crea un nuevo registro en estado inactivo con el rol
-     *     por defecto EMPLEADO.
-     *     Se ejecuta en una transacción independiente (REQUIRES_NEW) para
-     *     garantizar persistencia incluso si el flujo superior falla.
-     *     <>
-     * @param auth0Id Identificador único del usuario proveniente de Auth0
-     * @return Usuario interno existente o recién creado
-     * @throws RuntimeException Si el rol por defecto EMPLEADO no está configurado
-     */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public Usuario findOrCreateUsuario(String auth0Id) {
-        return segUsuarioRepository.findByAuth0Id(auth0Id)
-                .orElseGet(() -> {
-                    Rol rolDefault = rolRepository.findByRolUsuario(RolUsuarioEnum.EMPLEADO)
-                            .orElseThrow(() -> new RuntimeException("Error: Rol por defecto EMPLEADO no encontrado."));
-                    Usuario nuevoUsuario = new Usuario(auth0Id, false, rolDefault);
-                    return segUsuarioRepository.save(nuevoUsuario);
-                });
-    }
 }
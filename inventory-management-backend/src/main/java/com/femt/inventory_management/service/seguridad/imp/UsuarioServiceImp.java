@@ -1,6 +1,9 @@
 package com.femt.inventory_management.service.seguridad.imp;
 
+import com.femt.inventory_management.dto.request.UsuarioFiltroRequestDTO;
 import com.femt.inventory_management.dto.request.UsuarioRequestDTO;
+import com.femt.inventory_management.dto.response.PaginaResponseDTO;
+import com.femt.inventory_management.dto.response.UsuarioListadoResponseDTO;
 import com.femt.inventory_management.dto.response.UsuarioResponseDTO;
 import com.femt.inventory_management.mapper.seguridad.UsuarioMapper;
 import com.femt.inventory_management.models.seguridad.Rol;
@@ -8,7 +11,15 @@ import com.femt.inventory_management.models.seguridad.Usuario;
 import com.femt.inventory_management.repository.SegRolRepository;
 import com.femt.inventory_management.repository.SegUsuarioRepository;
 import com.femt.inventory_management.service.seguridad.UsuarioService;
+import com.femt.inventory_management.service.seguridad.UsuarioSesionService;
+import com.femt.inventory_management.service.ventas.VentasResumenService;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
 
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +41,7 @@ import java.util.stream.Collectors;
  *     <>
  *     Funcionalidades principales:
  *     - Listar todos los usuarios del sistema
+ *     - Listar usuarios por páginas con filtros y contar los pendientes de aprobación
  *     - Modificar estado y rol de un usuario existente
  *     - Eliminar usuarios por su identificador Auth0
  *     <>
@@ -44,9 +56,14 @@ import java.util.stream.Collectors;
 @Service
 public class UsuarioServiceImp implements UsuarioService {
 
+    static final int TAMANIO_POR_DEFECTO = 50;
+    static final int TAMANIO_MAXIMO = 500;
+
     private final SegUsuarioRepository segUsuarioRepository;
     private final UsuarioMapper usuarioMapper;
     private final SegRolRepository segRolRepository;
+    private final UsuarioSesionService usuarioSesionService;
+    private final VentasResumenService resumenService;
 
     /**
      * Constructor principal del servicio.
@@ -56,13 +73,19 @@ public class UsuarioServiceImp implements UsuarioService {
      * @param segUsuarioRepository Repositorio de persistencia de usuarios
      * @param usuarioMapper Mapper encargado de convertir entidades {@link Usuario}
      *                      a objetos de transferencia {@link UsuarioResponseDTO}
+     * @param usuarioSesionService Caché de sesión que se invalida al modificar o eliminar usuarios
+     * @param resumenService Resumen de ventas, que se ajusta al eliminar usuarios
      */
     public UsuarioServiceImp(SegUsuarioRepository segUsuarioRepository,
                              UsuarioMapper usuarioMapper,
-                             SegRolRepository segRolRepository) {
+                             SegRolRepository segRolRepository,
+                             UsuarioSesionService usuarioSesionService,
+                             VentasResumenService resumenService) {
         this.segUsuarioRepository = segUsuarioRepository;
         this.usuarioMapper = usuarioMapper;
         this.segRolRepository = segRolRepository;
+        this.usuarioSesionService = usuarioSesionService;
+        this.resumenService = resumenService;
     }
 
 
@@ -93,6 +116,64 @@ public class UsuarioServiceImp implements UsuarioService {
         }
     }
 
+    /**
+     * =======================================================
+     * Listado Paginado de Usuarios (Administración)
+     * =======================================================
+     * <>
+     *     Devuelve una página de usuarios, de los más recientes a los más
+     *     antiguos, filtrada por estado, rol y rango de fechas de creación.
+     *     Cada página es una sola consulta con join al rol que proyecta
+     *     directamente al DTO.
+     *     <>
+     *     La paginación es por cursor (el ID del último usuario de la página):
+     *     para la página siguiente se envía el {@code siguienteCursor} recibido.
+     * <>
+     *
+     * @param filtro cursor, tamaño de página y filtros opcionales
+     * @return Página de usuarios en formato {@link UsuarioListadoResponseDTO}
+     * @throws IllegalArgumentException Si el tamaño, el rango de fechas o el cursor no son válidos
+     */
+    @Override
+    public PaginaResponseDTO<UsuarioListadoResponseDTO> listarPagina(UsuarioFiltroRequestDTO filtro) {
+        int tamanio = filtro.tamanio() != null ? filtro.tamanio() : TAMANIO_POR_DEFECTO;
+        if (tamanio < 1 || tamanio > TAMANIO_MAXIMO) {
+            throw new IllegalArgumentException("El tamaño de página debe estar entre 1 y " + TAMANIO_MAXIMO);
+        }
+        if (filtro.desde() != null && filtro.hasta() != null && filtro.desde().isAfter(filtro.hasta())) {
+            throw new IllegalArgumentException("La fecha 'desde' no puede ser posterior a 'hasta'");
+        }
+        Integer cursorId = null;
+        if (filtro.cursor() != null && !filtro.cursor().isBlank()) {
+            try {
+                cursorId = Integer.valueOf(filtro.cursor());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Cursor inválido: " + filtro.cursor());
+            }
+        }
+        LocalDateTime desde = filtro.desde() != null ? filtro.desde().atStartOfDay() : null;
+        LocalDateTime hastaExclusivo = filtro.hasta() != null ? filtro.hasta().plusDays(1).atStartOfDay() : null;
+
+        // Se pide un registro más para saber si existe una página siguiente
+        List<UsuarioListadoResponseDTO> filas = segUsuarioRepository.buscarPagina(filtro.activo(), filtro.rol(),
+                desde, hastaExclusivo, cursorId, Limit.of(tamanio + 1));
+
+        boolean hayMas = filas.size() > tamanio;
+        List<UsuarioListadoResponseDTO> contenido = hayMas ? filas.subList(0, tamanio) : filas;
+        String siguiente = hayMas ? String.valueOf(contenido.get(contenido.size() - 1).id()) : null;
+        return new PaginaResponseDTO<>(List.copyOf(contenido), siguiente, hayMas);
+    }
+
+    /**
+     * Cantidad de usuarios pendientes de aprobación (registrados por el login pero aún inactivos).
+     *
+     * @return Total de usuarios inactivos
+     */
+    @Override
+    public long contarPendientes() {
+        return segUsuarioRepository.countByActivoFalse();
+    }
+
     /**
      * =======================================================
      * Modificación de Usuario Existente
@@ -106,6 +187,7 @@ public class UsuarioServiceImp implements UsuarioService {
      *     2. Buscar el usuario correspondiente en la base de datos
      *     3. Actualizar su estado y rol
      *     4. Persistir los cambios
+     *     5. Invalidar el usuario en la caché de sesión
      *     <>
      *     Excepciones:
      *     - {@link IllegalArgumentException} → Si el Auth0 ID es nulo o inválido
@@ -132,7 +214,9 @@ public class UsuarioServiceImp implements UsuarioService {
         usuario.setActivo(request.estado());
         usuario.setRol(rolExistente);
 
-        return segUsuarioRepository.save(usuario);
+        Usuario actualizado = segUsuarioRepository.save(usuario);
+        invalidarAlConfirmar(request.auth0Id());
+        return actualizado;
     }
 
 
@@ -144,7 +228,10 @@ public class UsuarioServiceImp implements UsuarioService {
      *     Elimina de forma permanente un usuario identificado por su
      *     Auth0 ID del sistema interno.
      *     <>
-     *     El proceso incluye una validación previa de existencia.
+     *     El proceso incluye una validación previa de existencia,
+     *     resta del resumen de ventas las ventas que la base de datos
+     *     elimina en cascada con el usuario y, una vez confirmada la
+     *     transacción, lo descarta de la caché de sesión.
      *     Si el usuario no se encuentra, se lanza una excepción
      *     {@link RuntimeException}.
      * <>
@@ -153,11 +240,32 @@ public class UsuarioServiceImp implements UsuarioService {
      * @throws Exception Si el usuario no existe o ocurre un error en la eliminación
      */
     @Override
+    @Transactional
     public void eliminarUsuario(String auth0Id) throws Exception {
         Optional<Usuario> usuarioOpt = segUsuarioRepository.findByAuth0Id(auth0Id);
         if (usuarioOpt.isEmpty()) {
             throw new RuntimeException("Usuario no encontrado para eliminación: " + auth0Id);
         }
+        resumenService.restarVentasDeUsuario(usuarioOpt.get().getId());
         segUsuarioRepository.delete(usuarioOpt.get());
+        invalidarAlConfirmar(auth0Id);
+    }
+
+    /**
+     * Descarta el usuario de la caché de sesión cuando la transacción actual se confirma (o de inmediato
+     * si no hay transacción). Si se descartara antes, una consulta concurrente podría volver a guardar en
+     * caché la fila que todavía no se ha confirmado como eliminada.
+     */
+    private void invalidarAlConfirmar(String auth0Id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    usuarioSesionService.invalidar(auth0Id);
+                }
+            });
+        } else {
+            usuarioSesionService.invalidar(auth0Id);
+        }
     }
 }
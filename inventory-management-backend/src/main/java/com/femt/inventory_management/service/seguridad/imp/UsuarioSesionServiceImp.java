@@ -0,0 +1,182 @@
+package com.femt.inventory_management.service.seguridad.imp;
+
+import com.femt.inventory_management.dto.response.UsuarioSesionResponseDTO;
+import com.femt.inventory_management.models.seguridad.Rol;
+import com.femt.inventory_management.models.seguridad.Usuario;
+import com.femt.inventory_management.models.seguridad.enums.RolUsuarioEnum;
+import com.femt.inventory_management.repository.SegRolRepository;
+import com.femt.inventory_management.repository.SegUsuarioRepository;
+import com.femt.inventory_management.service.seguridad.UsuarioSesionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * ==============================================================
+ * Resolución en Caché del Usuario Interno de la Sesión
+ * ==============================================================
+ * <>
+ *     Traduce el identificador de Auth0 (claim 'sub') al usuario interno
+ *     (ID, estado y rol). La usan el login OIDC y {@code GET /api/v1/auth/me},
+ *     que el frontend llama en cada navegación, por lo que el resultado se
+ *     guarda en memoria y las consultas repetidas no llegan a MySQL.
+ *     <>
+ *     La caché es acotada ({@code app.seguridad.sesion-cache.tamanio-maximo})
+ *     y cada entrada vence a los {@code app.seguridad.sesion-cache.ttl-segundos}.
+ *     {@link UsuarioServiceImp} invalida la entrada al modificar o eliminar un
+ *     usuario; el vencimiento acota cualquier otro desfase (por ejemplo, cambios
+ *     hechos desde otra instancia o directamente en la base de datos).
+ * <>
+ *
+ * @author  MenesesTech
+ * @version 1.0
+ * @since   2025-11
+ */
+@Slf4j
+@Service
+public class UsuarioSesionServiceImp implements UsuarioSesionService {
+
+    private final SegUsuarioRepository segUsuarioRepository;
+    private final SegRolRepository segRolRepository;
+    private final long ttlNanos;
+    private final int tamanioMaximo;
+    private final LongSupplier reloj;
+    private final Map<String, Entrada> cache = new ConcurrentHashMap<>();
+    private final ReentrantLock poda = new ReentrantLock();
+
+    @Autowired
+    public UsuarioSesionServiceImp(SegUsuarioRepository segUsuarioRepository,
+                                   SegRolRepository segRolRepository,
+                                   @Value("${app.seguridad.sesion-cache.ttl-segundos:300}") long ttlSegundos,
+                                   @Value("${app.seguridad.sesion-cache.tamanio-maximo:10000}") int tamanioMaximo) {
+        this(segUsuarioRepository, segRolRepository, Duration.ofSeconds(ttlSegundos), tamanioMaximo, System::nanoTime);
+    }
+
+    UsuarioSesionServiceImp(SegUsuarioRepository segUsuarioRepository,
+                            SegRolRepository segRolRepository,
+                            Duration ttl,
+                            int tamanioMaximo,
+                            LongSupplier reloj) {
+        this.segUsuarioRepository = segUsuarioRepository;
+        this.segRolRepository = segRolRepository;
+        this.ttlNanos = ttl.toNanos();
+        this.tamanioMaximo = tamanioMaximo;
+        this.reloj = reloj;
+    }
+
+    /**
+     * Busca el usuario interno, primero en caché y luego en la base de datos.
+     * Los usuarios inexistentes no se guardan en caché (se crean en el próximo login).
+     *
+     * @param auth0Id Identificador del usuario en Auth0
+     * @return Usuario de la sesión, si está registrado
+     */
+    @Override
+    public Optional<UsuarioSesionResponseDTO> buscar(String auth0Id) {
+        UsuarioSesionResponseDTO enCache = leer(auth0Id);
+        if (enCache != null) {
+            return Optional.of(enCache);
+        }
+        return segUsuarioRepository.findByAuth0Id(auth0Id).map(this::guardar);
+    }
+
+    /**
+     * Busca el usuario interno o, si no existe, lo registra inactivo con el rol EMPLEADO.
+     * Si dos logins simultáneos intentan registrarlo, la restricción única de {@code auth0_id}
+     * rechaza al segundo, que entonces lee el usuario ya creado.
+     *
+     * @param auth0Id Identificador del usuario en Auth0
+     * @return Usuario de la sesión, existente o recién creado
+     * @throws RuntimeException Si el rol por defecto EMPLEADO no está configurado
+     */
+    @Override
+    public UsuarioSesionResponseDTO buscarOCrear(String auth0Id) {
+        return buscar(auth0Id).orElseGet(() -> {
+            Rol rolDefault = segRolRepository.findByRolUsuario(RolUsuarioEnum.EMPLEADO)
+                    .orElseThrow(() -> new RuntimeException("Error: Rol por defecto EMPLEADO no encontrado."));
+            try {
+                Usuario nuevo = segUsuarioRepository.save(new Usuario(auth0Id, false, rolDefault));
+                log.info("Usuario {} registrado pendiente de aprobación", auth0Id);
+                return guardar(nuevo);
+            } catch (DataIntegrityViolationException e) {
+                return segUsuarioRepository.findByAuth0Id(auth0Id).map(this::guardar).orElseThrow(() -> e);
+            }
+        });
+    }
+
+    /**
+     * Descarta el usuario de la caché; la siguiente consulta lo vuelve a leer de la base de datos.
+     *
+     * @param auth0Id Identificador del usuario en Auth0
+     */
+    @Override
+    public void invalidar(String auth0Id) {
+        if (auth0Id != null) {
+            cache.remove(auth0Id);
+        }
+    }
+
+    private UsuarioSesionResponseDTO leer(String auth0Id) {
+        Entrada entrada = cache.get(auth0Id);
+        if (entrada == null) {
+            return null;
+        }
+        if (reloj.getAsLong() - entrada.vence() > 0) {
+            cache.remove(auth0Id, entrada);
+            return null;
+        }
+        return entrada.usuario();
+    }
+
+    private UsuarioSesionResponseDTO guardar(Usuario usuario) {
+        UsuarioSesionResponseDTO sesion = new UsuarioSesionResponseDTO(usuario.getId(), usuario.getAuth0Id(), usuario.isActivo(),
+                usuario.getRol() != null ? usuario.getRol().getRolUsuario().name() : null);
+        if (cache.size() >= tamanioMaximo) {
+            podar();
+        }
+        cache.put(usuario.getAuth0Id(), new Entrada(sesion, reloj.getAsLong() + ttlNanos));
+        return sesion;
+    }
+
+    /**
+     * Libera espacio al llenarse la caché: descarta las entradas vencidas y, si no alcanza,
+     * la décima parte más próxima a vencer. Si otro hilo ya está podando, no espera.
+     */
+    private void podar() {
+        if (!poda.tryLock()) {
+            return;
+        }
+        try {
+            if (cache.size() < tamanioMaximo) {
+                return;
+            }
+            long ahora = reloj.getAsLong();
+            cache.values().removeIf(e -> ahora - e.vence() > 0);
+            int exceso = cache.size() - tamanioMaximo + Math.max(1, tamanioMaximo / 10);
+            if (exceso > 0) {
+                cache.entrySet().stream()
+                        .sorted(Comparator.comparingLong(e -> e.getValue().vence()))
+                        .limit(exceso)
+                        .map(Map.Entry::getKey)
+                        .toList()
+                        .forEach(cache::remove);
+            }
+            log.debug("Caché de sesión podada: {} usuarios", cache.size());
+        } finally {
+            poda.unlock();
+        }
+    }
+
+    private record Entrada(UsuarioSesionResponseDTO usuario, long vence) {
+    }
+}
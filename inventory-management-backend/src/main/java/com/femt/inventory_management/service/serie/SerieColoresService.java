@@ -2,7 +2,10 @@ package com.femt.inventory_management.service.serie;
 
 import com.femt.inventory_management.dto.request.KitSerieBatchRequestDTO;
 import com.femt.inventory_management.dto.request.KitSerieColorBatchRequest;
+import com.femt.inventory_management.dto.request.KitSerieMatrizRequestDTO;
 import com.femt.inventory_management.dto.response.KitSerieColorResponseDTO;
+import com.femt.inventory_management.dto.response.KitSerieMatrizResponseDTO;
+import com.femt.inventory_management.dto.response.KitSerieSincronizacionResponseDTO;
 import com.femt.inventory_management.dto.response.KitSerieResponseDTO;
 
 import java.util.List;
@@ -15,10 +18,17 @@ public interface SerieColoresService {
             Integer idCategoria,
             Integer idTipoComponente
     );
+    KitSerieMatrizResponseDTO obtenerMatriz(
+            Integer idModelo,
+            Integer idCategoria,
+            Integer idTipoComponente
+    );
     KitSerieColorResponseDTO actualizarColor(Integer id, Integer nuevoColorId);
-    void eliminarPorModeloCategoriaTipo(
+    int eliminarPorModeloCategoriaTipo(
             Integer idModelo,
             Integer idCategoria,
             Integer idTipoComponente
     );
+    List<KitSerieColorResponseDTO> reemplazarMatriz(KitSerieMatrizRequestDTO request);
+    KitSerieSincronizacionResponseDTO sincronizarMatriz(KitSerieMatrizRequestDTO request);
 }
@@ -1,21 +1,28 @@
 package com.femt.inventory_management.service.serie.imp;
 
+import com.femt.inventory_management.dto.request.KitSerieCeldaRequestDTO;
 import com.femt.inventory_management.dto.request.KitSerieColorBatchRequest;
 import com.femt.inventory_management.dto.request.KitSerieColorRequestDTO;
+import com.femt.inventory_management.dto.request.KitSerieMatrizRequestDTO;
+import com.femt.inventory_management.dto.response.KitSerieCeldaDTO;
 import com.femt.inventory_management.dto.response.KitSerieColorResponseDTO;
+import com.femt.inventory_management.dto.response.KitSerieMatrizResponseDTO;
+import com.femt.inventory_management.dto.response.KitSerieSincronizacionResponseDTO;
+import com.femt.inventory_management.exceptions.KitSerieBatchValidationException;
 import com.femt.inventory_management.exceptions.KitSerieNotFoundException;
 import com.femt.inventory_management.exceptions.KitSerieValidationException;
 import com.femt.inventory_management.mapper.kit.KitSerieColorMapper;
 import com.femt.inventory_management.models.dimension.*;
 import com.femt.inventory_management.models.kit.KitSerieColor;
-import com.femt.inventory_management.repository.*;
+import com.femt.inventory_management.repository.KitSerieColorRepository;
+import com.femt.inventory_management.service.dimension.DimensionCatalogo;
 import com.femt.inventory_management.service.serie.SerieColoresService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
 
 /**
  * Servicio encargado de gestionar la creación, consulta, actualización y eliminación
@@ -30,35 +37,22 @@ import java.util.List;
  * - Obtener la matriz completa según modelo, categoría y tipo.
  * - Actualizar el color de una combinación específica.
  * - Eliminar todas las combinaciones asociadas a un modelo, categoría y tipo de componente.
+ * - Reemplazar la matriz completa en una sola transacción.
+ * - Sincronizar la matriz aplicando solo las celdas que cambiaron.
  */
 @Slf4j
 @Service
 public class SerieColoresServiceImp implements SerieColoresService {
 
     private final KitSerieColorRepository seriecolorRepo;
-    private final DimFilaRepository filaRepo;
-    private final DimColumnaRepository columnaRepo;
-    private final DimModeloRepository modeloRepo;
-    private final DimColorRepository colorRepo;
-    private final DimCategoriaRepository categoriaRepo;
-    private final DimTipoComponenteRepository tipoComponenteRepo;
+    private final DimensionCatalogo catalogo;
     private final KitSerieColorMapper mapper;
 
     public SerieColoresServiceImp(KitSerieColorRepository seriecolorRepo,
-                                  DimFilaRepository filaRepo,
-                                  DimColumnaRepository columnaRepo,
-                                  DimModeloRepository modeloRepo,
-                                  DimColorRepository colorRepo,
-                                  DimCategoriaRepository categoriaRepo,
-                                  DimTipoComponenteRepository tipoComponenteRepo,
+                                  DimensionCatalogo catalogo,
                                   KitSerieColorMapper mapper) {
         this.seriecolorRepo = seriecolorRepo;
-        this.filaRepo = filaRepo;
-        this.columnaRepo = columnaRepo;
-        this.modeloRepo = modeloRepo;
-        this.colorRepo = colorRepo;
-        this.categoriaRepo = categoriaRepo;
-        this.tipoComponenteRepo = tipoComponenteRepo;
+        this.catalogo = catalogo;
         this.mapper = mapper;
     }
 
@@ -67,15 +61,20 @@ public class SerieColoresServiceImp implements SerieColoresService {
      * Cada combinación corresponde a una posición fila-columna para un modelo,
      * categoría y tipo de componente específico.
      *
+     * Las dimensiones se resuelven por conjunto: se recogen los IDs distintos de cada
+     * dimensión y se resuelven de una sola vez en el catálogo, de modo que el número de
+     * consultas no crece con la cantidad de filas del lote.
+     *
      * El método valida:
      * - Que la lista no esté vacía.
      * - Que cada registro tenga los campos obligatorios.
-     * - Que los IDs de dimensiones existan en la base de datos.
+     * - Que los IDs de dimensiones existan.
+     * Todos los errores se reportan juntos, indicando la posición de cada registro.
      *
      * @param request lista de combinaciones a registrar
      * @return lista de combinaciones guardadas en formato DTO
-     * @throws KitSerieValidationException si faltan campos obligatorios
-     * @throws KitSerieNotFoundException si alguna dimensión no existe
+     * @throws KitSerieValidationException si la lista está vacía
+     * @throws KitSerieBatchValidationException si algún registro tiene campos faltantes o dimensiones inexistentes
      */
     @Override
     public List<KitSerieColorResponseDTO> guardarSerieColores(KitSerieColorBatchRequest request) {
@@ -84,44 +83,13 @@ public class SerieColoresServiceImp implements SerieColoresService {
             throw new KitSerieValidationException("La lista de series está vacía", "colores");
         }
 
-        log.info("Registrando {} colores", request.colores().size());
-
-        List<KitSerieColor> serieColores = new ArrayList<>();
-
-        for (KitSerieColorRequestDTO dto : request.colores()) {
-
-            validarCamposObligatorios(dto);
-
-            DimFila fila = filaRepo.findById(dto.idFila())
-                    .orElseThrow(() -> new KitSerieNotFoundException("La fila no existe"));
-
-            DimColumna columna = columnaRepo.findById(dto.idColumna())
-                    .orElseThrow(() -> new KitSerieNotFoundException("La columna no existe"));
-
-            DimModelo modelo = modeloRepo.findById(dto.idModelo())
-                    .orElseThrow(() -> new KitSerieNotFoundException("El modelo no existe"));
-
-            DimColor color = colorRepo.findById(dto.idColor())
-                    .orElseThrow(() -> new KitSerieNotFoundException("El color no existe"));
+        List<KitSerieColorRequestDTO> colores = request.colores();
 
-            DimCategoria categoria = categoriaRepo.findById(dto.idCategoria())
-                    .orElseThrow(() -> new KitSerieNotFoundException("La categoría no existe"));
+        log.info("Registrando {} colores", colores.size());
 
-            DimTipoComponente tipo = tipoComponenteRepo.findById(dto.idTipoComponente())
-                    .orElseThrow(() -> new KitSerieNotFoundException("El tipo de componente no existe"));
+        List<KitSerieColor> serieColores = construirEntidades(colores, new ArrayList<>());
 
-            KitSerieColor entidad = new KitSerieColor();
-            entidad.setFila(fila);
-            entidad.setColumna(columna);
-            entidad.setModelo(modelo);
-            entidad.setColor(color);
-            entidad.setCategoria(categoria);
-            entidad.setTipoComponente(tipo);
-
-            serieColores.add(entidad);
-        }
-
-        List<KitSerieColor> guardadas = seriecolorRepo.saveAll(serieColores);
+        List<KitSerieColor> guardadas = seriecolorRepo.insertarEnLote(serieColores);
 
         log.debug("Series de colores registradas: {}", guardadas.size());
 
@@ -156,13 +124,15 @@ public class SerieColoresServiceImp implements SerieColoresService {
      * Obtiene todas las combinaciones registradas para un modelo,
      * categoría y tipo de componente.
      *
-     * Se utiliza para recuperar la matriz completa de colores.
+     * Se utiliza para recuperar la matriz completa de colores. La matriz se obtiene con una
+     * única consulta que proyecta directamente al DTO; las dimensiones solo se verifican
+     * (en el catálogo en memoria) cuando no hay resultados, para informar cuál no existe.
      *
      * @param idModelo id del modelo
      * @param idCategoria id de la categoría
      * @param idTipoComponente id del tipo de componente
      * @return lista de combinaciones encontradas en formato DTO
-     * @throws KitSerieNotFoundException si no existen combinaciones
+     * @throws KitSerieNotFoundException si alguna dimensión no existe o no hay combinaciones
      */
     @Override
     @Transactional(readOnly = true)
@@ -173,36 +143,63 @@ public class SerieColoresServiceImp implements SerieColoresService {
         log.info("Consultando series por modelo={}, categoria={}, tipo={}",
                 idModelo, idCategoria, idTipoComponente);
 
-        DimModelo modelo = modeloRepo.findById(idModelo)
-                .orElseThrow(() -> {
-                    log.error("Modelo no encontrado con ID {}", idModelo);
-                    return new KitSerieNotFoundException("Modelo no encontrado");
-                });
+        List<KitSerieColorResponseDTO> lista =
+                seriecolorRepo.buscarMatriz(idModelo, idCategoria, idTipoComponente);
 
-        DimCategoria categoria = categoriaRepo.findById(idCategoria)
-                .orElseThrow(() -> {
-                    log.error("Categoría no encontrada con ID {}", idCategoria);
-                    return new KitSerieNotFoundException("Categoría no encontrada");
-                });
+        if (lista.isEmpty()) {
+            validarDimensionesMatriz(idModelo, idCategoria, idTipoComponente);
+            log.warn("No se encontraron combinaciones para los parámetros dados");
+            throw new KitSerieNotFoundException(
+                    "No existen combinaciones registradas para esos parámetros");
+        }
 
-        DimTipoComponente tipo = tipoComponenteRepo.findById(idTipoComponente)
-                .orElseThrow(() -> {
-                    log.error("Tipo de componente no encontrado con ID {}", idTipoComponente);
-                    return new KitSerieNotFoundException("Tipo no encontrado");
-                });
+        log.info("Se encontraron {} combinaciones", lista.size());
 
-        List<KitSerieColor> lista =
-                seriecolorRepo.findByModeloAndCategoriaAndTipoComponente(modelo, categoria, tipo);
+        return lista;
+    }
 
-        if (lista.isEmpty()) {
+    /**
+     * Obtiene la matriz de un modelo, categoría y tipo de componente en formato compacto:
+     * filas, columnas y colores una sola vez, y el color de cada celda en un arreglo fila por fila.
+     *
+     * Las celdas se leen con una consulta liviana (solo IDs) y los nombres de las dimensiones
+     * se toman del catálogo en memoria.
+     *
+     * @param idModelo id del modelo
+     * @param idCategoria id de la categoría
+     * @param idTipoComponente id del tipo de componente
+     * @return matriz compacta
+     * @throws KitSerieNotFoundException si alguna dimensión no existe o no hay combinaciones
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KitSerieMatrizResponseDTO obtenerMatriz(Integer idModelo,
+                                                   Integer idCategoria,
+                                                   Integer idTipoComponente) {
+
+        log.info("Consultando matriz compacta por modelo={}, categoria={}, tipo={}",
+                idModelo, idCategoria, idTipoComponente);
+
+        List<KitSerieCeldaDTO> celdas =
+                seriecolorRepo.buscarCeldas(idModelo, idCategoria, idTipoComponente);
+
+        if (celdas.isEmpty()) {
+            validarDimensionesMatriz(idModelo, idCategoria, idTipoComponente);
             log.warn("No se encontraron combinaciones para los parámetros dados");
             throw new KitSerieNotFoundException(
                     "No existen combinaciones registradas para esos parámetros");
         }
 
-        log.info("Se encontraron {} combinaciones", lista.size());
+        List<DimFila> filas = ordenadas(catalogo.resolver(DimFila.class,
+                celdas.stream().map(KitSerieCeldaDTO::idFila).toList()));
+        List<DimColumna> columnas = ordenadas(catalogo.resolver(DimColumna.class,
+                celdas.stream().map(KitSerieCeldaDTO::idColumna).toList()));
+        List<DimColor> colores = ordenadas(catalogo.resolver(DimColor.class,
+                celdas.stream().map(KitSerieCeldaDTO::idColor).toList()));
+
+        log.info("Matriz de {}x{} con {} celdas", filas.size(), columnas.size(), celdas.size());
 
-        return lista.stream().map(mapper::toDTO).toList();
+        return mapper.toMatrizDTO(idModelo, idCategoria, idTipoComponente, celdas, filas, columnas, colores);
     }
 
     /**
@@ -214,7 +211,7 @@ public class SerieColoresServiceImp implements SerieColoresService {
      * @throws KitSerieNotFoundException si la combinación o el color no existen
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public KitSerieColorResponseDTO actualizarColor(Integer id, Integer nuevoColorId) {
 
         log.info("Solicitando actualización del color en registro id={} a nuevoColorId={}",
@@ -226,7 +223,7 @@ public class SerieColoresServiceImp implements SerieColoresService {
                     return new KitSerieNotFoundException("No se encontró la serie de color");
                 });
 
-        DimColor nuevoColor = colorRepo.findById(nuevoColorId)
+        DimColor nuevoColor = catalogo.buscarPorId(DimColor.class, nuevoColorId)
                 .orElseThrow(() -> {
                     log.error("No existe el color con ID {}", nuevoColorId);
                     return new KitSerieNotFoundException("El color no existe");
@@ -245,64 +242,332 @@ public class SerieColoresServiceImp implements SerieColoresService {
      * Elimina todas las combinaciones de un modelo, categoría y tipo de componente.
      * Se utiliza cuando se necesita regenerar la matriz completa.
      *
+     * La eliminación se ejecuta como un único DELETE en la base de datos, sin cargar las entidades.
+     *
      * @param idModelo id del modelo
      * @param idCategoria id de la categoría
      * @param idTipoComponente id del tipo de componente
+     * @return cantidad de combinaciones eliminadas
      * @throws KitSerieNotFoundException si alguna dimensión no existe
      */
     @Override
     @Transactional(readOnly = false)
-    public void eliminarPorModeloCategoriaTipo(Integer idModelo,
-                                               Integer idCategoria,
-                                               Integer idTipoComponente) {
+    public int eliminarPorModeloCategoriaTipo(Integer idModelo,
+                                              Integer idCategoria,
+                                              Integer idTipoComponente) {
 
-        DimModelo modelo = modeloRepo.findById(idModelo)
-                .orElseThrow(() -> new KitSerieNotFoundException("El modelo no existe"));
+        int eliminadas = seriecolorRepo.eliminarMatriz(idModelo, idCategoria, idTipoComponente);
 
-        DimCategoria categoria = categoriaRepo.findById(idCategoria)
-                .orElseThrow(() -> new KitSerieNotFoundException("La categoría no existe"));
+        if (eliminadas == 0) {
+            validarDimensionesMatriz(idModelo, idCategoria, idTipoComponente);
+        }
 
-        DimTipoComponente tipo = tipoComponenteRepo.findById(idTipoComponente)
-                .orElseThrow(() -> new KitSerieNotFoundException("El tipo de componente no existe"));
+        log.info("Eliminación completada para modelo={}, categoría={}, tipo={}: {} combinaciones",
+                idModelo, idCategoria, idTipoComponente, eliminadas);
 
-        seriecolorRepo.deleteByModeloAndCategoriaAndTipoComponente(modelo, categoria, tipo);
+        return eliminadas;
+    }
 
-        log.info("Eliminación completada para modelo={}, categoría={}, tipo={}",
-                idModelo, idCategoria, idTipoComponente);
+    /**
+     * Reemplaza la matriz completa de un modelo, categoría y tipo de componente.
+     * Elimina las combinaciones actuales e inserta las nuevas en una sola transacción:
+     * si la nueva matriz no es válida o falla la inserción, la matriz anterior se conserva.
+     *
+     * @param request matriz completa a registrar
+     * @return lista de combinaciones registradas en formato DTO
+     * @throws KitSerieValidationException si faltan el modelo, la categoría, el tipo o las celdas
+     * @throws KitSerieBatchValidationException si alguna celda no es válida
+     */
+    @Override
+    @Transactional
+    public List<KitSerieColorResponseDTO> reemplazarMatriz(KitSerieMatrizRequestDTO request) {
+
+        List<String> errores = new ArrayList<>();
+        List<KitSerieColor> serieColores = construirEntidades(aRegistros(request, errores), errores);
+
+        int eliminadas = seriecolorRepo.eliminarMatriz(
+                request.idModelo(), request.idCategoria(), request.idTipoComponente());
+
+        List<KitSerieColor> guardadas = seriecolorRepo.insertarEnLote(serieColores);
+
+        log.info("Matriz reemplazada para modelo={}, categoría={}, tipo={}: {} eliminadas, {} registradas",
+                request.idModelo(), request.idCategoria(), request.idTipoComponente(),
+                eliminadas, guardadas.size());
+
+        return guardadas.stream().map(mapper::toDTO).toList();
+    }
+
+    /**
+     * Sincroniza la matriz de un modelo, categoría y tipo de componente con la matriz recibida.
+     * Compara cada posición fila-columna con lo registrado y aplica solo las diferencias,
+     * en una sola transacción:
+     * - Posiciones nuevas: se insertan en lote.
+     * - Posiciones con otro color: se actualizan con un UPDATE por color de destino.
+     * - Posiciones que ya no vienen en la matriz: se eliminan con un único DELETE.
+     * - Posiciones con el mismo color: no generan escrituras.
+     *
+     * @param request matriz completa deseada
+     * @return cantidad de celdas insertadas, actualizadas, eliminadas y sin cambios
+     * @throws KitSerieValidationException si faltan el modelo, la categoría, el tipo o las celdas
+     * @throws KitSerieBatchValidationException si alguna celda no es válida
+     */
+    @Override
+    @Transactional
+    public KitSerieSincronizacionResponseDTO sincronizarMatriz(KitSerieMatrizRequestDTO request) {
+
+        List<String> errores = new ArrayList<>();
+        List<KitSerieColor> deseadas = construirEntidades(aRegistros(request, errores), errores);
+
+        Map<List<Integer>, KitSerieCeldaDTO> actuales = new HashMap<>();
+        for (KitSerieCeldaDTO celda : seriecolorRepo.buscarCeldas(
+                request.idModelo(), request.idCategoria(), request.idTipoComponente())) {
+            actuales.put(Arrays.asList(celda.idFila(), celda.idColumna()), celda);
+        }
+
+        List<KitSerieColor> nuevas = new ArrayList<>();
+        Map<Integer, List<Integer>> cambiosPorColor = new HashMap<>();
+        int sinCambios = 0;
+
+        for (KitSerieColor deseada : deseadas) {
+            KitSerieCeldaDTO actual = actuales.remove(
+                    Arrays.asList(deseada.getFila().getId(), deseada.getColumna().getId()));
+            if (actual == null) {
+                nuevas.add(deseada);
+            } else if (!actual.idColor().equals(deseada.getColor().getId())) {
+                cambiosPorColor.computeIfAbsent(deseada.getColor().getId(), k -> new ArrayList<>())
+                        .add(actual.id());
+            } else {
+                sinCambios++;
+            }
+        }
+
+        int eliminadas = 0;
+        if (!actuales.isEmpty()) {
+            eliminadas = seriecolorRepo.eliminarPorIds(
+                    actuales.values().stream().map(KitSerieCeldaDTO::id).toList());
+        }
+
+        int actualizadas = 0;
+        for (Map.Entry<Integer, List<Integer>> cambio : cambiosPorColor.entrySet()) {
+            actualizadas += seriecolorRepo.actualizarColor(cambio.getValue(), cambio.getKey());
+        }
+
+        int insertadas = nuevas.isEmpty() ? 0 : seriecolorRepo.insertarEnLote(nuevas).size();
+
+        log.info("Matriz sincronizada para modelo={}, categoría={}, tipo={}: {} insertadas, {} actualizadas, {} eliminadas, {} sin cambios",
+                request.idModelo(), request.idCategoria(), request.idTipoComponente(),
+                insertadas, actualizadas, eliminadas, sinCambios);
+
+        return new KitSerieSincronizacionResponseDTO(insertadas, actualizadas, eliminadas, sinCambios);
+    }
+
+    /**
+     * Valida un lote de combinaciones y construye sus entidades.
+     * Las dimensiones se resuelven por conjunto (una resolución por dimensión, no por registro)
+     * y todos los errores se reportan juntos, indicando la posición de cada registro.
+     *
+     * @param colores registros del request
+     * @param errores errores ya detectados en el request, que se reportan junto con los de esta validación
+     * @return entidades listas para insertar
+     * @throws KitSerieBatchValidationException si algún registro tiene campos faltantes o dimensiones inexistentes
+     */
+    private List<KitSerieColor> construirEntidades(List<KitSerieColorRequestDTO> colores, List<String> errores) {
+
+        Map<Integer, DimFila> filas = catalogo.resolver(DimFila.class, ids(colores, KitSerieColorRequestDTO::idFila));
+        Map<Integer, DimColumna> columnas = catalogo.resolver(DimColumna.class, ids(colores, KitSerieColorRequestDTO::idColumna));
+        Map<Integer, DimModelo> modelos = catalogo.resolver(DimModelo.class, ids(colores, KitSerieColorRequestDTO::idModelo));
+        Map<Integer, DimColor> colorPorId = catalogo.resolver(DimColor.class, ids(colores, KitSerieColorRequestDTO::idColor));
+        Map<Integer, DimCategoria> categorias = catalogo.resolver(DimCategoria.class, ids(colores, KitSerieColorRequestDTO::idCategoria));
+        Map<Integer, DimTipoComponente> tipos = catalogo.resolver(DimTipoComponente.class, ids(colores, KitSerieColorRequestDTO::idTipoComponente));
+
+        for (int i = 0; i < colores.size(); i++) {
+            KitSerieColorRequestDTO dto = colores.get(i);
+            if (dto == null) {
+                errores.add("Registro " + i + ": el registro es nulo");
+                continue;
+            }
+            List<String> problemas = camposFaltantes(dto);
+            verificarExiste(filas, dto.idFila(), "la fila", problemas);
+            verificarExiste(columnas, dto.idColumna(), "la columna", problemas);
+            verificarExiste(modelos, dto.idModelo(), "el modelo", problemas);
+            verificarExiste(colorPorId, dto.idColor(), "el color", problemas);
+            verificarExiste(categorias, dto.idCategoria(), "la categoría", problemas);
+            verificarExiste(tipos, dto.idTipoComponente(), "el tipo de componente", problemas);
+
+            if (!problemas.isEmpty()) {
+                errores.add("Registro " + i + ": " + String.join("; ", problemas));
+            }
+        }
+
+        if (!errores.isEmpty()) {
+            log.warn("Lote de colores rechazado: {} de {} registros con errores", errores.size(), colores.size());
+            throw new KitSerieBatchValidationException("El lote contiene registros inválidos", errores);
+        }
+
+        List<KitSerieColor> serieColores = new ArrayList<>(colores.size());
+
+        for (KitSerieColorRequestDTO dto : colores) {
+            KitSerieColor entidad = new KitSerieColor();
+            entidad.setFila(filas.get(dto.idFila()));
+            entidad.setColumna(columnas.get(dto.idColumna()));
+            entidad.setModelo(modelos.get(dto.idModelo()));
+            entidad.setColor(colorPorId.get(dto.idColor()));
+            entidad.setCategoria(categorias.get(dto.idCategoria()));
+            entidad.setTipoComponente(tipos.get(dto.idTipoComponente()));
+
+            serieColores.add(entidad);
+        }
+
+        return serieColores;
+    }
+
+    /**
+     * Convierte una matriz completa en registros individuales, validando que
+     * tenga modelo, categoría y tipo, y que no repita posiciones fila-columna.
+     *
+     * @param request matriz del request
+     * @param errores lista donde se agregan las posiciones repetidas
+     * @return un registro por celda
+     * @throws KitSerieValidationException si falta el modelo, la categoría, el tipo o las celdas
+     */
+    private List<KitSerieColorRequestDTO> aRegistros(KitSerieMatrizRequestDTO request, List<String> errores) {
+
+        if (request.idModelo() == null) {
+            throw new KitSerieValidationException("El ID del modelo es obligatorio", "idModelo");
+        }
+
+        if (request.idCategoria() == null) {
+            throw new KitSerieValidationException("El ID de la categoría es obligatorio", "idCategoria");
+        }
+
+        if (request.idTipoComponente() == null) {
+            throw new KitSerieValidationException("El ID del tipo de componente es obligatorio", "idTipoComponente");
+        }
+
+        if (request.celdas() == null || request.celdas().isEmpty()) {
+            throw new KitSerieValidationException("La matriz no tiene celdas", "celdas");
+        }
+
+        List<KitSerieColorRequestDTO> registros = new ArrayList<>(request.celdas().size());
+        Set<List<Integer>> posiciones = new HashSet<>();
+
+        for (int i = 0; i < request.celdas().size(); i++) {
+            KitSerieCeldaRequestDTO celda = request.celdas().get(i);
+            if (celda == null) {
+                registros.add(null);
+                continue;
+            }
+            if (celda.idFila() != null && celda.idColumna() != null
+                    && !posiciones.add(Arrays.asList(celda.idFila(), celda.idColumna()))) {
+                errores.add("Registro " + i + ": la posición fila " + celda.idFila()
+                        + ", columna " + celda.idColumna() + " está repetida");
+            }
+            registros.add(new KitSerieColorRequestDTO(
+                    celda.idFila(),
+                    celda.idColumna(),
+                    request.idModelo(),
+                    celda.idColor(),
+                    request.idCategoria(),
+                    request.idTipoComponente()
+            ));
+        }
+
+        return registros;
+    }
+
+    /**
+     * Verifica que existan el modelo, la categoría y el tipo de componente de una matriz.
+     *
+     * @throws KitSerieNotFoundException indicando la primera dimensión que no existe
+     */
+    private void validarDimensionesMatriz(Integer idModelo, Integer idCategoria, Integer idTipoComponente) {
+
+        if (catalogo.buscarPorId(DimModelo.class, idModelo).isEmpty()) {
+            log.error("Modelo no encontrado con ID {}", idModelo);
+            throw new KitSerieNotFoundException("Modelo no encontrado");
+        }
+
+        if (catalogo.buscarPorId(DimCategoria.class, idCategoria).isEmpty()) {
+            log.error("Categoría no encontrada con ID {}", idCategoria);
+            throw new KitSerieNotFoundException("Categoría no encontrada");
+        }
+
+        if (catalogo.buscarPorId(DimTipoComponente.class, idTipoComponente).isEmpty()) {
+            log.error("Tipo de componente no encontrado con ID {}", idTipoComponente);
+            throw new KitSerieNotFoundException("Tipo no encontrado");
+        }
+    }
+
+    /**
+     * Ordena por ID las dimensiones resueltas.
+     */
+    private <T extends DimBase> List<T> ordenadas(Map<Integer, T> resueltas) {
+        return new TreeMap<>(resueltas).values().stream().toList();
+    }
+
+    /**
+     * Recoge los IDs distintos de una dimensión dentro del lote.
+     *
+     * @param colores registros del request
+     * @param campo   extractor del ID de la dimensión
+     * @return conjunto de IDs no nulos
+     */
+    private Set<Integer> ids(List<KitSerieColorRequestDTO> colores,
+                             Function<KitSerieColorRequestDTO, Integer> campo) {
+        Set<Integer> ids = new HashSet<>();
+        for (KitSerieColorRequestDTO dto : colores) {
+            if (dto != null && campo.apply(dto) != null) {
+                ids.add(campo.apply(dto));
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Agrega un problema si el ID informado no fue resuelto.
+     * Los IDs nulos ya se reportan como campos faltantes.
+     */
+    private <T> void verificarExiste(Map<Integer, T> resueltas, Integer id, String nombre, List<String> problemas) {
+        if (id != null && !resueltas.containsKey(id)) {
+            problemas.add(nombre + " con ID " + id + " no existe");
+        }
     }
 
     /**
      * Verifica que los campos mínimos obligatorios estén presentes en la solicitud.
-     * Esta validación se ejecuta antes de consultar las dimensiones en la base de datos.
+     * Esta validación se ejecuta antes de construir las entidades.
      *
      * @param dto registro del request
-     * @throws KitSerieValidationException si falta algún campo
+     * @return lista de campos faltantes (vacía si el registro está completo)
      */
-    private void validarCamposObligatorios(KitSerieColorRequestDTO dto) {
+    private List<String> camposFaltantes(KitSerieColorRequestDTO dto) {
+
+        List<String> faltantes = new ArrayList<>();
 
         if (dto.idFila() == null) {
-            throw new KitSerieValidationException("El id de la fila es obligatorio", "idFila");
+            faltantes.add("El id de la fila es obligatorio");
         }
 
         if (dto.idColumna() == null) {
-            throw new KitSerieValidationException("El id de la columna es obligatorio", "idColumna");
+            faltantes.add("El id de la columna es obligatorio");
         }
 
         if (dto.idModelo() == null) {
-            throw new KitSerieValidationException("El ID del modelo es obligatorio", "idModelo");
+            faltantes.add("El ID del modelo es obligatorio");
         }
 
         if (dto.idColor() == null) {
-            throw new KitSerieValidationException("El ID del color es obligatorio", "idColor");
+            faltantes.add("El ID del color es obligatorio");
         }
 
         if (dto.idCategoria() == null) {
-            throw new KitSerieValidationException("El ID de la categoría es obligatorio", "idCategoria");
+            faltantes.add("El ID de la categoría es obligatorio");
         }
 
         if (dto.idTipoComponente() == null) {
-            throw new KitSerieValidationException("El ID del tipo de componente es obligatorio", "idTipoComponente");
+            faltantes.add("El ID del tipo de componente es obligatorio");
         }
+
+        return faltantes;
     }
 }
-
@@ -1,9 +1,12 @@
 package com.femt.inventory_management.service.ventas;
 
 import com.femt.inventory_management.dto.request.VentasClienteRequestDTO;
+import com.femt.inventory_management.dto.request.VentasFiltroRequestDTO;
+import com.femt.inventory_management.dto.response.PaginaResponseDTO;
 import com.femt.inventory_management.dto.response.VentasClienteResponseDTO;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface VentasClienteService {
     VentasClienteResponseDTO crear(VentasClienteRequestDTO dto);
@@ -11,5 +14,7 @@ public interface VentasClienteService {
     void eliminar(Integer id);
     VentasClienteResponseDTO obtenerPorId(Integer id);
     List<VentasClienteResponseDTO> listar();
-
+    PaginaResponseDTO<VentasClienteResponseDTO> listarPagina(VentasFiltroRequestDTO filtro);
+    void validarExportacion(VentasFiltroRequestDTO filtro);
+    void exportar(VentasFiltroRequestDTO filtro, Consumer<VentasClienteResponseDTO> consumidor);
 }
@@ -1,9 +1,16 @@
 package com.femt.inventory_management.service.ventas;
 
 import com.femt.inventory_management.dto.request.VentasComprobantePagoRequestDTO;
+import com.femt.inventory_management.dto.request.VentasFiltroRequestDTO;
+import com.femt.inventory_management.dto.response.PaginaResponseDTO;
+import com.femt.inventory_management.dto.response.SunatEstadisticasResponseDTO;
 import com.femt.inventory_management.dto.response.VentasComprobantePagoResponseDTO;
+import com.femt.inventory_management.dto.response.VentasDocumentoResponseDTO;
+import com.femt.inventory_management.models.ventas.enums.VentasTipoDocumentoEnum;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface VentasComprobantePagoService {
     VentasComprobantePagoResponseDTO crear(VentasComprobantePagoRequestDTO dto);
@@ -11,5 +18,12 @@ public interface VentasComprobantePagoService {
     void eliminar(Integer id);
     VentasComprobantePagoResponseDTO obtenerPorId(Integer id);
     List<VentasComprobantePagoResponseDTO> listar();
-
+    PaginaResponseDTO<VentasComprobantePagoResponseDTO> listarPagina(VentasFiltroRequestDTO filtro);
+    void validarExportacion(VentasFiltroRequestDTO filtro);
+    void exportar(VentasFiltroRequestDTO filtro, Consumer<VentasComprobantePagoResponseDTO> consumidor);
+    SunatEstadisticasResponseDTO estadisticasSunat();
+    VentasDocumentoResponseDTO obtenerDocumento(Integer id, VentasTipoDocumentoEnum tipo);
+    void validarExportacionDocumentos(VentasFiltroRequestDTO filtro);
+    void exportarDocumentos(VentasFiltroRequestDTO filtro, Consumer<VentasDocumentoResponseDTO> consumidor);
+    VentasComprobantePagoResponseDTO guardarDocumento(Integer id, VentasTipoDocumentoEnum tipo, InputStream contenido);
 }
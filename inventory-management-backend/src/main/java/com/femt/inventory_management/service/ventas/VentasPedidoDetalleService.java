@@ -1,9 +1,12 @@
 package com.femt.inventory_management.service.ventas;
 
 import com.femt.inventory_management.dto.request.VentasPedidoDetalleRequestDTO;
+import com.femt.inventory_management.dto.request.VentasFiltroRequestDTO;
+import com.femt.inventory_management.dto.response.PaginaResponseDTO;
 import com.femt.inventory_management.dto.response.VentasPedidoDetalleResponseDTO;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface VentasPedidoDetalleService {
     VentasPedidoDetalleResponseDTO crear(VentasPedidoDetalleRequestDTO dto);
@@ -11,4 +14,7 @@ public interface VentasPedidoDetalleService {
     void eliminar(Integer id);
     VentasPedidoDetalleResponseDTO obtenerPorId(Integer id);
     List<VentasPedidoDetalleResponseDTO> listar();
+    PaginaResponseDTO<VentasPedidoDetalleResponseDTO> listarPagina(VentasFiltroRequestDTO filtro);
+    void validarExportacion(VentasFiltroRequestDTO filtro);
+    void exportar(VentasFiltroRequestDTO filtro, Consumer<VentasPedidoDetalleResponseDTO> consumidor);
 }
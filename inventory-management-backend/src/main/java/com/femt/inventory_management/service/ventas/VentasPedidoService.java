@@ -1,14 +1,23 @@
 package com.femt.inventory_management.service.ventas;
 
+import com.femt.inventory_management.dto.request.VentasPedidoCompletoRequestDTO;
 import com.femt.inventory_management.dto.request.VentasPedidoRequestDTO;
+import com.femt.inventory_management.dto.request.VentasFiltroRequestDTO;
+import com.femt.inventory_management.dto.response.PaginaResponseDTO;
+import com.femt.inventory_management.dto.response.VentasPedidoCompletoResponseDTO;
 import com.femt.inventory_management.dto.response.VentasPedidoResponseDTO;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface VentasPedidoService {
     VentasPedidoResponseDTO crear(VentasPedidoRequestDTO dto);
+    VentasPedidoCompletoResponseDTO crearCompleto(VentasPedidoCompletoRequestDTO dto);
     VentasPedidoResponseDTO actualizar(Integer id, VentasPedidoRequestDTO dto);
     void eliminar(Integer id);
     VentasPedidoResponseDTO obtenerPorId(Integer id);
     List<VentasPedidoResponseDTO> listar();
+    PaginaResponseDTO<VentasPedidoResponseDTO> listarPagina(VentasFiltroRequestDTO filtro);
+    void validarExportacion(VentasFiltroRequestDTO filtro);
+    void exportar(VentasFiltroRequestDTO filtro, Consumer<VentasPedidoResponseDTO> consumidor);
 }
@@ -0,0 +1,19 @@
+package com.femt.inventory_management.service.ventas;
+
+import com.femt.inventory_management.dto.request.VentasResumenFiltroRequestDTO;
+import com.femt.inventory_management.dto.response.VentasResumenResponseDTO;
+import com.femt.inventory_management.models.ventas.VentasVenta;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface VentasResumenService {
+    void sumar(VentasVenta venta);
+    void restar(VentasVenta venta);
+    void cambiarModelo(Integer idPedido, Integer idModeloNuevo);
+    void restarVentasDePedido(Integer idPedido);
+    void restarVentasDeCliente(Integer idCliente);
+    void restarVentasDeUsuario(Integer idUsuario);
+    List<VentasResumenResponseDTO> consultar(VentasResumenFiltroRequestDTO filtro);
+    int reconstruir(LocalDate desde, LocalDate hasta);
+}
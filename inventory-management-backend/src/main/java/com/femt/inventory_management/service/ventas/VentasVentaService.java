@@ -1,9 +1,12 @@
 package com.femt.inventory_management.service.ventas;
 
 import com.femt.inventory_management.dto.request.VentasVentaRequestDTO;
+import com.femt.inventory_management.dto.request.VentasFiltroRequestDTO;
+import com.femt.inventory_management.dto.response.PaginaResponseDTO;
 import com.femt.inventory_management.dto.response.VentasVentaResponseDTO;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface VentasVentaService {
     VentasVentaResponseDTO crear(VentasVentaRequestDTO dto);
@@ -11,4 +14,7 @@ public interface VentasVentaService {
     void eliminar(Integer id);
     VentasVentaResponseDTO obtenerPorId(Integer id);
     List<VentasVentaResponseDTO> listar();
+    PaginaResponseDTO<VentasVentaResponseDTO> listarPagina(VentasFiltroRequestDTO filtro);
+    void validarExportacion(VentasFiltroRequestDTO filtro);
+    void exportar(VentasFiltroRequestDTO filtro, Consumer<VentasVentaResponseDTO> consumidor);
 }
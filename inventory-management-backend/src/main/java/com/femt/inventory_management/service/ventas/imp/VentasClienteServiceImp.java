@@ -1,6 +1,8 @@
 package com.femt.inventory_management.service.ventas.imp;
 
 import com.femt.inventory_management.dto.request.VentasClienteRequestDTO;
+import com.femt.inventory_management.dto.request.VentasFiltroRequestDTO;
+import com.femt.inventory_management.dto.response.PaginaResponseDTO;
 import com.femt.inventory_management.dto.response.VentasClienteResponseDTO;
 import com.femt.inventory_management.exceptions.VentasNotFoundException;
 import com.femt.inventory_management.exceptions.VentasValidationException;
@@ -8,19 +10,25 @@ import com.femt.inventory_management.mapper.ventas.VentasMapper;
 import com.femt.inventory_management.models.ventas.VentasCliente;
 import com.femt.inventory_management.repository.VentasClienteRepository;
 import com.femt.inventory_management.service.ventas.VentasClienteService;
+import com.femt.inventory_management.service.ventas.VentasResumenService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 public class VentasClienteServiceImp implements VentasClienteService {
     private final VentasClienteRepository clienteRepository;
+    private final VentasResumenService resumenService;
     private final VentasMapper mapper;
 
-    public VentasClienteServiceImp(VentasClienteRepository clienteRepository, VentasMapper mapper) {
+    public VentasClienteServiceImp(VentasClienteRepository clienteRepository, VentasResumenService resumenService, VentasMapper mapper) {
         this.clienteRepository = clienteRepository;
+        this.resumenService = resumenService;
         this.mapper = mapper;
     }
 
@@ -73,10 +81,13 @@ public class VentasClienteServiceImp implements VentasClienteService {
      * @param id
      */
     @Override
+    @Transactional
     public void eliminar(Integer id) {
         if (!clienteRepository.existsById(id)) {
             throw new VentasNotFoundException("Cliente con ID " + id + " no encontrado");
         }
+        // Sus ventas y pedidos se eliminan en cascada en la base de datos
+        resumenService.restarVentasDeCliente(id);
         clienteRepository.deleteById(id);
         log.warn("Cliente {} eliminado", id);
     }
@@ -102,6 +113,55 @@ public class VentasClienteServiceImp implements VentasClienteService {
                 .toList();
     }
 
+    /**
+     * Lista clientes por páginas usando un cursor (keyset) en lugar de OFFSET.
+     * Se ordena por ID (del más reciente al más antiguo) y cada página continúa desde el
+     * cursor de la anterior, por lo que su costo no depende del tamaño del historial.
+     *
+     * @param filtro cursor, tamaño de página, orden y filtros opcionales
+     * @return página de clientes con el cursor de la página siguiente
+     * @throws VentasValidationException si el orden, el tamaño, el cursor o el rango de fechas no son válidos
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaResponseDTO<VentasClienteResponseDTO> listarPagina(VentasFiltroRequestDTO filtro) {
+        VentasKeyset.validar(filtro, false);
+        VentasKeyset.Cursor cursor = VentasKeyset.cursor(filtro, false);
+
+        List<VentasClienteResponseDTO> filas = clienteRepository.buscarPaginaPorId(filtro.nombre(),
+                cursor.id(), VentasKeyset.limite(filtro));
+
+        return VentasKeyset.pagina(filas, filtro, dto -> VentasKeyset.cursorDe(dto.id()));
+    }
+
+    /**
+     * Valida el filtro de {@link #exportar} antes de empezar a escribir la respuesta,
+     * cuando todavía se puede responder con un error.
+     *
+     * @throws VentasValidationException si el tamaño, el orden o el rango de fechas no son válidos
+     */
+    @Override
+    public void validarExportacion(VentasFiltroRequestDTO filtro) {
+        VentasKeyset.validar(filtro, false);
+    }
+
+    /**
+     * Recorre todos los clientes que cumplen los filtros y entrega cada uno al consumidor,
+     * sin cargar el resultado completo en memoria (la base de datos se lee por bloques).
+     *
+     * @param filtro     filtros opcionales (el cursor, el tamaño y el orden se ignoran)
+     * @param consumidor recibe cada registro en orden de ID
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportar(VentasFiltroRequestDTO filtro, Consumer<VentasClienteResponseDTO> consumidor) {
+        validarExportacion(filtro);
+
+        try (Stream<VentasClienteResponseDTO> registros = clienteRepository.recorrer(filtro.nombre())) {
+            registros.forEach(consumidor);
+        }
+    }
+
     private void validarCliente(VentasClienteRequestDTO dto) {
         if (dto.nombreRazonSocial() == null || dto.nombreRazonSocial().isBlank()) {
             throw new VentasValidationException("El nombre o razón social es obligatorio", "nombreRazonSocial");
@@ -1,42 +1,70 @@
 package com.femt.inventory_management.service.ventas.imp;
 
 import com.femt.inventory_management.dto.request.VentasComprobantePagoRequestDTO;
+import com.femt.inventory_management.dto.request.VentasFiltroRequestDTO;
+import com.femt.inventory_management.dto.response.PaginaResponseDTO;
+import com.femt.inventory_management.dto.response.SunatEstadisticasResponseDTO;
 import com.femt.inventory_management.dto.response.VentasComprobantePagoResponseDTO;
+import com.femt.inventory_management.dto.response.VentasDocumentoResponseDTO;
 import com.femt.inventory_management.exceptions.VentasNotFoundException;
 import com.femt.inventory_management.exceptions.VentasValidationException;
 import com.femt.inventory_management.mapper.ventas.VentasMapper;
 import com.femt.inventory_management.models.ventas.VentasComprobantePago;
 import com.femt.inventory_management.models.ventas.VentasVenta;
+import com.femt.inventory_management.models.ventas.enums.VentasTipoDocumentoEnum;
 import com.femt.inventory_management.repository.VentasComprobantePagoRepository;
 import com.femt.inventory_management.repository.VentasVentaRepository;
 import com.femt.inventory_management.service.ventas.VentasComprobantePagoService;
+import com.femt.inventory_management.service.ventas.sunat.SunatComprobante;
+import com.femt.inventory_management.service.ventas.sunat.SunatDocumentoAlmacen;
+import com.femt.inventory_management.service.ventas.sunat.SunatPipeline;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 public class VentasComprobantePagoServiceImp implements VentasComprobantePagoService {
+    private static final int DIAS_MAXIMOS_EXPORTACION = 366;
+
     private final VentasComprobantePagoRepository comprobantePagoRepository;
     private final VentasVentaRepository ventaRepository;
     private final VentasMapper mapper;
+    private final SunatPipeline sunatPipeline;
+    private final SunatDocumentoAlmacen documentoAlmacen;
 
     public VentasComprobantePagoServiceImp(VentasComprobantePagoRepository comprobantePagoRepository,
                                            VentasVentaRepository ventaRepository,
-                                           VentasMapper mapper) {
+                                           VentasMapper mapper,
+                                           SunatPipeline sunatPipeline,
+                                           SunatDocumentoAlmacen documentoAlmacen) {
         this.comprobantePagoRepository = comprobantePagoRepository;
         this.ventaRepository = ventaRepository;
         this.mapper = mapper;
+        this.sunatPipeline = sunatPipeline;
+        this.documentoAlmacen = documentoAlmacen;
     }
 
     /**
-     * @param dto
-     * @return
+     * Registra un comprobante. Si no se indica {@code estadoSunat}, se guarda como {@code PENDIENTE}
+     * y se encola para su emisión asíncrona ante SUNAT (el XML y la CDR se completan al recibir la
+     * respuesta). Si se indica, el comprobante ya fue emitido por otro medio y se guarda tal cual.
+     *
+     * @param dto datos del comprobante
+     * @return comprobante registrado
      */
     @Override
+    @Transactional
     public VentasComprobantePagoResponseDTO crear(VentasComprobantePagoRequestDTO dto) {
-        validar(dto);
+        boolean emitir = dto.estadoSunat() == null || dto.estadoSunat().isBlank();
+        validar(dto, !emitir);
 
         VentasVenta venta = ventaRepository.findById(dto.idVenta())
                 .orElseThrow(() -> new VentasNotFoundException("Venta con ID " + dto.idVenta() + " no encontrada"));
@@ -45,13 +73,17 @@ public class VentasComprobantePagoServiceImp implements VentasComprobantePagoSer
                 .tipoComprobante(dto.tipoComprobante())
                 .serie(dto.serie())
                 .fechaEmision(dto.fechaEmision())
-                .estadoSunat(dto.estadoSunat())
-                .archivoXml(dto.archivoXml())
-                .archivoCdr(dto.archivoCdr())
+                .estadoSunat(emitir ? SunatPipeline.ESTADO_PENDIENTE : dto.estadoSunat())
+                .archivoXml(emitir ? "" : dto.archivoXml())
+                .archivoCdr(emitir ? null : dto.archivoCdr())
                 .venta(venta)
                 .build();
 
         VentasComprobantePago guardado = comprobantePagoRepository.save(comprobante);
+        if (emitir) {
+            sunatPipeline.encolarAlConfirmar(new SunatComprobante(guardado.getId(), guardado.getTipoComprobante(),
+                    guardado.getSerie(), guardado.getFechaEmision(), venta.getId()));
+        }
         log.info("Comprobante de pago creado con ID {}", guardado.getId());
         return mapper.toResponse(guardado);
     }
@@ -63,7 +95,7 @@ public class VentasComprobantePagoServiceImp implements VentasComprobantePagoSer
      */
     @Override
     public VentasComprobantePagoResponseDTO actualizar(Integer id, VentasComprobantePagoRequestDTO dto) {
-        validar(dto);
+        validar(dto, true);
 
         VentasComprobantePago comprobante = comprobantePagoRepository.findById(id)
                 .orElseThrow(() -> new VentasNotFoundException("Comprobante con ID " + id + " no encontrado"));
@@ -103,8 +135,7 @@ public class VentasComprobantePagoServiceImp implements VentasComprobantePagoSer
      */
     @Override
     public VentasComprobantePagoResponseDTO obtenerPorId(Integer id) {
-        return comprobantePagoRepository.findById(id)
-                .map(mapper::toResponse)
+        return comprobantePagoRepository.buscarProyectadoPorId(id)
                 .orElseThrow(() -> new VentasNotFoundException("Comprobante con ID " + id + " no encontrado"));
     }
 
@@ -113,12 +144,160 @@ public class VentasComprobantePagoServiceImp implements VentasComprobantePagoSer
      */
     @Override
     public List<VentasComprobantePagoResponseDTO> listar() {
-        return comprobantePagoRepository.findAll().stream()
-                .map(mapper::toResponse)
-                .toList();
+        return comprobantePagoRepository.listarProyectado();
+    }
+
+    /**
+     * Lista comprobantes por páginas usando un cursor (keyset) en lugar de OFFSET.
+     * Se ordena por ID o por fecha de emisión (del más reciente al más antiguo) y cada página
+     * continúa desde el cursor de la anterior, por lo que su costo no depende del tamaño del historial.
+     *
+     * @param filtro cursor, tamaño de página, orden y filtros opcionales
+     * @return página de comprobantes con el cursor de la página siguiente
+     * @throws VentasValidationException si el orden, el tamaño, el cursor o el rango de fechas no son válidos
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaResponseDTO<VentasComprobantePagoResponseDTO> listarPagina(VentasFiltroRequestDTO filtro) {
+        boolean porFecha = VentasKeyset.validar(filtro, true);
+        VentasKeyset.Cursor cursor = VentasKeyset.cursor(filtro, porFecha);
+
+        List<VentasComprobantePagoResponseDTO> filas = porFecha
+                ? comprobantePagoRepository.buscarPaginaPorFecha(filtro.idVenta(), filtro.estadoSunat(), filtro.tipoComprobante(), filtro.desde(), filtro.hasta(),
+                        cursor.fecha(), cursor.id(), VentasKeyset.limite(filtro))
+                : comprobantePagoRepository.buscarPaginaPorId(filtro.idVenta(), filtro.estadoSunat(), filtro.tipoComprobante(), filtro.desde(), filtro.hasta(),
+                        cursor.id(), VentasKeyset.limite(filtro));
+
+        return VentasKeyset.pagina(filas, filtro, porFecha
+                ? dto -> VentasKeyset.cursorDe(dto.fechaEmision(), dto.id())
+                : dto -> VentasKeyset.cursorDe(dto.id()));
+    }
+
+    /**
+     * Valida el filtro de {@link #exportar} antes de empezar a escribir la respuesta,
+     * cuando todavía se puede responder con un error.
+     *
+     * @throws VentasValidationException si el tamaño, el orden o el rango de fechas no son válidos
+     */
+    @Override
+    public void validarExportacion(VentasFiltroRequestDTO filtro) {
+        VentasKeyset.validar(filtro, true);
+    }
+
+    /**
+     * Recorre todos los comprobantes que cumplen los filtros y entrega cada uno al consumidor,
+     * sin cargar el resultado completo en memoria (la base de datos se lee por bloques).
+     *
+     * @param filtro     filtros opcionales (el cursor, el tamaño y el orden se ignoran)
+     * @param consumidor recibe cada registro en orden de ID
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportar(VentasFiltroRequestDTO filtro, Consumer<VentasComprobantePagoResponseDTO> consumidor) {
+        validarExportacion(filtro);
+
+        try (Stream<VentasComprobantePagoResponseDTO> registros = comprobantePagoRepository.recorrer(filtro.idVenta(), filtro.estadoSunat(), filtro.tipoComprobante(), filtro.desde(), filtro.hasta())) {
+            registros.forEach(consumidor);
+        }
+    }
+
+    /**
+     * @return estadísticas de la cola de emisión SUNAT
+     */
+    @Override
+    public SunatEstadisticasResponseDTO estadisticasSunat() {
+        return sunatPipeline.estadisticas();
+    }
+
+    /**
+     * Ubica el XML o la CDR de un comprobante en el almacén de documentos.
+     *
+     * @throws VentasNotFoundException si el comprobante no existe o su documento no está en el almacén
+     */
+    @Override
+    public VentasDocumentoResponseDTO obtenerDocumento(Integer id, VentasTipoDocumentoEnum tipo) {
+        VentasComprobantePagoResponseDTO comprobante = obtenerPorId(id);
+        String clave = tipo == VentasTipoDocumentoEnum.XML ? comprobante.archivoXml() : comprobante.archivoCdr();
+        Path ruta = documentoAlmacen.ubicar(clave)
+                .orElseThrow(() -> new VentasNotFoundException("El comprobante " + id + " no tiene documento " + tipo + " disponible"));
+        return new VentasDocumentoResponseDTO(ruta, documentoAlmacen.etag(clave),
+                comprobante.serie() + "-" + id + "." + tipo.getExtension(), tipo.getTipoContenido());
+    }
+
+    /**
+     * Recorre los comprobantes de un rango de fechas de emisión y entrega al consumidor cada XML y CDR
+     * disponible en el almacén, con el nombre {@code <fechaEmision>/<serie>-<id>.<ext>}. Los comprobantes
+     * se leen por bloques y los archivos no se cargan en memoria, por lo que el consumo de memoria no
+     * depende de la cantidad de documentos.
+     *
+     * @param filtro     rango de fechas obligatorio y filtros opcionales (el cursor, el tamaño y el orden se ignoran)
+     * @param consumidor recibe cada documento en orden de fecha de emisión
+     * @throws VentasValidationException si falta el rango de fechas o supera {@value #DIAS_MAXIMOS_EXPORTACION} días
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportarDocumentos(VentasFiltroRequestDTO filtro, Consumer<VentasDocumentoResponseDTO> consumidor) {
+        validarExportacionDocumentos(filtro);
+
+        int[] faltantes = {0};
+        try (Stream<VentasComprobantePagoResponseDTO> registros = comprobantePagoRepository.recorrerPorFecha(filtro.idVenta(), filtro.estadoSunat(), filtro.tipoComprobante(), filtro.desde(), filtro.hasta())) {
+            registros.forEach(comprobante -> {
+                for (VentasTipoDocumentoEnum tipo : VentasTipoDocumentoEnum.values()) {
+                    String clave = tipo == VentasTipoDocumentoEnum.XML ? comprobante.archivoXml() : comprobante.archivoCdr();
+                    documentoAlmacen.ubicar(clave).ifPresentOrElse(
+                            ruta -> consumidor.accept(new VentasDocumentoResponseDTO(ruta, documentoAlmacen.etag(clave),
+                                    comprobante.fechaEmision() + "/" + comprobante.serie() + "-" + comprobante.id() + "." + tipo.getExtension(),
+                                    tipo.getTipoContenido())),
+                            () -> faltantes[0]++);
+                }
+            });
+        }
+        if (faltantes[0] > 0) {
+            log.warn("Exportación de documentos {} a {}: {} documentos no disponibles en el almacén", filtro.desde(), filtro.hasta(), faltantes[0]);
+        }
+    }
+
+    /**
+     * Valida el filtro de {@link #exportarDocumentos} antes de empezar a escribir la respuesta,
+     * cuando todavía se puede responder con un error.
+     *
+     * @throws VentasValidationException si falta el rango de fechas o supera {@value #DIAS_MAXIMOS_EXPORTACION} días
+     */
+    @Override
+    public void validarExportacionDocumentos(VentasFiltroRequestDTO filtro) {
+        if (filtro.desde() == null) {
+            throw new VentasValidationException("La fecha 'desde' es obligatoria", "desde");
+        }
+        if (filtro.hasta() == null) {
+            throw new VentasValidationException("La fecha 'hasta' es obligatoria", "hasta");
+        }
+        VentasKeyset.validar(filtro, true);
+        if (ChronoUnit.DAYS.between(filtro.desde(), filtro.hasta()) >= DIAS_MAXIMOS_EXPORTACION) {
+            throw new VentasValidationException("El rango no puede superar " + DIAS_MAXIMOS_EXPORTACION + " días", "hasta");
+        }
+    }
+
+    /**
+     * Guarda el XML o la CDR de un comprobante en el almacén y registra su clave.
+     * El archivo se escribe fuera de una transacción para no retener una conexión durante la subida.
+     */
+    @Override
+    public VentasComprobantePagoResponseDTO guardarDocumento(Integer id, VentasTipoDocumentoEnum tipo, InputStream contenido) {
+        if (!comprobantePagoRepository.existsById(id)) {
+            throw new VentasNotFoundException("Comprobante con ID " + id + " no encontrado");
+        }
+        String clave = documentoAlmacen.guardar(contenido, tipo);
+        int actualizados = tipo == VentasTipoDocumentoEnum.XML
+                ? comprobantePagoRepository.actualizarArchivoXml(id, clave)
+                : comprobantePagoRepository.actualizarArchivoCdr(id, clave);
+        if (actualizados == 0) {
+            throw new VentasNotFoundException("Comprobante con ID " + id + " no encontrado");
+        }
+        log.info("Documento {} del comprobante {} guardado como {}", tipo, id, clave);
+        return obtenerPorId(id);
     }
 
-    private void validar(VentasComprobantePagoRequestDTO dto) {
+    private void validar(VentasComprobantePagoRequestDTO dto, boolean conEstado) {
         if (dto.tipoComprobante() == null || dto.tipoComprobante().isBlank()) {
             throw new VentasValidationException("El tipo de comprobante es obligatorio", "tipoComprobante");
         }
@@ -128,10 +307,10 @@ public class VentasComprobantePagoServiceImp implements VentasComprobantePagoSer
         if (dto.fechaEmision() == null) {
             throw new VentasValidationException("La fecha de emisión es obligatoria", "fechaEmision");
         }
-        if (dto.estadoSunat() == null || dto.estadoSunat().isBlank()) {
+        if (conEstado && (dto.estadoSunat() == null || dto.estadoSunat().isBlank())) {
             throw new VentasValidationException("El estado Sunat es obligatorio", "estadoSunat");
         }
-        if (dto.archivoXml() == null || dto.archivoXml().isBlank()) {
+        if (conEstado && (dto.archivoXml() == null || dto.archivoXml().isBlank())) {
             throw new VentasValidationException("El archivo XML es obligatorio", "archivoXml");
         }
         if (dto.idVenta() == null) {
@@ -0,0 +1,121 @@
+package com.femt.inventory_management.service.ventas.imp;
+
+import com.femt.inventory_management.dto.request.VentasFiltroRequestDTO;
+import com.femt.inventory_management.dto.response.PaginaResponseDTO;
+import com.femt.inventory_management.exceptions.VentasValidationException;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Utilidades comunes para los listados de ventas paginados por cursor (keyset).
+ * <>
+ * En lugar de OFFSET, cada página continúa desde el último registro de la anterior:
+ * - Orden por ID: el cursor es el ID ({@code "125"}) y la página siguiente trae {@code id < 125}.
+ * - Orden por fecha: el cursor es fecha e ID ({@code "2025-11-20_125"}) y la página siguiente trae
+ *   los registros con fecha anterior, o con la misma fecha e ID menor.
+ * Así el costo de cada página no depende de cuántas páginas se recorrieron antes.
+ */
+final class VentasKeyset {
+
+    static final int TAMANIO_POR_DEFECTO = 50;
+    static final int TAMANIO_MAXIMO = 500;
+
+    private static final String SEPARADOR = "_";
+
+    /**
+     * Posición desde la cual continuar el listado. Ambos campos son nulos en la primera página.
+     */
+    record Cursor(LocalDate fecha, Integer id) {
+        static final Cursor INICIO = new Cursor(null, null);
+    }
+
+    private VentasKeyset() {
+    }
+
+    /**
+     * Valida los filtros comunes (orden, tamaño y rango de fechas).
+     *
+     * @return {@code true} si el listado se ordena por fecha, {@code false} si se ordena por ID
+     * @throws VentasValidationException si algún parámetro no es válido
+     */
+    static boolean validar(VentasFiltroRequestDTO filtro, boolean admiteFecha) {
+        if (filtro.tamanio() != null && (filtro.tamanio() < 1 || filtro.tamanio() > TAMANIO_MAXIMO)) {
+            throw new VentasValidationException(
+                    "El tamaño de página debe estar entre 1 y " + TAMANIO_MAXIMO, "tamanio");
+        }
+        if (filtro.desde() != null && filtro.hasta() != null && filtro.desde().isAfter(filtro.hasta())) {
+            throw new VentasValidationException("La fecha 'desde' no puede ser posterior a 'hasta'", "desde");
+        }
+        if (filtro.orden() == null || filtro.orden().equalsIgnoreCase("id")) {
+            return false;
+        }
+        if (admiteFecha && filtro.orden().equalsIgnoreCase("fecha")) {
+            return true;
+        }
+        throw new VentasValidationException("Orden no soportado: " + filtro.orden(), "orden");
+    }
+
+    static int tamanio(VentasFiltroRequestDTO filtro) {
+        return filtro.tamanio() != null ? filtro.tamanio() : TAMANIO_POR_DEFECTO;
+    }
+
+    /**
+     * Se pide un registro más que el tamaño de página para saber si existe una página siguiente.
+     */
+    static Limit limite(VentasFiltroRequestDTO filtro) {
+        return Limit.of(tamanio(filtro) + 1);
+    }
+
+    /**
+     * Interpreta el cursor recibido.
+     *
+     * @throws VentasValidationException si el cursor no tiene el formato esperado para el orden
+     */
+    static Cursor cursor(VentasFiltroRequestDTO filtro, boolean porFecha) {
+        String valor = filtro.cursor();
+        if (valor == null || valor.isBlank()) {
+            return Cursor.INICIO;
+        }
+        try {
+            if (!porFecha) {
+                return new Cursor(null, Integer.valueOf(valor));
+            }
+            int separador = valor.indexOf(SEPARADOR);
+            if (separador < 0) {
+                throw new VentasValidationException("Cursor inválido: " + valor, "cursor");
+            }
+            return new Cursor(
+                    LocalDate.parse(valor.substring(0, separador)),
+                    Integer.valueOf(valor.substring(separador + 1)));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new VentasValidationException("Cursor inválido: " + valor, "cursor");
+        }
+    }
+
+    static String cursorDe(Integer id) {
+        return String.valueOf(id);
+    }
+
+    static String cursorDe(LocalDate fecha, Integer id) {
+        return fecha + SEPARADOR + id;
+    }
+
+    /**
+     * Arma la página a partir de las filas leídas (hasta {@code tamanio + 1}).
+     *
+     * @param filas    filas leídas de la base de datos
+     * @param filtro   filtro de la consulta
+     * @param cursorDe función que obtiene el cursor de un registro
+     */
+    static <T> PaginaResponseDTO<T> pagina(List<T> filas, VentasFiltroRequestDTO filtro, Function<T, String> cursorDe) {
+        int tamanio = tamanio(filtro);
+        boolean hayMas = filas.size() > tamanio;
+        List<T> contenido = hayMas ? filas.subList(0, tamanio) : filas;
+        String siguiente = hayMas ? cursorDe.apply(contenido.get(contenido.size() - 1)) : null;
+        return new PaginaResponseDTO<>(List.copyOf(contenido), siguiente, hayMas);
+    }
+}
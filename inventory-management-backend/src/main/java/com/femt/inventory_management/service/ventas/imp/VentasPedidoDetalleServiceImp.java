@@ -1,6 +1,8 @@
 package com.femt.inventory_management.service.ventas.imp;
 
 import com.femt.inventory_management.dto.request.VentasPedidoDetalleRequestDTO;
+import com.femt.inventory_management.dto.request.VentasFiltroRequestDTO;
+import com.femt.inventory_management.dto.response.PaginaResponseDTO;
 import com.femt.inventory_management.dto.response.VentasPedidoDetalleResponseDTO;
 import com.femt.inventory_management.exceptions.VentasNotFoundException;
 import com.femt.inventory_management.exceptions.VentasValidationException;
@@ -12,8 +14,11 @@ import com.femt.inventory_management.repository.VentasPedidoRepository;
 import com.femt.inventory_management.service.ventas.VentasPedidoDetalleService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -92,8 +97,7 @@ public class VentasPedidoDetalleServiceImp implements VentasPedidoDetalleService
      */
     @Override
     public VentasPedidoDetalleResponseDTO obtenerPorId(Integer id) {
-        return detalleRepository.findById(id)
-                .map(mapper::toResponse)
+        return detalleRepository.buscarProyectadoPorId(id)
                 .orElseThrow(() -> new VentasNotFoundException("Detalle con ID " + id + " no encontrado"));
     }
 
@@ -102,9 +106,56 @@ public class VentasPedidoDetalleServiceImp implements VentasPedidoDetalleService
      */
     @Override
     public List<VentasPedidoDetalleResponseDTO> listar() {
-        return detalleRepository.findAll().stream()
-                .map(mapper::toResponse)
-                .toList();
+        return detalleRepository.listarProyectado();
+    }
+
+    /**
+     * Lista detalles de pedido por páginas usando un cursor (keyset) en lugar de OFFSET.
+     * Se ordena por ID (del más reciente al más antiguo) y cada página continúa desde el
+     * cursor de la anterior, por lo que su costo no depende del tamaño del historial.
+     *
+     * @param filtro cursor, tamaño de página, orden y filtros opcionales
+     * @return página de detalles de pedido con el cursor de la página siguiente
+     * @throws VentasValidationException si el orden, el tamaño, el cursor o el rango de fechas no son válidos
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaResponseDTO<VentasPedidoDetalleResponseDTO> listarPagina(VentasFiltroRequestDTO filtro) {
+        VentasKeyset.validar(filtro, false);
+        VentasKeyset.Cursor cursor = VentasKeyset.cursor(filtro, false);
+
+        List<VentasPedidoDetalleResponseDTO> filas = detalleRepository.buscarPaginaPorId(filtro.idPedido(),
+                cursor.id(), VentasKeyset.limite(filtro));
+
+        return VentasKeyset.pagina(filas, filtro, dto -> VentasKeyset.cursorDe(dto.id()));
+    }
+
+    /**
+     * Valida el filtro de {@link #exportar} antes de empezar a escribir la respuesta,
+     * cuando todavía se puede responder con un error.
+     *
+     * @throws VentasValidationException si el tamaño, el orden o el rango de fechas no son válidos
+     */
+    @Override
+    public void validarExportacion(VentasFiltroRequestDTO filtro) {
+        VentasKeyset.validar(filtro, false);
+    }
+
+    /**
+     * Recorre todos los detalles de pedido que cumplen los filtros y entrega cada uno al consumidor,
+     * sin cargar el resultado completo en memoria (la base de datos se lee por bloques).
+     *
+     * @param filtro     filtros opcionales (el cursor, el tamaño y el orden se ignoran)
+     * @param consumidor recibe cada registro en orden de ID
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportar(VentasFiltroRequestDTO filtro, Consumer<VentasPedidoDetalleResponseDTO> consumidor) {
+        validarExportacion(filtro);
+
+        try (Stream<VentasPedidoDetalleResponseDTO> registros = detalleRepository.recorrer(filtro.idPedido())) {
+            registros.forEach(consumidor);
+        }
     }
 
     private void validar(VentasPedidoDetalleRequestDTO dto) {
@@ -1,6 +1,12 @@
 package com.femt.inventory_management.service.ventas.imp;
 
+import com.femt.inventory_management.dto.request.InvMovimientoRequestDTO;
+import com.femt.inventory_management.dto.request.VentasPedidoCompletoRequestDTO;
+import com.femt.inventory_management.dto.request.VentasPedidoLineaRequestDTO;
 import com.femt.inventory_management.dto.request.VentasPedidoRequestDTO;
+import com.femt.inventory_management.dto.request.VentasFiltroRequestDTO;
+import com.femt.inventory_management.dto.response.PaginaResponseDTO;
+import com.femt.inventory_management.dto.response.VentasPedidoCompletoResponseDTO;
 import com.femt.inventory_management.dto.response.VentasPedidoResponseDTO;
 import com.femt.inventory_management.exceptions.VentasNotFoundException;
 import com.femt.inventory_management.exceptions.VentasValidationException;
@@ -9,30 +15,46 @@ import com.femt.inventory_management.models.kit.KitSerieManager;
 import com.femt.inventory_management.models.seguridad.Usuario;
 import com.femt.inventory_management.models.ventas.VentasCliente;
 import com.femt.inventory_management.models.ventas.VentasPedido;
+import com.femt.inventory_management.models.ventas.VentasPedidoDetalle;
 import com.femt.inventory_management.repository.KitSerieManagerRepository;
 import com.femt.inventory_management.repository.SegUsuarioRepository;
 import com.femt.inventory_management.repository.VentasClienteRepository;
+import com.femt.inventory_management.repository.VentasPedidoDetalleRepository;
 import com.femt.inventory_management.repository.VentasPedidoRepository;
+import com.femt.inventory_management.service.inventario.InvSandaliaService;
 import com.femt.inventory_management.service.ventas.VentasPedidoService;
+import com.femt.inventory_management.service.ventas.VentasResumenService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 public class VentasPedidoServiceImp implements VentasPedidoService {
     private final VentasPedidoRepository pedidoRepository;
+    private final VentasPedidoDetalleRepository detalleRepository;
     private final VentasClienteRepository clienteRepository;
     private final SegUsuarioRepository usuarioRepository;
     private final KitSerieManagerRepository kitSerieManagerRepository;
+    private final InvSandaliaService sandaliaService;
+    private final VentasResumenService resumenService;
     private final VentasMapper mapper;
 
-    public VentasPedidoServiceImp(VentasPedidoRepository pedidoRepository, VentasClienteRepository clienteRepository, SegUsuarioRepository usuarioRepository, KitSerieManagerRepository kitSerieManagerRepository, VentasMapper mapper) {
+    public VentasPedidoServiceImp(VentasPedidoRepository pedidoRepository, VentasPedidoDetalleRepository detalleRepository, VentasClienteRepository clienteRepository, SegUsuarioRepository usuarioRepository, KitSerieManagerRepository kitSerieManagerRepository, InvSandaliaService sandaliaService, VentasResumenService resumenService, VentasMapper mapper) {
         this.pedidoRepository = pedidoRepository;
+        this.detalleRepository = detalleRepository;
         this.clienteRepository = clienteRepository;
         this.usuarioRepository = usuarioRepository;
         this.kitSerieManagerRepository = kitSerieManagerRepository;
+        this.sandaliaService = sandaliaService;
+        this.resumenService = resumenService;
         this.mapper = mapper;
     }
 
@@ -67,12 +89,80 @@ public class VentasPedidoServiceImp implements VentasPedidoService {
         return mapper.toResponse(guardado);
     }
 
+    /**
+     * Registra un pedido junto con todas sus líneas de detalle en una sola transacción.
+     * <>
+     * El cliente, el usuario y el kit serie manager se resuelven una sola vez para todo el pedido,
+     * el monto total se calcula en el servidor ({@code cantidadDocenas * precioUnitario} por línea)
+     * y los detalles se insertan en lotes JDBC. Si se indica una sandalia, el total de docenas se
+     * reserva al final mediante {@link InvSandaliaService#descontar}: en memoria con el motor de reservas,
+     * o con un UPDATE condicional (que bloquea la fila hasta el commit) si el motor está desactivado.
+     * Si algo falla no se guarda nada.
+     *
+     * @param dto pedido con sus líneas de detalle
+     * @return pedido creado con sus detalles
+     * @throws VentasValidationException si faltan datos del pedido o alguna línea no es válida
+     * @throws VentasNotFoundException   si el cliente, el usuario o el kit serie manager no existen
+     * @throws com.femt.inventory_management.exceptions.InventarioStockInsuficienteException si el stock no alcanza
+     */
+    @Override
+    @Transactional
+    public VentasPedidoCompletoResponseDTO crearCompleto(VentasPedidoCompletoRequestDTO dto) {
+        validarCompleto(dto);
+
+        VentasCliente cliente = clienteRepository.findById(dto.idCliente())
+                .orElseThrow(() -> new VentasNotFoundException("Cliente con ID " + dto.idCliente() + " no encontrado"));
+
+        Usuario usuario = usuarioRepository.findById(dto.idUsuario())
+                .orElseThrow(() -> new VentasNotFoundException("Usuario con ID " + dto.idUsuario() + " no encontrado"));
+
+        KitSerieManager kitSerieManager = kitSerieManagerRepository.findById(dto.idKitSerieManager())
+                .orElseThrow(() -> new VentasNotFoundException("KitSerieManager con ID " + dto.idKitSerieManager() + " no encontrado"));
+
+        BigDecimal montoTotal = dto.detalles().stream()
+                .map(linea -> linea.precioUnitario().multiply(BigDecimal.valueOf(linea.cantidadDocenas())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add)
+                .setScale(2, RoundingMode.HALF_UP);
+
+        VentasPedido pedido = pedidoRepository.save(VentasPedido.builder()
+                .cliente(cliente)
+                .fechaCreada(dto.fechaCreada())
+                .fechaEntrega(dto.fechaEntrega())
+                .usuario(usuario)
+                .kitSerieManager(kitSerieManager)
+                .montoTotal(montoTotal)
+                .build());
+
+        List<VentasPedidoDetalle> detalles = new ArrayList<>(dto.detalles().size());
+        for (VentasPedidoLineaRequestDTO linea : dto.detalles()) {
+            detalles.add(VentasPedidoDetalle.builder()
+                    .pedido(pedido)
+                    .cantidadDocenas(linea.cantidadDocenas())
+                    .precioUnitario(linea.precioUnitario())
+                    .build());
+        }
+        List<VentasPedidoDetalle> guardados = detalleRepository.insertarEnLote(detalles);
+
+        if (dto.idSandalia() != null) {
+            int docenas = dto.detalles().stream().mapToInt(VentasPedidoLineaRequestDTO::cantidadDocenas).sum();
+            sandaliaService.descontar(dto.idSandalia(),
+                    new InvMovimientoRequestDTO(docenas, pedido.getId(), "Pedido " + pedido.getId()));
+        }
+
+        log.info("Pedido creado con ID {} y {} detalles (monto total {})", pedido.getId(), guardados.size(), montoTotal);
+        return new VentasPedidoCompletoResponseDTO(
+                mapper.toResponse(pedido),
+                guardados.stream().map(mapper::toResponse).toList()
+        );
+    }
+
     /**
      * @param id
      * @param dto
      * @return
      */
     @Override
+    @Transactional
     public VentasPedidoResponseDTO actualizar(Integer id, VentasPedidoRequestDTO dto) {
         validar(dto);
 
@@ -88,6 +178,12 @@ public class VentasPedidoServiceImp implements VentasPedidoService {
         KitSerieManager kitSerieManager = kitSerieManagerRepository.findById(dto.idKitSerieManager())
                 .orElseThrow(() -> new VentasNotFoundException("KitSerieManager con ID " + dto.idKitSerieManager() + " no encontrado"));
 
+        // El resumen de ventas agrupa por el modelo del pedido
+        Integer idModelo = kitSerieManager.getDimModelo().getId();
+        if (!idModelo.equals(pedido.getKitSerieManager().getDimModelo().getId())) {
+            resumenService.cambiarModelo(id, idModelo);
+        }
+
         pedido.setCliente(cliente);
         pedido.setFechaCreada(dto.fechaCreada());
         pedido.setFechaEntrega(dto.fechaEntrega());
@@ -104,10 +200,13 @@ public class VentasPedidoServiceImp implements VentasPedidoService {
      * @param id
      */
     @Override
+    @Transactional
     public void eliminar(Integer id) {
         if (!pedidoRepository.existsById(id)) {
             throw new VentasNotFoundException("Pedido con ID " + id + " no encontrado");
         }
+        // Sus ventas se eliminan en cascada en la base de datos
+        resumenService.restarVentasDePedido(id);
         pedidoRepository.deleteById(id);
         log.warn("Pedido {} eliminado", id);
     }
@@ -118,8 +217,7 @@ public class VentasPedidoServiceImp implements VentasPedidoService {
      */
     @Override
     public VentasPedidoResponseDTO obtenerPorId(Integer id) {
-        return pedidoRepository.findById(id)
-                .map(mapper::toResponse)
+        return pedidoRepository.buscarProyectadoPorId(id)
                 .orElseThrow(() -> new VentasNotFoundException("Pedido con ID " + id + " no encontrado"));
     }
 
@@ -128,9 +226,90 @@ public class VentasPedidoServiceImp implements VentasPedidoService {
      */
     @Override
     public List<VentasPedidoResponseDTO> listar() {
-        return pedidoRepository.findAll().stream()
-                .map(mapper::toResponse)
-                .toList();
+        return pedidoRepository.listarProyectado();
+    }
+
+    /**
+     * Lista pedidos por páginas usando un cursor (keyset) en lugar de OFFSET.
+     * Se ordena por ID o por fecha de creación (del más reciente al más antiguo) y cada página
+     * continúa desde el cursor de la anterior, por lo que su costo no depende del tamaño del historial.
+     *
+     * @param filtro cursor, tamaño de página, orden y filtros opcionales
+     * @return página de pedidos con el cursor de la página siguiente
+     * @throws VentasValidationException si el orden, el tamaño, el cursor o el rango de fechas no son válidos
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaResponseDTO<VentasPedidoResponseDTO> listarPagina(VentasFiltroRequestDTO filtro) {
+        boolean porFecha = VentasKeyset.validar(filtro, true);
+        VentasKeyset.Cursor cursor = VentasKeyset.cursor(filtro, porFecha);
+
+        List<VentasPedidoResponseDTO> filas = porFecha
+                ? pedidoRepository.buscarPaginaPorFecha(filtro.idCliente(), filtro.idUsuario(), filtro.desde(), filtro.hasta(),
+                        cursor.fecha(), cursor.id(), VentasKeyset.limite(filtro))
+                : pedidoRepository.buscarPaginaPorId(filtro.idCliente(), filtro.idUsuario(), filtro.desde(), filtro.hasta(),
+                        cursor.id(), VentasKeyset.limite(filtro));
+
+        return VentasKeyset.pagina(filas, filtro, porFecha
+                ? dto -> VentasKeyset.cursorDe(dto.fechaCreada(), dto.id())
+                : dto -> VentasKeyset.cursorDe(dto.id()));
+    }
+
+    /**
+     * Valida el filtro de {@link #exportar} antes de empezar a escribir la respuesta,
+     * cuando todavía se puede responder con un error.
+     *
+     * @throws VentasValidationException si el tamaño, el orden o el rango de fechas no son válidos
+     */
+    @Override
+    public void validarExportacion(VentasFiltroRequestDTO filtro) {
+        VentasKeyset.validar(filtro, true);
+    }
+
+    /**
+     * Recorre todos los pedidos que cumplen los filtros y entrega cada uno al consumidor,
+     * sin cargar el resultado completo en memoria (la base de datos se lee por bloques).
+     *
+     * @param filtro     filtros opcionales (el cursor, el tamaño y el orden se ignoran)
+     * @param consumidor recibe cada registro en orden de ID
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportar(VentasFiltroRequestDTO filtro, Consumer<VentasPedidoResponseDTO> consumidor) {
+        validarExportacion(filtro);
+
+        try (Stream<VentasPedidoResponseDTO> registros = pedidoRepository.recorrer(filtro.idCliente(), filtro.idUsuario(), filtro.desde(), filtro.hasta())) {
+            registros.forEach(consumidor);
+        }
+    }
+
+    private void validarCompleto(VentasPedidoCompletoRequestDTO dto) {
+        if (dto.idCliente() == null) {
+            throw new VentasValidationException("El cliente es obligatorio", "idCliente");
+        }
+        if (dto.idUsuario() == null) {
+            throw new VentasValidationException("El usuario es obligatorio", "idUsuario");
+        }
+        if (dto.idKitSerieManager() == null) {
+            throw new VentasValidationException("El kit serie manager es obligatorio", "idKitSerieManager");
+        }
+        if (dto.fechaCreada() == null || dto.fechaEntrega() == null) {
+            throw new VentasValidationException("Las fechas de creación y entrega son obligatorias", "fecha");
+        }
+        if (dto.detalles() == null || dto.detalles().isEmpty()) {
+            throw new VentasValidationException("El pedido debe tener al menos un detalle", "detalles");
+        }
+        for (int i = 0; i < dto.detalles().size(); i++) {
+            VentasPedidoLineaRequestDTO linea = dto.detalles().get(i);
+            if (linea == null || linea.cantidadDocenas() == null || linea.cantidadDocenas() <= 0) {
+                throw new VentasValidationException("La cantidad de docenas debe ser mayor a cero (línea " + (i + 1) + ")",
+                        "detalles[" + i + "].cantidadDocenas");
+            }
+            if (linea.precioUnitario() == null) {
+                throw new VentasValidationException("El precio unitario es obligatorio (línea " + (i + 1) + ")",
+                        "detalles[" + i + "].precioUnitario");
+            }
+        }
     }
 
     private void validar(VentasPedidoRequestDTO dto) {
@@ -0,0 +1,231 @@
+package com.femt.inventory_management.service.ventas.imp;
+
+import com.femt.inventory_management.dto.request.VentasResumenFiltroRequestDTO;
+import com.femt.inventory_management.dto.response.VentasResumenResponseDTO;
+import com.femt.inventory_management.exceptions.VentasNotFoundException;
+import com.femt.inventory_management.exceptions.VentasValidationException;
+import com.femt.inventory_management.models.ventas.VentasResumenDiarioId;
+import com.femt.inventory_management.models.ventas.VentasVenta;
+import com.femt.inventory_management.repository.VentasPedidoRepository;
+import com.femt.inventory_management.repository.VentasResumenDiarioRepository;
+import com.femt.inventory_management.service.ventas.VentasResumenService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Mantiene y consulta la tabla materializada {@code ventas_resumen_diario}.
+ * <>
+ * Cada alta, cambio o baja de una venta suma o resta su aporte con un único upsert atómico, dentro
+ * de la misma transacción que la venta. También se ajusta cuando cambia el modelo de un pedido con ventas
+ * y antes de eliminar un pedido, un cliente o un usuario, cuyas ventas se borran en cascada en la base de datos.
+ * <>
+ * Para cargar el histórico o corregir desvíos (cambios hechos directamente en la base de datos),
+ * {@link #reconstruir} recalcula un rango de fechas desde {@code ventas_venta}; cada noche se reconcilian los
+ * últimos {@code app.ventas.resumen.dias-reconstruccion} días ({@code app.ventas.resumen.cron-reconstruccion}).
+ */
+@Slf4j
+@Service
+public class VentasResumenServiceImp implements VentasResumenService {
+    private static final long DIAS_MAXIMOS_RECONSTRUCCION = 366;
+
+    private final VentasResumenDiarioRepository resumenRepository;
+    private final VentasPedidoRepository pedidoRepository;
+    private final int diasReconstruccion;
+
+    public VentasResumenServiceImp(VentasResumenDiarioRepository resumenRepository, VentasPedidoRepository pedidoRepository,
+                                   @Value("${app.ventas.resumen.dias-reconstruccion:90}") int diasReconstruccion) {
+        if (diasReconstruccion < 1 || diasReconstruccion > DIAS_MAXIMOS_RECONSTRUCCION) {
+            throw new IllegalStateException("app.ventas.resumen.dias-reconstruccion debe estar entre 1 y "
+                    + DIAS_MAXIMOS_RECONSTRUCCION + ": " + diasReconstruccion);
+        }
+        this.resumenRepository = resumenRepository;
+        this.pedidoRepository = pedidoRepository;
+        this.diasReconstruccion = diasReconstruccion;
+    }
+
+    /**
+     * Suma el aporte de una venta a su fila del resumen. Debe llamarse dentro de la transacción de la venta.
+     *
+     * @param venta venta creada o con sus datos ya actualizados
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sumar(VentasVenta venta) {
+        acumular(venta, 1);
+    }
+
+    /**
+     * Resta el aporte de una venta de su fila del resumen. Debe llamarse dentro de la transacción
+     * de la venta y con los datos previos al cambio o a la eliminación.
+     *
+     * @param venta venta con sus datos previos
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void restar(VentasVenta venta) {
+        VentasResumenDiarioId id = acumular(venta, -1);
+        resumenRepository.eliminarSiVacia(id);
+    }
+
+    /**
+     * Mueve el aporte de las ventas de un pedido al modelo nuevo. Debe llamarse dentro de la transacción
+     * del pedido y antes de cambiar su kit serie manager.
+     *
+     * @param idPedido      pedido que cambia de modelo
+     * @param idModeloNuevo modelo del nuevo kit serie manager
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void cambiarModelo(Integer idPedido, Integer idModeloNuevo) {
+        List<VentasResumenResponseDTO> grupos = resumenRepository.agruparVentas(idPedido, null, null);
+        aplicar(grupos, -1);
+        aplicar(grupos.stream()
+                .map(grupo -> new VentasResumenResponseDTO(grupo.fecha(), grupo.idCliente(), grupo.idUsuario(),
+                        idModeloNuevo, grupo.cantidadVentas(), grupo.montoTotal(), grupo.igv(), grupo.descuento()))
+                .toList(), 1);
+    }
+
+    /**
+     * Resta el aporte de las ventas de un pedido. Debe llamarse dentro de la transacción que lo elimina,
+     * antes de eliminarlo.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void restarVentasDePedido(Integer idPedido) {
+        aplicar(resumenRepository.agruparVentas(idPedido, null, null), -1);
+    }
+
+    /**
+     * Resta el aporte de las ventas de un cliente y de las de sus pedidos. Debe llamarse dentro de la
+     * transacción que lo elimina, antes de eliminarlo.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void restarVentasDeCliente(Integer idCliente) {
+        aplicar(resumenRepository.agruparVentas(null, idCliente, null), -1);
+    }
+
+    /**
+     * Resta el aporte de las ventas registradas por un usuario y de las de sus pedidos. Debe llamarse
+     * dentro de la transacción que lo elimina, antes de eliminarlo.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void restarVentasDeUsuario(Integer idUsuario) {
+        aplicar(resumenRepository.agruparVentas(null, null, idUsuario), -1);
+    }
+
+    /**
+     * Consulta los totales de un rango de fechas, agrupados según {@code filtro.agrupar()}.
+     *
+     * @param filtro rango (obligatorio), agrupación y filtros opcionales por cliente, usuario o modelo
+     * @return filas del reporte; con {@code agrupar=total}, una sola fila
+     * @throws VentasValidationException si el rango o la agrupación no son válidos
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<VentasResumenResponseDTO> consultar(VentasResumenFiltroRequestDTO filtro) {
+        validarRango(filtro.desde(), filtro.hasta());
+        String agrupar = filtro.agrupar() == null ? "dia" : filtro.agrupar();
+
+        LocalDate desde = filtro.desde();
+        LocalDate hasta = filtro.hasta();
+        Integer cliente = filtro.idCliente();
+        Integer usuario = filtro.idUsuario();
+        Integer modelo = filtro.idModelo();
+
+        return switch (agrupar) {
+            case "total" -> resumenRepository.totalizar(desde, hasta, cliente, usuario, modelo).stream()
+                    .map(VentasResumenServiceImp::sinNulos)
+                    .toList();
+            case "dia" -> resumenRepository.totalizarPorDia(desde, hasta, cliente, usuario, modelo);
+            case "cliente" -> resumenRepository.totalizarPorCliente(desde, hasta, cliente, usuario, modelo);
+            case "usuario" -> resumenRepository.totalizarPorUsuario(desde, hasta, cliente, usuario, modelo);
+            case "modelo" -> resumenRepository.totalizarPorModelo(desde, hasta, cliente, usuario, modelo);
+            default -> throw new VentasValidationException(
+                    "Agrupación no soportada: " + agrupar + " (total, dia, cliente, usuario o modelo)", "agrupar");
+        };
+    }
+
+    /**
+     * Recalcula el resumen de un rango de fechas desde las ventas (carga inicial o corrección).
+     *
+     * @param desde fecha inicial (inclusive)
+     * @param hasta fecha final (inclusive); como máximo un año después de {@code desde}
+     * @return cantidad de filas de resumen generadas
+     */
+    @Override
+    @Transactional
+    public int reconstruir(LocalDate desde, LocalDate hasta) {
+        validarRango(desde, hasta);
+        if (ChronoUnit.DAYS.between(desde, hasta) >= DIAS_MAXIMOS_RECONSTRUCCION) {
+            throw new VentasValidationException("El rango a reconstruir no puede superar un año", "hasta");
+        }
+        int eliminadas = resumenRepository.eliminarRango(desde, hasta);
+        int generadas = resumenRepository.reconstruirRango(desde, hasta);
+        log.info("Resumen de ventas reconstruido de {} a {}: {} filas eliminadas, {} generadas", desde, hasta, eliminadas, generadas);
+        return generadas;
+    }
+
+    /**
+     * Reconciliación programada de los últimos {@code dias-reconstruccion} días, incluido el actual.
+     */
+    @Scheduled(cron = "${app.ventas.resumen.cron-reconstruccion:0 30 3 * * *}")
+    @Transactional
+    public void reconstruirRecientes() {
+        LocalDate hoy = LocalDate.now();
+        reconstruir(hoy.minusDays(diasReconstruccion - 1L), hoy);
+    }
+
+    private VentasResumenDiarioId acumular(VentasVenta venta, int signo) {
+        Integer idModelo = pedidoRepository.buscarIdModelo(venta.getPedido().getId())
+                .orElseThrow(() -> new VentasNotFoundException("Pedido con ID " + venta.getPedido().getId() + " no encontrado"));
+        VentasResumenDiarioId id = new VentasResumenDiarioId(venta.getFechaPago(), venta.getCliente().getId(),
+                venta.getUsuario().getId(), idModelo);
+        BigDecimal factor = BigDecimal.valueOf(signo);
+        BigDecimal descuento = venta.getDescuento() == null ? BigDecimal.ZERO : venta.getDescuento();
+
+        resumenRepository.acumular(id.getFecha(), id.getIdCliente(), id.getIdUsuario(), id.getIdModelo(), signo,
+                venta.getMontoTotal().multiply(factor), venta.getIgv().multiply(factor), descuento.multiply(factor));
+        return id;
+    }
+
+    private void aplicar(List<VentasResumenResponseDTO> grupos, int signo) {
+        BigDecimal factor = BigDecimal.valueOf(signo);
+        for (VentasResumenResponseDTO grupo : grupos) {
+            BigDecimal descuento = grupo.descuento() == null ? BigDecimal.ZERO : grupo.descuento();
+            resumenRepository.acumular(grupo.fecha(), grupo.idCliente(), grupo.idUsuario(), grupo.idModelo(),
+                    signo * grupo.cantidadVentas().intValue(), grupo.montoTotal().multiply(factor),
+                    grupo.igv().multiply(factor), descuento.multiply(factor));
+            if (signo < 0) {
+                resumenRepository.eliminarSiVacia(new VentasResumenDiarioId(grupo.fecha(), grupo.idCliente(),
+                        grupo.idUsuario(), grupo.idModelo()));
+            }
+        }
+    }
+
+    private void validarRango(LocalDate desde, LocalDate hasta) {
+        if (desde == null || hasta == null) {
+            throw new VentasValidationException("Las fechas desde y hasta son obligatorias", "desde");
+        }
+        if (desde.isAfter(hasta)) {
+            throw new VentasValidationException("La fecha desde no puede ser posterior a hasta", "desde");
+        }
+    }
+
+    private static VentasResumenResponseDTO sinNulos(VentasResumenResponseDTO fila) {
+        if (fila.cantidadVentas() != null) {
+            return fila;
+        }
+        return new VentasResumenResponseDTO(null, null, null, null, 0L, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+}
@@ -1,6 +1,8 @@
 package com.femt.inventory_management.service.ventas.imp;
 
 import com.femt.inventory_management.dto.request.VentasVentaRequestDTO;
+import com.femt.inventory_management.dto.request.VentasFiltroRequestDTO;
+import com.femt.inventory_management.dto.response.PaginaResponseDTO;
 import com.femt.inventory_management.dto.response.VentasVentaResponseDTO;
 import com.femt.inventory_management.exceptions.VentasNotFoundException;
 import com.femt.inventory_management.exceptions.VentasValidationException;
@@ -13,11 +15,15 @@ import com.femt.inventory_management.repository.SegUsuarioRepository;
 import com.femt.inventory_management.repository.VentasClienteRepository;
 import com.femt.inventory_management.repository.VentasPedidoRepository;
 import com.femt.inventory_management.repository.VentasVentaRepository;
+import com.femt.inventory_management.service.ventas.VentasResumenService;
 import com.femt.inventory_management.service.ventas.VentasVentaService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 @Slf4j
 @Service
 public class VentasVentaServiceImp implements VentasVentaService {
@@ -25,13 +31,15 @@ public class VentasVentaServiceImp implements VentasVentaService {
     private final VentasClienteRepository clienteRepository;
     private final VentasPedidoRepository pedidoRepository;
     private final SegUsuarioRepository usuarioRepository;
+    private final VentasResumenService resumenService;
     private final VentasMapper mapper;
 
-    public VentasVentaServiceImp(VentasVentaRepository ventaRepository, VentasClienteRepository clienteRepository, VentasPedidoRepository pedidoRepository, SegUsuarioRepository usuarioRepository, VentasMapper mapper) {
+    public VentasVentaServiceImp(VentasVentaRepository ventaRepository, VentasClienteRepository clienteRepository, VentasPedidoRepository pedidoRepository, SegUsuarioRepository usuarioRepository, VentasResumenService resumenService, VentasMapper mapper) {
         this.ventaRepository = ventaRepository;
         this.clienteRepository = clienteRepository;
         this.pedidoRepository = pedidoRepository;
         this.usuarioRepository = usuarioRepository;
+        this.resumenService = resumenService;
         this.mapper = mapper;
     }
 
@@ -40,6 +48,7 @@ public class VentasVentaServiceImp implements VentasVentaService {
      * @return
      */
     @Override
+    @Transactional
     public VentasVentaResponseDTO crear(VentasVentaRequestDTO dto) {
         validar(dto);
 
@@ -63,6 +72,7 @@ public class VentasVentaServiceImp implements VentasVentaService {
                 .build();
 
         VentasVenta guardada = ventaRepository.save(venta);
+        resumenService.sumar(guardada);
         log.info("Venta creada con ID {}", guardada.getId());
         return mapper.toResponse(guardada);
     }
@@ -73,6 +83,7 @@ public class VentasVentaServiceImp implements VentasVentaService {
      * @return
      */
     @Override
+    @Transactional
     public VentasVentaResponseDTO actualizar(Integer id, VentasVentaRequestDTO dto) {
         validar(dto);
 
@@ -88,6 +99,7 @@ public class VentasVentaServiceImp implements VentasVentaService {
         Usuario usuario = usuarioRepository.findById(dto.idUsuario())
                 .orElseThrow(() -> new VentasNotFoundException("Usuario con ID " + dto.idUsuario() + " no encontrado"));
 
+        resumenService.restar(venta);
         venta.setIgv(dto.igv());
         venta.setDescuento(dto.descuento());
         venta.setMontoTotal(dto.montoTotal());
@@ -97,6 +109,7 @@ public class VentasVentaServiceImp implements VentasVentaService {
         venta.setUsuario(usuario);
 
         VentasVenta actualizada = ventaRepository.save(venta);
+        resumenService.sumar(actualizada);
         log.info("Venta {} actualizada", id);
         return mapper.toResponse(actualizada);
     }
@@ -105,11 +118,12 @@ public class VentasVentaServiceImp implements VentasVentaService {
      * @param id
      */
     @Override
+    @Transactional
     public void eliminar(Integer id) {
-        if (!ventaRepository.existsById(id)) {
-            throw new VentasNotFoundException("Venta con ID " + id + " no encontrada");
-        }
-        ventaRepository.deleteById(id);
+        VentasVenta venta = ventaRepository.findById(id)
+                .orElseThrow(() -> new VentasNotFoundException("Venta con ID " + id + " no encontrada"));
+        resumenService.restar(venta);
+        ventaRepository.delete(venta);
         log.warn("Venta {} eliminada", id);
     }
 
@@ -119,8 +133,7 @@ public class VentasVentaServiceImp implements VentasVentaService {
      */
     @Override
     public VentasVentaResponseDTO obtenerPorId(Integer id) {
-        return ventaRepository.findById(id)
-                .map(mapper::toResponse)
+        return ventaRepository.buscarProyectadoPorId(id)
                 .orElseThrow(() -> new VentasNotFoundException("Venta con ID " + id + " no encontrada"));
     }
 
@@ -129,9 +142,61 @@ public class VentasVentaServiceImp implements VentasVentaService {
      */
     @Override
     public List<VentasVentaResponseDTO> listar() {
-        return ventaRepository.findAll().stream()
-                .map(mapper::toResponse)
-                .toList();
+        return ventaRepository.listarProyectado();
+    }
+
+    /**
+     * Lista ventas por páginas usando un cursor (keyset) en lugar de OFFSET.
+     * Se ordena por ID o por fecha de pago (del más reciente al más antiguo) y cada página
+     * continúa desde el cursor de la anterior, por lo que su costo no depende del tamaño del historial.
+     *
+     * @param filtro cursor, tamaño de página, orden y filtros opcionales
+     * @return página de ventas con el cursor de la página siguiente
+     * @throws VentasValidationException si el orden, el tamaño, el cursor o el rango de fechas no son válidos
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaResponseDTO<VentasVentaResponseDTO> listarPagina(VentasFiltroRequestDTO filtro) {
+        boolean porFecha = VentasKeyset.validar(filtro, true);
+        VentasKeyset.Cursor cursor = VentasKeyset.cursor(filtro, porFecha);
+
+        List<VentasVentaResponseDTO> filas = porFecha
+                ? ventaRepository.buscarPaginaPorFecha(filtro.idCliente(), filtro.idUsuario(), filtro.idPedido(), filtro.desde(), filtro.hasta(),
+                        cursor.fecha(), cursor.id(), VentasKeyset.limite(filtro))
+                : ventaRepository.buscarPaginaPorId(filtro.idCliente(), filtro.idUsuario(), filtro.idPedido(), filtro.desde(), filtro.hasta(),
+                        cursor.id(), VentasKeyset.limite(filtro));
+
+        return VentasKeyset.pagina(filas, filtro, porFecha
+                ? dto -> VentasKeyset.cursorDe(dto.fechaPago(), dto.id())
+                : dto -> VentasKeyset.cursorDe(dto.id()));
+    }
+
+    /**
+     * Valida el filtro de {@link #exportar} antes de empezar a escribir la respuesta,
+     * cuando todavía se puede responder con un error.
+     *
+     * @throws VentasValidationException si el tamaño, el orden o el rango de fechas no son válidos
+     */
+    @Override
+    public void validarExportacion(VentasFiltroRequestDTO filtro) {
+        VentasKeyset.validar(filtro, true);
+    }
+
+    /**
+     * Recorre todas las ventas que cumplen los filtros y entrega cada una al consumidor,
+     * sin cargar el resultado completo en memoria (la base de datos se lee por bloques).
+     *
+     * @param filtro     filtros opcionales (el cursor, el tamaño y el orden se ignoran)
+     * @param consumidor recibe cada registro en orden de ID
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportar(VentasFiltroRequestDTO filtro, Consumer<VentasVentaResponseDTO> consumidor) {
+        validarExportacion(filtro);
+
+        try (Stream<VentasVentaResponseDTO> registros = ventaRepository.recorrer(filtro.idCliente(), filtro.idUsuario(), filtro.idPedido(), filtro.desde(), filtro.hasta())) {
+            registros.forEach(consumidor);
+        }
     }
 
     private void validar(VentasVentaRequestDTO dto) {
@@ -0,0 +1,15 @@
+package com.femt.inventory_management.service.ventas.sunat;
+
+import java.time.LocalDate;
+
+/**
+ * Datos del comprobante que necesita el emisor para generar, firmar y enviar el XML.
+ */
+public record SunatComprobante(
+        Integer id,
+        String tipoComprobante,
+        String serie,
+        LocalDate fechaEmision,
+        Integer idVenta
+) {
+}
@@ -0,0 +1,120 @@
+package com.femt.inventory_management.service.ventas.sunat;
+
+import com.femt.inventory_management.exceptions.VentasValidationException;
+import com.femt.inventory_management.models.ventas.enums.VentasTipoDocumentoEnum;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.file.*;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Almacén en disco de los XML y CDR de los comprobantes, direccionado por contenido.
+ * <>
+ * Cada documento se guarda como {@code ab/cd/<sha256>.<ext>} bajo {@code app.sunat.documentos.directorio};
+ * esa ruta relativa es la clave que se registra en {@code archivo_xml} / {@code archivo_cdr}. Como el
+ * nombre depende del contenido, un archivo nunca se modifica: el hash sirve de ETag y los duplicados
+ * se guardan una sola vez.
+ * <>
+ * El contenido se escribe por bloques en un archivo temporal mientras se calcula el hash y luego se
+ * mueve a su ubicación final, de modo que nunca se lee un documento a medio escribir ni se carga
+ * completo en memoria.
+ */
+@Slf4j
+@Component
+public class SunatDocumentoAlmacen {
+
+    private static final Pattern CLAVE = Pattern.compile("[0-9a-f]{2}/[0-9a-f]{2}/([0-9a-f]{64})\\.(xml|zip)");
+    private static final int TAMANIO_BLOQUE = 64 * 1024;
+
+    private final Path directorio;
+    private final long tamanioMaximo;
+
+    public SunatDocumentoAlmacen(@Value("${app.sunat.documentos.directorio:documentos}") String directorio,
+                                 @Value("${app.sunat.documentos.tamanio-maximo-bytes:10485760}") long tamanioMaximo) {
+        this.directorio = Path.of(directorio).toAbsolutePath().normalize();
+        this.tamanioMaximo = tamanioMaximo;
+    }
+
+    public String guardar(byte[] contenido, VentasTipoDocumentoEnum tipo) {
+        return guardar(new ByteArrayInputStream(contenido), tipo);
+    }
+
+    /**
+     * @param contenido flujo con el documento (no se cierra)
+     * @param tipo      tipo de documento, define la extensión
+     * @return clave del documento, relativa al directorio del almacén
+     * @throws VentasValidationException si el documento supera el tamaño máximo
+     */
+    public String guardar(InputStream contenido, VentasTipoDocumentoEnum tipo) {
+        try {
+            Files.createDirectories(directorio);
+            Path temporal = Files.createTempFile(directorio, "subida-", ".tmp");
+            try {
+                MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+                try (OutputStream salida = new DigestOutputStream(Files.newOutputStream(temporal), sha256)) {
+                    copiar(contenido, salida);
+                }
+                String hash = HexFormat.of().formatHex(sha256.digest());
+                String clave = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + "." + tipo.getExtension();
+                Path destino = directorio.resolve(clave);
+                if (!Files.exists(destino)) {
+                    Files.createDirectories(destino.getParent());
+                    Files.move(temporal, destino, StandardCopyOption.ATOMIC_MOVE);
+                    log.debug("Documento {} guardado", clave);
+                }
+                return clave;
+            } finally {
+                Files.deleteIfExists(temporal);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo guardar el documento", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param clave clave registrada en el comprobante
+     * @return el archivo, si la clave pertenece al almacén y el archivo existe
+     */
+    public Optional<Path> ubicar(String clave) {
+        if (clave == null || !CLAVE.matcher(clave).matches()) {
+            return Optional.empty();
+        }
+        Path ruta = directorio.resolve(clave);
+        return Files.isRegularFile(ruta) ? Optional.of(ruta) : Optional.empty();
+    }
+
+    /**
+     * @return hash SHA-256 del contenido, a partir de la clave
+     */
+    public String etag(String clave) {
+        Matcher matcher = CLAVE.matcher(clave);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Clave de documento no válida: " + clave);
+        }
+        return matcher.group(1);
+    }
+
+    private void copiar(InputStream entrada, OutputStream salida) throws IOException {
+        byte[] bloque = new byte[TAMANIO_BLOQUE];
+        long total = 0;
+        int leidos;
+        while ((leidos = entrada.read(bloque)) != -1) {
+            total += leidos;
+            if (total > tamanioMaximo) {
+                throw new VentasValidationException("El documento supera el tamaño máximo de " + tamanioMaximo + " bytes", "contenido");
+            }
+            salida.write(bloque, 0, leidos);
+        }
+    }
+}
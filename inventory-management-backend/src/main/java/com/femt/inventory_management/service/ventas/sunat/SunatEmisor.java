@@ -0,0 +1,25 @@
+package com.femt.inventory_management.service.ventas.sunat;
+
+/**
+ * Punto de extensión para emitir comprobantes ante SUNAT.
+ * <>
+ * Para emitir se registra un bean que implemente esta interfaz, habilitado con {@code app.sunat.emisor}.
+ * No hay emisor por defecto: sin uno, los comprobantes quedan {@code PENDIENTE} (ver {@link SunatPipeline}).
+ * {@link SunatEmisorSimulado} ({@code app.sunat.emisor=simulado}) es solo para desarrollo y pruebas de carga.
+ * Los métodos se invocan desde hilos virtuales, por lo que pueden bloquear en E/S.
+ */
+public interface SunatEmisor {
+
+    /**
+     * Genera y firma el XML del comprobante.
+     *
+     * @return nombre del archivo XML firmado
+     */
+    String generarXml(SunatComprobante comprobante) throws Exception;
+
+    /**
+     * Envía el XML firmado y devuelve la respuesta (CDR). Una excepción indica un error transitorio:
+     * el comprobante queda pendiente y se vuelve a intentar más tarde.
+     */
+    SunatRespuesta enviar(SunatComprobante comprobante, String archivoXml) throws Exception;
+}
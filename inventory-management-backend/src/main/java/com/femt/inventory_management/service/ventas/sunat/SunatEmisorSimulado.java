@@ -0,0 +1,71 @@
+package com.femt.inventory_management.service.ventas.sunat;
+
+import com.femt.inventory_management.models.ventas.enums.VentasTipoDocumentoEnum;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Emisor local para desarrollo y pruebas: no contacta a SUNAT, simula la latencia del envío
+ * y acepta todos los comprobantes. El XML (sin firma real) y la CDR se guardan en el
+ * {@link SunatDocumentoAlmacen}, igual que lo haría un emisor real.
+ * <>
+ * Solo se activa de forma explícita ({@code app.sunat.emisor=simulado}, como en el perfil {@code carga}):
+ * los comprobantes que acepta no existen para SUNAT.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.sunat.emisor", havingValue = "simulado")
+public class SunatEmisorSimulado implements SunatEmisor {
+    private final SunatDocumentoAlmacen almacen;
+    private final long latenciaMs;
+
+    public SunatEmisorSimulado(SunatDocumentoAlmacen almacen,
+                               @Value("${app.sunat.simulado.latencia-ms:200}") long latenciaMs) {
+        this.almacen = almacen;
+        this.latenciaMs = latenciaMs;
+        log.warn("Emisor SUNAT simulado activo: los comprobantes se marcan ACEPTADO sin contactar a SUNAT");
+    }
+
+    @Override
+    public String generarXml(SunatComprobante comprobante) {
+        String xml = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <Invoice xmlns="urn:oasis:names:specification:ubl:schema:xsd:Invoice-2">
+                  <ID>%s-%d</ID>
+                  <IssueDate>%s</IssueDate>
+                  <InvoiceTypeCode>%s</InvoiceTypeCode>
+                </Invoice>
+                """.formatted(comprobante.serie(), comprobante.id(), comprobante.fechaEmision(), comprobante.tipoComprobante());
+        return almacen.guardar(xml.getBytes(StandardCharsets.UTF_8), VentasTipoDocumentoEnum.XML);
+    }
+
+    @Override
+    public SunatRespuesta enviar(SunatComprobante comprobante, String archivoXml) throws InterruptedException, IOException {
+        Thread.sleep(latenciaMs);
+        String nombre = comprobante.serie() + "-" + comprobante.id();
+        String constancia = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <ApplicationResponse xmlns="urn:oasis:names:specification:ubl:schema:xsd:ApplicationResponse-2">
+                  <ResponseCode>0</ResponseCode>
+                  <Description>El comprobante %s ha sido aceptado (simulado)</Description>
+                </ApplicationResponse>
+                """.formatted(nombre);
+
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        try (ZipOutputStream salida = new ZipOutputStream(zip)) {
+            salida.putNextEntry(new ZipEntry("R-" + nombre + ".xml"));
+            salida.write(constancia.getBytes(StandardCharsets.UTF_8));
+            salida.closeEntry();
+        }
+        log.debug("Comprobante {} aceptado (simulado)", comprobante.id());
+        return new SunatRespuesta("ACEPTADO", archivoXml, almacen.guardar(zip.toByteArray(), VentasTipoDocumentoEnum.CDR));
+    }
+}
@@ -0,0 +1,343 @@
+package com.femt.inventory_management.service.ventas.sunat;
+
+import com.femt.inventory_management.dto.response.SunatEstadisticasResponseDTO;
+import com.femt.inventory_management.metricas.MetricasRegistro;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cola de emisión de comprobantes ante SUNAT, desacoplada del registro de la venta.
+ * <>
+ * Al crear un comprobante solo se guarda con estado {@code PENDIENTE} y se encola cuando la transacción
+ * se confirma; la generación del XML, la firma y el envío los hace el {@link SunatEmisor} en hilos
+ * virtuales, con a lo sumo {@code app.sunat.concurrencia} envíos simultáneos. Las respuestas (CDR) se
+ * acumulan en memoria y {@link #guardarResultados()} las escribe con un UPDATE por lote JDBC.
+ * <>
+ * La cola es acotada ({@code app.sunat.capacidad-cola}) y encolar nunca bloquea: si está llena, el
+ * comprobante queda pendiente en la base de datos y {@link #recuperarPendientes()} lo vuelve a encolar
+ * cuando hay espacio. Lo mismo ocurre con los errores transitorios del emisor y con los comprobantes que
+ * quedaron pendientes por un reinicio, de modo que la base de datos es la única fuente de verdad.
+ * <>
+ * Varias instancias comparten la tabla: antes de enviar, cada comprobante se reserva con un UPDATE
+ * condicional ({@code PENDIENTE → EN_PROCESO}) que solo una instancia gana. La reserva vence a los
+ * {@code app.sunat.reserva-s} segundos, por si la instancia cae a mitad del envío; debe superar con holgura
+ * el tiempo de un envío. Si falla el guardado de una respuesta, se reintenta guardarla (SUNAT ya la aceptó)
+ * en lugar de volver a enviar el comprobante.
+ * <>
+ * Sin un {@link SunatEmisor} configurado ({@code app.sunat.emisor}) la cola no se inicia y los comprobantes
+ * quedan {@code PENDIENTE} hasta que se configure uno.
+ */
+@Slf4j
+@Component
+public class SunatPipeline {
+
+    public static final String ESTADO_PENDIENTE = "PENDIENTE";
+    public static final String ESTADO_EN_PROCESO = "EN_PROCESO";
+
+    /**
+     * Pendientes y reservas vencidas (de una instancia que cayó durante el envío).
+     */
+    private static final String SQL_PENDIENTES = """
+            select id, tipo_comprobante, serie, fecha_emision, id_venta
+            from ventas_comprobante_pago
+            where estado_sunat in ('PENDIENTE', 'EN_PROCESO')
+              and (estado_sunat = 'PENDIENTE' or sunat_reserva_hasta < current_timestamp)
+            order by id
+            limit ?
+            """;
+    private static final String SQL_RESERVAR = """
+            update ventas_comprobante_pago
+            set estado_sunat = 'EN_PROCESO', sunat_reserva_hasta = timestampadd(second, ?, current_timestamp)
+            where id = ?
+              and (estado_sunat = 'PENDIENTE' or (estado_sunat = 'EN_PROCESO' and sunat_reserva_hasta < current_timestamp))
+            """;
+    private static final String SQL_LIBERAR = """
+            update ventas_comprobante_pago
+            set estado_sunat = 'PENDIENTE', sunat_reserva_hasta = null
+            where id = ? and estado_sunat = 'EN_PROCESO'
+            """;
+    private static final String SQL_GUARDAR = """
+            update ventas_comprobante_pago
+            set estado_sunat = ?, archivo_xml = ?, archivo_cdr = ?, sunat_reserva_hasta = null
+            where id = ? and estado_sunat = 'EN_PROCESO'
+            """;
+
+    private final SunatEmisor emisor;
+    private final JdbcTemplate jdbcTemplate;
+    private final int capacidad;
+    private final int concurrencia;
+    private final int tamanioLote;
+    private final int reservaSegundos;
+
+    private final BlockingQueue<SunatComprobante> cola;
+    private final Semaphore permisos;
+    private final Set<Integer> encolados = ConcurrentHashMap.newKeySet();
+    private final Queue<Resultado> resultados = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger enProceso = new AtomicInteger();
+    private final LongAdder procesados = new LongAdder();
+    private final LongAdder errores = new LongAdder();
+    private final LongAdder rechazados = new LongAdder();
+    private final LongAdder erroresGuardado = new LongAdder();
+    private volatile Thread despachador;
+
+    public SunatPipeline(ObjectProvider<SunatEmisor> emisor,
+                         JdbcTemplate jdbcTemplate,
+                         @Value("${app.sunat.capacidad-cola:1000}") int capacidad,
+                         @Value("${app.sunat.concurrencia:8}") int concurrencia,
+                         @Value("${app.sunat.tamanio-lote:500}") int tamanioLote,
+                         @Value("${app.sunat.reserva-s:300}") int reservaSegundos,
+                         MetricasRegistro metricas) {
+        if (reservaSegundos < 1) {
+            throw new IllegalStateException("app.sunat.reserva-s debe ser mayor a cero: " + reservaSegundos);
+        }
+        this.emisor = emisor.getIfAvailable();
+        this.jdbcTemplate = jdbcTemplate;
+        this.capacidad = capacidad;
+        this.concurrencia = concurrencia;
+        this.tamanioLote = tamanioLote;
+        this.reservaSegundos = reservaSegundos;
+        this.cola = new ArrayBlockingQueue<>(capacidad);
+        this.permisos = new Semaphore(concurrencia);
+
+        metricas.medidor("sunat_cola_comprobantes", "Comprobantes en la cola de emisión SUNAT", cola::size);
+        metricas.medidor("sunat_envios_en_proceso", "Envíos a SUNAT en curso", enProceso::get);
+        metricas.medidor("sunat_respuestas_pendientes", "Respuestas SUNAT pendientes de guardar", resultados::size);
+        metricas.contador("sunat_procesados_total", "Comprobantes enviados a SUNAT", procesados::sum);
+        metricas.contador("sunat_errores_total", "Errores transitorios al emitir comprobantes", errores::sum);
+        metricas.contador("sunat_rechazados_cola_llena_total", "Comprobantes no encolados por cola llena", rechazados::sum);
+        metricas.contador("sunat_errores_guardado_total", "Lotes de respuestas SUNAT que no se pudieron guardar", erroresGuardado::sum);
+    }
+
+    /**
+     * Inicia el hilo que toma comprobantes de la cola y los reparte entre hilos virtuales.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        if (emisor == null) {
+            log.warn("Sin emisor SUNAT configurado (app.sunat.emisor): los comprobantes quedan PENDIENTE");
+            return;
+        }
+        despachador = Thread.ofPlatform().name("sunat-despachador").daemon().start(this::despachar);
+        log.info("Cola SUNAT iniciada: capacidad {}, concurrencia {}", capacidad, concurrencia);
+    }
+
+    /**
+     * Encola el comprobante cuando la transacción actual se confirma (o de inmediato si no hay transacción).
+     * Nunca bloquea a quien registra la venta.
+     */
+    public void encolarAlConfirmar(SunatComprobante comprobante) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    encolar(comprobante);
+                }
+            });
+        } else {
+            encolar(comprobante);
+        }
+    }
+
+    /**
+     * @return {@code true} si el comprobante quedó en cola (o ya lo estaba); {@code false} si la cola está
+     * llena, en cuyo caso sigue pendiente y se reintenta en la próxima recuperación, o si no hay emisor
+     */
+    public boolean encolar(SunatComprobante comprobante) {
+        if (emisor == null) {
+            return false;
+        }
+        if (!encolados.add(comprobante.id())) {
+            return true;
+        }
+        if (!cola.offer(comprobante)) {
+            encolados.remove(comprobante.id());
+            rechazados.increment();
+            log.debug("Cola SUNAT llena ({}): comprobante {} queda pendiente", capacidad, comprobante.id());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Escribe por lotes las respuestas recibidas. Solo actualiza comprobantes que siguen en proceso,
+     * para no pisar un estado corregido manualmente mientras el envío estaba en curso. Los lotes que no
+     * se pudieron guardar vuelven a la cola de respuestas y se reintentan en la próxima ejecución.
+     */
+    @Scheduled(fixedDelayString = "${app.sunat.intervalo-guardado-ms:500}")
+    public void guardarResultados() {
+        List<Resultado> fallidos = new ArrayList<>();
+        List<Resultado> lote = new ArrayList<>(Math.min(tamanioLote, resultados.size()));
+        Resultado resultado;
+        while ((resultado = resultados.poll()) != null) {
+            lote.add(resultado);
+            if (lote.size() == tamanioLote) {
+                if (!escribir(lote)) {
+                    fallidos.addAll(lote);
+                }
+                lote.clear();
+            }
+        }
+        if (!lote.isEmpty() && !escribir(lote)) {
+            fallidos.addAll(lote);
+        }
+        resultados.addAll(fallidos);
+    }
+
+    /**
+     * Vuelve a encolar los comprobantes pendientes que no están en memoria, hasta llenar el espacio
+     * libre de la cola: los rechazados por cola llena, los que fallaron y los que quedaron de un reinicio.
+     */
+    @Scheduled(fixedDelayString = "${app.sunat.intervalo-recuperacion-ms:60000}")
+    public void recuperarPendientes() {
+        int libres = cola.remainingCapacity();
+        if (emisor == null || libres == 0) {
+            return;
+        }
+        List<SunatComprobante> pendientes = jdbcTemplate.query(SQL_PENDIENTES,
+                (rs, fila) -> new SunatComprobante(rs.getInt(1), rs.getString(2), rs.getString(3),
+                        rs.getObject(4, LocalDate.class), rs.getInt(5)),
+                libres + encolados.size());
+        int encoladosAhora = 0;
+        for (SunatComprobante pendiente : pendientes) {
+            if (encolados.contains(pendiente.id())) {
+                continue;
+            }
+            if (!encolar(pendiente)) {
+                break;
+            }
+            encoladosAhora++;
+        }
+        if (encoladosAhora > 0) {
+            log.info("Cola SUNAT: {} comprobantes pendientes recuperados", encoladosAhora);
+        }
+    }
+
+    public SunatEstadisticasResponseDTO estadisticas() {
+        return new SunatEstadisticasResponseDTO(
+                cola.size(),
+                capacidad,
+                enProceso.get(),
+                concurrencia,
+                resultados.size(),
+                procesados.sum(),
+                errores.sum(),
+                rechazados.sum()
+        );
+    }
+
+    /**
+     * Detiene el despachador, espera a los envíos en curso y guarda las respuestas recibidas.
+     * Lo que quede en cola sigue pendiente en la base de datos; las respuestas que no se pudieron guardar
+     * se pierden y sus comprobantes se vuelven a enviar cuando vence la reserva.
+     */
+    @PreDestroy
+    public void detener() throws InterruptedException {
+        Thread hilo = despachador;
+        if (hilo != null) {
+            hilo.interrupt();
+            hilo.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        if (permisos.tryAcquire(concurrencia, 30, TimeUnit.SECONDS)) {
+            permisos.release(concurrencia);
+        } else {
+            log.warn("Cola SUNAT: {} envíos no terminaron antes del cierre", enProceso.get());
+        }
+        guardarResultados();
+        if (!resultados.isEmpty()) {
+            log.error("Cola SUNAT: {} respuestas no se guardaron antes del cierre", resultados.size());
+        }
+    }
+
+    private void despachar() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                SunatComprobante comprobante = cola.take();
+                permisos.acquire();
+                enProceso.incrementAndGet();
+                Thread.ofVirtual().name("sunat-" + comprobante.id()).start(() -> procesar(comprobante));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void procesar(SunatComprobante comprobante) {
+        boolean reservado = false;
+        try {
+            if (jdbcTemplate.update(SQL_RESERVAR, reservaSegundos, comprobante.id()) == 0) {
+                // Otra instancia lo reservó o ya no está pendiente
+                encolados.remove(comprobante.id());
+                log.debug("Comprobante {} ya no está pendiente: se omite", comprobante.id());
+                return;
+            }
+            reservado = true;
+            String archivoXml = emisor.generarXml(comprobante);
+            SunatRespuesta respuesta = emisor.enviar(comprobante, archivoXml);
+            resultados.add(new Resultado(comprobante.id(), respuesta));
+            procesados.increment();
+        } catch (Exception e) {
+            // Error transitorio: el comprobante vuelve a PENDIENTE y se reintenta en la próxima recuperación
+            errores.increment();
+            log.error("Error al emitir el comprobante {}: {}", comprobante.id(), e.getMessage());
+            if (reservado) {
+                liberar(comprobante.id());
+            }
+            encolados.remove(comprobante.id());
+        } finally {
+            enProceso.decrementAndGet();
+            permisos.release();
+        }
+    }
+
+    private void liberar(Integer id) {
+        try {
+            jdbcTemplate.update(SQL_LIBERAR, id);
+        } catch (RuntimeException e) {
+            // La reserva vence sola y el comprobante se recupera entonces
+            log.warn("No se pudo liberar la reserva del comprobante {}: {}", id, e.getMessage());
+        }
+    }
+
+    /**
+     * @return {@code false} si el lote no se pudo guardar y se debe reintentar
+     */
+    private boolean escribir(List<Resultado> lote) {
+        try {
+            jdbcTemplate.batchUpdate(SQL_GUARDAR, lote, lote.size(), (ps, r) -> {
+                ps.setString(1, r.respuesta().estadoSunat());
+                ps.setString(2, r.respuesta().archivoXml());
+                ps.setString(3, r.respuesta().archivoCdr());
+                ps.setInt(4, r.id());
+            });
+            lote.forEach(r -> encolados.remove(r.id()));
+            log.debug("Cola SUNAT: {} respuestas guardadas", lote.size());
+            return true;
+        } catch (RuntimeException e) {
+            // SUNAT ya respondió: se reintenta el guardado, no el envío (siguen en encolados para no recuperarlos)
+            erroresGuardado.increment();
+            log.error("No se pudieron guardar {} respuestas SUNAT, se reintentará: {}", lote.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private record Resultado(Integer id, SunatRespuesta respuesta) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.femt.inventory_management.service.ventas.sunat;
+
+/**
+ * Resultado del envío de un comprobante: estado informado en la CDR y archivos generados.
+ */
+public record SunatRespuesta(
+        String estadoSunat,
+        String archivoXml,
+        String archivoCdr
+) {
+}
@@ -0,0 +1,83 @@
+package com.femt.inventory_management;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Prueba de arquitectura: el código de la aplicación no usa monitores ({@code synchronized} en métodos
+ * o bloques, ni {@code @Synchronized} de Lombok).
+ * <>
+ * En Java 21 un hilo virtual que bloquea dentro de un monitor queda fijado a su portador; con
+ * {@code spring.threads.virtual.enabled=true} basta uno por núcleo para detener todas las peticiones.
+ * Usar {@link java.util.concurrent.locks.ReentrantLock} o estructuras concurrentes en su lugar.
+ */
+public class SinMonitoresTest {
+
+    @Test
+    void testCodigoSinSynchronized() throws Exception {
+        // ----- ARRANGE (PREPARAR) -----
+        Resource[] clases = new PathMatchingResourcePatternResolver()
+                .getResources("classpath*:com/femt/inventory_management/**/*.class");
+        List<String> monitores = new ArrayList<>();
+
+        // ----- ACTUAR(ACT) -----
+        int revisadas = 0;
+        for (Resource clase : clases) {
+            if (clase.getURL().toString().contains("/test-classes/")) {
+                continue;
+            }
+            try (InputStream entrada = clase.getInputStream()) {
+                new ClassReader(entrada).accept(new BuscadorMonitores(monitores), ClassReader.SKIP_DEBUG);
+            }
+            revisadas++;
+        }
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(revisadas).isGreaterThan(0);
+        assertThat(monitores).as("Métodos con synchronized (fijan hilos virtuales)").isEmpty();
+    }
+
+    private static final class BuscadorMonitores extends ClassVisitor {
+
+        private final List<String> monitores;
+        private String clase;
+
+        BuscadorMonitores(List<String> monitores) {
+            super(SpringAsmInfo.ASM_VERSION);
+            this.monitores = monitores;
+        }
+
+        @Override
+        public void visit(int version, int acceso, String nombre, String firma, String padre, String[] interfaces) {
+            clase = nombre.replace('/', '.');
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int acceso, String nombre, String descriptor, String firma, String[] excepciones) {
+            String metodo = clase + "." + nombre;
+            if ((acceso & Opcodes.ACC_SYNCHRONIZED) != 0) {
+                monitores.add(metodo);
+            }
+            return new MethodVisitor(SpringAsmInfo.ASM_VERSION) {
+                @Override
+                public void visitInsn(int opcode) {
+                    if (opcode == Opcodes.MONITORENTER) {
+                        monitores.add(metodo + " (bloque)");
+                    }
+                }
+            };
+        }
+    }
+}
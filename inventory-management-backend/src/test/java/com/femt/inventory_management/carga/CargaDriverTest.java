@@ -0,0 +1,59 @@
+package com.femt.inventory_management.carga;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Clase de prueba unitaria para CargaDriver.
+ * Verifica la lectura de la mezcla de operaciones y el cálculo de percentiles.
+ */
+public class CargaDriverTest {
+
+    /**
+     * Las operaciones sin peso valen 1 y las desconocidas se rechazan.
+     */
+    @Test
+    void testMezclaDeOperaciones() {
+        // ----- ACTUAR(ACT) -----
+        Map<String, Integer> mezcla = CargaDriver.mezcla(" buscar=30, matriz ,resumen=0");
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(mezcla).containsExactly(Map.entry("buscar", 30), Map.entry("matriz", 1), Map.entry("resumen", 0));
+        assertThatThrownBy(() -> CargaDriver.mezcla("buscar=1,borrar-todo=5"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CargaDriver.mezcla("buscar=0"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Los percentiles se calculan por rango más cercano sobre las muestras combinadas de todos los usuarios.
+     */
+    @Test
+    void testPercentilesDeMuestrasCombinadas() {
+        // ----- ARRANGE (PREPARAR) -----
+        CargaDriver.Muestras primera = new CargaDriver.Muestras();
+        CargaDriver.Muestras segunda = new CargaDriver.Muestras();
+        for (int ms = 1; ms <= 1000; ms++) {
+            (ms % 2 == 0 ? primera : segunda).agregar(ms * 1_000_000L, ms % 100 != 0);
+        }
+
+        // ----- ACTUAR(ACT) -----
+        primera.combinar(segunda);
+        CargaDriver.Resultado resultado = primera.resultado("buscar", Duration.ofSeconds(10));
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(resultado.peticiones()).isEqualTo(1000);
+        assertThat(resultado.errores()).isEqualTo(10);
+        assertThat(resultado.porSegundo()).isEqualTo(100.0);
+        assertThat(resultado.p50()).isEqualTo(500.0);
+        assertThat(resultado.p90()).isEqualTo(900.0);
+        assertThat(resultado.p99()).isEqualTo(990.0);
+        assertThat(resultado.p999()).isEqualTo(999.0);
+        assertThat(resultado.maximo()).isEqualTo(1000.0);
+    }
+}
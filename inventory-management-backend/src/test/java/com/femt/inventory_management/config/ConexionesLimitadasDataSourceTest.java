@@ -0,0 +1,108 @@
+package com.femt.inventory_management.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Clase de prueba unitaria para ConexionesLimitadasDataSource.
+ * Usa un pool de Hikari real sobre H2 en memoria con 2 conexiones y 1 reservada.
+ */
+public class ConexionesLimitadasDataSourceTest {
+
+    private HikariDataSource pool;
+    private ConexionesLimitadasDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:conexiones;DB_CLOSE_DELAY=-1");
+        pool.setMaximumPoolSize(2);
+        pool.setConnectionTimeout(1000);
+        dataSource = new ConexionesLimitadasDataSource(pool, 1, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    /**
+     * Varios hilos que abren una conexión y, con ella abierta, una segunda (como el generador de IDs de
+     * {@code seq_generador}) terminan todos: sin la reserva, cada uno tomaría una de las dos conexiones y
+     * esperaría la segunda hasta que venza el pool.
+     */
+    @Test
+    void testConexionesAnidadasSinBloqueoMutuo() throws Exception {
+        // ----- ARRANGE (PREPARAR) -----
+        int hilos = 8;
+        CountDownLatch salida = new CountDownLatch(1);
+        List<Future<Integer>> resultados = new ArrayList<>();
+
+        // ----- ACTUAR(ACT) -----
+        try (ExecutorService ejecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < hilos; i++) {
+                resultados.add(ejecutor.submit(() -> {
+                    salida.await();
+                    try (Connection transaccion = dataSource.getConnection()) {
+                        Thread.sleep(20);
+                        try (Connection secuencia = dataSource.getConnection()) {
+                            return secuencia.createStatement().executeQuery("select 1").next() && !transaccion.isClosed() ? 1 : 0;
+                        }
+                    }
+                }));
+            }
+            salida.countDown();
+        }
+
+        // ----- AFIRMAR (ASSERT) -----
+        int completados = 0;
+        for (Future<Integer> resultado : resultados) {
+            completados += resultado.get(5, TimeUnit.SECONDS);
+        }
+        assertThat(completados).isEqualTo(hilos);
+        assertThat(dataSource.vencidas()).isZero();
+        assertThat(pool.getHikariPoolMXBean().getActiveConnections()).isZero();
+    }
+
+    /**
+     * Un hilo sin conexión espera el permiso y vence con una excepción transitoria; el permiso se devuelve
+     * una sola vez aunque la conexión se cierre dos veces.
+     */
+    @Test
+    void testEsperaVencidaYCierreIdempotente() throws Exception {
+        // ----- ARRANGE (PREPARAR) -----
+        Connection ocupada = dataSource.getConnection();
+
+        // ----- ACTUAR(ACT) -----
+        Future<?> otroHilo = Executors.newVirtualThreadPerTaskExecutor().submit(() -> {
+            assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+            return null;
+        });
+        otroHilo.get(5, TimeUnit.SECONDS);
+        ocupada.close();
+        ocupada.close();
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(dataSource.vencidas()).isEqualTo(1);
+        assertThat(ocupada.isClosed()).isTrue();
+        try (Connection primera = dataSource.getConnection()) {
+            assertThat(primera.isClosed()).isFalse();
+        }
+        assertThat(dataSource.esperando()).isZero();
+    }
+}
@@ -0,0 +1,171 @@
+package com.femt.inventory_management.controllers.ventas;
+
+import com.femt.inventory_management.dto.response.VentasDocumentoResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Clase de prueba unitaria para VentasDescarga.
+ * Verifica las respuestas condicionales (If-None-Match, If-Range) y por rangos de bytes sobre un archivo real.
+ */
+public class VentasDescargaTest {
+    private static final String CONTENIDO = "0123456789abcdefghij";
+    private static final String HASH = "ab".repeat(32);
+    private static final String ETAG = "\"" + HASH + "\"";
+
+    @TempDir
+    private Path temporal;
+
+    private VentasDocumentoResponseDTO documento;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path ruta = Files.writeString(temporal.resolve(HASH + ".xml"), CONTENIDO);
+        documento = new VentasDocumentoResponseDTO(ruta, HASH, "F001-1.xml", "application/xml");
+    }
+
+    /**
+     * Con If-None-Match igual al ETag se responde 304 sin cuerpo y sin volver a enviar el archivo.
+     */
+    @Test
+    void testIfNoneMatchConElEtagResponde304() {
+        // ----- ARRANGE (PREPARAR) -----
+        HttpHeaders peticion = new HttpHeaders();
+        peticion.setIfNoneMatch(ETAG);
+
+        // ----- ACTUAR(ACT) -----
+        ResponseEntity<StreamingResponseBody> respuesta = VentasDescarga.responder(documento, peticion);
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(respuesta.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(respuesta.getHeaders().getETag()).isEqualTo(ETAG);
+        assertThat(respuesta.getHeaders().getCacheControl()).isEqualTo("no-cache, private");
+        assertThat(respuesta.getBody()).isNull();
+    }
+
+    /**
+     * Sin cabeceras condicionales ni Range se envía el documento completo con su ETag.
+     */
+    @Test
+    void testSinRangoEnviaElDocumentoCompleto() throws Exception {
+        // ----- ACTUAR(ACT) -----
+        ResponseEntity<StreamingResponseBody> respuesta = VentasDescarga.responder(documento, new HttpHeaders());
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(respuesta.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(respuesta.getHeaders().getETag()).isEqualTo(ETAG);
+        assertThat(respuesta.getHeaders().getContentLength()).isEqualTo(CONTENIDO.length());
+        assertThat(cuerpo(respuesta)).isEqualTo(CONTENIDO);
+    }
+
+    /**
+     * Un único rango válido responde 206 con Content-Range y solo esos bytes.
+     */
+    @Test
+    void testRangoValidoResponde206() throws Exception {
+        // ----- ARRANGE (PREPARAR) -----
+        HttpHeaders peticion = new HttpHeaders();
+        peticion.set(HttpHeaders.RANGE, "bytes=5-9");
+
+        // ----- ACTUAR(ACT) -----
+        ResponseEntity<StreamingResponseBody> respuesta = VentasDescarga.responder(documento, peticion);
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(respuesta.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(respuesta.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 5-9/20");
+        assertThat(respuesta.getHeaders().getContentLength()).isEqualTo(5);
+        assertThat(cuerpo(respuesta)).isEqualTo("56789");
+    }
+
+    /**
+     * Un rango de sufijo (los últimos n bytes) también se resuelve contra el tamaño del archivo.
+     */
+    @Test
+    void testRangoDeSufijoResponde206() throws Exception {
+        // ----- ARRANGE (PREPARAR) -----
+        HttpHeaders peticion = new HttpHeaders();
+        peticion.set(HttpHeaders.RANGE, "bytes=-4");
+
+        // ----- ACTUAR(ACT) -----
+        ResponseEntity<StreamingResponseBody> respuesta = VentasDescarga.responder(documento, peticion);
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(respuesta.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(respuesta.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 16-19/20");
+        assertThat(cuerpo(respuesta)).isEqualTo("ghij");
+    }
+
+    /**
+     * Un rango que empieza después del final del archivo responde 416 con el tamaño real.
+     */
+    @Test
+    void testRangoNoSatisfacibleResponde416() {
+        // ----- ARRANGE (PREPARAR) -----
+        HttpHeaders peticion = new HttpHeaders();
+        peticion.set(HttpHeaders.RANGE, "bytes=20-30");
+
+        // ----- ACTUAR(ACT) -----
+        ResponseEntity<StreamingResponseBody> respuesta = VentasDescarga.responder(documento, peticion);
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(respuesta.getStatusCode()).isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+        assertThat(respuesta.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */20");
+        assertThat(respuesta.getBody()).isNull();
+    }
+
+    /**
+     * Con If-Range de un ETag anterior se ignora el Range y se envía el documento completo con 200.
+     */
+    @Test
+    void testIfRangeConEtagAnteriorEnviaElDocumentoCompleto() throws Exception {
+        // ----- ARRANGE (PREPARAR) -----
+        HttpHeaders peticion = new HttpHeaders();
+        peticion.set(HttpHeaders.RANGE, "bytes=5-9");
+        peticion.set(HttpHeaders.IF_RANGE, "\"" + "cd".repeat(32) + "\"");
+
+        // ----- ACTUAR(ACT) -----
+        ResponseEntity<StreamingResponseBody> respuesta = VentasDescarga.responder(documento, peticion);
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(respuesta.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(respuesta.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isNull();
+        assertThat(respuesta.getHeaders().getContentLength()).isEqualTo(CONTENIDO.length());
+        assertThat(cuerpo(respuesta)).isEqualTo(CONTENIDO);
+    }
+
+    /**
+     * Con If-Range igual al ETag actual el rango se respeta.
+     */
+    @Test
+    void testIfRangeConEtagActualResponde206() throws Exception {
+        // ----- ARRANGE (PREPARAR) -----
+        HttpHeaders peticion = new HttpHeaders();
+        peticion.set(HttpHeaders.RANGE, "bytes=0-3");
+        peticion.set(HttpHeaders.IF_RANGE, ETAG);
+
+        // ----- ACTUAR(ACT) -----
+        ResponseEntity<StreamingResponseBody> respuesta = VentasDescarga.responder(documento, peticion);
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(respuesta.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(cuerpo(respuesta)).isEqualTo("0123");
+    }
+
+    private static String cuerpo(ResponseEntity<StreamingResponseBody> respuesta) throws Exception {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        respuesta.getBody().writeTo(salida);
+        return salida.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,51 @@
+package com.femt.inventory_management.metricas;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Clase de prueba unitaria para MetricasHibernate.
+ * Verifica el conteo de sentencias por petición y el presupuesto por endpoint.
+ */
+public class MetricasHibernateTest {
+
+    @AfterEach
+    void tearDown() {
+        MetricasPeticion.terminar();
+    }
+
+    /**
+     * Las sentencias previas al controlador cuentan; en modo fallar, la primera sentencia que supera el
+     * presupuesto lanza la excepción con la consulta que lo superó.
+     */
+    @Test
+    void testPresupuestoExcedidoEnModoFallar() {
+        // ----- ARRANGE (PREPARAR) -----
+        MetricasPresupuestoSql presupuesto = new MetricasPresupuestoSql(
+                Map.of("GET /api/kit/serie/{id}", 2), 0, true);
+        MetricasHibernate metricas = new MetricasHibernate(new MetricasRegistro(), presupuesto);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/kit/serie/7");
+        MetricasPeticion peticion = MetricasPeticion.iniciar(() -> presupuesto.resolver(request));
+
+        // ----- ACTUAR(ACT) -----
+        metricas.inspect("select * from seguridad_usuario");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/kit/serie/{id}");
+        metricas.inspect("select * from kit_serie_color where id = ?");
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(peticion.presupuestoExcedido()).isFalse();
+        assertThatThrownBy(() -> metricas.inspect("select * from dim_fila where id = ?"))
+                .isInstanceOf(PresupuestoSqlExcedidoException.class)
+                .hasMessageContaining("(3 > 2)")
+                .hasMessageContaining("dim_fila");
+        assertThat(peticion.presupuestoExcedido()).isTrue();
+        assertThat(peticion.sentencias()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,45 @@
+package com.femt.inventory_management.metricas;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Clase de prueba unitaria para MetricasRegistro.
+ * Verifica la salida en el formato de texto de Prometheus.
+ */
+public class MetricasRegistroTest {
+
+    /**
+     * Los cubos del histograma se escriben acumulados, con suma y cantidad, y los valores de las
+     * etiquetas se escapan.
+     */
+    @Test
+    void testHistogramaEnFormatoPrometheus() throws Exception {
+        // ----- ARRANGE (PREPARAR) -----
+        MetricasRegistro registro = new MetricasRegistro();
+        MetricasRegistro.Histograma histograma = registro.histograma("prueba_seconds", "Prueba",
+                new double[]{0.001, 0.5}, "uri", "/api/\"x\"");
+        registro.contador("prueba_total", "Contador").incrementar(3);
+
+        // ----- ACTUAR(ACT) -----
+        histograma.registrar(0.0005);
+        histograma.registrar(0.2);
+        histograma.registrar(7);
+        StringBuilder salida = new StringBuilder();
+        registro.escribir(salida);
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(salida.toString()).contains(
+                "# TYPE prueba_seconds histogram\n",
+                "prueba_seconds_bucket{uri=\"/api/\\\"x\\\"\",le=\"0.001\"} 1\n",
+                "prueba_seconds_bucket{uri=\"/api/\\\"x\\\"\",le=\"0.5\"} 2\n",
+                "prueba_seconds_bucket{uri=\"/api/\\\"x\\\"\",le=\"+Inf\"} 3\n",
+                "prueba_seconds_sum{uri=\"/api/\\\"x\\\"\"} 7.2005\n",
+                "prueba_seconds_count{uri=\"/api/\\\"x\\\"\"} 3\n",
+                "# TYPE prueba_total counter\nprueba_total 3\n");
+        assertThatThrownBy(() -> registro.contador("prueba_seconds", "Otro tipo"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
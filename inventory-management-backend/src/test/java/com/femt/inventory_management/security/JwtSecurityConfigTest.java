@@ -0,0 +1,236 @@
+package com.femt.inventory_management.security;
+
+import com.femt.inventory_management.dto.response.UsuarioSesionResponseDTO;
+import com.femt.inventory_management.service.seguridad.UsuarioSesionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.security.oauth2.client.registration.InMemoryClientRegistrationRepository;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Clase de prueba para la cadena de filtros de {@link JwtSecurityConfig} junto a la de {@link SecurityConfig}.
+ * Usa un {@link JwtDecoder} simulado (sin JWK set de Auth0) y un {@link UsuarioSesionService} simulado.
+ */
+@SpringJUnitWebConfig(JwtSecurityConfigTest.Configuracion.class)
+@TestPropertySource(properties = {
+        "app.seguridad.modo=jwt",
+        "app.seguridad.jwt.audiencia=https://api.test",
+        "spring.security.oauth2.client.provider.auth0.issuer-uri=https://auth0.test/",
+        "spring.security.oauth2.client.registration.auth0.client-id=cliente-test"
+})
+public class JwtSecurityConfigTest {
+
+    private static final String SUB = "auth0|68fac5fa2fe318476c34cd9f";
+
+    @MockitoBean
+    private JwtDecoder jwtDecoder;
+
+    @MockitoBean
+    private UsuarioSesionService usuarioSesionService;
+
+    @Autowired
+    private WebApplicationContext contexto;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(contexto).apply(springSecurity()).build();
+    }
+
+    /**
+     * Sin cabecera Authorization la cadena de /api/** responde 401 pidiendo un token Bearer,
+     * en lugar de redirigir al login OIDC.
+     */
+    @Test
+    void testSinCabeceraResponde401() throws Exception {
+        // ----- ACTUAR(ACT) -----
+        MvcResult resultado = mockMvc.perform(get("/api/prueba")).andReturn();
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(resultado.getResponse().getStatus()).isEqualTo(401);
+        assertThat(resultado.getResponse().getHeader(HttpHeaders.WWW_AUTHENTICATE)).isEqualTo("Bearer");
+        verifyNoInteractions(jwtDecoder, usuarioSesionService);
+    }
+
+    /**
+     * Un token que el decodificador rechaza responde 401 con error="invalid_token"
+     * y no llega a resolver el usuario interno.
+     */
+    @Test
+    void testTokenRechazadoResponde401() throws Exception {
+        // ----- ARRANGE (PREPARAR) -----
+        when(jwtDecoder.decode("vencido")).thenThrow(new BadJwtException("Jwt expired"));
+
+        // ----- ACTUAR(ACT) -----
+        MvcResult resultado = mockMvc.perform(get("/api/prueba")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer vencido")).andReturn();
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(resultado.getResponse().getStatus()).isEqualTo(401);
+        assertThat(resultado.getResponse().getHeader(HttpHeaders.WWW_AUTHENTICATE))
+                .isEqualTo("Bearer error=\"invalid_token\"");
+        verify(usuarioSesionService, never()).buscarOCrear(anyString());
+    }
+
+    /**
+     * Un token válido de un usuario interno inactivo responde 403 sin llegar al controlador.
+     */
+    @Test
+    void testUsuarioInactivoResponde403() throws Exception {
+        // ----- ARRANGE (PREPARAR) -----
+        when(jwtDecoder.decode("valido")).thenReturn(jwt());
+        when(usuarioSesionService.buscarOCrear(SUB)).thenReturn(new UsuarioSesionResponseDTO(7, SUB, false, "EMPLEADO"));
+
+        // ----- ACTUAR(ACT) -----
+        MvcResult resultado = mockMvc.perform(get("/api/prueba")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer valido")).andReturn();
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(resultado.getResponse().getStatus()).isEqualTo(403);
+        assertThat(resultado.getResponse().getContentAsString()).contains("pendiente de aprobación");
+    }
+
+    /**
+     * Un usuario activo llega al controlador con el rol interno como autoridad y el 'sub' como nombre,
+     * sin crear sesión HTTP.
+     */
+    @Test
+    void testUsuarioActivoLlegaAlControlador() throws Exception {
+        // ----- ARRANGE (PREPARAR) -----
+        when(jwtDecoder.decode("valido")).thenReturn(jwt());
+        when(usuarioSesionService.buscarOCrear(SUB)).thenReturn(new UsuarioSesionResponseDTO(7, SUB, true, "ADMIN"));
+
+        // ----- ACTUAR(ACT) -----
+        MvcResult resultado = mockMvc.perform(get("/api/prueba")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer valido")).andReturn();
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(resultado.getResponse().getStatus()).isEqualTo(200);
+        assertThat(resultado.getResponse().getContentAsString()).isEqualTo(SUB + " ROLE_ADMIN");
+        assertThat(resultado.getRequest().getSession(false)).isNull();
+    }
+
+    /**
+     * La cadena de /api/** (@Order(1)) gana a la de SecurityConfig: un POST con token y sin token CSRF
+     * se acepta, cosa que la cadena de sesión rechazaría con 403.
+     */
+    @Test
+    void testCadenaApiTienePrioridad() throws Exception {
+        // ----- ARRANGE (PREPARAR) -----
+        when(jwtDecoder.decode("valido")).thenReturn(jwt());
+        when(usuarioSesionService.buscarOCrear(SUB)).thenReturn(new UsuarioSesionResponseDTO(7, SUB, true, "EMPLEADO"));
+
+        // ----- ACTUAR(ACT) -----
+        MvcResult resultado = mockMvc.perform(post("/api/prueba")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer valido")).andReturn();
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(resultado.getResponse().getStatus()).isEqualTo(200);
+        assertThat(resultado.getResponse().getContentAsString()).isEqualTo(SUB + " ROLE_EMPLEADO");
+    }
+
+    /**
+     * Fuera de /api/** sigue la cadena de sesión: "/" es pública, el login OIDC redirige a Auth0
+     * y el resto de rutas redirige al login en lugar de responder 401.
+     */
+    @Test
+    void testRutasFueraDeApiSiguenEnLaCadenaDeSesion() throws Exception {
+        // ----- ACTUAR(ACT) -----
+        MvcResult inicio = mockMvc.perform(get("/")).andReturn();
+        MvcResult login = mockMvc.perform(get("/oauth2/authorization/auth0")).andReturn();
+        MvcResult protegida = mockMvc.perform(get("/panel")).andReturn();
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(inicio.getResponse().getStatus()).isEqualTo(200);
+        assertThat(inicio.getResponse().getContentAsString()).isEqualTo("inicio");
+        assertThat(login.getResponse().getStatus()).isEqualTo(302);
+        assertThat(login.getResponse().getRedirectedUrl()).startsWith("https://auth0.test/authorize?");
+        assertThat(protegida.getResponse().getStatus()).isEqualTo(302);
+        assertThat(protegida.getResponse().getRedirectedUrl()).endsWith("/oauth2/authorization/auth0");
+        verifyNoInteractions(jwtDecoder, usuarioSesionService);
+    }
+
+    private static Jwt jwt() {
+        return Jwt.withTokenValue("valido")
+                .header("alg", "RS256")
+                .subject(SUB)
+                .build();
+    }
+
+    @Configuration
+    @EnableWebMvc
+    @Import({SecurityConfig.class, JwtSecurityConfig.class, ControladorPrueba.class})
+    static class Configuracion {
+
+        @Bean
+        ClientRegistrationRepository clientRegistrationRepository() {
+            return new InMemoryClientRegistrationRepository(ClientRegistration.withRegistrationId("auth0")
+                    .clientId("cliente-test")
+                    .clientSecret("secreto")
+                    .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                    .redirectUri("{baseUrl}/login/oauth2/code/{registrationId}")
+                    .scope("openid")
+                    .authorizationUri("https://auth0.test/authorize")
+                    .tokenUri("https://auth0.test/oauth/token")
+                    .build());
+        }
+    }
+
+    @RestController
+    static class ControladorPrueba {
+
+        @GetMapping("/")
+        String inicio() {
+            return "inicio";
+        }
+
+        @GetMapping("/api/prueba")
+        String consultar(Authentication autenticacion) {
+            return describir(autenticacion);
+        }
+
+        @PostMapping("/api/prueba")
+        String registrar(Authentication autenticacion) {
+            return describir(autenticacion);
+        }
+
+        private static String describir(Authentication autenticacion) {
+            return autenticacion.getName() + " " + autenticacion.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .collect(Collectors.joining(","));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.femt.inventory_management.security.sesion;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de prueba unitaria para SesionRepositorioFilter.
+ * Verifica que la sesión se lea y se guarde en el repositorio en lugar del contenedor.
+ */
+@ExtendWith(MockitoExtension.class)
+public class SesionRepositorioFilterTest {
+    @Mock
+    private SesionRepositorio repositorio;
+
+    private long ahora = 1_000_000L;
+    private SesionRepositorioFilter filtro;
+
+    @BeforeEach
+    void setUp() {
+        filtro = new SesionRepositorioFilter(repositorio, "SESION", Duration.ofMinutes(30), () -> ahora);
+    }
+
+    /**
+     * Una sesión creada en la petición se guarda con sus atributos y se envía su cookie;
+     * el contenedor no crea su propia sesión.
+     */
+    @Test
+    void testSesionNuevaSeGuardaEnElRepositorio() throws Exception {
+        // ----- ARRANGE (PREPARAR) -----
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/oauth2/authorization/auth0");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> ((HttpServletRequest) req).getSession().setAttribute("solicitud", "estado-1");
+
+        // ----- ACTUAR(ACT) -----
+        filtro.doFilter(request, response, chain);
+
+        // ----- AFIRMAR (ASSERT) -----
+        ArgumentCaptor<SesionAlmacenada> guardada = ArgumentCaptor.forClass(SesionAlmacenada.class);
+        verify(repositorio).guardar(guardada.capture());
+        assertThat(guardada.getValue().getAtributos()).containsEntry("solicitud", "estado-1");
+        assertThat(response.getHeader("Set-Cookie")).startsWith("SESION=" + guardada.getValue().getId()).contains("HttpOnly");
+        assertThat(request.getSession(false)).isNull();
+    }
+
+    /**
+     * Una sesión existente se lee por su cookie y changeSessionId cambia el ID guardado y la cookie;
+     * si solo se lee, no se vuelve a escribir el bloque de atributos.
+     */
+    @Test
+    void testSesionExistenteCambiaDeId() throws Exception {
+        // ----- ARRANGE (PREPARAR) -----
+        SesionAlmacenada existente = new SesionAlmacenada("id-anterior", 0L, ahora - 1_000, 1800, Map.of("usuario", "auth0|1"));
+        when(repositorio.buscar("id-anterior")).thenReturn(Optional.of(existente));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/login/oauth2/code/auth0");
+        request.setCookies(new Cookie("SESION", "id-anterior"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String[] leido = new String[2];
+        FilterChain chain = (req, res) -> {
+            HttpServletRequest solicitud = (HttpServletRequest) req;
+            leido[0] = (String) solicitud.getSession(false).getAttribute("usuario");
+            leido[1] = solicitud.changeSessionId();
+        };
+
+        // ----- ACTUAR(ACT) -----
+        filtro.doFilter(request, response, chain);
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(leido[0]).isEqualTo("auth0|1");
+        assertThat(leido[1]).isNotEqualTo("id-anterior");
+        verify(repositorio, times(1)).guardar(any());
+        assertThat(existente.getId()).isEqualTo(leido[1]);
+        assertThat(existente.getIdGuardado()).isEqualTo("id-anterior");
+        assertThat(existente.atributosCambiados()).isFalse();
+        assertThat(response.getHeader("Set-Cookie")).startsWith("SESION=" + leido[1]);
+    }
+}
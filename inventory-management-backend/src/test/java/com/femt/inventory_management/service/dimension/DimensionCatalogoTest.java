@@ -0,0 +1,90 @@
+package com.femt.inventory_management.service.dimension;
+
+import com.femt.inventory_management.models.dimension.DimCategoria;
+import com.femt.inventory_management.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de prueba unitaria para DimensionCatalogo.
+ * Verifica que las lecturas se sirvan desde memoria y que las escrituras mantengan el catálogo al día.
+ */
+@ExtendWith(MockitoExtension.class)
+public class DimensionCatalogoTest {
+    @Mock
+    private DimCategoriaRepository categoriaRepo;
+    @Mock
+    private DimColorRepository colorRepo;
+    @Mock
+    private DimColumnaRepository columnaRepo;
+    @Mock
+    private DimFilaRepository filaRepo;
+    @Mock
+    private DimModeloRepository modeloRepo;
+    @Mock
+    private DimTallaRepository tallaRepo;
+    @Mock
+    private DimTipoComponenteRepository tipoRepo;
+
+    private DimensionCatalogo catalogo;
+
+    @BeforeEach
+    void setUp() {
+        catalogo = new DimensionCatalogo(categoriaRepo, colorRepo, columnaRepo, filaRepo, modeloRepo, tallaRepo, tipoRepo);
+    }
+
+    /**
+     * La base de datos se consulta una sola vez; las siguientes lecturas salen de memoria.
+     */
+    @Test
+    void testLecturasSeSirvenDesdeMemoria() {
+        // ----- ARRANGE (PREPARAR) -----
+        when(categoriaRepo.findAll()).thenReturn(List.of(categoria(2, "Niñas"), categoria(1, "Niños")));
+
+        // ----- ACTUAR(ACT) -----
+        List<DimCategoria> listado = catalogo.listar(DimCategoria.class);
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(listado).extracting(DimCategoria::getId).containsExactly(1, 2);
+        assertThat(catalogo.buscarPorId(DimCategoria.class, 2)).map(DimCategoria::getNombre).contains("Niñas");
+        assertThat(catalogo.buscarPorNombre(DimCategoria.class, "Niños")).map(DimCategoria::getId).contains(1);
+        assertThat(catalogo.buscarPorId(DimCategoria.class, 99)).isEmpty();
+        verify(categoriaRepo, times(1)).findAll();
+    }
+
+    /**
+     * Registrar y remover actualizan el catálogo sin volver a leer la base de datos.
+     */
+    @Test
+    void testRegistrarYRemoverActualizanElCatalogo() {
+        // ----- ARRANGE (PREPARAR) -----
+        when(categoriaRepo.findAll()).thenReturn(List.of(categoria(1, "Niños")));
+        List<DimCategoria> antes = catalogo.listar(DimCategoria.class);
+
+        // ----- ACTUAR(ACT) -----
+        catalogo.registrar(DimCategoria.class, List.of(categoria(3, "Adultos"), categoria(1, "Niños Renombrado")));
+        catalogo.remover(DimCategoria.class, 3);
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(antes).extracting(DimCategoria::getNombre).containsExactly("Niños");
+        assertThat(catalogo.listar(DimCategoria.class)).extracting(DimCategoria::getNombre).containsExactly("Niños Renombrado");
+        assertThat(catalogo.buscarPorNombre(DimCategoria.class, "Niños")).isEmpty();
+        assertThat(catalogo.buscarPorId(DimCategoria.class, 3)).isEmpty();
+        verify(categoriaRepo, times(1)).findAll();
+    }
+
+    private static DimCategoria categoria(Integer id, String nombre) {
+        DimCategoria categoria = new DimCategoria();
+        categoria.setId(id);
+        categoria.setNombre(nombre);
+        return categoria;
+    }
+}
@@ -1,23 +1,36 @@
 package com.femt.inventory_management.service.imp;
 
 
+import com.femt.inventory_management.dto.request.UsuarioFiltroRequestDTO;
+import com.femt.inventory_management.dto.response.PaginaResponseDTO;
+import com.femt.inventory_management.dto.response.UsuarioListadoResponseDTO;
 import com.femt.inventory_management.dto.response.UsuarioResponseDTO;
 import com.femt.inventory_management.mapper.seguridad.UsuarioMapper;
 import com.femt.inventory_management.models.seguridad.Rol;
 import com.femt.inventory_management.models.seguridad.Usuario;
 import com.femt.inventory_management.models.seguridad.enums.RolUsuarioEnum;
 import com.femt.inventory_management.repository.SegUsuarioRepository;
+import com.femt.inventory_management.service.seguridad.UsuarioSesionService;
 import com.femt.inventory_management.service.seguridad.imp.UsuarioServiceImp;
+import com.femt.inventory_management.service.ventas.VentasResumenService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 /**
@@ -33,6 +46,12 @@ public class UsuarioServiceImpTest {
     @Mock
     private UsuarioMapper usuarioMapper;
 
+    @Mock
+    private UsuarioSesionService usuarioSesionService;
+
+    @Mock
+    private VentasResumenService resumenService;
+
     // 2. Inyectar los mocks en la clase que queremos probar
     @InjectMocks
     private UsuarioServiceImp usuarioServiceImp;
@@ -111,4 +130,62 @@ public class UsuarioServiceImpTest {
         // Verificar que el mapper NUNCA fue llamado, ya que no habia nada que mapear
         verify(usuarioMapper,never()).toDTO(any(Usuario.class));
     }
+
+    /**
+     * La página pide un registro extra para saber si hay más, y el cursor es el ID del último usuario devuelto.
+     * El rango de fechas se convierte en [desde 00:00, hasta + 1 día 00:00).
+     */
+    @Test
+    void testListarPaginaDePendientes() {
+        // ----- ARRANGE (PREPARAR) -----
+        LocalDateTime creado = LocalDateTime.of(2025, 11, 3, 10, 0);
+        List<UsuarioListadoResponseDTO> filas = List.of(
+                new UsuarioListadoResponseDTO(9, "auth0|9", RolUsuarioEnum.EMPLEADO, false, creado, creado),
+                new UsuarioListadoResponseDTO(7, "auth0|7", RolUsuarioEnum.EMPLEADO, false, creado, creado),
+                new UsuarioListadoResponseDTO(4, "auth0|4", RolUsuarioEnum.EMPLEADO, false, creado, creado));
+        when(segUsuarioRepository.buscarPagina(false, RolUsuarioEnum.EMPLEADO,
+                LocalDateTime.of(2025, 11, 1, 0, 0), LocalDateTime.of(2025, 12, 1, 0, 0), 12, Limit.of(3)))
+                .thenReturn(filas);
+        UsuarioFiltroRequestDTO filtro = new UsuarioFiltroRequestDTO("12", 2, false, RolUsuarioEnum.EMPLEADO,
+                LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 30));
+
+        // ----- ACTUAR(ACT) -----
+        PaginaResponseDTO<UsuarioListadoResponseDTO> pagina = usuarioServiceImp.listarPagina(filtro);
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(pagina.contenido()).extracting(UsuarioListadoResponseDTO::id).containsExactly(9, 7);
+        assertThat(pagina.hayMas()).isTrue();
+        assertThat(pagina.siguienteCursor()).isEqualTo("7");
+        assertThatThrownBy(() -> usuarioServiceImp.listarPagina(new UsuarioFiltroRequestDTO("x", null, null, null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(segUsuarioRepository, never()).findAll();
+    }
+
+    /**
+     * Al eliminar un usuario dentro de una transacción, la caché de sesión se invalida solo después
+     * del commit: antes, una consulta concurrente podría volver a guardar la fila aún no eliminada.
+     */
+    @Test
+    void testEliminarUsuarioInvalidaLaCacheAlConfirmar() throws Exception {
+        // ----- ARRANGE (PREPARAR) -----
+        Usuario usuario = new Usuario("auth0|68fac5fa2fe318476c34cd9f", true, new Rol(RolUsuarioEnum.EMPLEADO));
+        usuario.setId(5);
+        when(segUsuarioRepository.findByAuth0Id("auth0|68fac5fa2fe318476c34cd9f")).thenReturn(Optional.of(usuario));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // ----- ACTUAR(ACT) -----
+            usuarioServiceImp.eliminarUsuario("auth0|68fac5fa2fe318476c34cd9f");
+
+            // ----- AFIRMAR (ASSERT) -----
+            InOrder orden = inOrder(resumenService, segUsuarioRepository);
+            orden.verify(resumenService).restarVentasDeUsuario(5);
+            orden.verify(segUsuarioRepository).delete(usuario);
+            verify(usuarioSesionService, never()).invalidar(anyString());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(usuarioSesionService).invalidar("auth0|68fac5fa2fe318476c34cd9f");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
 }
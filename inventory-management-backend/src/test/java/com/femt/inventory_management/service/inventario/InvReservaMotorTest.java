@@ -0,0 +1,112 @@
+package com.femt.inventory_management.service.inventario;
+
+import com.femt.inventory_management.exceptions.InventarioStockInsuficienteException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Clase de prueba unitaria para InvReservaMotor.
+ * Verifica que las reservas concurrentes nunca excedan el stock, que una transacción revertida libere su reserva
+ * y que el motor no se active en una configuración de varias instancias.
+ */
+@ExtendWith(MockitoExtension.class)
+public class InvReservaMotorTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private InvReservaMotor motor;
+
+    @BeforeEach
+    void setUp() {
+        motor = new InvReservaMotor(jdbcTemplate, transactionTemplate, true, 1000, "sesion", "memoria");
+        motor.registrar(1, 1000);
+    }
+
+    /**
+     * Con muchos hilos reservando a la vez se admiten exactamente tantas reservas como stock hay.
+     */
+    @Test
+    void testReservasConcurrentesNoExcedenElStock() throws Exception {
+        // ----- ARRANGE (PREPARAR) -----
+        ExecutorService hilos = Executors.newFixedThreadPool(16);
+        AtomicInteger admitidas = new AtomicInteger();
+        AtomicInteger rechazadas = new AtomicInteger();
+        List<Future<?>> tareas = new ArrayList<>();
+
+        // ----- ACTUAR(ACT) -----
+        for (int i = 0; i < 1200; i++) {
+            tareas.add(hilos.submit(() -> {
+                try {
+                    motor.reservar(1, 1);
+                    admitidas.incrementAndGet();
+                } catch (InventarioStockInsuficienteException e) {
+                    rechazadas.incrementAndGet();
+                }
+            }));
+        }
+        for (Future<?> tarea : tareas) {
+            tarea.get();
+        }
+        hilos.shutdown();
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(admitidas.get()).isEqualTo(1000);
+        assertThat(rechazadas.get()).isEqualTo(200);
+        assertThat(motor.disponible(1)).hasValue(0);
+    }
+
+    /**
+     * Si la transacción del pedido se revierte, la reserva vuelve al stock disponible.
+     */
+    @Test
+    void testReservaSeLiberaAlRevertirLaTransaccion() {
+        // ----- ARRANGE (PREPARAR) -----
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // ----- ACTUAR(ACT) -----
+            int restante = motor.reservar(1, 600);
+            assertThatThrownBy(() -> motor.reservar(1, 500))
+                    .isInstanceOf(InventarioStockInsuficienteException.class);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // ----- AFIRMAR (ASSERT) -----
+            assertThat(restante).isEqualTo(400);
+            assertThat(motor.disponible(1)).hasValue(1000);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * Las reservas en memoria no se admiten junto con la configuración pensada para varias instancias.
+     */
+    @Test
+    void testNoSeActivaConVariasInstancias() {
+        // ----- AFIRMAR (ASSERT) -----
+        assertThatThrownBy(() -> new InvReservaMotor(jdbcTemplate, transactionTemplate, true, 1000, "jwt", "memoria"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new InvReservaMotor(jdbcTemplate, transactionTemplate, true, 1000, "sesion", "jdbc"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(new InvReservaMotor(jdbcTemplate, transactionTemplate, false, 1000, "jwt", "jdbc").habilitado()).isFalse();
+    }
+}
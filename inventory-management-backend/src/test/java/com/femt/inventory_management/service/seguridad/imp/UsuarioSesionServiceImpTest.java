@@ -0,0 +1,90 @@
+package com.femt.inventory_management.service.seguridad.imp;
+
+import com.femt.inventory_management.dto.response.UsuarioSesionResponseDTO;
+import com.femt.inventory_management.models.seguridad.Rol;
+import com.femt.inventory_management.models.seguridad.Usuario;
+import com.femt.inventory_management.models.seguridad.enums.RolUsuarioEnum;
+import com.femt.inventory_management.repository.SegRolRepository;
+import com.femt.inventory_management.repository.SegUsuarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de prueba unitaria para UsuarioSesionServiceImp.
+ * Verifica que las consultas repetidas se sirvan desde la caché y que la invalidación y el vencimiento la refresquen.
+ */
+@ExtendWith(MockitoExtension.class)
+public class UsuarioSesionServiceImpTest {
+    private static final String AUTH0_ID = "auth0|68fac5fa2fe318476c34cd9f";
+
+    @Mock
+    private SegUsuarioRepository segUsuarioRepository;
+    @Mock
+    private SegRolRepository segRolRepository;
+
+    private final AtomicLong reloj = new AtomicLong();
+    private UsuarioSesionServiceImp usuarioSesionService;
+
+    @BeforeEach
+    void setUp() {
+        usuarioSesionService = new UsuarioSesionServiceImp(segUsuarioRepository, segRolRepository, Duration.ofSeconds(60), 100, reloj::get);
+    }
+
+    /**
+     * La base de datos se consulta una sola vez; invalidar obliga a volver a leer el usuario actualizado.
+     */
+    @Test
+    void testBuscarUsaCacheHastaInvalidar() {
+        // ----- ARRANGE (PREPARAR) -----
+        when(segUsuarioRepository.findByAuth0Id(AUTH0_ID))
+                .thenReturn(Optional.of(usuario(false, RolUsuarioEnum.EMPLEADO)))
+                .thenReturn(Optional.of(usuario(true, RolUsuarioEnum.ADMIN)));
+
+        // ----- ACTUAR(ACT) -----
+        Optional<UsuarioSesionResponseDTO> primera = usuarioSesionService.buscar(AUTH0_ID);
+        Optional<UsuarioSesionResponseDTO> segunda = usuarioSesionService.buscar(AUTH0_ID);
+        usuarioSesionService.invalidar(AUTH0_ID);
+        Optional<UsuarioSesionResponseDTO> tercera = usuarioSesionService.buscar(AUTH0_ID);
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(primera).contains(new UsuarioSesionResponseDTO(7, AUTH0_ID, false, "EMPLEADO"));
+        assertThat(segunda).isEqualTo(primera);
+        assertThat(tercera).contains(new UsuarioSesionResponseDTO(7, AUTH0_ID, true, "ADMIN"));
+        verify(segUsuarioRepository, times(2)).findByAuth0Id(AUTH0_ID);
+    }
+
+    /**
+     * Una entrada vencida se vuelve a leer de la base de datos.
+     */
+    @Test
+    void testEntradaVencidaSeVuelveALeer() {
+        // ----- ARRANGE (PREPARAR) -----
+        when(segUsuarioRepository.findByAuth0Id(AUTH0_ID)).thenReturn(Optional.of(usuario(true, RolUsuarioEnum.ADMIN)));
+        usuarioSesionService.buscar(AUTH0_ID);
+
+        // ----- ACTUAR(ACT) -----
+        reloj.addAndGet(Duration.ofSeconds(30).toNanos());
+        usuarioSesionService.buscar(AUTH0_ID);
+        reloj.addAndGet(Duration.ofSeconds(31).toNanos());
+        usuarioSesionService.buscar(AUTH0_ID);
+
+        // ----- AFIRMAR (ASSERT) -----
+        verify(segUsuarioRepository, times(2)).findByAuth0Id(AUTH0_ID);
+    }
+
+    private static Usuario usuario(boolean activo, RolUsuarioEnum rol) {
+        Usuario usuario = new Usuario(AUTH0_ID, activo, new Rol(rol));
+        usuario.setId(7);
+        return usuario;
+    }
+}
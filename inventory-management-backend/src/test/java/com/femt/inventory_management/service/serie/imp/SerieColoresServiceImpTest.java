@@ -0,0 +1,154 @@
+package com.femt.inventory_management.service.serie.imp;
+
+import com.femt.inventory_management.dto.request.KitSerieCeldaRequestDTO;
+import com.femt.inventory_management.dto.request.KitSerieMatrizRequestDTO;
+import com.femt.inventory_management.dto.response.KitSerieCeldaDTO;
+import com.femt.inventory_management.dto.response.KitSerieSincronizacionResponseDTO;
+import com.femt.inventory_management.mapper.kit.KitSerieColorMapper;
+import com.femt.inventory_management.models.dimension.DimBase;
+import com.femt.inventory_management.models.kit.KitSerieColor;
+import com.femt.inventory_management.repository.KitSerieColorRepository;
+import com.femt.inventory_management.service.dimension.DimensionCatalogo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de prueba unitaria para SerieColoresServiceImp.
+ * Verifica que sincronizarMatriz aplique solo las diferencias entre la matriz registrada y la recibida.
+ */
+@ExtendWith(MockitoExtension.class)
+public class SerieColoresServiceImpTest {
+    private static final int MODELO = 1;
+    private static final int CATEGORIA = 2;
+    private static final int TIPO = 3;
+
+    @Mock
+    private KitSerieColorRepository seriecolorRepo;
+
+    @Mock
+    private DimensionCatalogo catalogo;
+
+    @Mock
+    private KitSerieColorMapper mapper;
+
+    private SerieColoresServiceImp service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SerieColoresServiceImp(seriecolorRepo, catalogo, mapper);
+        // El catálogo resuelve cualquier ID como una dimensión existente con ese ID
+        when(catalogo.resolver(any(), anyCollection())).thenAnswer(invocacion -> {
+            Class<? extends DimBase> tipo = invocacion.getArgument(0);
+            Map<Integer, DimBase> resueltas = new HashMap<>();
+            for (Integer id : invocacion.<Collection<Integer>>getArgument(1)) {
+                DimBase dimension = tipo.getDeclaredConstructor().newInstance();
+                dimension.setId(id);
+                resueltas.put(id, dimension);
+            }
+            return resueltas;
+        });
+    }
+
+    /**
+     * Cada celda cae en un solo grupo: nueva (insert en lote), con otro color (un UPDATE por color
+     * de destino), ausente en la matriz (un único DELETE por IDs) o igual (sin escrituras).
+     */
+    @Test
+    void testSincronizarMatrizAplicaSoloLasDiferencias() {
+        // ----- ARRANGE (PREPARAR) -----
+        when(seriecolorRepo.buscarCeldas(MODELO, CATEGORIA, TIPO)).thenReturn(List.of(
+                new KitSerieCeldaDTO(100, 1, 1, 10),
+                new KitSerieCeldaDTO(101, 1, 2, 10),
+                new KitSerieCeldaDTO(102, 2, 1, 11),
+                new KitSerieCeldaDTO(103, 2, 2, 10),
+                new KitSerieCeldaDTO(104, 3, 1, 10),
+                new KitSerieCeldaDTO(105, 3, 2, 12)));
+        when(seriecolorRepo.eliminarPorIds(anyCollection())).thenAnswer(i -> i.<Collection<?>>getArgument(0).size());
+        when(seriecolorRepo.actualizarColor(anyCollection(), anyInt())).thenAnswer(i -> i.<Collection<?>>getArgument(0).size());
+        when(seriecolorRepo.insertarEnLote(anyCollection())).thenAnswer(i -> new ArrayList<>(i.<Collection<?>>getArgument(0)));
+
+        KitSerieMatrizRequestDTO request = new KitSerieMatrizRequestDTO(MODELO, CATEGORIA, TIPO, List.of(
+                new KitSerieCeldaRequestDTO(1, 1, 10),   // igual
+                new KitSerieCeldaRequestDTO(1, 2, 20),   // cambia a 20
+                new KitSerieCeldaRequestDTO(2, 1, 20),   // cambia a 20
+                new KitSerieCeldaRequestDTO(2, 2, 30),   // cambia a 30
+                new KitSerieCeldaRequestDTO(4, 1, 10),   // nueva
+                new KitSerieCeldaRequestDTO(4, 2, 30))); // nueva
+
+        // ----- ACTUAR(ACT) -----
+        KitSerieSincronizacionResponseDTO resultado = service.sincronizarMatriz(request);
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(resultado).isEqualTo(new KitSerieSincronizacionResponseDTO(2, 3, 2, 1));
+
+        ArgumentCaptor<Collection<Integer>> eliminadas = idsCaptor();
+        verify(seriecolorRepo, times(1)).eliminarPorIds(eliminadas.capture());
+        assertThat(eliminadas.getValue()).containsExactlyInAnyOrder(104, 105);
+
+        ArgumentCaptor<Collection<Integer>> aColor20 = idsCaptor();
+        ArgumentCaptor<Collection<Integer>> aColor30 = idsCaptor();
+        verify(seriecolorRepo).actualizarColor(aColor20.capture(), eq(20));
+        verify(seriecolorRepo).actualizarColor(aColor30.capture(), eq(30));
+        verify(seriecolorRepo, times(2)).actualizarColor(anyCollection(), anyInt());
+        assertThat(aColor20.getValue()).containsExactlyInAnyOrder(101, 102);
+        assertThat(aColor30.getValue()).containsExactly(103);
+
+        ArgumentCaptor<Collection<KitSerieColor>> insertadas = entidadesCaptor();
+        verify(seriecolorRepo, times(1)).insertarEnLote(insertadas.capture());
+        assertThat(insertadas.getValue())
+                .extracting(c -> c.getFila().getId(), c -> c.getColumna().getId(), c -> c.getColor().getId(),
+                        c -> c.getModelo().getId(), c -> c.getCategoria().getId(), c -> c.getTipoComponente().getId())
+                .containsExactlyInAnyOrder(
+                        tuple(4, 1, 10, MODELO, CATEGORIA, TIPO),
+                        tuple(4, 2, 30, MODELO, CATEGORIA, TIPO));
+        verify(seriecolorRepo, never()).eliminarMatriz(anyInt(), anyInt(), anyInt());
+    }
+
+    /**
+     * Si la matriz recibida es igual a la registrada no se escribe nada.
+     */
+    @Test
+    void testSincronizarMatrizSinCambiosNoEscribe() {
+        // ----- ARRANGE (PREPARAR) -----
+        when(seriecolorRepo.buscarCeldas(MODELO, CATEGORIA, TIPO)).thenReturn(List.of(
+                new KitSerieCeldaDTO(100, 1, 1, 10),
+                new KitSerieCeldaDTO(101, 1, 2, 11)));
+        KitSerieMatrizRequestDTO request = new KitSerieMatrizRequestDTO(MODELO, CATEGORIA, TIPO, List.of(
+                new KitSerieCeldaRequestDTO(1, 2, 11),
+                new KitSerieCeldaRequestDTO(1, 1, 10)));
+
+        // ----- ACTUAR(ACT) -----
+        KitSerieSincronizacionResponseDTO resultado = service.sincronizarMatriz(request);
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(resultado).isEqualTo(new KitSerieSincronizacionResponseDTO(0, 0, 0, 2));
+        verify(seriecolorRepo, never()).eliminarPorIds(anyCollection());
+        verify(seriecolorRepo, never()).actualizarColor(anyCollection(), anyInt());
+        verify(seriecolorRepo, never()).insertarEnLote(anyCollection());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Collection<Integer>> idsCaptor() {
+        return ArgumentCaptor.forClass(Collection.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Collection<KitSerieColor>> entidadesCaptor() {
+        return ArgumentCaptor.forClass(Collection.class);
+    }
+}
@@ -0,0 +1,123 @@
+package com.femt.inventory_management.service.ventas.imp;
+
+import com.femt.inventory_management.dto.request.VentasFiltroRequestDTO;
+import com.femt.inventory_management.dto.response.PaginaResponseDTO;
+import com.femt.inventory_management.exceptions.VentasValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Clase de prueba unitaria para VentasKeyset.
+ * Verifica el formato de los cursores y el armado de la página a partir de {@code tamanio + 1} filas.
+ */
+public class VentasKeysetTest {
+
+    /**
+     * Fila mínima de un listado: ID y fecha, que son las columnas del cursor.
+     */
+    private record Fila(Integer id, LocalDate fecha) {
+    }
+
+    /**
+     * Se leen tamanio + 1 filas: la página devuelve solo tamanio, indica que hay más y el cursor
+     * es el del último registro devuelto, no el de la fila extra.
+     */
+    @Test
+    void testPaginaConFilaExtraTieneSiguiente() {
+        // ----- ARRANGE (PREPARAR) -----
+        VentasFiltroRequestDTO filtro = filtro(null, 2, "fecha");
+        List<Fila> filas = List.of(
+                new Fila(9, LocalDate.of(2025, 11, 20)),
+                new Fila(7, LocalDate.of(2025, 11, 20)),
+                new Fila(4, LocalDate.of(2025, 11, 18)));
+
+        // ----- ACTUAR(ACT) -----
+        PaginaResponseDTO<Fila> pagina = VentasKeyset.pagina(filas, filtro, f -> VentasKeyset.cursorDe(f.fecha(), f.id()));
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(VentasKeyset.limite(filtro).max()).isEqualTo(3);
+        assertThat(pagina.contenido()).extracting(Fila::id).containsExactly(9, 7);
+        assertThat(pagina.hayMas()).isTrue();
+        assertThat(pagina.siguienteCursor()).isEqualTo("2025-11-20_7");
+    }
+
+    /**
+     * Si llegan tamanio filas o menos es la última página: sin cursor siguiente.
+     */
+    @Test
+    void testUltimaPaginaSinSiguiente() {
+        // ----- ARRANGE (PREPARAR) -----
+        VentasFiltroRequestDTO filtro = filtro("10", 2, null);
+        List<Fila> filas = List.of(new Fila(9, null), new Fila(7, null));
+
+        // ----- ACTUAR(ACT) -----
+        PaginaResponseDTO<Fila> pagina = VentasKeyset.pagina(filas, filtro, f -> VentasKeyset.cursorDe(f.id()));
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(pagina.contenido()).extracting(Fila::id).containsExactly(9, 7);
+        assertThat(pagina.hayMas()).isFalse();
+        assertThat(pagina.siguienteCursor()).isNull();
+    }
+
+    /**
+     * Sin tamaño se usa el tamaño por defecto, y la consulta pide uno más.
+     */
+    @Test
+    void testTamanioPorDefecto() {
+        // ----- ACTUAR(ACT) -----
+        int limite = VentasKeyset.limite(filtro(null, null, null)).max();
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(limite).isEqualTo(VentasKeyset.TAMANIO_POR_DEFECTO + 1);
+    }
+
+    /**
+     * Los cursores generados por cursorDe se interpretan de vuelta en la misma posición.
+     */
+    @Test
+    void testCursorIdaYVuelta() {
+        // ----- ARRANGE (PREPARAR) -----
+        String porFecha = VentasKeyset.cursorDe(LocalDate.of(2025, 1, 5), 125);
+        String porId = VentasKeyset.cursorDe(125);
+
+        // ----- ACTUAR(ACT) -----
+        VentasKeyset.Cursor cursorFecha = VentasKeyset.cursor(filtro(porFecha, null, "fecha"), true);
+        VentasKeyset.Cursor cursorId = VentasKeyset.cursor(filtro(porId, null, null), false);
+        VentasKeyset.Cursor inicio = VentasKeyset.cursor(filtro(" ", null, "fecha"), true);
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(porFecha).isEqualTo("2025-01-05_125");
+        assertThat(cursorFecha).isEqualTo(new VentasKeyset.Cursor(LocalDate.of(2025, 1, 5), 125));
+        assertThat(cursorId).isEqualTo(new VentasKeyset.Cursor(null, 125));
+        assertThat(inicio).isEqualTo(VentasKeyset.Cursor.INICIO);
+    }
+
+    /**
+     * Un cursor mal formado, o del formato de otro orden, se rechaza como error de validación del campo "cursor".
+     */
+    @Test
+    void testCursorMalFormado() {
+        // ----- ARRANGE (PREPARAR) -----
+        List<String> porFecha = List.of("125", "2025-13-01_5", "2025-11-20_", "2025-11-20_x", "_5", "2025-11-20_5_6");
+        List<String> porId = List.of("x", "2025-11-20_5", "12.5");
+
+        // ----- AFIRMAR (ASSERT) -----
+        porFecha.forEach(valor -> assertThatThrownBy(() -> VentasKeyset.cursor(filtro(valor, null, "fecha"), true))
+                .as(valor)
+                .isInstanceOf(VentasValidationException.class)
+                .extracting("field").isEqualTo("cursor"));
+        porId.forEach(valor -> assertThatThrownBy(() -> VentasKeyset.cursor(filtro(valor, null, null), false))
+                .as(valor)
+                .isInstanceOf(VentasValidationException.class)
+                .extracting("field").isEqualTo("cursor"));
+    }
+
+    private static VentasFiltroRequestDTO filtro(String cursor, Integer tamanio, String orden) {
+        return new VentasFiltroRequestDTO(cursor, tamanio, orden, null, null, null, null, null, null, null, null, null);
+    }
+}
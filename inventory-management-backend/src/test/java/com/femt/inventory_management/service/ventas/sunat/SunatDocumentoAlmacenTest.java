@@ -0,0 +1,95 @@
+package com.femt.inventory_management.service.ventas.sunat;
+
+import com.femt.inventory_management.models.ventas.enums.VentasTipoDocumentoEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Clase de prueba unitaria para SunatDocumentoAlmacen.
+ * Verifica que solo se ubiquen archivos con claves del almacén, sin salir de su directorio.
+ */
+public class SunatDocumentoAlmacenTest {
+    @TempDir
+    private Path temporal;
+
+    private Path directorio;
+    private SunatDocumentoAlmacen almacen;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        directorio = Files.createDirectory(temporal.resolve("documentos"));
+        almacen = new SunatDocumentoAlmacen(directorio.toString(), 1024);
+    }
+
+    /**
+     * Un documento guardado se ubica por su clave, que tiene la forma ab/cd/<sha256>.<ext>
+     * y cuyo hash es el ETag.
+     */
+    @Test
+    void testDocumentoGuardadoSeUbicaPorSuClave() throws Exception {
+        // ----- ARRANGE (PREPARAR) -----
+        byte[] contenido = "<Invoice/>".getBytes(StandardCharsets.UTF_8);
+
+        // ----- ACTUAR(ACT) -----
+        String clave = almacen.guardar(contenido, VentasTipoDocumentoEnum.XML);
+        Optional<Path> ruta = almacen.ubicar(clave);
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(clave).matches("[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}\\.xml");
+        assertThat(clave).startsWith(almacen.etag(clave).substring(0, 2) + "/" + almacen.etag(clave).substring(2, 4) + "/");
+        assertThat(ruta).isPresent();
+        assertThat(Files.readAllBytes(ruta.get())).isEqualTo(contenido);
+    }
+
+    /**
+     * Claves que no siguen el patrón del almacén no se resuelven, aunque el archivo exista:
+     * así no se puede salir del directorio con "../".
+     */
+    @Test
+    void testClavesFueraDelPatronNoSeUbican() throws Exception {
+        // ----- ARRANGE (PREPARAR) -----
+        Files.writeString(temporal.resolve("x"), "fuera del almacén");
+        Files.writeString(directorio.resolve("x"), "en la raíz del almacén");
+        String hash = "a".repeat(64);
+        Path subdirectorio = Files.createDirectories(directorio.resolve("aa/aa"));
+        Files.writeString(subdirectorio.resolve(hash.toUpperCase() + ".xml"), "<Invoice/>");
+        Files.writeString(subdirectorio.resolve(hash + ".txt"), "texto");
+        List<String> claves = Arrays.asList(
+                "../x",
+                "x",
+                "aa/aa/../../../x",
+                "aa/aa/" + hash.toUpperCase() + ".xml",
+                "aa/aa/" + hash + ".txt",
+                "/aa/aa/" + hash + ".xml",
+                null
+        );
+
+        // ----- ACTUAR(ACT) -----
+        List<Optional<Path>> rutas = claves.stream().map(almacen::ubicar).toList();
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(rutas).hasSize(claves.size()).allMatch(Optional::isEmpty);
+    }
+
+    /**
+     * Una clave con el patrón correcto pero sin archivo en el almacén tampoco se ubica.
+     */
+    @Test
+    void testClaveValidaSinArchivoNoSeUbica() {
+        // ----- ACTUAR(ACT) -----
+        Optional<Path> ruta = almacen.ubicar("ab/cd/" + "ab".repeat(32) + ".zip");
+
+        // ----- AFIRMAR (ASSERT) -----
+        assertThat(ruta).isEmpty();
+    }
+}